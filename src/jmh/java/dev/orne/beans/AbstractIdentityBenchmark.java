@@ -0,0 +1,99 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code AbstractIdentity.getIdentityToken()}, on new
+ * identities and on identities shared between benchmark threads.
+ * Parameterized by identity value length.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see AbstractIdentity
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbstractIdentityBenchmark {
+
+    /** The identity value length. */
+    @Param({ "8", "64", "512" })
+    public int valueLength;
+
+    /** The identity value. */
+    private String value;
+    /** The shared identity. */
+    private StringIdentity shared;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder builder = new StringBuilder(this.valueLength);
+        for (int i = 0; i < this.valueLength; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        this.value = builder.toString();
+        this.shared = new StringIdentity(this.value);
+        this.shared.getIdentityToken();
+    }
+
+    /**
+     * Identity token of new identities, formatted on each call.
+     * 
+     * @return The identity token
+     */
+    @Benchmark
+    public String newIdentityToken() {
+        return new StringIdentity(this.value).getIdentityToken();
+    }
+
+    /**
+     * Identity token of shared identity, already formatted.
+     * 
+     * @return The identity token
+     */
+    @Benchmark
+    public String sharedIdentityToken() {
+        return this.shared.getIdentityToken();
+    }
+}
@@ -0,0 +1,132 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code BeanAnnotationFinder.find()}, parameterized by
+ * the type hierarchy of the bean type.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeanAnnotationFinder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAnnotationFinderBenchmark {
+
+    /** The type hierarchy of the bean type. */
+    @Param({ "flat", "deep" })
+    public String hierarchy;
+
+    /** The annotation finder. */
+    private BeanAnnotationFinder<BeanReference, BeanReference.List> finder;
+    /** The bean type. */
+    private Class<?> type;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        this.finder = new BeanAnnotationFinder<>(
+                BeanReference.class,
+                BeanReference.List.class,
+                BeanReference.List::value);
+        this.type = "deep".equals(this.hierarchy) ? DeepBean.class : FlatBean.class;
+    }
+
+    /**
+     * Search of type level annotations.
+     * 
+     * @return The found annotations
+     */
+    @Benchmark
+    public Set<BeanReference> find() {
+        return this.finder.find(this.type);
+    }
+
+    /**
+     * Bean type with a single annotation.
+     */
+    @BeanReference({})
+    public static class FlatBean {
+        // No extra methods
+    }
+
+    /**
+     * Annotated interface.
+     */
+    @BeanReference({ Integer.class })
+    public static interface ParentInterface {
+        // No extra methods
+    }
+
+    /**
+     * Annotated interface with inherited annotations.
+     */
+    @BeanReference({ Long.class })
+    public static interface ChildInterface
+    extends ParentInterface {
+        // No extra methods
+    }
+
+    /**
+     * Bean type with annotation lists.
+     */
+    @BeanReference({ String.class })
+    @BeanReference({ Object.class })
+    public static class ParentBean
+    implements ParentInterface {
+        // No extra methods
+    }
+
+    /**
+     * Bean type with inherited annotations.
+     */
+    @BeanReference({ Double.class })
+    public static class DeepBean
+    extends ParentBean
+    implements ChildInterface {
+        // No extra methods
+    }
+}
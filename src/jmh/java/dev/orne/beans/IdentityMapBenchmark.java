@@ -0,0 +1,165 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@code IdentityMap} against {@code HashMap} with identity
+ * keys, parameterized by number of entries and key type. Lookups are
+ * performed with new key instances, equal to the inserted ones, as when
+ * keys are decoded from external sources.
+ * <p>
+ * Build benchmarks measure the cost of populating the maps from already
+ * created keys. Run them with the GC profiler ({@code -prof gc}) to compare
+ * the allocation per map, which includes the retained footprint of the
+ * tables and entries.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityMap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityMapBenchmark {
+
+    /** The number of entries. */
+    @Param({ "1000", "100000" })
+    public int size;
+    /** The key type. */
+    @Param({ "long", "token" })
+    public String keyType;
+
+    /** The inserted keys. */
+    private Identity[] keys;
+    /** The lookup keys, equal to the inserted keys. */
+    private Identity[] lookupKeys;
+    /** The populated {@code HashMap}. */
+    private Map<Identity, Integer> hashMap;
+    /** The populated {@code IdentityMap}. */
+    private IdentityMap<Integer> identityMap;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        this.keys = new Identity[this.size];
+        this.lookupKeys = new Identity[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = createKey(i);
+            this.lookupKeys[i] = createKey(i);
+        }
+        this.hashMap = buildHashMap();
+        this.identityMap = buildIdentityMap();
+    }
+
+    /**
+     * Creates the key with the specified index.
+     * 
+     * @param index The key index
+     * @return The key
+     */
+    private Identity createKey(
+            final int index) {
+        final long value = index * 7919L + 1_000_000L;
+        if ("long".equals(this.keyType)) {
+            return new LongIdentity(value);
+        } else {
+            return new StringIdentity("key" + value);
+        }
+    }
+
+    /**
+     * Lookup of all the keys in a {@code HashMap}.
+     * 
+     * @param bh The JMH black hole
+     */
+    @Benchmark
+    public void getHashMap(
+            final Blackhole bh) {
+        for (final Identity key : this.lookupKeys) {
+            bh.consume(this.hashMap.get(key));
+        }
+    }
+
+    /**
+     * Lookup of all the keys in an {@code IdentityMap}.
+     * 
+     * @param bh The JMH black hole
+     */
+    @Benchmark
+    public void getIdentityMap(
+            final Blackhole bh) {
+        for (final Identity key : this.lookupKeys) {
+            bh.consume(this.identityMap.get(key));
+        }
+    }
+
+    /**
+     * Population of a {@code HashMap}.
+     * 
+     * @return The populated map
+     */
+    @Benchmark
+    public Map<Identity, Integer> buildHashMap() {
+        final Map<Identity, Integer> result = new HashMap<>();
+        for (int i = 0; i < this.keys.length; i++) {
+            result.put(this.keys[i], i);
+        }
+        return result;
+    }
+
+    /**
+     * Population of an {@code IdentityMap}.
+     * 
+     * @return The populated map
+     */
+    @Benchmark
+    public IdentityMap<Integer> buildIdentityMap() {
+        final IdentityMap<Integer> result = new IdentityMap<>();
+        for (int i = 0; i < this.keys.length; i++) {
+            result.put(this.keys[i], i);
+        }
+        return result;
+    }
+}
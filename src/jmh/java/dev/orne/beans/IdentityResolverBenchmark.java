@@ -0,0 +1,128 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code IdentityResolver} identity token resolution,
+ * parameterized by target identity type.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityResolver
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityResolverBenchmark {
+
+    /** The target identity type. */
+    @Param({ "token", "string", "long", "bigInteger" })
+    public String identityType;
+
+    /** The target identity type. */
+    private Class<? extends Identity> type;
+    /** The resolved identity token. */
+    private String token;
+    /** The source identity. */
+    private Identity identity;
+    /** The linked identity resolver. */
+    private Function<String, ? extends Identity> linkedResolver;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        final Identity source;
+        switch (this.identityType) {
+            case "token":
+                source = new TokenIdentity(new StringIdentity("benchmark").getIdentityToken());
+                break;
+            case "string":
+                source = new StringIdentity("benchmark");
+                break;
+            case "long":
+                source = new LongIdentity(1234567890L);
+                break;
+            case "bigInteger":
+                source = new BigIntegerIdentity(BigInteger.valueOf(1234567890L));
+                break;
+            default:
+                throw new IllegalArgumentException(this.identityType);
+        }
+        this.type = source.getClass();
+        this.token = source.getIdentityToken();
+        this.identity = new TokenIdentity(this.token);
+        this.linkedResolver = IdentityResolver.getInstance().getLinkedResolver(this.type);
+    }
+
+    /**
+     * Resolution of an identity token.
+     * 
+     * @return The resolved identity
+     */
+    @Benchmark
+    public Identity resolveToken() {
+        return IdentityResolver.getInstance().resolve(this.token, this.type);
+    }
+
+    /**
+     * Resolution of an identity of other type.
+     * 
+     * @return The resolved identity
+     */
+    @Benchmark
+    public Identity resolveIdentity() {
+        return IdentityResolver.getInstance().resolve(this.identity, this.type);
+    }
+
+    /**
+     * Resolution of an identity token through the linked resolver.
+     * 
+     * @return The resolved identity
+     */
+    @Benchmark
+    public Identity resolveLinked() {
+        return this.linkedResolver.apply(this.token);
+    }
+}
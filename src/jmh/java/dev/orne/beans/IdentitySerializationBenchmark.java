@@ -0,0 +1,208 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for Java serialization of identities, parameterized by
+ * identity type and serialized form. The compact form is the one written
+ * by {@code IdentitySer}. The default form is written through subclasses
+ * of the identity types, which keep the default serialized form; it is
+ * slightly bigger than the default form of previous versions, as it
+ * includes the subclass descriptor.
+ * <p>
+ * The serialized sizes are checked by {@code IdentitySerTest}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentitySer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentitySerializationBenchmark {
+
+    /** The identity type. */
+    @Param({ "long", "bigInteger", "string", "token", "uuid" })
+    public String type;
+    /** If the identity is serialized in compact form. */
+    @Param({ "true", "false" })
+    public boolean compact;
+
+    /** The serialized identity. */
+    private Identity identity;
+    /** The serialized form of the identity. */
+    private byte[] serialized;
+
+    /**
+     * Prepares the benchmark state.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Setup
+    public void setup()
+    throws IOException {
+        switch (this.type) {
+            case "long":
+                this.identity = this.compact
+                        ? new LongIdentity(1234567890123L)
+                        : new DefaultFormLongIdentity(1234567890123L);
+                break;
+            case "bigInteger":
+                final BigInteger value = new BigInteger("123456789012345678901234567890");
+                this.identity = this.compact
+                        ? new BigIntegerIdentity(value)
+                        : new DefaultFormBigIntegerIdentity(value);
+                break;
+            case "string":
+                this.identity = this.compact
+                        ? new StringIdentity("Some identity value")
+                        : new DefaultFormStringIdentity("Some identity value");
+                break;
+            case "token":
+                this.identity = this.compact
+                        ? new TokenIdentity("SomeIdentityToken")
+                        : new DefaultFormTokenIdentity("SomeIdentityToken");
+                break;
+            default:
+                final UUID uuid = UUID.randomUUID();
+                this.identity = this.compact
+                        ? new UUIDIdentity(uuid)
+                        : new DefaultFormUUIDIdentity(uuid);
+                break;
+        }
+        this.serialized = serialize();
+    }
+
+    /**
+     * Identity serialization.
+     * 
+     * @return The serialized identity
+     * @throws IOException Should not happen
+     */
+    @Benchmark
+    public byte[] serialize()
+    throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(this.identity);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Identity deserialization.
+     * 
+     * @return The deserialized identity
+     * @throws IOException Should not happen
+     * @throws ClassNotFoundException Should not happen
+     */
+    @Benchmark
+    public Object deserialize()
+    throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(this.serialized))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * {@code LongIdentity} with default serialized form.
+     */
+    public static class DefaultFormLongIdentity
+    extends LongIdentity {
+        private static final long serialVersionUID = 1L;
+        public DefaultFormLongIdentity(final Long value) {
+            super(value);
+        }
+    }
+
+    /**
+     * {@code BigIntegerIdentity} with default serialized form.
+     */
+    public static class DefaultFormBigIntegerIdentity
+    extends BigIntegerIdentity {
+        private static final long serialVersionUID = 1L;
+        public DefaultFormBigIntegerIdentity(final BigInteger value) {
+            super(value);
+        }
+    }
+
+    /**
+     * {@code StringIdentity} with default serialized form.
+     */
+    public static class DefaultFormStringIdentity
+    extends StringIdentity {
+        private static final long serialVersionUID = 1L;
+        public DefaultFormStringIdentity(final String value) {
+            super(value);
+        }
+    }
+
+    /**
+     * {@code TokenIdentity} with default serialized form.
+     */
+    public static class DefaultFormTokenIdentity
+    extends TokenIdentity {
+        private static final long serialVersionUID = 1L;
+        public DefaultFormTokenIdentity(final String token) {
+            super(token);
+        }
+    }
+
+    /**
+     * {@code UUIDIdentity} with default serialized form.
+     */
+    public static class DefaultFormUUIDIdentity
+    extends UUIDIdentity {
+        private static final long serialVersionUID = 1L;
+        public DefaultFormUUIDIdentity(final UUID value) {
+            super(value);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@code IdentityTokenDictionary} against a {@code HashMap}
+ * of identity tokens to dense ids, parameterized by number of entries.
+ * Lookups are performed with new identity token instances, equal to the
+ * inserted ones, as when identity tokens are decoded from external sources.
+ * <p>
+ * Run the build benchmarks with the GC profiler ({@code -prof gc}) to
+ * compare the heap allocation per dictionary, which for
+ * {@code IdentityTokenDictionary} excludes the off heap buffers.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenDictionary
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityTokenDictionaryBenchmark {
+
+    /** The number of entries. */
+    @Param({ "1000", "100000" })
+    public int size;
+
+    /** The inserted identity tokens. */
+    private String[] tokens;
+    /** The lookup identity tokens, equal to the inserted ones. */
+    private String[] lookupTokens;
+    /** The populated {@code HashMap}. */
+    private Map<String, Integer> hashMap;
+    /** The populated {@code IdentityTokenDictionary}. */
+    private IdentityTokenDictionary dictionary;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        this.tokens = new String[this.size];
+        this.lookupTokens = new String[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.tokens[i] = "prefix-" + (i * 7919L + 1_000_000L);
+            this.lookupTokens[i] = new String(this.tokens[i].toCharArray());
+        }
+        this.hashMap = buildHashMap();
+        this.dictionary = IdentityTokenDictionary.direct(this.size);
+        for (final String token : this.tokens) {
+            this.dictionary.add(token);
+        }
+    }
+
+    /**
+     * Releases the benchmark state.
+     * 
+     * @throws IOException If an error occurs
+     */
+    @TearDown
+    public void tearDown()
+    throws IOException {
+        this.dictionary.close();
+    }
+
+    /**
+     * Lookup of all the identity tokens in a {@code HashMap}.
+     * 
+     * @param bh The JMH black hole
+     */
+    @Benchmark
+    public void indexOfHashMap(
+            final Blackhole bh) {
+        for (final String token : this.lookupTokens) {
+            bh.consume(this.hashMap.get(token));
+        }
+    }
+
+    /**
+     * Lookup of all the identity tokens in an {@code IdentityTokenDictionary}.
+     * 
+     * @param bh The JMH black hole
+     */
+    @Benchmark
+    public void indexOfDictionary(
+            final Blackhole bh) {
+        for (final String token : this.lookupTokens) {
+            bh.consume(this.dictionary.indexOf(token));
+        }
+    }
+
+    /**
+     * Population of a {@code HashMap}.
+     * 
+     * @return The populated map
+     */
+    @Benchmark
+    public Map<String, Integer> buildHashMap() {
+        final Map<String, Integer> result = new HashMap<>();
+        for (final String token : this.tokens) {
+            result.putIfAbsent(token, result.size());
+        }
+        return result;
+    }
+
+    /**
+     * Population of an {@code IdentityTokenDictionary}.
+     * 
+     * @return The dictionary size
+     * @throws IOException If an error occurs
+     */
+    @Benchmark
+    public int buildDictionary()
+    throws IOException {
+        try (final IdentityTokenDictionary result = IdentityTokenDictionary.direct()) {
+            for (final String token : this.tokens) {
+                result.add(token);
+            }
+            return result.size();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code IdentityTokenFormatter} token formatting, parsing
+ * and validation, parameterized by identity token body length and by
+ * encoded or unencoded identity token bodies.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenFormatter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityTokenFormatterBenchmark {
+
+    /** The identity token prefix. */
+    private static final String PREFIX = "Benchmark";
+    /** The characters of unencoded identity token bodies. */
+    private static final String UNENCODED_CHARS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    /** The characters of identity token bodies that require encoding. */
+    private static final String ENCODED_CHARS =
+            "abc DEF-123_\u00f1/\u00e9:";
+
+    /** The identity token body length. */
+    @Param({ "8", "64", "512" })
+    public int bodyLength;
+    /** If the identity token body requires encoding. */
+    @Param({ "false", "true" })
+    public boolean encoded;
+
+    /** The identity token body. */
+    private String body;
+    /** The identity token. */
+    private String token;
+    /** The identity token with compact body. */
+    private String compactToken;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        final String chars = this.encoded ? ENCODED_CHARS : UNENCODED_CHARS;
+        final StringBuilder builder = new StringBuilder(this.bodyLength);
+        for (int i = 0; i < this.bodyLength; i++) {
+            builder.append(chars.charAt(i % chars.length()));
+        }
+        this.body = builder.toString();
+        this.token = IdentityTokenFormatter.format(PREFIX, this.body);
+        this.compactToken = IdentityTokenFormatter.formatCompact(PREFIX, this.body);
+    }
+
+    /**
+     * Identity token formatting.
+     * 
+     * @return The formatted identity token
+     */
+    @Benchmark
+    public String format() {
+        return IdentityTokenFormatter.format(PREFIX, this.body);
+    }
+
+    /**
+     * Identity token parsing.
+     * 
+     * @return The parsed identity token body
+     */
+    @Benchmark
+    public String parse() {
+        return IdentityTokenFormatter.parse(PREFIX, this.token);
+    }
+
+    /**
+     * Identity token formatting with compact body.
+     * 
+     * @return The formatted identity token
+     */
+    @Benchmark
+    public String formatCompact() {
+        return IdentityTokenFormatter.formatCompact(PREFIX, this.body);
+    }
+
+    /**
+     * Identity token with compact body parsing.
+     * 
+     * @return The parsed identity token body
+     */
+    @Benchmark
+    public String parseCompact() {
+        return IdentityTokenFormatter.parse(PREFIX, this.compactToken);
+    }
+
+    /**
+     * Identity token validation.
+     * 
+     * @return If the identity token is valid
+     */
+    @Benchmark
+    public boolean isValidToken() {
+        return IdentityTokenFormatter.isValidToken(this.token);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@code GregorianCalendarConverter} conversions.
+ * Compares the conversions through intermediate {@code ZonedDateTime}
+ * instances with the direct conversions and the conversions into
+ * reused calendars.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see GregorianCalendarConverter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GregorianCalendarConverterBenchmark {
+
+    /** The converted epoch milliseconds. */
+    private static final long EPOCH_MILLIS = 1700000000123L;
+    /** The converted epoch milliseconds text. */
+    private static final String EPOCH_MILLIS_TEXT = Long.toString(EPOCH_MILLIS);
+    /** The converted instant. */
+    private static final Instant INSTANT = Instant.ofEpochMilli(EPOCH_MILLIS);
+    /** The converted ISO zoned date time text. */
+    private static final String ISO_TEXT = "2023-11-14T22:13:20.123Z[UTC]";
+
+    /** The tested converter. */
+    private GregorianCalendarConverter converter;
+    /** The reused calendar. */
+    private GregorianCalendar calendar;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        this.converter = new GregorianCalendarConverter();
+        this.calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * Baseline: conversion through intermediate {@code ZonedDateTime},
+     * as done before direct conversions.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar instantThroughZonedDateTime() {
+        return GregorianCalendar.from(INSTANT.atZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Direct conversion from {@code Instant}.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertInstant() {
+        return this.converter.convert(GregorianCalendar.class, INSTANT);
+    }
+
+    /**
+     * Direct conversion from epoch milliseconds.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertEpochMillis() {
+        return this.converter.convert(GregorianCalendar.class, EPOCH_MILLIS);
+    }
+
+    /**
+     * Direct conversion from epoch milliseconds text.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertEpochMillisText() {
+        return this.converter.convert(GregorianCalendar.class, EPOCH_MILLIS_TEXT);
+    }
+
+    /**
+     * Conversion from ISO zoned date time text, through the nested
+     * {@code ZonedDateTimeConverter}.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertIsoText() {
+        return this.converter.convert(GregorianCalendar.class, ISO_TEXT);
+    }
+
+    /**
+     * Conversion from {@code Instant} into a reused calendar.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertInstantInto() {
+        return this.converter.convertInto(INSTANT, this.calendar);
+    }
+
+    /**
+     * Conversion from epoch milliseconds text into a reused calendar.
+     * 
+     * @return The converted calendar
+     */
+    @Benchmark
+    public GregorianCalendar convertEpochMillisTextInto() {
+        return this.converter.convertInto(EPOCH_MILLIS_TEXT, this.calendar);
+    }
+
+    /**
+     * Conversion from {@code GregorianCalendar} to {@code String}.
+     * 
+     * @return The converted text
+     */
+    @Benchmark
+    public String convertToString() {
+        return this.converter.convert(String.class, this.calendar);
+    }
+}
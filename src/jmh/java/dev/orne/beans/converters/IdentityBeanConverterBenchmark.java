@@ -0,0 +1,133 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.reflect.ConstructorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.orne.beans.BaseIdentityBean;
+
+/**
+ * Benchmarks for {@code IdentityBeanConverter} bean instantiation.
+ * Compares the reflective {@code ConstructorUtils} instantiation with
+ * the cached instance factories used by the converter.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityBeanConverter
+ * @see ConstructorFactories
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityBeanConverterBenchmark {
+
+    /** The converted identity token. */
+    private static final String TOKEN = "benchmarkToken";
+
+    /** The tested converter. */
+    private IdentityBeanConverter converter;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        this.converter = new IdentityBeanConverter(BenchmarkBean.class);
+    }
+
+    /**
+     * Baseline: direct constructor invocation.
+     * 
+     * @return The created instance
+     */
+    @Benchmark
+    public BenchmarkBean constructorDirect() {
+        return new BenchmarkBean();
+    }
+
+    /**
+     * Reflective instantiation, as done before cached factories.
+     * 
+     * @return The created instance
+     * @throws ReflectiveOperationException If an error occurs
+     */
+    @Benchmark
+    public BenchmarkBean constructorReflective()
+    throws ReflectiveOperationException {
+        return ConstructorUtils.invokeConstructor(BenchmarkBean.class);
+    }
+
+    /**
+     * Instantiation through cached instance factory.
+     * 
+     * @return The created instance
+     */
+    @Benchmark
+    public BenchmarkBean constructorFactory() {
+        return ConstructorFactories.get(BenchmarkBean.class).get();
+    }
+
+    /**
+     * Instantiation through {@code IdentityBeanConverter.createInstance()}.
+     * 
+     * @return The created instance
+     */
+    @Benchmark
+    public BenchmarkBean createInstance() {
+        return this.converter.createInstance(BenchmarkBean.class, TOKEN);
+    }
+
+    /**
+     * Full conversion from identity token to bean.
+     * 
+     * @return The converted bean
+     */
+    @Benchmark
+    public BenchmarkBean convert() {
+        return this.converter.convert(BenchmarkBean.class, TOKEN);
+    }
+
+    /**
+     * Bean type used in benchmarks.
+     */
+    public static class BenchmarkBean
+    extends BaseIdentityBean {
+        // No extra methods
+    }
+}
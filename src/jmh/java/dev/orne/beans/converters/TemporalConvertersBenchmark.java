@@ -0,0 +1,150 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the date and time converters, parameterized by
+ * converted input shape.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see InstantConverter
+ * @see DateConverter
+ * @see ZonedDateTimeConverter
+ * @see LocalDateTimeConverter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemporalConvertersBenchmark {
+
+    /** The converted epoch milliseconds. */
+    private static final long EPOCH_MILLIS = 1700000000123L;
+
+    /** The converted input shape. */
+    @Param({ "epochMillis", "epochMillisText", "isoText", "date", "invalid" })
+    public String inputShape;
+
+    /** The converted value. */
+    private Object value;
+    /** The {@code Instant} converter. */
+    private InstantConverter instantConverter;
+    /** The {@code Date} converter. */
+    private DateConverter dateConverter;
+    /** The {@code ZonedDateTime} converter. */
+    private ZonedDateTimeConverter zonedDateTimeConverter;
+    /** The {@code LocalDateTime} converter. */
+    private LocalDateTimeConverter localDateTimeConverter;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        switch (this.inputShape) {
+            case "epochMillis":
+                this.value = EPOCH_MILLIS;
+                break;
+            case "epochMillisText":
+                this.value = Long.toString(EPOCH_MILLIS);
+                break;
+            case "isoText":
+                this.value = Instant.ofEpochMilli(EPOCH_MILLIS).toString();
+                break;
+            case "date":
+                this.value = new Date(EPOCH_MILLIS);
+                break;
+            case "invalid":
+                this.value = "not a date";
+                break;
+            default:
+                throw new IllegalArgumentException(this.inputShape);
+        }
+        this.instantConverter = new InstantConverter((Instant) null);
+        this.dateConverter = new DateConverter((Date) null);
+        this.zonedDateTimeConverter = new ZonedDateTimeConverter((ZonedDateTime) null);
+        this.localDateTimeConverter = new LocalDateTimeConverter((LocalDateTime) null);
+    }
+
+    /**
+     * Conversion to {@code Instant}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public Instant convertInstant() {
+        return this.instantConverter.convert(Instant.class, this.value);
+    }
+
+    /**
+     * Conversion to {@code Date}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public Date convertDate() {
+        return this.dateConverter.convert(Date.class, this.value);
+    }
+
+    /**
+     * Conversion to {@code ZonedDateTime}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public ZonedDateTime convertZonedDateTime() {
+        return this.zonedDateTimeConverter.convert(ZonedDateTime.class, this.value);
+    }
+
+    /**
+     * Conversion to {@code LocalDateTime}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public LocalDateTime convertLocalDateTime() {
+        return this.localDateTimeConverter.convert(LocalDateTime.class, this.value);
+    }
+}
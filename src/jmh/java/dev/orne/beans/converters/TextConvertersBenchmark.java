@@ -0,0 +1,187 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.net.URI;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the text based converters, parameterized by
+ * converted input shape.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see MonthConverter
+ * @see DayOfWeekConverter
+ * @see EnumConverter
+ * @see LocaleConverter
+ * @see UriConverter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextConvertersBenchmark {
+
+    /** The converted input shape. */
+    @Param({ "name", "text", "number", "invalid" })
+    public String inputShape;
+
+    /** The converted {@code Month} value. */
+    private Object monthValue;
+    /** The converted {@code DayOfWeek} value. */
+    private Object dayOfWeekValue;
+    /** The converted {@code Locale} value. */
+    private String localeValue;
+    /** The converted {@code URI} value. */
+    private String uriValue;
+    /** The {@code Month} converter. */
+    private MonthConverter monthConverter;
+    /** The {@code DayOfWeek} converter. */
+    private DayOfWeekConverter dayOfWeekConverter;
+    /** The {@code Locale} converter. */
+    private LocaleConverter localeConverter;
+    /** The {@code URI} converter. */
+    private UriConverter uriConverter;
+    /** The {@code URI} converter with cache. */
+    private UriConverter cachedUriConverter;
+
+    /**
+     * Prepares the benchmark state.
+     */
+    @Setup
+    public void setup() {
+        switch (this.inputShape) {
+            case "name":
+                this.monthValue = "MARCH";
+                this.dayOfWeekValue = "FRIDAY";
+                this.localeValue = "en-US";
+                this.uriValue = "https://example.org/base/path";
+                break;
+            case "text":
+                this.monthValue = "Mar";
+                this.dayOfWeekValue = "friday";
+                this.localeValue = "es-ES";
+                this.uriValue = "urn:isbn:0451450523";
+                break;
+            case "number":
+                this.monthValue = 3;
+                this.dayOfWeekValue = 5;
+                this.localeValue = "de";
+                this.uriValue = "1234567890";
+                break;
+            case "invalid":
+                this.monthValue = "not a month";
+                this.dayOfWeekValue = "not a day";
+                this.localeValue = "%%";
+                this.uriValue = ":not a uri";
+                break;
+            default:
+                throw new IllegalArgumentException(this.inputShape);
+        }
+        this.monthConverter = new MonthConverter((Month) null);
+        this.dayOfWeekConverter = new DayOfWeekConverter((DayOfWeek) null);
+        this.localeConverter = new LocaleConverter((Locale) null);
+        this.uriConverter = new UriConverter((URI) null);
+        this.cachedUriConverter = new UriConverter((URI) null);
+        this.cachedUriConverter.setCacheCapacity(UriConverter.DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Conversion to {@code Month}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public Month convertMonth() {
+        return this.monthConverter.convert(Month.class, this.monthValue);
+    }
+
+    /**
+     * Conversion to {@code DayOfWeek}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public DayOfWeek convertDayOfWeek() {
+        return this.dayOfWeekConverter.convert(DayOfWeek.class, this.dayOfWeekValue);
+    }
+
+    /**
+     * Conversion to {@code Locale}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public Locale convertLocale() {
+        return this.localeConverter.convert(Locale.class, this.localeValue);
+    }
+
+    /**
+     * Conversion to {@code URI}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public URI convertUri() {
+        return this.uriConverter.convert(URI.class, this.uriValue);
+    }
+
+    /**
+     * Conversion to {@code URI} with cache enabled.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public URI convertUriCached() {
+        return this.cachedUriConverter.convert(URI.class, this.uriValue);
+    }
+
+    /**
+     * Exception free conversion to {@code URI}.
+     * 
+     * @return The converted value
+     */
+    @Benchmark
+    public URI tryConvertUri() {
+        return this.uriConverter.tryConvert(this.uriValue);
+    }
+}
@@ -24,7 +24,6 @@ package dev.orne.beans;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -32,9 +31,12 @@ import org.apiguardian.api.API.Status;
 /**
  * Abstract implementation for {@code Identity} for identities composed
  * of a multiple inner values.
+ * <p>
+ * Identity token body parts are joined and split with literal separators,
+ * without regular expressions nor intermediate copies of the parts.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2023-05
+ * @version 1.1, 2026-10
  * @since 0.5
  */
 @API(status=Status.MAINTAINED, since="0.5")
@@ -65,15 +67,10 @@ extends AbstractIdentity {
         if (parts.length == 0) {
             return null;
         }
-        final String placeholder = getIdentityTokenBodyPartsNullPlaceholder();
-        for (int i = 0; i < parts.length; i++) {
-            if (parts[i] == null) {
-                parts[i] = placeholder;
-            }
-        }
-        return StringUtils.join(
+        return joinTokenBodyParts(
                 parts,
-                getIdentityTokenBodyPartsSeparator());
+                getIdentityTokenBodyPartsSeparator(),
+                getIdentityTokenBodyPartsNullPlaceholder());
     }
 
     /**
@@ -176,18 +173,10 @@ extends AbstractIdentity {
         Validate.notNull(separator);
         Validate.notNull(placeholder);
         final String body = IdentityTokenFormatter.parse(prefix, token);
-        final String[] result;
         if (body == null) {
-            result = new String[0];
-        } else {
-            result = body.split(separator);
-            for (int i = 0; i < result.length; i++) {
-                if (placeholder.equals(result[i])) {
-                    result[i] = null;
-                }
-            }
+            return new String[0];
         }
-        return result;
+        return splitTokenBodyParts(body, separator, placeholder);
     }
 
     /**
@@ -278,29 +267,266 @@ extends AbstractIdentity {
             final @NotNull String separator,
             final @NotNull String placeholder,
             final int expectedParts) {
-        final String[] result = extractTokenBodyParts(prefix, token, separator, placeholder);
-        validateTokenBodyParts(token, result, expectedParts);
+        if (expectedParts < 0) {
+            extractTokenBodyParts(prefix, token, separator, placeholder);
+            throw unrecognizedToken(token);
+        }
+        final String[] result = new String[expectedParts];
+        extractRequiredTokenBodyParts(prefix, token, separator, placeholder, result);
         return result;
     }
 
     /**
-     * Validates that the specified identity token body parts is not null and
-     * has the expected number of parts.
+     * Extracts the body parts of a token generated by
+     * {@code AbstractComposedIdentity} into the specified array.
+     * The expected body parts count is the length of the array.
+     * <p>
+     * If the resulting value is {@code null} or the body parts count is not
+     * the expected one an exception is thrown. The scan of the token body
+     * stops as soon as more parts than expected are found.
      * 
+     * @param prefix The expected identity token prefix.
      * @param token The identity token.
-     * @param parts The extracted identity token body parts.
-     * @param expectedParts The expected identity token body parts count.
-     * @throws UnrecognizedIdentityTokenException If the extracted body is
-     * {@code null} or the extracted body parts count does not match the
-     * expected parts count.
+     * @param separator The identity token body parts separator.
+     * @param placeholder The {@code null} identity token body part placeholder.
+     * @param target The array to fill with the extracted identity token
+     * body parts.
+     * @return The target array.
+     * @throws NullPointerException If any argument is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token is not
+     * a valid identity token, if it doesn't start with the expected prefix,
+     * if the extracted body is null or the extracted body parts count does not
+     * match the expected parts count.
+     * @since 0.7
      */
-    private static void validateTokenBodyParts(
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String[] extractRequiredTokenBodyParts(
+            final @NotNull String prefix,
             final @NotNull String token,
+            final @NotNull String separator,
+            final @NotNull String placeholder,
+            final @NotNull String[] target) {
+        Validate.notNull(prefix);
+        Validate.notNull(token);
+        Validate.notNull(separator);
+        Validate.notNull(placeholder);
+        Validate.notNull(target);
+        final String body = IdentityTokenFormatter.parse(prefix, token);
+        if (body == null) {
+            if (target.length != 0) {
+                throw unrecognizedToken(token);
+            }
+        } else if (!splitTokenBodyParts(body, separator, placeholder, target)) {
+            throw unrecognizedToken(token);
+        }
+        return target;
+    }
+
+    /**
+     * Splits the specified identity token body in parts separated by the
+     * specified literal separator, replacing the {@code null} placeholder
+     * parts with {@code null}.
+     * <p>
+     * Unlike {@code String.split(String)} the separator is not a regular
+     * expression and trailing empty parts are preserved.
+     * 
+     * @param body The identity token body.
+     * @param separator The identity token body parts separator.
+     * @param placeholder The {@code null} identity token body part placeholder.
+     * @return The identity token body parts.
+     * @throws NullPointerException If any argument is {@code null}
+     * @throws IllegalArgumentException If the separator is empty
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String[] splitTokenBodyParts(
+            final @NotNull CharSequence body,
+            final @NotNull String separator,
+            final @NotNull String placeholder) {
+        Validate.notNull(body);
+        Validate.notEmpty(separator);
+        Validate.notNull(placeholder);
+        int count = 1;
+        final int sepLength = separator.length();
+        for (int i = indexOf(body, separator, 0); i >= 0; i = indexOf(body, separator, i + sepLength)) {
+            count++;
+        }
+        final String[] result = new String[count];
+        splitTokenBodyParts(body, separator, placeholder, result);
+        return result;
+    }
+
+    /**
+     * Splits the specified identity token body in parts separated by the
+     * specified literal separator into the specified array, replacing the
+     * {@code null} placeholder parts with {@code null}. The expected parts
+     * count is the length of the array.
+     * <p>
+     * The scan of the body stops as soon as more parts than expected are
+     * found. The contents of the array are undefined if the parts count
+     * does not match.
+     * 
+     * @param body The identity token body.
+     * @param separator The identity token body parts separator.
+     * @param placeholder The {@code null} identity token body part placeholder.
+     * @param target The array to fill with the identity token body parts.
+     * @return If the identity token body parts count matches the length of
+     * the array.
+     * @throws NullPointerException If any argument is {@code null}
+     * @throws IllegalArgumentException If the separator is empty
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static boolean splitTokenBodyParts(
+            final @NotNull CharSequence body,
+            final @NotNull String separator,
+            final @NotNull String placeholder,
+            final @NotNull String[] target) {
+        Validate.notNull(body);
+        Validate.notEmpty(separator);
+        Validate.notNull(placeholder);
+        Validate.notNull(target);
+        final int sepLength = separator.length();
+        int index = 0;
+        int start = 0;
+        int end = indexOf(body, separator, 0);
+        while (end >= 0) {
+            if (index >= target.length - 1) {
+                return false;
+            }
+            target[index++] = toTokenBodyPart(body, start, end, placeholder);
+            start = end + sepLength;
+            end = indexOf(body, separator, start);
+        }
+        if (index != target.length - 1) {
+            return false;
+        }
+        target[index] = toTokenBodyPart(body, start, body.length(), placeholder);
+        return true;
+    }
+
+    /**
+     * Joins the specified identity token body parts with the specified
+     * separator, replacing {@code null} parts with the specified
+     * placeholder. The parts array is not modified.
+     * 
+     * @param parts The identity token body parts.
+     * @param separator The identity token body parts separator.
+     * @param placeholder The {@code null} identity token body part placeholder.
+     * @return The identity token body.
+     * @throws NullPointerException If any argument is {@code null}
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String joinTokenBodyParts(
             final @NotNull String[] parts,
-            final int expectedParts) {
-        if (parts.length != expectedParts) {
-            throw new UnrecognizedIdentityTokenException(
-                    "Unrecognized identity token: " + token);
+            final @NotNull String separator,
+            final @NotNull String placeholder) {
+        Validate.notNull(parts);
+        Validate.notNull(separator);
+        Validate.notNull(placeholder);
+        if (parts.length == 1) {
+            return parts[0] == null ? placeholder : parts[0];
+        }
+        int length = separator.length() * Math.max(0, parts.length - 1);
+        for (final String part : parts) {
+            length += part == null ? placeholder.length() : part.length();
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append(separator);
+            }
+            builder.append(parts[i] == null ? placeholder : parts[i]);
         }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the identity token body part in the specified range of the
+     * identity token body, or {@code null} if the part is the {@code null}
+     * placeholder.
+     * 
+     * @param body The identity token body.
+     * @param start The part start index, inclusive.
+     * @param end The part end index, exclusive.
+     * @param placeholder The {@code null} identity token body part placeholder.
+     * @return The identity token body part.
+     */
+    private static String toTokenBodyPart(
+            final @NotNull CharSequence body,
+            final int start,
+            final int end,
+            final @NotNull String placeholder) {
+        if (end - start == placeholder.length()
+                && regionMatches(body, start, placeholder)) {
+            return null;
+        }
+        return body.subSequence(start, end).toString();
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified literal
+     * separator in the specified sequence, starting at the specified index.
+     * 
+     * @param seq The sequence to search.
+     * @param separator The separator to search.
+     * @param from The index to start the search from.
+     * @return The index of the separator, or {@code -1} if not found.
+     */
+    private static int indexOf(
+            final @NotNull CharSequence seq,
+            final @NotNull String separator,
+            final int from) {
+        if (seq instanceof String) {
+            return ((String) seq).indexOf(separator, from);
+        }
+        final int last = seq.length() - separator.length();
+        final char first = separator.charAt(0);
+        for (int i = from; i <= last; i++) {
+            if (seq.charAt(i) == first && regionMatches(seq, i, separator)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the specified sequence contains the
+     * specified text at the specified index.
+     * 
+     * @param seq The sequence.
+     * @param offset The index in the sequence.
+     * @param text The text to compare.
+     * @return If the sequence contains the text at the index.
+     */
+    private static boolean regionMatches(
+            final @NotNull CharSequence seq,
+            final int offset,
+            final @NotNull String text) {
+        if (seq instanceof String) {
+            return ((String) seq).startsWith(text, offset);
+        }
+        if (offset + text.length() > seq.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (seq.charAt(offset + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new exception for the specified unrecognized identity token.
+     * 
+     * @param token The identity token.
+     * @return The new exception.
+     */
+    private static @NotNull UnrecognizedIdentityTokenException unrecognizedToken(
+            final @NotNull String token) {
+        return new UnrecognizedIdentityTokenException(
+                "Unrecognized identity token: " + token);
     }
 }
@@ -31,9 +31,13 @@ import org.apiguardian.api.API.Status;
 /**
  * Base abstract implementation for {@code Identity}. Manages the formatting
  * and parsing of identity tokens.
+ * <p>
+ * Identity types can opt in compact identity token bodies overriding
+ * {@link #isCompactIdentityToken()}. Identity tokens with compact bodies
+ * are parsed as regular identity tokens.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +69,20 @@ implements Identity {
         return IdentityTokenFormatter.DEFAULT_PREFIX;
     }
 
+    /**
+     * Returns {@code true} if the identity tokens of this identity type are
+     * formatted with compact identity token bodies. Must return same value
+     * for instances of the same class. By default returns {@code false}.
+     * 
+     * @return If the identity tokens are formatted with compact bodies
+     * @see IdentityTokenFormatter#formatCompact(String, String)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    protected boolean isCompactIdentityToken() {
+        return false;
+    }
+
     /**
      * Returns the identity token body composed from the values of this
      * identity. Equal instances must return equal identity token body.
@@ -90,6 +108,29 @@ implements Identity {
                 token);
     }
 
+    /**
+     * Formats the identity token of this identity. Called once per
+     * instance, as the result is cached by {@link #getIdentityToken()}.
+     * <p>
+     * By default formats the identity token prefix and body, with a compact
+     * body if {@link #isCompactIdentityToken()} returns {@code true}.
+     * 
+     * @return The identity token of this identity
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    protected @NotNull String formatIdentityToken() {
+        if (isCompactIdentityToken()) {
+            return IdentityTokenFormatter.formatCompact(
+                    getIdentityTokenPrefix(),
+                    getIdentityTokenBody());
+        } else {
+            return IdentityTokenFormatter.format(
+                    getIdentityTokenPrefix(),
+                    getIdentityTokenBody());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,9 +140,7 @@ implements Identity {
     public String getIdentityToken() {
         synchronized (this) {
             if (this.identityToken == null) {
-                this.identityToken = IdentityTokenFormatter.format(
-                        getIdentityTokenPrefix(),
-                        getIdentityTokenBody());
+                this.identityToken = formatIdentityToken();
             }
             return this.identityToken;
         }
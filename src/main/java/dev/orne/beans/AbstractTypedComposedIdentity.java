@@ -0,0 +1,182 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Abstract implementation for {@code Identity} for identities composed
+ * of multiple typed inner values.
+ * <p>
+ * Unlike {@code AbstractComposedIdentity}, parts are not converted to
+ * {@code String}. Parts are packed in binary form through
+ * {@code IdentityPartCodec}s, and the packed bytes are encoded in the
+ * identity token body, resulting in shorter identity tokens that can be
+ * parsed without intermediate {@code String} instances.
+ * <pre>
+ * public class TenantItemIdentity
+ * extends AbstractTypedComposedIdentity {
+ * 
+ *     private static final IdentityPartCodec&lt;Region&gt; REGION =
+ *             IdentityPartCodecs.ofEnum(Region.class);
+ * 
+ *     private final long tenant;
+ *     private final Region region;
+ *     private final UUID item;
+ * 
+ *     {@literal @}IdentityTokenResolver
+ *     public static TenantItemIdentity fromIdentityToken(String token) {
+ *         final IdentityPartReader reader = readTokenBodyParts(
+ *                 IdentityTokenFormatter.DEFAULT_PREFIX,
+ *                 token);
+ *         final TenantItemIdentity result = new TenantItemIdentity(
+ *                 reader.readLong(),
+ *                 reader.read(REGION),
+ *                 reader.read(IdentityPartCodecs.UUID));
+ *         reader.end();
+ *         return result;
+ *     }
+ * 
+ *     {@literal @}Override
+ *     protected void writeIdentityTokenBodyParts(IdentityPartWriter writer) {
+ *         writer.writeLong(this.tenant)
+ *             .write(REGION, this.region)
+ *             .write(IdentityPartCodecs.UUID, this.item);
+ *     }
+ * }
+ * </pre>
+ * As in {@code AbstractComposedIdentity}, derived classes must implement
+ * {@code equals(Object)} and {@code hashCode()} based on their parts.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartCodec
+ * @see IdentityPartCodecs
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public abstract class AbstractTypedComposedIdentity
+extends AbstractIdentity {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new instance.
+     */
+    protected AbstractTypedComposedIdentity() {
+        super();
+    }
+
+    /**
+     * Writes the parts of this identity to the specified writer.
+     * Equal instances must write equal bytes.
+     * 
+     * @param writer The writer to write the parts to
+     */
+    protected abstract void writeIdentityTokenBodyParts(
+            @NotNull IdentityPartWriter writer);
+
+    /**
+     * Returns the packed binary identity token body of this identity.
+     * 
+     * @return The packed binary identity token body
+     * @throws IllegalStateException If no parts are written
+     */
+    protected @NotNull byte[] getIdentityTokenBinaryBody() {
+        final IdentityPartWriter writer = new IdentityPartWriter();
+        writeIdentityTokenBodyParts(writer);
+        Validate.validState(writer.size() > 0, "No identity token body parts written");
+        return writer.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the URI friendly Base64 text of the packed binary identity
+     * token body, as returned by {@link #parseIdentityTokenBody(String)}.
+     * 
+     * @see #getEncodedIdentityTokenBody()
+     */
+    @Override
+    protected String getIdentityTokenBody() {
+        return getEncodedIdentityTokenBody().substring(
+                IdentityTokenFormatter.BINARY_BODY_PREFIX.length());
+    }
+
+    /**
+     * Returns the encoded packed binary identity token body, as included in
+     * the identity token after the identity token prefix.
+     * 
+     * @return The encoded identity token body
+     */
+    protected @NotNull String getEncodedIdentityTokenBody() {
+        return getIdentityToken().substring(getIdentityTokenPrefix().length());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The identity token body contains the packed binary parts of this
+     * identity.
+     * 
+     * @see IdentityTokenFormatter#formatBinary(String, byte[])
+     */
+    @Override
+    protected @NotNull String formatIdentityToken() {
+        return IdentityTokenFormatter.formatBinary(
+                getIdentityTokenPrefix(),
+                getIdentityTokenBinaryBody());
+    }
+
+    /**
+     * Parses the specified identity token generated by
+     * {@code AbstractTypedComposedIdentity} and returns a reader of the
+     * packed identity token body parts.
+     * <p>
+     * Callers should invoke {@link IdentityPartReader#end()} after reading
+     * all the parts to reject tokens with extra data.
+     * 
+     * @param prefix The expected identity token prefix
+     * @param token The identity token
+     * @return The reader of the identity token body parts
+     * @throws NullPointerException If any argument is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token is not
+     * a valid binary identity token, if it doesn't start with the expected
+     * prefix or if the identity token body is {@code null}
+     */
+    public static @NotNull IdentityPartReader readTokenBodyParts(
+            final @NotNull String prefix,
+            final @NotNull String token) {
+        final byte[] body = IdentityTokenFormatter.parseBinary(prefix, token);
+        if (body == null) {
+            throw new UnrecognizedIdentityTokenException(
+                    "Unrecognized identity token: " + token);
+        }
+        return new IdentityPartReader(body);
+    }
+}
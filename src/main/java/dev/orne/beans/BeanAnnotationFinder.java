@@ -39,6 +39,9 @@ import org.apiguardian.api.API.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.orne.beans.metrics.BeansEvents;
+import dev.orne.beans.metrics.BeansMetrics;
+
 /**
  * <p>Type level annotation finder. Detects annotations in classes,
  * directly implemented interfaces, super classes and inherited
@@ -73,7 +76,7 @@ import org.slf4j.LoggerFactory;
  * <p>Instances are reusable and thread-safe.</p>
  *
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @param <T> The supported annotation type
  * @param <L> The supported annotation list type
  * @since 0.1
@@ -225,7 +228,16 @@ public class BeanAnnotationFinder<
                         this.annotationType);
                 final Set<T> cachedDefinitions = this.cache.get(cacheKey);
                 if (cachedDefinitions == null) {
+                    BeansMetrics.increment(BeansMetrics.ANNOTATION_FINDER_CACHE_MISS);
+                    final long start = BeansMetrics.startTimer();
+                    final Object event = BeansEvents.ANNOTATION_SCAN.begin();
                     final Set<T> foundAnnotatios = findAllAnnotations(type);
+                    BeansEvents.ANNOTATION_SCAN.commit(
+                            event,
+                            type,
+                            this.annotationType,
+                            foundAnnotatios.size());
+                    BeansMetrics.stopTimer(BeansMetrics.ANNOTATION_FINDER_SCAN, start);
                     annotations.addAll(foundAnnotatios);
                     LOG.debug(
                             "Caching annotations for type {}: {}",
@@ -233,6 +245,7 @@ public class BeanAnnotationFinder<
                             annotations);
                     this.cache.put(cacheKey, foundAnnotatios);
                 } else {
+                    BeansMetrics.increment(BeansMetrics.ANNOTATION_FINDER_CACHE_HIT);
                     annotations.addAll(cachedDefinitions);
                 }
             }
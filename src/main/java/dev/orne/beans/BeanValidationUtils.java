@@ -36,12 +36,13 @@ import org.apiguardian.api.API.Status;
 
 import dev.orne.beans.ValidBeanIdentity.ValidBeanIdentityValidator;
 import dev.orne.beans.ValidBeanReference.ValidBeanReferenceValidator;
+import dev.orne.beans.metrics.BeansEvents;
 
 /**
  * Utility class for bean validations.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -125,6 +126,24 @@ public final class BeanValidationUtils {
         return ValidBeanReferenceValidator.isValid(obj);
     }
 
+    /**
+     * Pre-builds the validation metadata of the specified bean type in
+     * the shared {@code Validator} and pre-scans the type level
+     * {@code BeanReference} annotations of the type.
+     * 
+     * @param type The bean type
+     * @throws ValidationException if a non recoverable error happens
+     *         building the validation metadata
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static void warmUp(
+            final @NotNull Class<?> type) {
+        Validate.notNull(type);
+        ValidBeanReferenceValidator.FINDER.find(type);
+        BeanValidationUtils.validator.getConstraintsForClass(type);
+    }
+
     /**
      * Validates the specified bean for the specified validation groups.
      * 
@@ -141,6 +160,18 @@ public final class BeanValidationUtils {
     public static <T> @NotNull Set<ConstraintViolation<T>> validate(
             final @NotNull T obj,
             final @NotNull Class<?>... groups) {
-        return BeanValidationUtils.validator.validate(obj, groups);
+        final Object event = BeansEvents.VALIDATION.begin();
+        int violations = -1;
+        try {
+            final Set<ConstraintViolation<T>> result =
+                    BeanValidationUtils.validator.validate(obj, groups);
+            violations = result.size();
+            return result;
+        } finally {
+            BeansEvents.VALIDATION.commit(
+                    event,
+                    obj == null ? null : obj.getClass(),
+                    violations);
+        }
     }
 }
@@ -0,0 +1,458 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.orne.beans.IdentityResolver.UnresolvableIdentityException;
+import dev.orne.beans.converters.OrneBeansConverters;
+
+/**
+ * Startup warm-up of the library caches for a set of types.
+ * <p>
+ * The first use of each identity type, bean type and polymorphic base
+ * type populates several caches: identity resolution methods, type level
+ * annotations, converter instance factories and enumeration constant
+ * tables, Jackson SPI sub-types and Bean Validation metadata. Warm-ups
+ * populate these caches in advance, during application startup.
+ * <pre>
+ * BeansWarmUp.Result result = BeansWarmUp.builder()
+ *         .types(MyIdentity.class, MyBean.class)
+ *         .packages("com.example.model")
+ *         .parallel(true)
+ *         .build()
+ *         .run();
+ * </pre>
+ * Jackson and Bean Validation caches are populated only if the
+ * corresponding APIs are available in the classpath. Errors warming up
+ * a type are logged and reported in the result, without interrupting
+ * the warm-up of other types.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class BeansWarmUp {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(BeansWarmUp.class);
+    /** If the Jackson databind API is available. */
+    private static final boolean JACKSON_AVAILABLE =
+            isClassAvailable("com.fasterxml.jackson.databind.annotation.JsonTypeIdResolver");
+    /** If the Bean Validation API is available. */
+    private static final boolean VALIDATION_AVAILABLE =
+            isClassAvailable("javax.validation.Validator");
+
+    /** The types to warm up. */
+    private final @NotNull Set<Class<?>> types;
+    /** The packages to scan for types to warm up. */
+    private final @NotNull Set<String> packages;
+    /** The class loader used to scan packages and warm up types. */
+    private final @NotNull ClassLoader classLoader;
+    /** If types must be warmed up in parallel. */
+    private final boolean parallel;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param builder The builder with the warm-up configuration
+     */
+    private BeansWarmUp(
+            final @NotNull Builder builder) {
+        super();
+        this.types = Collections.unmodifiableSet(new LinkedHashSet<>(builder.types));
+        this.packages = Collections.unmodifiableSet(new LinkedHashSet<>(builder.packages));
+        this.classLoader = builder.classLoader == null
+                ? defaultClassLoader()
+                : builder.classLoader;
+        this.parallel = builder.parallel;
+    }
+
+    /**
+     * Creates a new warm-up builder.
+     * 
+     * @return The new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the types to warm up.
+     * 
+     * @return The types to warm up
+     */
+    public @NotNull Set<Class<?>> getTypes() {
+        return this.types;
+    }
+
+    /**
+     * Returns the packages to scan for types to warm up.
+     * 
+     * @return The packages to scan
+     */
+    public @NotNull Set<String> getPackages() {
+        return this.packages;
+    }
+
+    /**
+     * Returns the class loader used to scan packages. Used also as thread
+     * context class loader while warming up each type.
+     * 
+     * @return The class loader used to scan packages
+     */
+    public @NotNull ClassLoader getClassLoader() {
+        return this.classLoader;
+    }
+
+    /**
+     * Returns {@code true} if types are warmed up in parallel.
+     * 
+     * @return If types are warmed up in parallel
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Warms up the configured types and the types found in the configured
+     * packages.
+     * 
+     * @return The warm-up result
+     */
+    public @NotNull Result run() {
+        final Set<Class<?>> targets = new LinkedHashSet<>(this.types);
+        final PackageScanner scanner = new PackageScanner(this.classLoader);
+        for (final String packageName : this.packages) {
+            targets.addAll(scanner.scan(packageName));
+        }
+        final Result result = new Result();
+        final Stream<Class<?>> stream = this.parallel
+                ? targets.parallelStream()
+                : targets.stream();
+        stream.forEach(type -> warmUp(type, this.classLoader, result));
+        LOG.debug("Warmed up {} types with {} failures",
+                result.types.size(),
+                result.failures.size());
+        return result;
+    }
+
+    /**
+     * Warms up the caches for the specified type, using the specified
+     * class loader as thread context class loader. Caches keyed by thread
+     * context class loader, as the Jackson SPI sub-types cache, are
+     * populated for the configured class loader even when warming up
+     * in fork join pool worker threads.
+     * 
+     * @param type The type to warm up
+     * @param classLoader The class loader to use as context class loader
+     * @param result The warm-up result
+     */
+    static void warmUp(
+            final @NotNull Class<?> type,
+            final @NotNull ClassLoader classLoader,
+            final @NotNull Result result) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            warmUp(type, result);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * Warms up the caches for the specified type.
+     * 
+     * @param type The type to warm up
+     * @param result The warm-up result
+     */
+    static void warmUp(
+            final @NotNull Class<?> type,
+            final @NotNull Result result) {
+        if (type.isPrimitive() || type.isArray() || type.isAnnotation()) {
+            return;
+        }
+        try {
+            if (Identity.class.isAssignableFrom(type) && isConcrete(type)) {
+                warmUpIdentity(type.asSubclass(Identity.class));
+            }
+            OrneBeansConverters.warmUp(type);
+            if (JACKSON_AVAILABLE) {
+                JacksonSpiTypeIdResolver.warmUp(type);
+            }
+            if (VALIDATION_AVAILABLE) {
+                warmUpValidation(type);
+            }
+            result.types.add(type);
+        } catch (final UnresolvableIdentityException | RuntimeException | LinkageError e) {
+            LOG.warn("Error warming up type {}", type, e);
+            result.failures.put(type, e);
+        }
+    }
+
+    /**
+     * Warms up the identity resolution caches for the specified identity
+     * type.
+     * 
+     * @param type The identity type
+     * @throws UnresolvableIdentityException If the identity type has no
+     * valid resolution method or constructor
+     */
+    static void warmUpIdentity(
+            final @NotNull Class<? extends Identity> type)
+    throws UnresolvableIdentityException {
+        final IdentityResolver resolver = IdentityResolver.getInstance();
+        resolver.getLinkedResolver(type);
+        resolver.getResolver(type);
+    }
+
+    /**
+     * Warms up the Bean Validation caches for the specified type. Does
+     * nothing if the shared {@code Validator} cannot be created, as when
+     * no Bean Validation provider is available.
+     * 
+     * @param type The type to warm up
+     */
+    static void warmUpValidation(
+            final @NotNull Class<?> type) {
+        try {
+            BeanValidationUtils.warmUp(type);
+        } catch (final ExceptionInInitializerError | NoClassDefFoundError e) {
+            LOG.debug("Bean Validation not available. Skipping validation warm-up of {}", type, e);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified type is a concrete class.
+     * 
+     * @param type The type
+     * @return If the type is a concrete class
+     */
+    private static boolean isConcrete(
+            final @NotNull Class<?> type) {
+        return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Returns {@code true} if the specified class is available to this
+     * class' class loader.
+     * 
+     * @param className The class name
+     * @return If the class is available
+     */
+    static boolean isClassAvailable(
+            final @NotNull String className) {
+        try {
+            Class.forName(className, false, BeansWarmUp.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the default class loader for package scans: the current
+     * thread context class loader, if any, or this class' class loader.
+     * 
+     * @return The default class loader
+     */
+    private static @NotNull ClassLoader defaultClassLoader() {
+        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        return contextLoader == null
+                ? BeansWarmUp.class.getClassLoader()
+                : contextLoader;
+    }
+
+    /**
+     * Builder of {@code BeansWarmUp} instances.
+     * Not thread safe.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final class Builder {
+
+        /** The types to warm up. */
+        private final @NotNull Set<Class<?>> types = new LinkedHashSet<>();
+        /** The packages to scan for types to warm up. */
+        private final @NotNull Set<String> packages = new LinkedHashSet<>();
+        /** The class loader used to scan packages. */
+        private ClassLoader classLoader;
+        /** If types must be warmed up in parallel. */
+        private boolean parallel;
+
+        /**
+         * Creates a new instance.
+         */
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Adds the specified types to warm up.
+         * 
+         * @param types The types to warm up
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder types(
+                final @NotNull Class<?>... types) {
+            Validate.noNullElements(types);
+            Collections.addAll(this.types, types);
+            return this;
+        }
+
+        /**
+         * Adds the specified types to warm up.
+         * 
+         * @param types The types to warm up
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder types(
+                final @NotNull Collection<Class<?>> types) {
+            Validate.noNullElements(types);
+            this.types.addAll(types);
+            return this;
+        }
+
+        /**
+         * Adds the specified packages to scan for types to warm up.
+         * Sub-packages are scanned too.
+         * 
+         * @param packageNames The packages names
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder packages(
+                final @NotNull String... packageNames) {
+            Validate.noNullElements(packageNames);
+            Collections.addAll(this.packages, packageNames);
+            return this;
+        }
+
+        /**
+         * Sets the class loader used to scan packages. Used also as
+         * thread context class loader while warming up each type.
+         * If {@code null} the current thread context class loader is used.
+         * 
+         * @param classLoader The class loader used to scan packages
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder classLoader(
+                final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        /**
+         * Sets if types must be warmed up in parallel, using the common
+         * fork join pool.
+         * 
+         * @param parallel If types must be warmed up in parallel
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder parallel(
+                final boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Creates a new warm-up with the current configuration.
+         * 
+         * @return The new warm-up
+         */
+        public @NotNull BeansWarmUp build() {
+            return new BeansWarmUp(this);
+        }
+    }
+
+    /**
+     * Result of a warm-up. Thread safe.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final class Result {
+
+        /** The successfully warmed up types. */
+        private final @NotNull Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        /** The errors by failed type. */
+        private final @NotNull Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new instance.
+         */
+        Result() {
+            super();
+        }
+
+        /**
+         * Returns the successfully warmed up types.
+         * 
+         * @return The successfully warmed up types
+         */
+        public @NotNull Set<Class<?>> getTypes() {
+            return Collections.unmodifiableSet(this.types);
+        }
+
+        /**
+         * Returns the errors thrown warming up types, by failed type.
+         * 
+         * @return The errors by failed type
+         */
+        public @NotNull Map<Class<?>, Throwable> getFailures() {
+            return Collections.unmodifiableMap(this.failures);
+        }
+
+        /**
+         * Returns {@code true} if all the types were warmed up without
+         * errors.
+         * 
+         * @return If all the types were warmed up without errors
+         */
+        public boolean isSuccessful() {
+            return this.failures.isEmpty();
+        }
+    }
+}
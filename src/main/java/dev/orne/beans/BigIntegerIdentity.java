@@ -36,7 +36,7 @@ import dev.orne.test.rnd.GeneratorMethod;
  * of a single inner {@code BigInteger} value.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -67,6 +67,17 @@ extends AbstractSimpleIdentity<BigInteger> {
         super(copy);
     }
 
+    /**
+     * Replaces this instance with a compact serialization proxy when
+     * serialized. Subclasses keep the default serialized form.
+     * 
+     * @return The serialization proxy
+     * @since 0.7
+     */
+    private Object writeReplace() {
+        return new IdentitySer(this);
+    }
+
     /**
      * Resolves the specified identity token to a valid
      * {@code BigIntegerIdentity}.
@@ -144,4 +155,34 @@ extends AbstractSimpleIdentity<BigInteger> {
         }
         return result;
     }
+
+    /**
+     * JAXB adapter for {@code BigIntegerIdentity} that converts instances to and from
+     * {@code String} using the identity token as {@code String}
+     * representation.
+     * 
+     * @since 0.7
+     * @see TypedIdentityXmlAdapter
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static class BigIntegerIdentityXmlAdapter
+    extends TypedIdentityXmlAdapter<BigIntegerIdentity> {
+
+        /**
+         * Creates a new instance without identity token interning.
+         */
+        public BigIntegerIdentityXmlAdapter() {
+            super(BigIntegerIdentity.class);
+        }
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param interning If repeated identity tokens must be interned
+         */
+        public BigIntegerIdentityXmlAdapter(
+                final boolean interning) {
+            super(BigIntegerIdentity.class, interning);
+        }
+    }
 }
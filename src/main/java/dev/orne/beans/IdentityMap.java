@@ -0,0 +1,803 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Open addressing hash map with {@code Identity} keys.
+ * <p>
+ * {@code LongIdentity} keys with non {@code null} value are stored as
+ * primitive {@code long} values in a dedicated table, so no key instances
+ * are retained nor {@code hashCode()} and {@code equals()} are called for
+ * them. Iteration returns new {@code LongIdentity} instances equal to
+ * the inserted keys. Other keys are stored with their identity token and
+ * its hash, and are compared by class and identity token.
+ * <p>
+ * Thus, keys are considered equal if they are of the same class and have
+ * the same identity token, which is consistent with {@code equals()} for
+ * the identity types of this library. Identity types whose equality
+ * depends on other state must not be used as keys.
+ * <p>
+ * {@code null} keys are not supported. {@code null} values are supported.
+ * Entries returned by iterators don't support {@code setValue()}.
+ * Instances are not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <V> The type of the values
+ * @since 0.7
+ * @see IdentitySet
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityMap<V>
+extends AbstractMap<Identity, V> {
+
+    /** The default initial capacity of the tables. */
+    public static final int DEFAULT_CAPACITY = 16;
+    /** The load factor of the tables, including removed slots. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** The maximum capacity of the tables. */
+    private static final int MAX_CAPACITY = 1 << 30;
+    /** The stored value of {@code null} values. */
+    private static final Object NULL_VALUE = new Object();
+    /** The stored value of removed slots. */
+    private static final Object REMOVED = new Object();
+    /** The 64 bits golden ratio multiplier used to mix hashes. */
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+    /** The 32 bits golden ratio multiplier used to mix hashes. */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    /** The initial capacity of the tables. */
+    private final int initialCapacity;
+    /** The keys of the {@code LongIdentity} table. */
+    private long[] longKeys;
+    /** The values of the {@code LongIdentity} table. */
+    private Object[] longValues;
+    /** The number of entries of the {@code LongIdentity} table. */
+    private int longSize;
+    /** The number of used slots, including removed, of the {@code LongIdentity} table. */
+    private int longUsed;
+    /** The keys of the identity token table. */
+    private Identity[] tokenKeys;
+    /** The identity tokens of the identity token table. */
+    private String[] tokens;
+    /** The identity token hashes of the identity token table. */
+    private int[] tokenHashes;
+    /** The values of the identity token table. */
+    private Object[] tokenValues;
+    /** The number of entries of the identity token table. */
+    private int tokenSize;
+    /** The number of used slots, including removed, of the identity token table. */
+    private int tokenUsed;
+    /** The number of structural modifications. */
+    private int modCount;
+    /** The entry set view. */
+    private transient Set<Map.Entry<Identity, V>> entrySet;
+
+    /**
+     * Creates a new empty instance.
+     */
+    public IdentityMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty instance with tables sized for the specified
+     * expected number of entries.
+     * 
+     * @param expectedSize The expected number of entries of each table
+     */
+    public IdentityMap(
+            final int expectedSize) {
+        super();
+        Validate.isTrue(expectedSize >= 0, "Invalid expected size: %d", expectedSize);
+        this.initialCapacity = capacityFor(expectedSize);
+    }
+
+    /**
+     * Creates a new instance with the entries of the specified map.
+     * 
+     * @param map The map to copy
+     */
+    public IdentityMap(
+            final @NotNull Map<? extends Identity, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    /**
+     * Returns the table capacity for the specified number of entries.
+     * 
+     * @param size The number of entries
+     * @return The table capacity, a power of two
+     */
+    private static int capacityFor(
+            final int size) {
+        final long required = (long) Math.ceil(size / (double) LOAD_FACTOR) + 1;
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < required && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the table index of the specified {@code long} key.
+     * 
+     * @param key The key
+     * @param mask The table index mask
+     * @return The table index
+     */
+    private static int longIndex(
+            final long key,
+            final int mask) {
+        final long h = key * LONG_PHI;
+        return (int) (h ^ (h >>> 32) ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the table index of the specified identity token hash.
+     * 
+     * @param hash The identity token hash
+     * @param mask The table index mask
+     * @return The table index
+     */
+    private static int tokenIndex(
+            final int hash,
+            final int mask) {
+        final int h = hash * INT_PHI;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Returns {@code true} if the specified key is stored in the
+     * {@code LongIdentity} table.
+     * 
+     * @param key The key
+     * @return If the key is stored in the {@code LongIdentity} table
+     */
+    private static boolean isLongKey(
+            final Object key) {
+        return key != null
+                && key.getClass() == LongIdentity.class
+                && ((LongIdentity) key).getValue() != null;
+    }
+
+    /**
+     * Returns the stored form of the specified value.
+     * 
+     * @param value The value
+     * @return The stored value
+     */
+    private static Object mask(
+            final Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    /**
+     * Returns the value of the specified stored value.
+     * 
+     * @param <V> The type of the values
+     * @param stored The stored value
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(
+            final Object stored) {
+        return stored == NULL_VALUE ? null : (V) stored;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.longSize + this.tokenSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(
+            final Object key) {
+        if (isLongKey(key)) {
+            return findLong(((LongIdentity) key).getValue()) >= 0;
+        } else if (key instanceof Identity) {
+            return findToken((Identity) key) >= 0;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this map contains a {@code LongIdentity}
+     * key with the specified value.
+     * 
+     * @param value The {@code LongIdentity} value
+     * @return If the map contains the key
+     */
+    public boolean containsLongIdentity(
+            final long value) {
+        return findLong(value) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(
+            final Object key) {
+        if (isLongKey(key)) {
+            return getLongIdentity(((LongIdentity) key).getValue());
+        } else if (key instanceof Identity) {
+            final int index = findToken((Identity) key);
+            return index < 0 ? null : unmask(this.tokenValues[index]);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value mapped to the {@code LongIdentity} key with the
+     * specified value.
+     * 
+     * @param value The {@code LongIdentity} value
+     * @return The mapped value, or {@code null} if not mapped
+     */
+    public V getLongIdentity(
+            final long value) {
+        final int index = findLong(value);
+        return index < 0 ? null : unmask(this.longValues[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NullPointerException If the key is {@code null}
+     */
+    @Override
+    public V put(
+            final @NotNull Identity key,
+            final V value) {
+        Validate.notNull(key, "Identity key is required");
+        if (isLongKey(key)) {
+            return putLongIdentity(((LongIdentity) key).getValue(), value);
+        } else {
+            return putToken(key, value);
+        }
+    }
+
+    /**
+     * Maps the specified value to the {@code LongIdentity} key with the
+     * specified value.
+     * 
+     * @param key The {@code LongIdentity} value
+     * @param value The value
+     * @return The previously mapped value, or {@code null} if not mapped
+     */
+    public V putLongIdentity(
+            final long key,
+            final V value) {
+        ensureLongCapacity();
+        final int mask = this.longValues.length - 1;
+        int index = longIndex(key, mask);
+        int removed = -1;
+        Object stored;
+        while ((stored = this.longValues[index]) != null) {
+            if (stored == REMOVED) {
+                if (removed < 0) {
+                    removed = index;
+                }
+            } else if (this.longKeys[index] == key) {
+                this.longValues[index] = mask(value);
+                return unmask(stored);
+            }
+            index = (index + 1) & mask;
+        }
+        if (removed >= 0) {
+            index = removed;
+        } else {
+            this.longUsed++;
+        }
+        this.longKeys[index] = key;
+        this.longValues[index] = mask(value);
+        this.longSize++;
+        this.modCount++;
+        return null;
+    }
+
+    /**
+     * Maps the specified value to the specified key in the identity
+     * token table.
+     * 
+     * @param key The key
+     * @param value The value
+     * @return The previously mapped value, or {@code null} if not mapped
+     */
+    private V putToken(
+            final @NotNull Identity key,
+            final V value) {
+        ensureTokenCapacity();
+        final String token = key.getIdentityToken();
+        final int hash = Objects.hashCode(token);
+        final Class<?> type = key.getClass();
+        final int mask = this.tokenValues.length - 1;
+        int index = tokenIndex(hash, mask);
+        int removed = -1;
+        Object stored;
+        while ((stored = this.tokenValues[index]) != null) {
+            if (stored == REMOVED) {
+                if (removed < 0) {
+                    removed = index;
+                }
+            } else if (isTokenMatch(index, type, token, hash)) {
+                this.tokenValues[index] = mask(value);
+                return unmask(stored);
+            }
+            index = (index + 1) & mask;
+        }
+        if (removed >= 0) {
+            index = removed;
+        } else {
+            this.tokenUsed++;
+        }
+        this.tokenKeys[index] = key;
+        this.tokens[index] = token;
+        this.tokenHashes[index] = hash;
+        this.tokenValues[index] = mask(value);
+        this.tokenSize++;
+        this.modCount++;
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(
+            final Object key) {
+        final int index;
+        if (isLongKey(key)) {
+            return removeLongIdentity(((LongIdentity) key).getValue());
+        } else if (key instanceof Identity) {
+            index = findToken((Identity) key);
+        } else {
+            index = -1;
+        }
+        if (index < 0) {
+            return null;
+        }
+        final V result = unmask(this.tokenValues[index]);
+        removeTokenSlot(index);
+        return result;
+    }
+
+    /**
+     * Removes the {@code LongIdentity} key with the specified value.
+     * 
+     * @param key The {@code LongIdentity} value
+     * @return The previously mapped value, or {@code null} if not mapped
+     */
+    public V removeLongIdentity(
+            final long key) {
+        final int index = findLong(key);
+        if (index < 0) {
+            return null;
+        }
+        final V result = unmask(this.longValues[index]);
+        removeLongSlot(index);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size() > 0 || this.longUsed > 0 || this.tokenUsed > 0) {
+            this.longKeys = null;
+            this.longValues = null;
+            this.longSize = 0;
+            this.longUsed = 0;
+            this.tokenKeys = null;
+            this.tokens = null;
+            this.tokenHashes = null;
+            this.tokenValues = null;
+            this.tokenSize = 0;
+            this.tokenUsed = 0;
+            this.modCount++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Map.Entry<Identity, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    /**
+     * Returns the index of the {@code LongIdentity} table slot with the
+     * specified key.
+     * 
+     * @param key The key
+     * @return The slot index, or {@code -1} if not found
+     */
+    private int findLong(
+            final long key) {
+        final Object[] values = this.longValues;
+        if (values == null) {
+            return -1;
+        }
+        final int mask = values.length - 1;
+        int index = longIndex(key, mask);
+        Object stored;
+        while ((stored = values[index]) != null) {
+            if (stored != REMOVED && this.longKeys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the identity token table slot with the
+     * specified key.
+     * 
+     * @param key The key
+     * @return The slot index, or {@code -1} if not found
+     */
+    private int findToken(
+            final @NotNull Identity key) {
+        final Object[] values = this.tokenValues;
+        if (values == null) {
+            return -1;
+        }
+        final String token = key.getIdentityToken();
+        final int hash = Objects.hashCode(token);
+        final Class<?> type = key.getClass();
+        final int mask = values.length - 1;
+        int index = tokenIndex(hash, mask);
+        Object stored;
+        while ((stored = values[index]) != null) {
+            if (stored != REMOVED && isTokenMatch(index, type, token, hash)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the identity token table slot with the
+     * specified index contains the specified key.
+     * 
+     * @param index The slot index
+     * @param type The key class
+     * @param token The key identity token
+     * @param hash The key identity token hash
+     * @return If the slot contains the key
+     */
+    private boolean isTokenMatch(
+            final int index,
+            final @NotNull Class<?> type,
+            final String token,
+            final int hash) {
+        return this.tokenHashes[index] == hash
+                && this.tokenKeys[index].getClass() == type
+                && Objects.equals(this.tokens[index], token);
+    }
+
+    /**
+     * Marks the {@code LongIdentity} table slot with the specified index
+     * as removed.
+     * 
+     * @param index The slot index
+     */
+    private void removeLongSlot(
+            final int index) {
+        this.longKeys[index] = 0;
+        this.longValues[index] = REMOVED;
+        this.longSize--;
+        this.modCount++;
+    }
+
+    /**
+     * Marks the identity token table slot with the specified index
+     * as removed.
+     * 
+     * @param index The slot index
+     */
+    private void removeTokenSlot(
+            final int index) {
+        this.tokenKeys[index] = null;
+        this.tokens[index] = null;
+        this.tokenHashes[index] = 0;
+        this.tokenValues[index] = REMOVED;
+        this.tokenSize--;
+        this.modCount++;
+    }
+
+    /**
+     * Ensures that the {@code LongIdentity} table has room for a new
+     * entry, growing it or discarding removed slots as required.
+     */
+    private void ensureLongCapacity() {
+        if (this.longValues == null) {
+            this.longKeys = new long[this.initialCapacity];
+            this.longValues = new Object[this.initialCapacity];
+        } else if (this.longUsed + 1 > this.longValues.length * LOAD_FACTOR) {
+            final long[] oldKeys = this.longKeys;
+            final Object[] oldValues = this.longValues;
+            final int capacity = capacityFor(this.longSize + 1) > oldValues.length / 2
+                    ? Math.max(capacityFor(this.longSize + 1), oldValues.length * 2)
+                    : oldValues.length;
+            this.longKeys = new long[capacity];
+            this.longValues = new Object[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                final Object stored = oldValues[i];
+                if (stored != null && stored != REMOVED) {
+                    int index = longIndex(oldKeys[i], mask);
+                    while (this.longValues[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    this.longKeys[index] = oldKeys[i];
+                    this.longValues[index] = stored;
+                }
+            }
+            this.longUsed = this.longSize;
+        }
+    }
+
+    /**
+     * Ensures that the identity token table has room for a new
+     * entry, growing it or discarding removed slots as required.
+     */
+    private void ensureTokenCapacity() {
+        if (this.tokenValues == null) {
+            this.tokenKeys = new Identity[this.initialCapacity];
+            this.tokens = new String[this.initialCapacity];
+            this.tokenHashes = new int[this.initialCapacity];
+            this.tokenValues = new Object[this.initialCapacity];
+        } else if (this.tokenUsed + 1 > this.tokenValues.length * LOAD_FACTOR) {
+            final Identity[] oldKeys = this.tokenKeys;
+            final String[] oldTokens = this.tokens;
+            final int[] oldHashes = this.tokenHashes;
+            final Object[] oldValues = this.tokenValues;
+            final int capacity = capacityFor(this.tokenSize + 1) > oldValues.length / 2
+                    ? Math.max(capacityFor(this.tokenSize + 1), oldValues.length * 2)
+                    : oldValues.length;
+            this.tokenKeys = new Identity[capacity];
+            this.tokens = new String[capacity];
+            this.tokenHashes = new int[capacity];
+            this.tokenValues = new Object[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                final Object stored = oldValues[i];
+                if (stored != null && stored != REMOVED) {
+                    int index = tokenIndex(oldHashes[i], mask);
+                    while (this.tokenValues[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    this.tokenKeys[index] = oldKeys[i];
+                    this.tokens[index] = oldTokens[i];
+                    this.tokenHashes[index] = oldHashes[i];
+                    this.tokenValues[index] = stored;
+                }
+            }
+            this.tokenUsed = this.tokenSize;
+        }
+    }
+
+    /**
+     * Entry set view of the map.
+     */
+    private final class EntrySet
+    extends AbstractSet<Map.Entry<Identity, V>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return IdentityMap.this.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            IdentityMap.this.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(
+                final Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+            final Object key = entry.getKey();
+            return containsKey(key)
+                    && Objects.equals(get(key), entry.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Iterator<Map.Entry<Identity, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    /**
+     * Iterator of the entries of the map. Iterates the entries of the
+     * {@code LongIdentity} table followed by the entries of the identity
+     * token table.
+     */
+    private final class EntryIterator
+    implements Iterator<Map.Entry<Identity, V>> {
+
+        /** The expected number of structural modifications. */
+        private int expectedModCount = modCount;
+        /** If the current slot is in the {@code LongIdentity} table. */
+        private boolean inLongTable = true;
+        /** The index of the next slot to check. */
+        private int nextIndex;
+        /** If the next slot is in the {@code LongIdentity} table. */
+        private boolean nextInLongTable = true;
+        /** The index of the last returned slot. */
+        private int lastIndex = -1;
+
+        /**
+         * Creates a new instance.
+         */
+        EntryIterator() {
+            super();
+            advance();
+        }
+
+        /**
+         * Advances to the next used slot.
+         */
+        private void advance() {
+            if (this.nextInLongTable) {
+                final Object[] values = longValues;
+                if (values != null) {
+                    while (this.nextIndex < values.length) {
+                        final Object stored = values[this.nextIndex];
+                        if (stored != null && stored != REMOVED) {
+                            return;
+                        }
+                        this.nextIndex++;
+                    }
+                }
+                this.nextInLongTable = false;
+                this.nextIndex = 0;
+            }
+            final Object[] values = tokenValues;
+            if (values != null) {
+                while (this.nextIndex < values.length) {
+                    final Object stored = values[this.nextIndex];
+                    if (stored != null && stored != REMOVED) {
+                        return;
+                    }
+                    this.nextIndex++;
+                }
+            }
+            this.nextIndex = -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return this.nextIndex >= 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map.Entry<Identity, V> next() {
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.nextIndex < 0) {
+                throw new NoSuchElementException();
+            }
+            final int index = this.nextIndex;
+            final Map.Entry<Identity, V> result;
+            if (this.nextInLongTable) {
+                result = new AbstractMap.SimpleImmutableEntry<>(
+                        new LongIdentity(longKeys[index]),
+                        IdentityMap.<V>unmask(longValues[index]));
+            } else {
+                result = new AbstractMap.SimpleImmutableEntry<>(
+                        tokenKeys[index],
+                        IdentityMap.<V>unmask(tokenValues[index]));
+            }
+            this.inLongTable = this.nextInLongTable;
+            this.lastIndex = index;
+            this.nextIndex++;
+            advance();
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove() {
+            if (this.lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.inLongTable) {
+                removeLongSlot(this.lastIndex);
+            } else {
+                removeTokenSlot(this.lastIndex);
+            }
+            this.lastIndex = -1;
+            this.expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Codec of typed identity token body parts, used by
+ * {@code AbstractTypedComposedIdentity} to pack the parts of composed
+ * identities in binary form.
+ * <p>
+ * Codecs for common types are provided by {@link IdentityPartCodecs}.
+ * Implementations must be thread safe and read exactly the bytes they
+ * write.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of the parts
+ * @since 0.7
+ * @see IdentityPartCodecs
+ * @see AbstractTypedComposedIdentity
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public interface IdentityPartCodec<T> {
+
+    /**
+     * Writes the specified part value.
+     * 
+     * @param value The part value
+     * @param writer The writer to write the value to
+     */
+    void write(
+            T value,
+            @NotNull IdentityPartWriter writer);
+
+    /**
+     * Reads a part value.
+     * 
+     * @param reader The reader to read the value from
+     * @return The part value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    T read(
+            @NotNull IdentityPartReader reader);
+}
@@ -0,0 +1,304 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Standard codecs of typed identity token body parts.
+ * <p>
+ * Codecs returned by this class do not accept {@code null} values.
+ * Use {@link #nullable(IdentityPartCodec)} for optional parts.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartCodec
+ * @see AbstractTypedComposedIdentity
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityPartCodecs {
+
+    /** Codec for {@code Long} parts, as zig-zag variable length quantities. */
+    public static final IdentityPartCodec<Long> LONG = new IdentityPartCodec<Long>() {
+        @Override
+        public void write(
+                final Long value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeLong(Validate.notNull(value));
+        }
+        @Override
+        public Long read(
+                final @NotNull IdentityPartReader reader) {
+            return reader.readLong();
+        }
+    };
+    /** Codec for {@code Integer} parts, as zig-zag variable length quantities. */
+    public static final IdentityPartCodec<Integer> INT = new IdentityPartCodec<Integer>() {
+        @Override
+        public void write(
+                final Integer value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeInt(Validate.notNull(value));
+        }
+        @Override
+        public Integer read(
+                final @NotNull IdentityPartReader reader) {
+            return reader.readInt();
+        }
+    };
+    /** Codec for {@code UUID} parts, as 16 big endian bytes. */
+    public static final IdentityPartCodec<UUID> UUID = new IdentityPartCodec<UUID>() {
+        @Override
+        public void write(
+                final UUID value,
+                final @NotNull IdentityPartWriter writer) {
+            Validate.notNull(value);
+            writer.writeFixedLong(value.getMostSignificantBits())
+                .writeFixedLong(value.getLeastSignificantBits());
+        }
+        @Override
+        public UUID read(
+                final @NotNull IdentityPartReader reader) {
+            final long msb = reader.readFixedLong();
+            return new UUID(msb, reader.readFixedLong());
+        }
+    };
+    /** Codec for {@code String} parts, as UTF-8 bytes preceded by their length. */
+    public static final IdentityPartCodec<String> STRING = new IdentityPartCodec<String>() {
+        @Override
+        public void write(
+                final String value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeString(Validate.notNull(value));
+        }
+        @Override
+        public String read(
+                final @NotNull IdentityPartReader reader) {
+            return reader.readString();
+        }
+    };
+    /**
+     * Codec for generic {@code Identity} parts, as their identity tokens.
+     * Parts are read as {@code TokenIdentity} instances.
+     */
+    public static final IdentityPartCodec<Identity> IDENTITY = new IdentityCodec<>(TokenIdentity::new);
+
+    /**
+     * Private constructor.
+     */
+    private IdentityPartCodecs() {
+        // Utility class
+    }
+
+    /**
+     * Returns a codec for the constants of the specified enumeration type,
+     * as the ordinal of the constants. Adding constants at the end of the
+     * enumeration keeps previous tokens valid; reordering or removing
+     * constants does not.
+     * 
+     * @param <E> The enumeration type
+     * @param type The enumeration type
+     * @return The codec for the enumeration type
+     */
+    public static <E extends Enum<E>> @NotNull IdentityPartCodec<E> ofEnum(
+            final @NotNull Class<E> type) {
+        Validate.notNull(type);
+        return new EnumCodec<>(type.getEnumConstants());
+    }
+
+    /**
+     * Returns a codec for identities of the specified type, as their
+     * identity tokens. Parts are read resolving the identity tokens
+     * through the shared {@code IdentityResolver} linked resolvers.
+     * 
+     * @param <I> The identity type
+     * @param type The identity type
+     * @return The codec for the identity type
+     * @see IdentityResolver#getLinkedResolver(Class)
+     */
+    public static <I extends Identity> @NotNull IdentityPartCodec<I> ofIdentity(
+            final @NotNull Class<I> type) {
+        Validate.notNull(type);
+        if (type == Identity.class) {
+            return new IdentityCodec<>(token -> type.cast(new TokenIdentity(token)));
+        }
+        return new IdentityCodec<>(IdentityResolver.getInstance().getLinkedResolver(type));
+    }
+
+    /**
+     * Returns a codec that accepts {@code null} values, written as a presence
+     * byte followed, for non {@code null} values, by the value written by
+     * the specified codec.
+     * 
+     * @param <T> The type of the parts
+     * @param codec The codec for non {@code null} values
+     * @return The codec accepting {@code null} values
+     */
+    public static <T> @NotNull IdentityPartCodec<T> nullable(
+            final @NotNull IdentityPartCodec<T> codec) {
+        Validate.notNull(codec);
+        return new NullableCodec<>(codec);
+    }
+
+    /**
+     * Codec for enumeration constants.
+     * 
+     * @param <E> The enumeration type
+     */
+    private static final class EnumCodec<E extends Enum<E>>
+    implements IdentityPartCodec<E> {
+
+        /** The enumeration constants. */
+        private final @NotNull E[] constants;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param constants The enumeration constants
+         */
+        EnumCodec(
+                final @NotNull E[] constants) {
+            super();
+            this.constants = constants;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(
+                final E value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeUnsignedVarLong(Validate.notNull(value).ordinal());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public E read(
+                final @NotNull IdentityPartReader reader) {
+            final long ordinal = reader.readUnsignedVarLong();
+            if (ordinal < 0 || ordinal >= this.constants.length) {
+                throw new UnrecognizedIdentityTokenException(
+                        "Invalid enumeration constant ordinal: " + ordinal);
+            }
+            return this.constants[(int) ordinal];
+        }
+    }
+
+    /**
+     * Codec for identities.
+     * 
+     * @param <I> The identity type
+     */
+    private static final class IdentityCodec<I extends Identity>
+    implements IdentityPartCodec<I> {
+
+        /** The identity token resolver. */
+        private final @NotNull Function<String, I> resolver;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param resolver The identity token resolver
+         */
+        IdentityCodec(
+                final @NotNull Function<String, I> resolver) {
+            super();
+            this.resolver = resolver;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(
+                final I value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeString(Validate.notNull(value).getIdentityToken());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public I read(
+                final @NotNull IdentityPartReader reader) {
+            return this.resolver.apply(reader.readString());
+        }
+    }
+
+    /**
+     * Codec accepting {@code null} values.
+     * 
+     * @param <T> The type of the parts
+     */
+    private static final class NullableCodec<T>
+    implements IdentityPartCodec<T> {
+
+        /** The codec for non {@code null} values. */
+        private final @NotNull IdentityPartCodec<T> delegate;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param delegate The codec for non {@code null} values
+         */
+        NullableCodec(
+                final @NotNull IdentityPartCodec<T> delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(
+                final T value,
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeBoolean(value != null);
+            if (value != null) {
+                this.delegate.write(value, writer);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public T read(
+                final @NotNull IdentityPartReader reader) {
+            return reader.readBoolean() ? this.delegate.read(reader) : null;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Reader of the binary packed parts of typed composed identity token bodies
+ * written by {@code IdentityPartWriter}.
+ * <p>
+ * Malformed or truncated data is reported through
+ * {@code UnrecognizedIdentityTokenException}. Not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartWriter
+ * @see IdentityPartCodec
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityPartReader {
+
+    /** The bits of data per variable length quantity byte. */
+    private static final int VAR_BITS = 7;
+    /** The mask of the data bits of variable length quantity bytes. */
+    private static final int VAR_DATA_MASK = 0x7F;
+    /** The continuation bit of variable length quantity bytes. */
+    private static final int VAR_CONTINUATION = 0x80;
+    /** The maximum length of {@code long} variable length quantities. */
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    /** The data to read. */
+    private final @NotNull byte[] data;
+    /** The end index of the data to read, exclusive. */
+    private final int limit;
+    /** The current read position. */
+    private int position;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param data The data to read
+     */
+    public IdentityPartReader(
+            final @NotNull byte[] data) {
+        this(data, 0, Validate.notNull(data).length);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param data The data to read
+     * @param offset The start index of the data to read
+     * @param length The length of the data to read
+     */
+    public IdentityPartReader(
+            final @NotNull byte[] data,
+            final int offset,
+            final int length) {
+        super();
+        Validate.notNull(data);
+        Validate.isTrue(offset >= 0 && length >= 0 && offset + length <= data.length,
+                "Invalid data range");
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Returns the number of remaining bytes.
+     * 
+     * @return The number of remaining bytes
+     */
+    public int remaining() {
+        return this.limit - this.position;
+    }
+
+    /**
+     * Verifies that all the data has been read.
+     * 
+     * @throws UnrecognizedIdentityTokenException If there are remaining bytes
+     */
+    public void end() {
+        if (this.position != this.limit) {
+            throw malformed();
+        }
+    }
+
+    /**
+     * Reads a value with the specified codec.
+     * 
+     * @param <T> The type of the value
+     * @param codec The codec
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public <T> T read(
+            final @NotNull IdentityPartCodec<T> codec) {
+        return codec.read(this);
+    }
+
+    /**
+     * Reads a byte.
+     * 
+     * @return The read byte, as an unsigned value
+     * @throws UnrecognizedIdentityTokenException If no data remains
+     */
+    public int readByte() {
+        if (this.position >= this.limit) {
+            throw malformed();
+        }
+        return this.data[this.position++] & 0xFF;
+    }
+
+    /**
+     * Reads a boolean written as a single byte.
+     * 
+     * @return The read boolean
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public boolean readBoolean() {
+        final int value = readByte();
+        if (value > 1) {
+            throw malformed();
+        }
+        return value == 1;
+    }
+
+    /**
+     * Reads an {@code int} value, zig-zag encoded as a variable length
+     * quantity.
+     * 
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public int readInt() {
+        final long raw = readUnsignedVarLong();
+        if ((raw >>> Integer.SIZE) != 0) {
+            throw malformed();
+        }
+        final int value = (int) raw;
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a {@code long} value, zig-zag encoded as a variable length
+     * quantity.
+     * 
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public long readLong() {
+        final long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Reads an unsigned variable length quantity.
+     * 
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public long readUnsignedVarLong() {
+        long result = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            final int b = readByte();
+            result |= (long) (b & VAR_DATA_MASK) << (i * VAR_BITS);
+            if ((b & VAR_CONTINUATION) == 0) {
+                return result;
+            }
+        }
+        throw malformed();
+    }
+
+    /**
+     * Reads a {@code long} value written as 8 big endian bytes.
+     * 
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public long readFixedLong() {
+        if (remaining() < Long.BYTES) {
+            throw malformed();
+        }
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result = (result << Byte.SIZE) | (this.data[this.position++] & 0xFF);
+        }
+        return result;
+    }
+
+    /**
+     * Reads bytes preceded by their length.
+     * 
+     * @return The read bytes
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public @NotNull byte[] readBytes() {
+        final int length = readLength();
+        final byte[] result = Arrays.copyOfRange(this.data, this.position, this.position + length);
+        this.position += length;
+        return result;
+    }
+
+    /**
+     * Reads a UTF-8 encoded text preceded by the encoded length.
+     * 
+     * @return The read text
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    public @NotNull String readString() {
+        final int length = readLength();
+        final String result = new String(this.data, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return result;
+    }
+
+    /**
+     * Reads a length prefix, verifying that enough data remains.
+     * 
+     * @return The read length
+     * @throws UnrecognizedIdentityTokenException If the data is malformed
+     */
+    private int readLength() {
+        final long length = readUnsignedVarLong();
+        if (length < 0 || length > remaining()) {
+            throw malformed();
+        }
+        return (int) length;
+    }
+
+    /**
+     * Creates a new exception for malformed data.
+     * 
+     * @return The new exception
+     */
+    private static @NotNull UnrecognizedIdentityTokenException malformed() {
+        return new UnrecognizedIdentityTokenException(
+                "Malformed identity token body parts");
+    }
+}
@@ -0,0 +1,302 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Writer of the binary packed parts of typed composed identity token bodies.
+ * <p>
+ * Integer values are written as variable length quantities, with signed
+ * values zig-zag encoded so small negative values remain short.
+ * {@code String} values are written as their UTF-8 encoded length followed
+ * by the UTF-8 bytes, encoded directly into the writer buffer. Unpaired
+ * surrogates are replaced by {@code '?'}.
+ * Not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartReader
+ * @see IdentityPartCodec
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityPartWriter {
+
+    /** The default initial buffer capacity. */
+    public static final int DEFAULT_CAPACITY = 32;
+    /** The bits of data per variable length quantity byte. */
+    private static final int VAR_BITS = 7;
+    /** The mask of the data bits of variable length quantity bytes. */
+    private static final int VAR_DATA_MASK = 0x7F;
+    /** The continuation bit of variable length quantity bytes. */
+    private static final int VAR_CONTINUATION = 0x80;
+
+    /**
+     * The replacement of unpaired surrogates, as in
+     * {@code String.getBytes(StandardCharsets.UTF_8)}.
+     */
+    private static final char MALFORMED_REPLACEMENT = '?';
+
+    /** The buffer. */
+    private byte[] buffer;
+    /** The number of written bytes. */
+    private int size;
+
+    /**
+     * Creates a new instance with the default initial capacity.
+     */
+    public IdentityPartWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance with the specified initial capacity.
+     * 
+     * @param capacity The initial buffer capacity
+     */
+    public IdentityPartWriter(
+            final int capacity) {
+        super();
+        Validate.isTrue(capacity >= 0, "Capacity cannot be negative");
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Returns the number of written bytes.
+     * 
+     * @return The number of written bytes
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Discards all the written bytes, keeping the buffer.
+     * 
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter reset() {
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Returns a copy of the written bytes.
+     * 
+     * @return The written bytes
+     */
+    public @NotNull byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    /**
+     * Writes the specified value with the specified codec.
+     * 
+     * @param <T> The type of the value
+     * @param codec The codec
+     * @param value The value to write
+     * @return This instance, for method chaining
+     */
+    public <T> @NotNull IdentityPartWriter write(
+            final @NotNull IdentityPartCodec<T> codec,
+            final T value) {
+        codec.write(value, this);
+        return this;
+    }
+
+    /**
+     * Writes the specified byte.
+     * 
+     * @param value The byte to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeByte(
+            final int value) {
+        ensureCapacity(1);
+        this.buffer[this.size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Writes the specified boolean as a single byte.
+     * 
+     * @param value The boolean to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeBoolean(
+            final boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes the specified {@code int} value, zig-zag encoded as a variable
+     * length quantity.
+     * 
+     * @param value The value to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeInt(
+            final int value) {
+        return writeUnsignedVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes the specified {@code long} value, zig-zag encoded as a variable
+     * length quantity.
+     * 
+     * @param value The value to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeLong(
+            final long value) {
+        return writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the specified value, interpreted as unsigned, as a variable
+     * length quantity.
+     * 
+     * @param value The value to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeUnsignedVarLong(
+            final long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        while ((remaining & ~VAR_DATA_MASK) != 0) {
+            this.buffer[this.size++] = (byte) ((remaining & VAR_DATA_MASK) | VAR_CONTINUATION);
+            remaining >>>= VAR_BITS;
+        }
+        this.buffer[this.size++] = (byte) remaining;
+        return this;
+    }
+
+    /**
+     * Writes the specified {@code long} value as 8 big endian bytes.
+     * 
+     * @param value The value to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeFixedLong(
+            final long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            this.buffer[this.size++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the specified bytes, preceded by their length.
+     * 
+     * @param value The bytes to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeBytes(
+            final @NotNull byte[] value) {
+        writeUnsignedVarLong(value.length);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, this.buffer, this.size, value.length);
+        this.size += value.length;
+        return this;
+    }
+
+    /**
+     * Writes the specified text UTF-8 encoded, preceded by the encoded
+     * length.
+     * 
+     * @param value The text to write
+     * @return This instance, for method chaining
+     */
+    public @NotNull IdentityPartWriter writeString(
+            final @NotNull CharSequence value) {
+        final int length = value.length();
+        int encodedLength = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                encodedLength++;
+            } else if (c < 0x800) {
+                encodedLength += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                encodedLength += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                encodedLength++;
+            } else {
+                encodedLength += 3;
+            }
+        }
+        writeUnsignedVarLong(encodedLength);
+        ensureCapacity(encodedLength);
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                this.buffer[this.size++] = (byte) c;
+            } else if (c < 0x800) {
+                this.buffer[this.size++] = (byte) (0xC0 | (c >> 6));
+                this.buffer[this.size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                this.buffer[this.size++] = (byte) (0xF0 | (cp >> 18));
+                this.buffer[this.size++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                this.buffer[this.size++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                this.buffer[this.size++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                this.buffer[this.size++] = (byte) MALFORMED_REPLACEMENT;
+            } else {
+                this.buffer[this.size++] = (byte) (0xE0 | (c >> 12));
+                this.buffer[this.size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                this.buffer[this.size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Ensures that the buffer can hold the specified number of additional
+     * bytes.
+     * 
+     * @param additional The number of additional bytes
+     */
+    private void ensureCapacity(
+            final int additional) {
+        final int required = this.size + additional;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(
+                    this.buffer,
+                    Math.max(required, this.buffer.length * 2));
+        }
+    }
+}
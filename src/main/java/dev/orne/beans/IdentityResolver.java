@@ -22,6 +22,9 @@ package dev.orne.beans;
  * #L%
  */
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
@@ -29,6 +32,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.WeakHashMap;
+import java.util.function.Function;
 
 import javax.validation.constraints.NotNull;
 
@@ -38,6 +42,9 @@ import org.apiguardian.api.API.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.orne.beans.metrics.BeansEvents;
+import dev.orne.beans.metrics.BeansMetrics;
+
 /**
  * <p>Identity resolver that converts an instance of {@code Identity}
  * of unknown type to an instance of a concrete type.</p>
@@ -83,8 +90,13 @@ import org.slf4j.LoggerFactory;
  * }
  * </pre>
  * 
+ * <p>Linked resolution functions, bound to the identity token resolution
+ * method or constructor of each identity type, can be obtained with
+ * {@link #getLinkedResolver(Class)} for repeated resolutions to the same
+ * identity type.</p>
+ * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see IdentityTokenResolver
  */
@@ -95,6 +107,11 @@ public class IdentityResolver {
     private static final Logger LOG = LoggerFactory.getLogger(IdentityResolver.class);
     /** The type level annotations shared cache. */
     private static final Cache SHARED_CACHE = new WeakHashMapCache();
+    /** The method handles lookup. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /** The method type of linked identity token resolution method handles. */
+    private static final MethodType LINKED_RESOLVER_TYPE =
+            MethodType.methodType(Object.class, String.class);
     /** Error message for unresolvable identity token. */
     private static final String ERR_UNRESOLVABLE_TOKEN =
             "Identity token cannot be resolved";
@@ -138,6 +155,12 @@ public class IdentityResolver {
      * shared between all instances.
      */
     private @NotNull Cache cache = SHARED_CACHE;
+    /**
+     * The linked identity token resolution functions cache for this
+     * instance. Reset when the identity type resolve methods cache changes.
+     */
+    private @NotNull ClassValue<Function<String, ?>> linkedResolvers =
+            new LinkedResolversCache(this);
 
     /**
      * Creates a new instance.
@@ -178,6 +201,7 @@ public class IdentityResolver {
         } else {
             this.cache = cache;
         }
+        this.linkedResolvers = new LinkedResolversCache(this);
         return this;
     }
 
@@ -226,6 +250,7 @@ public class IdentityResolver {
         }
         try {
             final Executable resolver = getResolver(targetType);
+            BeansMetrics.increment(BeansMetrics.IDENTITY_RESOLVER_REFLECTIVE);
             if (resolver instanceof Method) {
                 return targetType.cast(((Method) resolver).invoke(null, identityToken));
             } else if (resolver instanceof Constructor) {
@@ -253,6 +278,82 @@ public class IdentityResolver {
         }
     }
 
+    /**
+     * Returns a function that resolves identity tokens to identities of the
+     * specified target type. The function is bound to the identity token
+     * resolution method or constructor of the target type, which is looked
+     * up only once, and is cached by target type.
+     * <p>
+     * The returned function returns {@code null} for {@code null} tokens and
+     * throws {@code UnrecognizedIdentityTokenException} if the token cannot
+     * be resolved to the target identity type.
+     * 
+     * @param <T> The target identity type
+     * @param targetType The target identity type
+     * @return The identity token resolution function for the target type
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    @SuppressWarnings("unchecked")
+    public <T extends Identity> @NotNull Function<String, T> getLinkedResolver(
+            final @NotNull Class<T> targetType) {
+        Validate.notNull(targetType);
+        return (Function<String, T>) this.linkedResolvers.get(targetType);
+    }
+
+    /**
+     * Creates a new identity token resolution function for the specified
+     * target identity type. If the resolution method or constructor can be
+     * linked as a {@code MethodHandle} the function invokes it directly.
+     * Otherwise the function falls back to
+     * {@link #resolve(String, Class)}.
+     * 
+     * @param <T> The target identity type
+     * @param targetType The target identity type
+     * @return The identity token resolution function for the target type
+     */
+    protected <T extends Identity> @NotNull Function<String, T> createLinkedResolver(
+            final @NotNull Class<T> targetType) {
+        final Executable resolver;
+        try {
+            resolver = getResolver(targetType);
+        } catch (final UnresolvableIdentityException uie) {
+            return token -> {
+                if (token == null) {
+                    return null;
+                }
+                throw new UnrecognizedIdentityTokenException(ERR_MISCONFIGURED, uie);
+            };
+        }
+        final MethodHandle handle;
+        try {
+            if (resolver instanceof Method) {
+                handle = LOOKUP.unreflect((Method) resolver)
+                        .asType(LINKED_RESOLVER_TYPE);
+            } else if (resolver instanceof Constructor) {
+                handle = LOOKUP.unreflectConstructor((Constructor<?>) resolver)
+                        .asType(LINKED_RESOLVER_TYPE);
+            } else {
+                return token -> resolve(token, targetType);
+            }
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOG.debug("Cannot link identity token resolver for {}", targetType, e);
+            return token -> resolve(token, targetType);
+        }
+        return token -> {
+            if (token == null) {
+                return null;
+            }
+            try {
+                return targetType.cast((Object) handle.invokeExact(token));
+            } catch (final UnrecognizedIdentityTokenException uite) {
+                throw uite;
+            } catch (final Throwable e) {
+                throw new UnrecognizedIdentityTokenException(ERR_UNRESOLVABLE_TOKEN, e);
+            }
+        };
+    }
+
     /**
      * Returns the method or constructor to be used to resolve identity tokens
      * for the specified target identity type.
@@ -266,28 +367,45 @@ public class IdentityResolver {
             final @NotNull Class<? extends Identity> targetType)
     throws UnresolvableIdentityException {
         Validate.notNull(targetType);
-        Executable resolver;
-        synchronized (this.cache) {
-            if (this.cache.contains(targetType)) {
-                resolver = this.cache.get(targetType);
-            } else {
-                try {
-                    resolver = findTokenResolverMethod(targetType);
-                    if (resolver == null) {
-                        resolver = findTokenConstructor(targetType);
+        final Object lookupEvent = BeansEvents.IDENTITY_RESOLVER_LOOKUP.begin();
+        boolean miss = false;
+        Executable resolver = null;
+        try {
+            synchronized (this.cache) {
+                if (this.cache.contains(targetType)) {
+                    BeansMetrics.increment(BeansMetrics.IDENTITY_RESOLVER_CACHE_HIT);
+                    resolver = this.cache.get(targetType);
+                } else {
+                    miss = true;
+                    BeansMetrics.increment(BeansMetrics.IDENTITY_RESOLVER_CACHE_MISS);
+                    final long start = BeansMetrics.startTimer();
+                    final Object missEvent = BeansEvents.IDENTITY_RESOLVER_MISS.begin();
+                    try {
+                        resolver = findTokenResolverMethod(targetType);
+                        if (resolver == null) {
+                            resolver = findTokenConstructor(targetType);
+                        }
+                        this.cache.put(targetType, resolver);
+                    } catch (final UnresolvableIdentityException uie) {
+                        LOG.warn(HELP_MISCONFIGURED, targetType);
+                        this.cache.put(targetType, null);
+                        throw uie;
+                    } catch (final RuntimeException re) {
+                        LOG.warn(HELP_MISCONFIGURED, targetType);
+                        this.cache.put(targetType, null);
+                        throw new UnresolvableIdentityException(
+                                ERR_GET_RESOLVER_ERROR, re);
+                    } finally {
+                        BeansMetrics.stopTimer(BeansMetrics.IDENTITY_RESOLVER_LOOKUP, start);
+                        BeansEvents.IDENTITY_RESOLVER_MISS.commit(
+                                missEvent,
+                                targetType,
+                                resolver != null);
                     }
-                    this.cache.put(targetType, resolver);
-                } catch (final UnresolvableIdentityException uie) {
-                    LOG.warn(HELP_MISCONFIGURED, targetType);
-                    this.cache.put(targetType, null);
-                    throw uie;
-                } catch (final RuntimeException re) {
-                    LOG.warn(HELP_MISCONFIGURED, targetType);
-                    this.cache.put(targetType, null);
-                    throw new UnresolvableIdentityException(
-                            ERR_GET_RESOLVER_ERROR, re);
                 }
             }
+        } finally {
+            BeansEvents.IDENTITY_RESOLVER_LOOKUP.commit(lookupEvent, targetType, miss);
         }
         if (resolver == null) {
             throw new UnresolvableIdentityException(String.format(
@@ -379,6 +497,42 @@ public class IdentityResolver {
         private static final IdentityResolver INSTANCE = new IdentityResolver();
     }
 
+    /**
+     * Cache of linked identity token resolution functions by identity type.
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    private static class LinkedResolversCache
+    extends ClassValue<Function<String, ?>> {
+
+        /** The identity resolver creating the functions. */
+        private final @NotNull IdentityResolver resolver;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param resolver The identity resolver creating the functions
+         */
+        public LinkedResolversCache(
+                final @NotNull IdentityResolver resolver) {
+            super();
+            this.resolver = resolver;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Function<String, ?> computeValue(
+                final Class<?> type) {
+            if (!Identity.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(String.format(
+                        "Type '%s' is not an identity type",
+                        type));
+            }
+            return this.resolver.createLinkedResolver(type.asSubclass(Identity.class));
+        }
+    }
+
     /**
      * Interface for identity resolve methods cache.
      */
@@ -0,0 +1,440 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Compact serialization proxy for the identity types of this library.
+ * <p>
+ * Instances of {@code LongIdentity}, {@code BigIntegerIdentity},
+ * {@code StringIdentity}, {@code TokenIdentity} and {@code UUIDIdentity}
+ * are replaced by this proxy when serialized. The serialized form contains
+ * a type tag followed by a compact payload: zig-zag encoded variable
+ * length {@code long} values, length prefixed raw bytes or fixed length
+ * {@code UUID} bits. Texts are written as length prefixed UTF-8 bytes,
+ * or as length prefixed UTF-16 code units if they are not well-formed
+ * UTF-16 text, so unpaired surrogates are preserved. Subclasses of the
+ * supported types keep their default serialized form.
+ * <p>
+ * Default serialized forms written by previous versions remain readable,
+ * as the serializable fields of the identity types are unchanged.
+ * <p>
+ * The class name is kept short, as it is written in the class descriptor
+ * of each serialization stream.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class IdentitySer
+implements Externalizable {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The type tag of {@code LongIdentity}. */
+    static final byte LONG_IDENTITY = 1;
+    /** The type tag of {@code BigIntegerIdentity}. */
+    static final byte BIG_INTEGER_IDENTITY = 2;
+    /** The type tag of {@code StringIdentity}. */
+    static final byte STRING_IDENTITY = 3;
+    /** The type tag of {@code TokenIdentity}. */
+    static final byte TOKEN_IDENTITY = 4;
+    /** The type tag of {@code UUIDIdentity}. */
+    static final byte UUID_IDENTITY = 5;
+    /** The type tag flag for identities with {@code null} value. */
+    static final int NULL_VALUE = 0x80;
+    /**
+     * The type tag flag for identities with text values written as UTF-16
+     * code units, as they are not well-formed UTF-16 text.
+     */
+    static final int UTF16_VALUE = 0x40;
+    /** The bits of data per variable length quantity byte. */
+    private static final int VAR_BITS = 7;
+    /** The data mask of variable length quantity bytes. */
+    private static final long VAR_DATA_MASK = 0x7F;
+    /** The continuation flag of variable length quantity bytes. */
+    private static final int VAR_CONTINUATION = 0x80;
+    /** The maximum number of bytes of variable length quantities. */
+    private static final int MAX_VAR_BYTES = 10;
+    /** The maximum length of length prefixed values. */
+    private static final long MAX_LENGTH = Integer.MAX_VALUE - 8;
+    /**
+     * The maximum buffer size allocated before reading length prefixed
+     * values. Bigger buffers are allocated as data is read, so invalid
+     * lengths do not cause big allocations.
+     */
+    private static final int MAX_INITIAL_BUFFER_SIZE = 8192;
+
+    /** The serialized identity. */
+    private Identity identity;
+
+    /**
+     * Creates a new empty instance, for deserialization.
+     */
+    public IdentitySer() {
+        super();
+    }
+
+    /**
+     * Creates a new instance for the specified identity.
+     * 
+     * @param identity The identity to serialize
+     */
+    IdentitySer(
+            final @NotNull Identity identity) {
+        super();
+        this.identity = identity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(
+            final @NotNull ObjectOutput out)
+    throws IOException {
+        writeIdentity(this.identity, out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(
+            final @NotNull ObjectInput in)
+    throws IOException {
+        this.identity = readIdentity(in);
+    }
+
+    /**
+     * Returns the deserialized identity.
+     * 
+     * @return The deserialized identity
+     */
+    private Object readResolve() {
+        return this.identity;
+    }
+
+    /**
+     * Writes the compact form of the specified identity.
+     * 
+     * @param identity The identity
+     * @param out The output
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the identity type is not supported
+     */
+    static void writeIdentity(
+            final @NotNull Identity identity,
+            final @NotNull DataOutput out)
+    throws IOException {
+        final Class<?> type = identity.getClass();
+        if (type == LongIdentity.class) {
+            final Long value = ((LongIdentity) identity).getValue();
+            if (value == null) {
+                out.writeByte(LONG_IDENTITY | NULL_VALUE);
+            } else {
+                out.writeByte(LONG_IDENTITY);
+                writeUnsignedVarLong((value << 1) ^ (value >> 63), out);
+            }
+        } else if (type == BigIntegerIdentity.class) {
+            final BigInteger value = ((BigIntegerIdentity) identity).getValue();
+            if (value == null) {
+                out.writeByte(BIG_INTEGER_IDENTITY | NULL_VALUE);
+            } else {
+                out.writeByte(BIG_INTEGER_IDENTITY);
+                writeBytes(value.toByteArray(), out);
+            }
+        } else if (type == StringIdentity.class) {
+            final String value = ((StringIdentity) identity).getValue();
+            if (value == null) {
+                out.writeByte(STRING_IDENTITY | NULL_VALUE);
+            } else {
+                writeText(STRING_IDENTITY, value, out);
+            }
+        } else if (type == TokenIdentity.class) {
+            writeText(TOKEN_IDENTITY, identity.getIdentityToken(), out);
+        } else if (type == UUIDIdentity.class) {
+            final UUIDIdentity uuidIdentity = (UUIDIdentity) identity;
+            out.writeByte(UUID_IDENTITY);
+            out.writeLong(uuidIdentity.getMostSignificantBits());
+            out.writeLong(uuidIdentity.getLeastSignificantBits());
+        } else {
+            throw new InvalidObjectException("Unsupported identity type: " + type);
+        }
+    }
+
+    /**
+     * Reads the compact form of an identity.
+     * 
+     * @param in The input
+     * @return The read identity
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the compact form is not valid
+     */
+    static @NotNull Identity readIdentity(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int tag = in.readUnsignedByte();
+        final boolean nullValue = (tag & NULL_VALUE) != 0;
+        final boolean utf16Value = (tag & UTF16_VALUE) != 0;
+        switch (tag & ~NULL_VALUE) {
+            case LONG_IDENTITY:
+                if (nullValue) {
+                    return new LongIdentity((Long) null);
+                } else {
+                    final long zigzag = readUnsignedVarLong(in);
+                    return new LongIdentity((zigzag >>> 1) ^ -(zigzag & 1));
+                }
+            case BIG_INTEGER_IDENTITY:
+                if (nullValue) {
+                    return new BigIntegerIdentity((BigInteger) null);
+                } else {
+                    final byte[] bytes = readBytes(in);
+                    if (bytes.length == 0) {
+                        throw new InvalidObjectException("Invalid BigIntegerIdentity value");
+                    }
+                    return new BigIntegerIdentity(new BigInteger(bytes));
+                }
+            case STRING_IDENTITY:
+            case STRING_IDENTITY | UTF16_VALUE:
+                if (nullValue) {
+                    return new StringIdentity((String) null);
+                } else {
+                    return new StringIdentity(readText(utf16Value, in));
+                }
+            case TOKEN_IDENTITY:
+            case TOKEN_IDENTITY | UTF16_VALUE:
+                if (!nullValue) {
+                    final String token = readText(utf16Value, in);
+                    if (!token.trim().isEmpty()) {
+                        return new TokenIdentity(token);
+                    }
+                }
+                throw new InvalidObjectException("Invalid TokenIdentity token");
+            case UUID_IDENTITY:
+                if (!nullValue) {
+                    final long msb = in.readLong();
+                    return new UUIDIdentity(msb, in.readLong());
+                }
+                throw new InvalidObjectException("Invalid UUIDIdentity value");
+            default:
+                throw new InvalidObjectException("Unknown identity type tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes the specified value, interpreted as unsigned, as a variable
+     * length quantity.
+     * 
+     * @param value The value to write
+     * @param out The output
+     * @throws IOException If an I/O error occurs
+     */
+    static void writeUnsignedVarLong(
+            final long value,
+            final @NotNull DataOutput out)
+    throws IOException {
+        long remaining = value;
+        while ((remaining & ~VAR_DATA_MASK) != 0) {
+            out.writeByte((int) ((remaining & VAR_DATA_MASK) | VAR_CONTINUATION));
+            remaining >>>= VAR_BITS;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads a value, interpreted as unsigned, written as a variable
+     * length quantity.
+     * 
+     * @param in The input
+     * @return The read value
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the variable length quantity
+     * is too long
+     */
+    static long readUnsignedVarLong(
+            final @NotNull DataInput in)
+    throws IOException {
+        long result = 0;
+        for (int i = 0; i < MAX_VAR_BYTES; i++) {
+            final int b = in.readUnsignedByte();
+            result |= (b & VAR_DATA_MASK) << (i * VAR_BITS);
+            if ((b & VAR_CONTINUATION) == 0) {
+                return result;
+            }
+        }
+        throw new InvalidObjectException("Invalid variable length quantity");
+    }
+
+    /**
+     * Writes the specified type tag and text value. Well-formed UTF-16 texts
+     * are written as UTF-8 bytes. Other texts are written as UTF-16 code
+     * units, with the {@link #UTF16_VALUE} type tag flag, as UTF-8 encoding
+     * would replace unpaired surrogates.
+     * 
+     * @param tag The type tag
+     * @param value The text value
+     * @param out The output
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeText(
+            final int tag,
+            final @NotNull String value,
+            final @NotNull DataOutput out)
+    throws IOException {
+        if (isWellFormed(value)) {
+            out.writeByte(tag);
+            writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+        } else {
+            out.writeByte(tag | UTF16_VALUE);
+            writeUnsignedVarLong(value.length(), out);
+            out.writeChars(value);
+        }
+    }
+
+    /**
+     * Reads a text value written by {@link #writeText(int, String, DataOutput)}.
+     * 
+     * @param utf16 If the text is written as UTF-16 code units
+     * @param in The input
+     * @return The read text
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the length is not valid
+     */
+    private static @NotNull String readText(
+            final boolean utf16,
+            final @NotNull DataInput in)
+    throws IOException {
+        if (!utf16) {
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        }
+        final int length = readLength(in);
+        final StringBuilder result = new StringBuilder(
+                Math.min(length, MAX_INITIAL_BUFFER_SIZE));
+        for (int i = 0; i < length; i++) {
+            result.append(in.readChar());
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns {@code true} if the specified text is well-formed UTF-16 text,
+     * without unpaired surrogates.
+     * 
+     * @param value The text
+     * @return If the text is well-formed
+     */
+    static boolean isWellFormed(
+            final @NotNull String value) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                } else {
+                    return false;
+                }
+            } else if (Character.isLowSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the specified bytes, preceded by their length.
+     * 
+     * @param value The bytes to write
+     * @param out The output
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeBytes(
+            final @NotNull byte[] value,
+            final @NotNull DataOutput out)
+    throws IOException {
+        writeUnsignedVarLong(value.length, out);
+        out.write(value);
+    }
+
+    /**
+     * Reads bytes preceded by their length. The buffer grows as bytes are
+     * read, so the allocated memory is bounded by the available data.
+     * 
+     * @param in The input
+     * @return The read bytes
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the length is not valid
+     */
+    private static @NotNull byte[] readBytes(
+            final @NotNull DataInput in)
+    throws IOException {
+        final int length = readLength(in);
+        byte[] result = new byte[Math.min(length, MAX_INITIAL_BUFFER_SIZE)];
+        int read = 0;
+        while (read < length) {
+            if (read == result.length) {
+                result = Arrays.copyOf(result, (int) Math.min(length, result.length * 2L));
+            }
+            in.readFully(result, read, result.length - read);
+            read = result.length;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the length of a length prefixed value.
+     * 
+     * @param in The input
+     * @return The read length
+     * @throws IOException If an I/O error occurs
+     * @throws InvalidObjectException If the length is not valid
+     */
+    private static int readLength(
+            final @NotNull DataInput in)
+    throws IOException {
+        final long length = readUnsignedVarLong(in);
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new InvalidObjectException("Invalid length: " + length);
+        }
+        return (int) length;
+    }
+}
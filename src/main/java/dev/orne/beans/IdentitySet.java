@@ -0,0 +1,174 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Open addressing hash set of {@code Identity} instances, backed by an
+ * {@code IdentityMap}.
+ * <p>
+ * {@code LongIdentity} instances with non {@code null} value are stored as
+ * primitive {@code long} values, so iteration returns new instances equal
+ * to the added ones. Other identities are compared by class and identity
+ * token. See {@link IdentityMap} for details.
+ * <p>
+ * {@code null} elements are not supported. Instances are not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityMap
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentitySet
+extends AbstractSet<Identity> {
+
+    /** The backing map. */
+    private final @NotNull IdentityMap<Boolean> map;
+
+    /**
+     * Creates a new empty instance.
+     */
+    public IdentitySet() {
+        super();
+        this.map = new IdentityMap<>();
+    }
+
+    /**
+     * Creates a new empty instance with tables sized for the specified
+     * expected number of elements.
+     * 
+     * @param expectedSize The expected number of elements
+     */
+    public IdentitySet(
+            final int expectedSize) {
+        super();
+        this.map = new IdentityMap<>(expectedSize);
+    }
+
+    /**
+     * Creates a new instance with the elements of the specified collection.
+     * 
+     * @param elements The elements to copy
+     */
+    public IdentitySet(
+            final @NotNull Collection<? extends Identity> elements) {
+        this(elements.size());
+        addAll(elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(
+            final Object obj) {
+        return this.map.containsKey(obj);
+    }
+
+    /**
+     * Returns {@code true} if this set contains a {@code LongIdentity}
+     * with the specified value.
+     * 
+     * @param value The {@code LongIdentity} value
+     * @return If the set contains the identity
+     */
+    public boolean containsLongIdentity(
+            final long value) {
+        return this.map.containsLongIdentity(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NullPointerException If the identity is {@code null}
+     */
+    @Override
+    public boolean add(
+            final @NotNull Identity identity) {
+        Validate.notNull(identity, "Identity is required");
+        return this.map.put(identity, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Adds a {@code LongIdentity} with the specified value to this set.
+     * 
+     * @param value The {@code LongIdentity} value
+     * @return If the set did not already contain the identity
+     */
+    public boolean addLongIdentity(
+            final long value) {
+        return this.map.putLongIdentity(value, Boolean.TRUE) == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(
+            final Object obj) {
+        return this.map.remove(obj) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Iterator<Identity> iterator() {
+        return this.map.keySet().iterator();
+    }
+}
@@ -0,0 +1,711 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Streaming reader of identity token columns from UTF-8 encoded
+ * NDJSON and CSV sources.
+ * <p>
+ * Sources are read from a {@code ReadableByteChannel} through a reusable
+ * buffer or directly from a {@code ByteBuffer}, as a memory mapped file.
+ * Identity tokens are validated with the rules of
+ * {@link IdentityTokenFormatter#TOKEN} and exposed as a reusable character
+ * view over the buffer, so no {@code String} instances are created for
+ * identity tokens resolved through {@code IdentityTokenDecoder}s that
+ * decode identity token characters directly.
+ * <p>
+ * NDJSON sources contain a JSON string or {@code null} per line.
+ * Blank lines are ignored. CSV sources contain a record per line,
+ * with the identity tokens in a configured column. Other columns can
+ * contain quoted values as defined in RFC 4180. Empty identity tokens
+ * are read as {@code null}.
+ * <p>
+ * Instances are not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenChannelWriter
+ * @see IdentityTokenDecoder
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityTokenChannelReader
+implements Closeable {
+
+    /** The default size of the read buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** The default CSV column separator. */
+    public static final char DEFAULT_CSV_SEPARATOR = ',';
+    /** The NDJSON {@code null} literal. */
+    private static final byte[] NULL_LITERAL =
+            "null".getBytes(StandardCharsets.US_ASCII);
+    /** The line feed byte. */
+    private static final byte LF = '\n';
+    /** The carriage return byte. */
+    private static final byte CR = '\r';
+    /** The quote byte. */
+    private static final byte QUOTE = '"';
+    /** Error message for invalid records. */
+    private static final String ERR_INVALID_RECORD =
+            "Invalid identity token record %d: %s";
+
+    /** The source channel, or {@code null} for buffer sources. */
+    private final ReadableByteChannel channel;
+    /** The CSV column separator, or {@code -1} for NDJSON sources. */
+    private final int separator;
+    /** The index of the identity tokens CSV column. */
+    private final int column;
+    /** The reusable identity token view. */
+    private final @NotNull TokenView token = new TokenView();
+    /** The read buffer, with unread data between position and limit. */
+    private @NotNull ByteBuffer buffer;
+    /** If the end of the source has been reached. */
+    private boolean eof;
+    /** The number of the current record, 1 based. */
+    private long record;
+    /** If the current record contains a {@code null} identity token. */
+    private boolean nullToken = true;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param channel The source channel, or {@code null} for buffer sources
+     * @param buffer The read buffer, or the source buffer for buffer sources
+     * @param separator The CSV column separator, or {@code -1} for NDJSON
+     * sources
+     * @param column The index of the identity tokens CSV column
+     */
+    private IdentityTokenChannelReader(
+            final ReadableByteChannel channel,
+            final @NotNull ByteBuffer buffer,
+            final int separator,
+            final int column) {
+        super();
+        Validate.isTrue(column >= 0, "Invalid column index: %d", column);
+        this.channel = channel;
+        this.buffer = buffer;
+        this.separator = separator;
+        this.column = column;
+        this.eof = channel == null;
+    }
+
+    /**
+     * Creates a new reader of NDJSON identity tokens from the specified
+     * channel.
+     * 
+     * @param channel The source channel
+     * @return The new reader
+     */
+    public static @NotNull IdentityTokenChannelReader ndjson(
+            final @NotNull ReadableByteChannel channel) {
+        return ndjson(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new reader of NDJSON identity tokens from the specified
+     * channel with the specified initial buffer size.
+     * 
+     * @param channel The source channel
+     * @param bufferSize The initial size of the read buffer
+     * @return The new reader
+     */
+    static @NotNull IdentityTokenChannelReader ndjson(
+            final @NotNull ReadableByteChannel channel,
+            final int bufferSize) {
+        Validate.notNull(channel);
+        return new IdentityTokenChannelReader(
+                channel,
+                emptyBuffer(bufferSize),
+                -1,
+                0);
+    }
+
+    /**
+     * Creates a new reader of NDJSON identity tokens from the remaining
+     * bytes of the specified buffer. The position of the buffer is not
+     * modified.
+     * 
+     * @param source The source buffer
+     * @return The new reader
+     */
+    public static @NotNull IdentityTokenChannelReader ndjson(
+            final @NotNull ByteBuffer source) {
+        Validate.notNull(source);
+        return new IdentityTokenChannelReader(
+                null,
+                source.duplicate(),
+                -1,
+                0);
+    }
+
+    /**
+     * Creates a new reader of CSV identity tokens from the specified
+     * column of the records of the specified channel.
+     * 
+     * @param channel The source channel
+     * @param separator The column separator
+     * @param column The index of the identity tokens column, 0 based
+     * @return The new reader
+     */
+    public static @NotNull IdentityTokenChannelReader csv(
+            final @NotNull ReadableByteChannel channel,
+            final char separator,
+            final int column) {
+        return csv(channel, separator, column, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new reader of CSV identity tokens from the specified
+     * column of the records of the specified channel with the specified
+     * initial buffer size.
+     * 
+     * @param channel The source channel
+     * @param separator The column separator
+     * @param column The index of the identity tokens column, 0 based
+     * @param bufferSize The initial size of the read buffer
+     * @return The new reader
+     */
+    static @NotNull IdentityTokenChannelReader csv(
+            final @NotNull ReadableByteChannel channel,
+            final char separator,
+            final int column,
+            final int bufferSize) {
+        Validate.notNull(channel);
+        return new IdentityTokenChannelReader(
+                channel,
+                emptyBuffer(bufferSize),
+                validSeparator(separator),
+                column);
+    }
+
+    /**
+     * Creates a new reader of CSV identity tokens from the specified
+     * column of the records of the remaining bytes of the specified buffer.
+     * The position of the buffer is not modified.
+     * 
+     * @param source The source buffer
+     * @param separator The column separator
+     * @param column The index of the identity tokens column, 0 based
+     * @return The new reader
+     */
+    public static @NotNull IdentityTokenChannelReader csv(
+            final @NotNull ByteBuffer source,
+            final char separator,
+            final int column) {
+        Validate.notNull(source);
+        return new IdentityTokenChannelReader(
+                null,
+                source.duplicate(),
+                validSeparator(separator),
+                column);
+    }
+
+    /**
+     * Creates a new empty read buffer.
+     * 
+     * @param size The size of the buffer
+     * @return The new buffer
+     */
+    private static @NotNull ByteBuffer emptyBuffer(
+            final int size) {
+        Validate.isTrue(size > 0, "Invalid buffer size: %d", size);
+        final ByteBuffer result = ByteBuffer.allocate(size);
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Validates the specified CSV column separator.
+     * 
+     * @param separator The column separator
+     * @return The column separator
+     * @throws IllegalArgumentException If the separator is not a valid
+     * ASCII column separator
+     */
+    private static int validSeparator(
+            final char separator) {
+        Validate.isTrue(
+                separator < 0x80
+                    && separator != LF
+                    && separator != CR
+                    && separator != QUOTE
+                    && !isTokenByte((byte) separator),
+                "Invalid column separator: %s",
+                separator);
+        return separator;
+    }
+
+    /**
+     * Returns the number of the current record, 1 based. For NDJSON
+     * sources blank lines are not counted.
+     * 
+     * @return The number of the current record, or {@code 0} if no
+     * record has been read
+     */
+    public long getRecordNumber() {
+        return this.record;
+    }
+
+    /**
+     * Advances to the next record.
+     * 
+     * @return {@code true} if a record has been read, {@code false}
+     * if the end of the source has been reached
+     * @throws IOException If an I/O error occurs
+     * @throws UnrecognizedIdentityTokenException If the record is
+     * malformed or the identity token is not valid
+     */
+    public boolean next()
+    throws IOException {
+        int end;
+        do {
+            end = findRecordEnd();
+            while (end < 0) {
+                if (this.eof) {
+                    if (!this.buffer.hasRemaining()) {
+                        this.nullToken = true;
+                        return false;
+                    }
+                    end = this.buffer.limit();
+                } else {
+                    fill();
+                    end = findRecordEnd();
+                }
+            }
+        } while (!parseRecord(end));
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the current record contains a {@code null}
+     * identity token.
+     * 
+     * @return If the identity token is {@code null}
+     */
+    public boolean isNull() {
+        return this.nullToken;
+    }
+
+    /**
+     * Returns the identity token of the current record as a reusable
+     * character view. The view is valid until the next call to
+     * {@link #next()}.
+     * 
+     * @return The identity token characters, or {@code null} if the
+     * identity token is {@code null}
+     */
+    public CharSequence getToken() {
+        return this.nullToken ? null : this.token;
+    }
+
+    /**
+     * Returns the identity token of the current record decoded with the
+     * specified decoder.
+     * 
+     * @param <T> The type of the decoded identities
+     * @param decoder The identity token decoder
+     * @return The decoded identity, or {@code null} if the identity token
+     * is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * is not valid for the target identity type
+     */
+    public <T extends Identity> T decode(
+            final @NotNull IdentityTokenDecoder<T> decoder) {
+        return this.nullToken ? null : decoder.decode(this.token);
+    }
+
+    /**
+     * Reads and decodes the identity tokens of the next records into the
+     * specified array, up to the specified number of records.
+     * 
+     * @param <T> The type of the decoded identities
+     * @param decoder The identity token decoder
+     * @param target The target array
+     * @param offset The index of the first target array element
+     * @param length The maximum number of records to read
+     * @return The number of records read, or {@code -1} if the end of
+     * the source has been reached
+     * @throws IOException If an I/O error occurs
+     * @throws UnrecognizedIdentityTokenException If a record is
+     * malformed or an identity token is not valid for the target
+     * identity type
+     */
+    public <T extends Identity> int readBatch(
+            final @NotNull IdentityTokenDecoder<? extends T> decoder,
+            final @NotNull T[] target,
+            final int offset,
+            final int length)
+    throws IOException {
+        Validate.notNull(decoder);
+        Validate.notNull(target);
+        Validate.isTrue(offset >= 0 && length >= 0 && offset + length <= target.length,
+                "Invalid target range");
+        int count = 0;
+        while (count < length && next()) {
+            target[offset + count] = decode(decoder);
+            count++;
+        }
+        return count == 0 && length > 0 ? -1 : count;
+    }
+
+    /**
+     * Reads more data from the source channel into the read buffer,
+     * growing the buffer if it is full.
+     * 
+     * @throws IOException If an I/O error occurs
+     */
+    private void fill()
+    throws IOException {
+        if (this.buffer.position() == 0
+                && this.buffer.limit() == this.buffer.capacity()) {
+            final ByteBuffer grown = ByteBuffer.allocate(this.buffer.capacity() * 2);
+            grown.put(this.buffer);
+            this.buffer = grown;
+        } else {
+            this.buffer.compact();
+        }
+        final int read = this.channel.read(this.buffer);
+        if (read < 0) {
+            this.eof = true;
+        }
+        this.buffer.flip();
+    }
+
+    /**
+     * Returns the index of the line feed ending the next record in the
+     * read buffer. Quoted CSV values can contain line feeds.
+     * 
+     * @return The index of the record end, or {@code -1} if the read
+     * buffer doesn't contain a complete record
+     */
+    private int findRecordEnd() {
+        final ByteBuffer buf = this.buffer;
+        final int limit = buf.limit();
+        boolean quoted = false;
+        for (int i = buf.position(); i < limit; i++) {
+            final byte b = buf.get(i);
+            if (b == QUOTE && this.separator >= 0) {
+                quoted = !quoted;
+            } else if (b == LF && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the next record, ending at the specified index, and advances
+     * the read buffer past the record.
+     * 
+     * @param end The index of the record end
+     * @return {@code true} if a record has been read, {@code false} if
+     * the line has been ignored
+     * @throws UnrecognizedIdentityTokenException If the record is
+     * malformed or the identity token is not valid
+     */
+    private boolean parseRecord(
+            final int end) {
+        final int start = this.buffer.position();
+        int recordEnd = end;
+        if (recordEnd > start && this.buffer.get(recordEnd - 1) == CR) {
+            recordEnd--;
+        }
+        this.buffer.position(end < this.buffer.limit() ? end + 1 : end);
+        if (this.separator < 0) {
+            return parseJsonRecord(start, recordEnd);
+        } else {
+            this.record++;
+            parseCsvRecord(start, recordEnd);
+            return true;
+        }
+    }
+
+    /**
+     * Parses the NDJSON record in the specified range.
+     * 
+     * @param start The start index of the record
+     * @param end The end index of the record, exclusive
+     * @return {@code true} if a record has been read, {@code false} if
+     * the line is blank
+     * @throws UnrecognizedIdentityTokenException If the record is
+     * malformed or the identity token is not valid
+     */
+    private boolean parseJsonRecord(
+            final int start,
+            final int end) {
+        int from = start;
+        int to = end;
+        while (from < to && isJsonWhitespace(this.buffer.get(from))) {
+            from++;
+        }
+        while (to > from && isJsonWhitespace(this.buffer.get(to - 1))) {
+            to--;
+        }
+        if (from == to) {
+            return false;
+        }
+        this.record++;
+        if (to - from >= 2
+                && this.buffer.get(from) == QUOTE
+                && this.buffer.get(to - 1) == QUOTE) {
+            setToken(from + 1, to - 1, start, end);
+        } else if (isNullLiteral(from, to)) {
+            this.nullToken = true;
+        } else {
+            throw invalidRecord(start, end);
+        }
+        return true;
+    }
+
+    /**
+     * Parses the CSV record in the specified range.
+     * 
+     * @param start The start index of the record
+     * @param end The end index of the record, exclusive
+     * @throws UnrecognizedIdentityTokenException If the record is
+     * malformed or the identity token is not valid
+     */
+    private void parseCsvRecord(
+            final int start,
+            final int end) {
+        int index = start;
+        for (int col = 0; ; col++) {
+            final int valueStart;
+            final int valueEnd;
+            if (index < end && this.buffer.get(index) == QUOTE) {
+                valueStart = index + 1;
+                int i = valueStart;
+                while (true) {
+                    if (i >= end) {
+                        throw invalidRecord(start, end);
+                    }
+                    if (this.buffer.get(i) == QUOTE) {
+                        if (i + 1 < end && this.buffer.get(i + 1) == QUOTE) {
+                            i += 2;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        i++;
+                    }
+                }
+                valueEnd = i;
+                index = i + 1;
+                if (index < end && this.buffer.get(index) != this.separator) {
+                    throw invalidRecord(start, end);
+                }
+            } else {
+                valueStart = index;
+                while (index < end && this.buffer.get(index) != this.separator) {
+                    index++;
+                }
+                valueEnd = index;
+            }
+            if (col == this.column) {
+                setToken(valueStart, valueEnd, start, end);
+                return;
+            }
+            if (index >= end) {
+                throw invalidRecord(start, end);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Sets the identity token of the current record, validating its
+     * characters.
+     * 
+     * @param from The start index of the identity token
+     * @param to The end index of the identity token, exclusive
+     * @param start The start index of the record
+     * @param end The end index of the record, exclusive
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * is not valid
+     */
+    private void setToken(
+            final int from,
+            final int to,
+            final int start,
+            final int end) {
+        for (int i = from; i < to; i++) {
+            if (!isTokenByte(this.buffer.get(i))) {
+                throw invalidRecord(start, end);
+            }
+        }
+        this.nullToken = from == to;
+        this.token.offset = from;
+        this.token.length = to - from;
+    }
+
+    /**
+     * Returns {@code true} if the specified range contains the NDJSON
+     * {@code null} literal.
+     * 
+     * @param from The start index of the range
+     * @param to The end index of the range, exclusive
+     * @return If the range contains the {@code null} literal
+     */
+    private boolean isNullLiteral(
+            final int from,
+            final int to) {
+        if (to - from != NULL_LITERAL.length) {
+            return false;
+        }
+        for (int i = 0; i < NULL_LITERAL.length; i++) {
+            if (this.buffer.get(from + i) != NULL_LITERAL[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified byte is a JSON whitespace.
+     * 
+     * @param b The byte
+     * @return If the byte is a JSON whitespace
+     */
+    private static boolean isJsonWhitespace(
+            final byte b) {
+        return b == ' ' || b == '\t' || b == CR;
+    }
+
+    /**
+     * Returns {@code true} if the specified byte is a valid identity
+     * token character.
+     * 
+     * @param b The byte
+     * @return If the byte is a valid identity token character
+     */
+    static boolean isTokenByte(
+            final byte b) {
+        return b >= 0 && IdentityTokenFormatter.base64UrlDigitValue((char) b) >= 0;
+    }
+
+    /**
+     * Creates a new exception for the malformed record in the specified
+     * range.
+     * 
+     * @param start The start index of the record
+     * @param end The end index of the record, exclusive
+     * @return The new exception
+     */
+    private @NotNull UnrecognizedIdentityTokenException invalidRecord(
+            final int start,
+            final int end) {
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = this.buffer.get(start + i);
+        }
+        return new UnrecognizedIdentityTokenException(String.format(
+                ERR_INVALID_RECORD,
+                this.record,
+                new String(bytes, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close()
+    throws IOException {
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Reusable view of the identity token of the current record.
+     */
+    private final class TokenView
+    implements CharSequence {
+
+        /** The index of the identity token in the read buffer. */
+        private int offset;
+        /** The length of the identity token. */
+        private int length;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int length() {
+            return this.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char charAt(
+                final int index) {
+            if (index < 0 || index >= this.length) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return (char) buffer.get(this.offset + index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull CharSequence subSequence(
+                final int start,
+                final int end) {
+            return toString().subSequence(start, end);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull String toString() {
+            if (buffer.hasArray()) {
+                return new String(
+                        buffer.array(),
+                        buffer.arrayOffset() + this.offset,
+                        this.length,
+                        StandardCharsets.US_ASCII);
+            }
+            final byte[] bytes = new byte[this.length];
+            for (int i = 0; i < this.length; i++) {
+                bytes[i] = buffer.get(this.offset + i);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Streaming writer of identity token columns to UTF-8 encoded NDJSON
+ * and single column CSV channels.
+ * <p>
+ * Identity token characters are written directly to a reusable buffer,
+ * flushed to the target channel when full. NDJSON records contain
+ * a JSON string or {@code null} per line. CSV records contain the
+ * unquoted identity token per line, with empty lines for {@code null}
+ * identities. Written channels can be read with
+ * {@code IdentityTokenChannelReader}.
+ * <p>
+ * Instances are not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenChannelReader
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityTokenChannelWriter
+implements Closeable, Flushable {
+
+    /** The default size of the write buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** The NDJSON {@code null} record. */
+    private static final byte[] JSON_NULL_RECORD = { 'n', 'u', 'l', 'l', '\n' };
+    /** The line feed byte. */
+    private static final byte LF = '\n';
+    /** The quote byte. */
+    private static final byte QUOTE = '"';
+    /** Error message for invalid identity tokens. */
+    private static final String ERR_INVALID_TOKEN = "Invalid identity token: %s";
+
+    /** The target channel. */
+    private final @NotNull WritableByteChannel channel;
+    /** If identity tokens are written as NDJSON strings. */
+    private final boolean json;
+    /** The write buffer. */
+    private @NotNull ByteBuffer buffer;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param channel The target channel
+     * @param json If identity tokens are written as NDJSON strings
+     * @param bufferSize The initial size of the write buffer
+     */
+    private IdentityTokenChannelWriter(
+            final @NotNull WritableByteChannel channel,
+            final boolean json,
+            final int bufferSize) {
+        super();
+        Validate.notNull(channel);
+        Validate.isTrue(bufferSize > 0, "Invalid buffer size: %d", bufferSize);
+        this.channel = channel;
+        this.json = json;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Creates a new writer of NDJSON identity tokens to the specified
+     * channel.
+     * 
+     * @param channel The target channel
+     * @return The new writer
+     */
+    public static @NotNull IdentityTokenChannelWriter ndjson(
+            final @NotNull WritableByteChannel channel) {
+        return new IdentityTokenChannelWriter(channel, true, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new writer of NDJSON identity tokens to the specified
+     * channel with the specified initial buffer size.
+     * 
+     * @param channel The target channel
+     * @param bufferSize The initial size of the write buffer
+     * @return The new writer
+     */
+    static @NotNull IdentityTokenChannelWriter ndjson(
+            final @NotNull WritableByteChannel channel,
+            final int bufferSize) {
+        return new IdentityTokenChannelWriter(channel, true, bufferSize);
+    }
+
+    /**
+     * Creates a new writer of single column CSV identity tokens to the
+     * specified channel.
+     * 
+     * @param channel The target channel
+     * @return The new writer
+     */
+    public static @NotNull IdentityTokenChannelWriter csv(
+            final @NotNull WritableByteChannel channel) {
+        return new IdentityTokenChannelWriter(channel, false, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new writer of single column CSV identity tokens to the
+     * specified channel with the specified initial buffer size.
+     * 
+     * @param channel The target channel
+     * @param bufferSize The initial size of the write buffer
+     * @return The new writer
+     */
+    static @NotNull IdentityTokenChannelWriter csv(
+            final @NotNull WritableByteChannel channel,
+            final int bufferSize) {
+        return new IdentityTokenChannelWriter(channel, false, bufferSize);
+    }
+
+    /**
+     * Writes the identity token of the specified identity.
+     * 
+     * @param identity The identity, possibly {@code null}
+     * @throws IOException If an I/O error occurs
+     * @throws IllegalArgumentException If the identity token is not valid
+     */
+    public void write(
+            final Identity identity)
+    throws IOException {
+        if (identity == null) {
+            writeNull();
+        } else {
+            writeToken(identity.getIdentityToken());
+        }
+    }
+
+    /**
+     * Writes the identity tokens of the specified identities.
+     * 
+     * @param identities The identities
+     * @throws IOException If an I/O error occurs
+     * @throws IllegalArgumentException If an identity token is not valid
+     */
+    public void writeAll(
+            final @NotNull Iterable<? extends Identity> identities)
+    throws IOException {
+        Validate.notNull(identities);
+        for (final Identity identity : identities) {
+            write(identity);
+        }
+    }
+
+    /**
+     * Writes the specified identity token characters.
+     * 
+     * @param token The identity token characters, possibly {@code null}
+     * @throws IOException If an I/O error occurs
+     * @throws IllegalArgumentException If the identity token is not valid
+     */
+    public void writeToken(
+            final CharSequence token)
+    throws IOException {
+        if (token == null || token.length() == 0) {
+            writeNull();
+            return;
+        }
+        final int length = token.length();
+        ensureCapacity(length + 3);
+        final ByteBuffer buf = this.buffer;
+        final int start = buf.position();
+        if (this.json) {
+            buf.put(QUOTE);
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = token.charAt(i);
+            if (IdentityTokenFormatter.base64UrlDigitValue(c) < 0) {
+                buf.position(start);
+                throw new IllegalArgumentException(String.format(
+                        ERR_INVALID_TOKEN,
+                        token));
+            }
+            buf.put((byte) c);
+        }
+        if (this.json) {
+            buf.put(QUOTE);
+        }
+        buf.put(LF);
+    }
+
+    /**
+     * Writes a {@code null} identity token.
+     * 
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeNull()
+    throws IOException {
+        if (this.json) {
+            ensureCapacity(JSON_NULL_RECORD.length);
+            this.buffer.put(JSON_NULL_RECORD);
+        } else {
+            ensureCapacity(1);
+            this.buffer.put(LF);
+        }
+    }
+
+    /**
+     * Ensures that the write buffer has room for the specified number of
+     * bytes, flushing the buffer or growing it as required.
+     * 
+     * @param required The number of required bytes
+     * @throws IOException If an I/O error occurs
+     */
+    private void ensureCapacity(
+            final int required)
+    throws IOException {
+        if (this.buffer.remaining() < required) {
+            flush();
+            if (this.buffer.capacity() < required) {
+                this.buffer = ByteBuffer.allocate(Math.max(
+                        required,
+                        this.buffer.capacity() * 2));
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered identity tokens to the target channel.
+     * 
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void flush()
+    throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes the buffered identity tokens to the target channel and closes
+     * the channel.
+     * 
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void close()
+    throws IOException {
+        try {
+            flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+}
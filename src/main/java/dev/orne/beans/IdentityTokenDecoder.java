@@ -0,0 +1,77 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Functional interface for decoders of identity token characters to
+ * {@code Identity} instances. Used in bulk identity token processing,
+ * where identity tokens are read as reusable character views instead
+ * of {@code String} instances.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of the decoded identities
+ * @since 0.7
+ * @see IdentityTokenChannelReader
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+@FunctionalInterface
+public interface IdentityTokenDecoder<T extends Identity> {
+
+    /**
+     * Decodes the specified identity token characters. The characters
+     * can be a reusable view, so implementations must not retain them.
+     * 
+     * @param token The identity token characters
+     * @return The decoded identity
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * is not valid for the target identity type
+     */
+    T decode(
+            @NotNull CharSequence token)
+    throws UnrecognizedIdentityTokenException;
+
+    /**
+     * Returns the shared decoder for the specified identity type.
+     * {@code LongIdentity} and {@code UUIDIdentity} identity tokens are
+     * decoded directly from the identity token characters. Identity tokens
+     * of other types are resolved through the identity token resolver
+     * returned by {@link IdentityResolver#getLinkedResolver(Class)}.
+     * {@code Identity} and {@code TokenIdentity} targets are decoded
+     * as {@code TokenIdentity} instances.
+     * 
+     * @param <T> The type of the decoded identities
+     * @param type The type of the decoded identities
+     * @return The shared decoder for the identity type
+     */
+    static <T extends Identity> @NotNull IdentityTokenDecoder<T> forType(
+            final @NotNull Class<T> type) {
+        return IdentityTokenDecoders.forType(type);
+    }
+}
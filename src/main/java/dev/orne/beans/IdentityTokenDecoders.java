@@ -0,0 +1,153 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Shared {@code IdentityTokenDecoder} instances by identity type.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenDecoder#forType(Class)
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class IdentityTokenDecoders {
+
+    /**
+     * The maximum number of decimal digits of {@code long} values
+     * that cannot overflow.
+     */
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    /** The shared decoders by identity type. */
+    private static final ClassValue<IdentityTokenDecoder<?>> DECODERS =
+            new ClassValue<IdentityTokenDecoder<?>>() {
+                @Override
+                protected IdentityTokenDecoder<?> computeValue(
+                        final @NotNull Class<?> type) {
+                    return create(type.asSubclass(Identity.class));
+                }
+            };
+
+    /**
+     * Private constructor.
+     */
+    private IdentityTokenDecoders() {
+        // Utility class
+    }
+
+    /**
+     * Returns the shared decoder for the specified identity type.
+     * 
+     * @param <T> The type of the decoded identities
+     * @param type The type of the decoded identities
+     * @return The shared decoder for the identity type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Identity> @NotNull IdentityTokenDecoder<T> forType(
+            final @NotNull Class<T> type) {
+        Validate.notNull(type);
+        Validate.isTrue(Identity.class.isAssignableFrom(type));
+        return (IdentityTokenDecoder<T>) DECODERS.get(type);
+    }
+
+    /**
+     * Creates a new decoder for the specified identity type.
+     * 
+     * @param <T> The type of the decoded identities
+     * @param type The type of the decoded identities
+     * @return The new decoder
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Identity> @NotNull IdentityTokenDecoder<T> create(
+            final @NotNull Class<T> type) {
+        if (type == LongIdentity.class) {
+            return token -> (T) decodeLongIdentity(token);
+        } else if (type == UUIDIdentity.class) {
+            return token -> (T) decodeUUIDIdentity(token);
+        } else if (type == Identity.class || type == TokenIdentity.class) {
+            return token -> (T) TokenIdentity.fromToken(token.toString());
+        } else {
+            final Function<String, T> resolver =
+                    IdentityResolver.getInstance().getLinkedResolver(type);
+            return token -> resolver.apply(token.toString());
+        }
+    }
+
+    /**
+     * Decodes the specified {@code LongIdentity} identity token characters.
+     * Identity tokens with up to 18 decimal digits are decoded without
+     * intermediate {@code String} instances.
+     * 
+     * @param token The identity token characters
+     * @return The decoded identity
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * is not a valid {@code LongIdentity} identity token
+     */
+    static @NotNull LongIdentity decodeLongIdentity(
+            final @NotNull CharSequence token) {
+        final int length = token.length();
+        final boolean negative = length > 0 && token.charAt(0) == '-';
+        final int start = negative ? 1 : 0;
+        if (length == start || length - start > MAX_SAFE_LONG_DIGITS) {
+            return LongIdentity.fromIdentityToken(token.toString());
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            final char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                return LongIdentity.fromIdentityToken(token.toString());
+            }
+            value = value * 10 + (c - '0');
+        }
+        return new LongIdentity(negative ? -value : value);
+    }
+
+    /**
+     * Decodes the specified {@code UUIDIdentity} identity token characters.
+     * Identity tokens with {@code UUIDIdentity} bodies are decoded without
+     * intermediate {@code String} instances.
+     * 
+     * @param token The identity token characters
+     * @return The decoded identity
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * is not a valid {@code UUIDIdentity} identity token
+     */
+    static @NotNull UUIDIdentity decodeUUIDIdentity(
+            final @NotNull CharSequence token) {
+        final UUIDIdentity result = UUIDIdentity.fromCompactToken(token);
+        if (result == null) {
+            return UUIDIdentity.fromIdentityToken(token.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,820 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Append only dictionary of identity tokens stored outside the Java heap.
+ * <p>
+ * Each distinct identity token is assigned a dense {@code int} id, starting
+ * at {@code 0} in insertion order. Identity tokens are stored as UTF-8 in
+ * an arena of direct or memory mapped {@code ByteBuffer} chunks. The ids
+ * index and the hash table used for look ups are stored in direct
+ * {@code ByteBuffer}s too, so the dictionary retains a negligible amount
+ * of heap regardless of its size. Each entry uses 16 bytes of index,
+ * the identity token bytes and less than 6 bytes of hash table.
+ * <p>
+ * Identity tokens are validated against the identity token rules of
+ * {@code IdentityTokenFormatter} when added, so stored identity tokens are
+ * always non empty ASCII strings. Identity tokens are returned on demand,
+ * either as {@code String} or as lightweight {@code Identity} views that
+ * reference the dictionary entry instead of holding the identity token.
+ * <p>
+ * Instances are not thread safe. Concurrent reads are safe if there are no
+ * concurrent additions. Closing the dictionary releases the references to
+ * the buffers and, for memory mapped dictionaries, closes the backing file
+ * channel; the memory is reclaimed when the buffers are garbage collected.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenFormatter
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class IdentityTokenDictionary
+implements Closeable {
+
+    /** The default size of the arena chunks, in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    /** The number of entries of each index page. */
+    static final int INDEX_PAGE_ENTRIES = 1 << 14;
+    /** The size of each index entry, in bytes. */
+    private static final int INDEX_ENTRY_SIZE = 16;
+    /** The offset of the arena chunk in the index entries. */
+    private static final int INDEX_CHUNK = 0;
+    /** The offset of the arena chunk offset in the index entries. */
+    private static final int INDEX_OFFSET = 4;
+    /** The offset of the identity token length in the index entries. */
+    private static final int INDEX_LENGTH = 8;
+    /** The offset of the identity token hash in the index entries. */
+    private static final int INDEX_HASH = 12;
+    /** The size of each hash table slot, in bytes. */
+    static final int SLOT_SIZE = 4;
+    /** The minimum capacity of the hash table. */
+    static final int MIN_TABLE_CAPACITY = 1 << 10;
+    /**
+     * The maximum capacity of the hash table, limited by the maximum size
+     * of the hash table buffer.
+     */
+    static final int MAX_TABLE_CAPACITY = 1 << 28;
+    /** The load factor of the hash table. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** The 32 bits golden ratio multiplier used to mix hashes. */
+    private static final int INT_PHI = 0x9E3779B9;
+    /** Error message for invalid identity tokens. */
+    private static final String ERR_INVALID_TOKEN = "Invalid identity token: %s";
+    /** Error message for invalid ids. */
+    private static final String ERR_INVALID_ID = "Invalid identity token id: %d";
+
+    /** The arena chunks allocator. */
+    private final @NotNull IntFunction<ByteBuffer> allocator;
+    /** The size of the arena chunks, in bytes. */
+    private final int chunkSize;
+    /** The resource to close with the dictionary. */
+    private final Closeable resource;
+    /** The arena chunks. */
+    private ByteBuffer[] chunks;
+    /** The number of arena chunks. */
+    private int chunkCount;
+    /** The current arena chunk. */
+    private ByteBuffer chunk;
+    /** The index pages. */
+    private ByteBuffer[] pages;
+    /** The hash table, with the ids plus one of the entries. */
+    private ByteBuffer table;
+    /** The hash table index mask. */
+    private int mask;
+    /** The number of entries. */
+    private int size;
+    /** The number of identity token bytes stored. */
+    private long arenaSize;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param allocator The arena chunks allocator
+     * @param chunkSize The size of the arena chunks, in bytes
+     * @param expectedSize The expected number of entries
+     * @param resource The resource to close with the dictionary
+     */
+    IdentityTokenDictionary(
+            final @NotNull IntFunction<ByteBuffer> allocator,
+            final int chunkSize,
+            final int expectedSize,
+            final Closeable resource) {
+        super();
+        Validate.notNull(allocator);
+        Validate.isTrue(chunkSize > 0, "Invalid chunk size: %d", chunkSize);
+        Validate.isTrue(expectedSize >= 0, "Invalid expected size: %d", expectedSize);
+        this.allocator = allocator;
+        this.chunkSize = chunkSize;
+        this.resource = resource;
+        this.chunks = new ByteBuffer[16];
+        this.pages = new ByteBuffer[16];
+        final int capacity = tableCapacity(expectedSize);
+        this.table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the initial hash table capacity for the specified expected
+     * number of entries, up to {@link #MAX_TABLE_CAPACITY}.
+     * 
+     * @param expectedSize The expected number of entries
+     * @return The hash table capacity
+     */
+    static int tableCapacity(
+            final int expectedSize) {
+        int capacity = MIN_TABLE_CAPACITY;
+        while (capacity < MAX_TABLE_CAPACITY && capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the hash table capacity after growing a hash table with the
+     * specified capacity.
+     * 
+     * @param capacity The current hash table capacity
+     * @return The new hash table capacity
+     * @throws IllegalStateException If the hash table is at its maximum
+     * capacity
+     */
+    static int grownTableCapacity(
+            final int capacity) {
+        if (capacity >= MAX_TABLE_CAPACITY) {
+            throw new IllegalStateException("Identity token dictionary is full");
+        }
+        return capacity << 1;
+    }
+
+    /**
+     * Creates a new empty dictionary stored in direct buffers.
+     * 
+     * @return The new dictionary
+     */
+    public static @NotNull IdentityTokenDictionary direct() {
+        return direct(0);
+    }
+
+    /**
+     * Creates a new empty dictionary stored in direct buffers, with the
+     * hash table sized for the specified expected number of entries.
+     * 
+     * @param expectedSize The expected number of entries
+     * @return The new dictionary
+     */
+    public static @NotNull IdentityTokenDictionary direct(
+            final int expectedSize) {
+        return new IdentityTokenDictionary(
+                ByteBuffer::allocateDirect,
+                DEFAULT_CHUNK_SIZE,
+                expectedSize,
+                null);
+    }
+
+    /**
+     * Creates a new empty dictionary which arena is memory mapped to
+     * the specified file. The file is created if it doesn't exist and
+     * truncated otherwise. The index and the hash table are stored
+     * in direct buffers.
+     * <p>
+     * The file is a scratch area: its contents are not intended to be
+     * reopened, and it is not deleted when the dictionary is closed.
+     * 
+     * @param file The file to map the arena to
+     * @param expectedSize The expected number of entries
+     * @return The new dictionary
+     * @throws IOException If an I/O error occurs opening the file
+     */
+    public static @NotNull IdentityTokenDictionary mapped(
+            final @NotNull Path file,
+            final int expectedSize)
+    throws IOException {
+        Validate.notNull(file);
+        final FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new IdentityTokenDictionary(
+                new MappedAllocator(channel),
+                DEFAULT_CHUNK_SIZE,
+                expectedSize,
+                channel);
+    }
+
+    /**
+     * Returns the number of entries.
+     * 
+     * @return The number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of identity token bytes stored in the arena.
+     * 
+     * @return The number of identity token bytes
+     */
+    public long getArenaSize() {
+        return this.arenaSize;
+    }
+
+    /**
+     * Returns {@code true} if the specified identity token is a valid
+     * non empty identity token.
+     * 
+     * @param token The identity token
+     * @return If the identity token is valid
+     */
+    static boolean isValidToken(
+            final CharSequence token) {
+        if (token == null || token.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            final char c = token.charAt(i);
+            if (c >= 0x80 || !IdentityTokenChannelReader.isTokenByte((byte) c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash of the specified identity token. The hash of
+     * {@code String} instances is derived from their cached hash code.
+     * 
+     * @param token The identity token
+     * @return The identity token hash
+     */
+    static int hash(
+            final @NotNull CharSequence token) {
+        int h;
+        if (token instanceof String) {
+            h = token.hashCode();
+        } else {
+            h = 0;
+            for (int i = 0; i < token.length(); i++) {
+                h = 31 * h + token.charAt(i);
+            }
+        }
+        h *= INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Adds the specified identity token to the dictionary, if not already
+     * present, and returns its id.
+     * 
+     * @param token The identity token
+     * @return The id of the identity token
+     * @throws UnrecognizedIdentityTokenException If the identity token is
+     * not a valid non empty identity token
+     * @throws IllegalStateException If the dictionary is closed or full
+     */
+    public int add(
+            final @NotNull CharSequence token) {
+        ensureOpen();
+        if (!isValidToken(token)) {
+            throw new UnrecognizedIdentityTokenException(
+                    String.format(ERR_INVALID_TOKEN, token));
+        }
+        final int hash = hash(token);
+        int slot = hash & this.mask;
+        int stored;
+        while ((stored = this.table.getInt(slot * SLOT_SIZE)) != 0) {
+            if (matches(stored - 1, hash, token)) {
+                return stored - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        if (this.size + 1 > (this.mask + 1) * LOAD_FACTOR) {
+            growTable();
+            slot = hash & this.mask;
+            while (this.table.getInt(slot * SLOT_SIZE) != 0) {
+                slot = (slot + 1) & this.mask;
+            }
+        }
+        final int id = this.size;
+        append(id, hash, token);
+        this.table.putInt(slot * SLOT_SIZE, id + 1);
+        this.size++;
+        return id;
+    }
+
+    /**
+     * Adds the identity token of the specified identity to the dictionary,
+     * if not already present, and returns its id.
+     * 
+     * @param identity The identity
+     * @return The id of the identity token
+     * @throws UnrecognizedIdentityTokenException If the identity token is
+     * not a valid non empty identity token
+     * @throws IllegalStateException If the dictionary is closed or full
+     */
+    public int add(
+            final @NotNull Identity identity) {
+        Validate.notNull(identity);
+        return add(identity.getIdentityToken());
+    }
+
+    /**
+     * Returns the id of the specified identity token.
+     * 
+     * @param token The identity token
+     * @return The id of the identity token, or {@code -1} if not present
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    public int indexOf(
+            final CharSequence token) {
+        ensureOpen();
+        if (!isValidToken(token)) {
+            return -1;
+        }
+        final int hash = hash(token);
+        int slot = hash & this.mask;
+        int stored;
+        while ((stored = this.table.getInt(slot * SLOT_SIZE)) != 0) {
+            if (matches(stored - 1, hash, token)) {
+                return stored - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the id of the identity token of the specified identity.
+     * 
+     * @param identity The identity
+     * @return The id of the identity token, or {@code -1} if not present
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    public int indexOf(
+            final Identity identity) {
+        return identity == null ? indexOf((CharSequence) null) : indexOf(identity.getIdentityToken());
+    }
+
+    /**
+     * Returns {@code true} if the dictionary contains the specified
+     * identity token.
+     * 
+     * @param token The identity token
+     * @return If the dictionary contains the identity token
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    public boolean contains(
+            final CharSequence token) {
+        return indexOf(token) >= 0;
+    }
+
+    /**
+     * Returns the identity token with the specified id.
+     * 
+     * @param id The id of the identity token
+     * @return The identity token
+     * @throws IndexOutOfBoundsException If the id is not valid
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    public @NotNull String getToken(
+            final int id) {
+        ensureOpen();
+        checkId(id);
+        final ByteBuffer page = page(id);
+        final int entry = entry(id);
+        final ByteBuffer source = this.chunks[page.getInt(entry + INDEX_CHUNK)];
+        final int offset = page.getInt(entry + INDEX_OFFSET);
+        final byte[] bytes = new byte[page.getInt(entry + INDEX_LENGTH)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = source.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a lightweight {@code Identity} view of the identity token
+     * with the specified id. The view references the dictionary entry
+     * and reads the identity token from the dictionary on demand.
+     * 
+     * @param id The id of the identity token
+     * @return The {@code Identity} view
+     * @throws IndexOutOfBoundsException If the id is not valid
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    public @NotNull View getIdentity(
+            final int id) {
+        ensureOpen();
+        checkId(id);
+        return new View(this, id);
+    }
+
+    /**
+     * Closes the dictionary, releasing the references to its buffers.
+     * 
+     * @throws IOException If an I/O error occurs closing the backing
+     * file channel
+     */
+    @Override
+    public void close()
+    throws IOException {
+        if (this.table != null) {
+            this.table = null;
+            this.chunks = null;
+            this.chunk = null;
+            this.pages = null;
+            if (this.resource != null) {
+                this.resource.close();
+            }
+        }
+    }
+
+    /**
+     * Verifies that the dictionary is not closed.
+     * 
+     * @throws IllegalStateException If the dictionary is closed
+     */
+    private void ensureOpen() {
+        if (this.table == null) {
+            throw new IllegalStateException("Identity token dictionary is closed");
+        }
+    }
+
+    /**
+     * Verifies that the specified id is valid.
+     * 
+     * @param id The id of the identity token
+     * @throws IndexOutOfBoundsException If the id is not valid
+     */
+    private void checkId(
+            final int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IndexOutOfBoundsException(String.format(ERR_INVALID_ID, id));
+        }
+    }
+
+    /**
+     * Returns the index page of the specified id.
+     * 
+     * @param id The id of the identity token
+     * @return The index page
+     */
+    private ByteBuffer page(
+            final int id) {
+        return this.pages[id / INDEX_PAGE_ENTRIES];
+    }
+
+    /**
+     * Returns the offset of the index entry of the specified id in its
+     * index page.
+     * 
+     * @param id The id of the identity token
+     * @return The offset of the index entry
+     */
+    private static int entry(
+            final int id) {
+        return (id % INDEX_PAGE_ENTRIES) * INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Returns the stored hash of the identity token with the specified id.
+     * 
+     * @param id The id of the identity token
+     * @return The identity token hash
+     */
+    int storedHash(
+            final int id) {
+        return page(id).getInt(entry(id) + INDEX_HASH);
+    }
+
+    /**
+     * Returns {@code true} if the identity token with the specified id
+     * is equal to the specified identity token.
+     * 
+     * @param id The id of the stored identity token
+     * @param hash The hash of the identity token
+     * @param token The identity token
+     * @return If the identity tokens are equal
+     */
+    private boolean matches(
+            final int id,
+            final int hash,
+            final @NotNull CharSequence token) {
+        final ByteBuffer page = page(id);
+        final int entry = entry(id);
+        if (page.getInt(entry + INDEX_HASH) != hash
+                || page.getInt(entry + INDEX_LENGTH) != token.length()) {
+            return false;
+        }
+        final ByteBuffer source = this.chunks[page.getInt(entry + INDEX_CHUNK)];
+        final int offset = page.getInt(entry + INDEX_OFFSET);
+        for (int i = 0; i < token.length(); i++) {
+            if (source.get(offset + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the identity tokens with the specified ids
+     * of this dictionary and the specified dictionary are equal.
+     * 
+     * @param id The id of the identity token in this dictionary
+     * @param other The other dictionary
+     * @param otherId The id of the identity token in the other dictionary
+     * @return If the identity tokens are equal
+     */
+    boolean matches(
+            final int id,
+            final @NotNull IdentityTokenDictionary other,
+            final int otherId) {
+        if (other == this) {
+            return id == otherId;
+        }
+        return storedHash(id) == other.storedHash(otherId)
+                && getToken(id).equals(other.getToken(otherId));
+    }
+
+    /**
+     * Stores the specified identity token in the arena and registers its
+     * index entry.
+     * 
+     * @param id The id of the identity token
+     * @param hash The hash of the identity token
+     * @param token The identity token, validated
+     */
+    private void append(
+            final int id,
+            final int hash,
+            final @NotNull CharSequence token) {
+        final int length = token.length();
+        if (this.chunk == null || this.chunk.remaining() < length) {
+            addChunk(Math.max(this.chunkSize, length));
+        }
+        final int offset = this.chunk.position();
+        for (int i = 0; i < length; i++) {
+            this.chunk.put((byte) token.charAt(i));
+        }
+        final int pageIndex = id / INDEX_PAGE_ENTRIES;
+        if (pageIndex == this.pages.length) {
+            this.pages = Arrays.copyOf(this.pages, this.pages.length * 2);
+        }
+        if (this.pages[pageIndex] == null) {
+            this.pages[pageIndex] = ByteBuffer.allocateDirect(
+                    INDEX_PAGE_ENTRIES * INDEX_ENTRY_SIZE);
+        }
+        final ByteBuffer page = this.pages[pageIndex];
+        final int entry = entry(id);
+        page.putInt(entry + INDEX_CHUNK, this.chunkCount - 1);
+        page.putInt(entry + INDEX_OFFSET, offset);
+        page.putInt(entry + INDEX_LENGTH, length);
+        page.putInt(entry + INDEX_HASH, hash);
+        this.arenaSize += length;
+    }
+
+    /**
+     * Allocates a new arena chunk.
+     * 
+     * @param capacity The capacity of the chunk, in bytes
+     */
+    private void addChunk(
+            final int capacity) {
+        if (this.chunkCount == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+        }
+        this.chunk = this.allocator.apply(capacity);
+        this.chunks[this.chunkCount++] = this.chunk;
+    }
+
+    /**
+     * Doubles the capacity of the hash table.
+     * 
+     * @throws IllegalStateException If the hash table is at its maximum
+     * capacity
+     */
+    private void growTable() {
+        final int capacity = grownTableCapacity(this.mask + 1);
+        final ByteBuffer newTable = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        final int newMask = capacity - 1;
+        for (int id = 0; id < this.size; id++) {
+            int slot = storedHash(id) & newMask;
+            while (newTable.getInt(slot * SLOT_SIZE) != 0) {
+                slot = (slot + 1) & newMask;
+            }
+            newTable.putInt(slot * SLOT_SIZE, id + 1);
+        }
+        this.table = newTable;
+        this.mask = newMask;
+    }
+
+    /**
+     * Lightweight {@code Identity} view of an identity token stored in an
+     * {@code IdentityTokenDictionary}. Holds only the dictionary and the id
+     * of the identity token, which is read from the dictionary on demand.
+     * <p>
+     * Views are equal to the views of equal identity tokens, of the same
+     * or other dictionaries. Views are serialized as {@code TokenIdentity}
+     * instances.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final class View
+    implements Identity {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The dictionary. */
+        private final transient @NotNull IdentityTokenDictionary dictionary;
+        /** The id of the identity token. */
+        private final int id;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param dictionary The dictionary
+         * @param id The id of the identity token
+         */
+        View(
+                final @NotNull IdentityTokenDictionary dictionary,
+                final int id) {
+            super();
+            this.dictionary = dictionary;
+            this.id = id;
+        }
+
+        /**
+         * Returns the dictionary of the identity token.
+         * 
+         * @return The dictionary
+         */
+        public @NotNull IdentityTokenDictionary getDictionary() {
+            return this.dictionary;
+        }
+
+        /**
+         * Returns the id of the identity token.
+         * 
+         * @return The id of the identity token
+         */
+        public int getId() {
+            return this.id;
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * @throws IllegalStateException If the dictionary is closed
+         */
+        @Override
+        public @NotNull String getIdentityToken() {
+            return this.dictionary.getToken(this.id);
+        }
+
+        /**
+         * Returns a new {@code TokenIdentity} with the identity token
+         * of this view, independent of the dictionary.
+         * 
+         * @return The new {@code TokenIdentity}
+         * @throws IllegalStateException If the dictionary is closed
+         */
+        public @NotNull TokenIdentity toTokenIdentity() {
+            return new TokenIdentity(getIdentityToken());
+        }
+
+        /**
+         * Replaces this instance with a {@code TokenIdentity} when
+         * serialized.
+         * 
+         * @return The {@code TokenIdentity} to serialize
+         * @throws ObjectStreamException Never
+         */
+        private Object writeReplace()
+        throws ObjectStreamException {
+            return toTokenIdentity();
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * @throws IllegalStateException If the dictionary is closed
+         */
+        @Override
+        public int hashCode() {
+            this.dictionary.ensureOpen();
+            return this.dictionary.storedHash(this.id);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (obj.getClass() != getClass()) {
+                return false;
+            }
+            final View other = (View) obj;
+            return this.dictionary.matches(this.id, other.dictionary, other.id);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return getIdentityToken();
+        }
+    }
+
+    /**
+     * Arena chunks allocator that maps consecutive regions of a file.
+     */
+    private static final class MappedAllocator
+    implements IntFunction<ByteBuffer> {
+
+        /** The file channel. */
+        private final @NotNull FileChannel channel;
+        /** The position of the next region. */
+        private long position;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param channel The file channel
+         */
+        MappedAllocator(
+                final @NotNull FileChannel channel) {
+            super();
+            this.channel = channel;
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * @throws UncheckedIOException If an I/O error occurs mapping
+         * the region
+         */
+        @Override
+        public ByteBuffer apply(
+                final int capacity) {
+            try {
+                final ByteBuffer result = this.channel.map(
+                        FileChannel.MapMode.READ_WRITE,
+                        this.position,
+                        capacity);
+                this.position += capacity;
+                return result;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -23,7 +23,9 @@ package dev.orne.beans;
  */
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -36,9 +38,24 @@ import org.apiguardian.api.API.Status;
 
 /**
  * Formatter and parser of identity tokens.
+ * <p>
+ * Identity token bodies are usually text, but binary bodies can be
+ * formatted and parsed through {@link #formatBinary(String, byte[])} and
+ * {@link #parseBinary(String, String)}. Binary bodies are prefixed by
+ * {@link #BINARY_BODY_PREFIX}, so binary tokens are valid identity tokens
+ * that {@link #parse(String, String)} decodes to the URI friendly Base64
+ * text of the binary body.
+ * <p>
+ * Identity tokens can be formatted with compact bodies through
+ * {@link #formatCompact(String, String)}. Compact bodies are prefixed by
+ * {@link #COMPACT_BODY_PREFIX} and pack decimal {@code long} values,
+ * {@code UUID}s and printable ASCII texts in denser forms than the
+ * Base64 encoded UTF-8 bytes, falling back to regular bodies when not
+ * shorter. Compact bodies are decoded transparently by
+ * {@link #parse(String, String)}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 2.0, 2023-12
+ * @version 2.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.INTERNAL, since="0.1")
@@ -55,6 +72,24 @@ public final class IdentityTokenFormatter {
             UNENCODED_BODY_STARTING_CHAR + TOKEN_CHAR + "*";
     /** Encoded body prefix. */
     public static final String ENCODED_BODY_PREFIX = "_";
+    /**
+     * Compact encoded body prefix. Never generated by regular encoding,
+     * as no UTF-8 encoded text starts with the bytes required to produce
+     * this prefix.
+     * 
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final String COMPACT_BODY_PREFIX = ENCODED_BODY_PREFIX + "-";
+    /**
+     * Binary encoded body prefix. Never generated by regular encoding,
+     * as no UTF-8 encoded text starts with the bytes required to produce
+     * this prefix.
+     * 
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final String BINARY_BODY_PREFIX = ENCODED_BODY_PREFIX + "_";
     /** Null body. */
     public static final String NULL_BODY = ENCODED_BODY_PREFIX;
     /** Regular expression for valid identity token Base64 encoded bodies. */
@@ -97,6 +132,46 @@ public final class IdentityTokenFormatter {
     private static final Base64.Encoder ENCODER = Base64.getUrlEncoder();
     /** The Base64 decoder. */
     private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    /** The Base64 encoder for binary bodies, without padding. */
+    private static final Base64.Encoder BINARY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    /** The compact body kind of decimal {@code long} values. */
+    private static final char COMPACT_NUMERIC = 'n';
+    /** The compact body kind of {@code UUID}s. */
+    private static final char COMPACT_UUID = 'u';
+    /** The compact body kind of printable ASCII texts. */
+    private static final char COMPACT_ASCII = 'a';
+    /** The compact body header length, including the kind. */
+    private static final int COMPACT_HEADER_LENGTH = COMPACT_BODY_PREFIX.length() + 1;
+    /** The URI friendly Base64 digits, in value order. */
+    private static final char[] DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    /** The values of the URI friendly Base64 digits, by character. */
+    private static final int[] DIGIT_VALUES = new int[128];
+    /** The bits per URI friendly Base64 digit. */
+    private static final int DIGIT_BITS = 6;
+    /** The maximum number of digits of compact {@code long} values. */
+    private static final int MAX_NUMERIC_DIGITS = 11;
+    /** The canonical length of {@code UUID}s. */
+    private static final int UUID_LENGTH = 36;
+    /** The length of compact {@code UUID}s. */
+    private static final int COMPACT_UUID_LENGTH = 22;
+    /** The first printable ASCII character. */
+    private static final char ASCII_MIN = ' ';
+    /** The last printable ASCII character. */
+    private static final char ASCII_MAX = '~';
+    /** The number of printable ASCII characters. */
+    private static final int ASCII_RADIX = ASCII_MAX - ASCII_MIN + 1;
+    /** The number of ASCII characters packed in each full chunk. */
+    private static final int ASCII_CHUNK_CHARS = 9;
+    /** The number of digits of each full ASCII chunk. */
+    private static final int ASCII_CHUNK_DIGITS = ASCII_CHUNK_CHARS + 1;
+
+    static {
+        Arrays.fill(DIGIT_VALUES, -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            DIGIT_VALUES[DIGITS[i]] = i;
+        }
+    }
 
     /**
      * Private constructor.
@@ -165,6 +240,13 @@ public final class IdentityTokenFormatter {
             result = encoded;
         } else if (ENCODED_BODY_PREFIX.equals(encoded)) {
             result = null;
+        } else if (encoded.startsWith(COMPACT_BODY_PREFIX)) {
+            result = decodeCompactBody(encoded);
+        } else if (encoded.startsWith(BINARY_BODY_PREFIX)) {
+            if (encoded.length() == BINARY_BODY_PREFIX.length()) {
+                throw invalidBody(encoded);
+            }
+            result = encoded.substring(BINARY_BODY_PREFIX.length());
         } else if (encoded.startsWith(ENCODED_BODY_PREFIX)) {
             String b64 = encoded.substring(1);
             if (b64.length() % 3 != 0) {
@@ -179,6 +261,147 @@ public final class IdentityTokenFormatter {
         return result;
     }
 
+    /**
+     * <p>Encodes the specified identity token body as a valid compact
+     * identity token body, if shorter than the regular encoding.</p>
+     * 
+     * <ol>
+     * <li>If the specified body is a canonical decimal {@code long} value
+     * the zig-zag encoded value is written in URI friendly Base64 digits.</li>
+     * <li>If the specified body is a canonical lower case {@code UUID} the
+     * 16 bytes of the {@code UUID} are encoded in URI friendly Base64.</li>
+     * <li>If the specified body contains only printable ASCII characters
+     * each chunk of 9 characters is packed in 10 URI friendly Base64
+     * digits.</li>
+     * </ol>
+     * <p>Compact bodies are prefixed by {@link #COMPACT_BODY_PREFIX} and a
+     * character identifying the packing. If no packing is shorter than the
+     * regular encoding the result of {@link #encodeBody(String)} is
+     * returned.</p>
+     * 
+     * @param body The identity token body to encode
+     * @return The encoded identity token part
+     * @since 0.7
+     */
+    protected static @NotNull String encodeCompactBody(
+            final String body) {
+        if (body == null || body.isEmpty()) {
+            return encodeBody(body);
+        }
+        final int length = body.length();
+        boolean ascii = true;
+        boolean unencoded = isUnencodedBodyStartChar(body.charAt(0));
+        for (int i = 0; i < length && ascii; i++) {
+            final char c = body.charAt(i);
+            ascii = c >= ASCII_MIN && c <= ASCII_MAX;
+            unencoded = unencoded && isBase64UrlChar(c);
+        }
+        if (!ascii) {
+            return encodeBody(body);
+        }
+        final int regularLength = unencoded
+                ? length
+                : ENCODED_BODY_PREFIX.length() + (length * 4 + 2) / 3;
+        if (isCanonicalLong(body)) {
+            final long numeric = Long.parseLong(body);
+            final long zigzag = (numeric << 1) ^ (numeric >> 63);
+            final int digits = Math.max(1,
+                    (Long.SIZE - Long.numberOfLeadingZeros(zigzag) + DIGIT_BITS - 1) / DIGIT_BITS);
+            if (COMPACT_HEADER_LENGTH + digits < regularLength) {
+                final StringBuilder result = compactHeader(COMPACT_NUMERIC, digits);
+                appendDigits(result, zigzag, digits);
+                return result.toString();
+            }
+            return encodeBody(body);
+        }
+        if (isCanonicalUuid(body)) {
+            final UUID uuid = UUID.fromString(body);
+            final long msb = uuid.getMostSignificantBits();
+            final long lsb = uuid.getLeastSignificantBits();
+            final byte[] bytes = new byte[Long.BYTES * 2];
+            for (int i = 0; i < Long.BYTES; i++) {
+                final int shift = Long.SIZE - Byte.SIZE * (i + 1);
+                bytes[i] = (byte) (msb >>> shift);
+                bytes[Long.BYTES + i] = (byte) (lsb >>> shift);
+            }
+            return compactHeader(COMPACT_UUID, COMPACT_UUID_LENGTH)
+                    .append(BINARY_ENCODER.encodeToString(bytes))
+                    .toString();
+        }
+        final int fullChunks = length / ASCII_CHUNK_CHARS;
+        final int lastChunk = length % ASCII_CHUNK_CHARS;
+        final int digits = fullChunks * ASCII_CHUNK_DIGITS + (lastChunk == 0 ? 0 : lastChunk + 1);
+        if (COMPACT_HEADER_LENGTH + digits >= regularLength) {
+            return encodeBody(body);
+        }
+        final StringBuilder result = compactHeader(COMPACT_ASCII, digits);
+        for (int start = 0; start < length; start += ASCII_CHUNK_CHARS) {
+            final int end = Math.min(length, start + ASCII_CHUNK_CHARS);
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                value = value * ASCII_RADIX + (body.charAt(i) - ASCII_MIN);
+            }
+            appendDigits(result, value, end - start + 1);
+        }
+        return result.toString();
+    }
+
+    /**
+     * <p>Decodes the specified compact identity token body to the original
+     * identity token body.</p>
+     * 
+     * @param encoded The compact identity token body to decode
+     * @return The original identity token body
+     * @throws UnrecognizedIdentityTokenException If the encoded body is not a
+     * valid compact identity token body
+     * @see #encodeCompactBody(String)
+     */
+    private static @NotNull String decodeCompactBody(
+            final @NotNull String encoded)
+    throws UnrecognizedIdentityTokenException {
+        final int length = encoded.length();
+        if (length <= COMPACT_HEADER_LENGTH) {
+            throw invalidBody(encoded);
+        }
+        final int digits = length - COMPACT_HEADER_LENGTH;
+        final String result;
+        switch (encoded.charAt(COMPACT_BODY_PREFIX.length())) {
+            case COMPACT_NUMERIC:
+                if (digits > MAX_NUMERIC_DIGITS
+                        || (digits > 1 && encoded.charAt(COMPACT_HEADER_LENGTH) == DIGITS[0])
+                        || (digits == MAX_NUMERIC_DIGITS
+                            && digitValue(encoded, COMPACT_HEADER_LENGTH) >= 1 << (Long.SIZE - DIGIT_BITS * (MAX_NUMERIC_DIGITS - 1)))) {
+                    throw invalidBody(encoded);
+                }
+                final long zigzag = readDigits(encoded, COMPACT_HEADER_LENGTH, length);
+                result = Long.toString((zigzag >>> 1) ^ -(zigzag & 1));
+                break;
+            case COMPACT_UUID:
+                if (digits != COMPACT_UUID_LENGTH) {
+                    throw invalidBody(encoded);
+                }
+                final int last = digitValue(encoded, length - 1);
+                if (last < 0 || (last & 0xF) != 0) {
+                    throw invalidBody(encoded);
+                }
+                long msb = 0;
+                long lsb = 0;
+                final byte[] bytes = decodeDigits(encoded, COMPACT_HEADER_LENGTH);
+                for (int i = 0; i < Long.BYTES; i++) {
+                    msb = (msb << Byte.SIZE) | (bytes[i] & 0xFF);
+                    lsb = (lsb << Byte.SIZE) | (bytes[Long.BYTES + i] & 0xFF);
+                }
+                result = new UUID(msb, lsb).toString();
+                break;
+            case COMPACT_ASCII:
+                result = decodeAsciiDigits(encoded, digits);
+                break;
+            default:
+                throw invalidBody(encoded);
+        }
+        return result;
+    }
+
     /**
      * Formats a valid identity token for the specified identity token body
      * and the default identity token prefix.
@@ -216,6 +439,502 @@ public final class IdentityTokenFormatter {
                 .toString();
     }
 
+    /**
+     * Formats a valid identity token for the specified identity token body
+     * and the default identity token prefix, with compact body encoding.
+     * 
+     * @param body The identity token body
+     * @return The formatted identity token
+     * @see #encodeCompactBody(String)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String formatCompact(
+            final String body) {
+        return formatCompact(DEFAULT_PREFIX, body);
+    }
+
+    /**
+     * Formats a valid identity token for the specified identity token prefix
+     * and body, with compact body encoding. The returned identity tokens are
+     * never longer than the ones returned by {@link #format(String, String)}
+     * and are parsed by {@link #parse(String, String)}.
+     * 
+     * @param prefix The identity token prefix
+     * @param body The identity token body
+     * @return The formatted identity token
+     * @throws NullPointerException If the prefix is {@code null}
+     * @throws IllegalArgumentException If the prefix is not a valid identity
+     * token prefix
+     * @see #encodeCompactBody(String)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String formatCompact(
+            final @NotNull String prefix,
+            final String body) {
+        Validate.notNull(prefix, "Identity token prefix is required");
+        if (!VALID_PREFIX_PREDICATE.test(prefix)) {
+            throw new IllegalArgumentException(String.format(
+                    "Identity token prefix is not valid: %s",
+                    prefix));
+        }
+        return new StringBuilder(prefix)
+                .append(encodeCompactBody(body))
+                .toString();
+    }
+
+    /**
+     * Formats a valid identity token for the specified identity token prefix
+     * and binary body. Binary bodies are always encoded in URI friendly
+     * Base64, with paddings removed and prefixed by
+     * {@link #BINARY_BODY_PREFIX}. {@code null} bodies are formatted as
+     * {@link #NULL_BODY}.
+     * 
+     * @param prefix The identity token prefix
+     * @param body The binary identity token body
+     * @return The formatted identity token
+     * @throws NullPointerException If the prefix is {@code null}
+     * @throws IllegalArgumentException If the prefix is not a valid identity
+     * token prefix or the body is empty
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String formatBinary(
+            final @NotNull String prefix,
+            final byte[] body) {
+        Validate.notNull(prefix, "Identity token prefix is required");
+        if (!VALID_PREFIX_PREDICATE.test(prefix)) {
+            throw new IllegalArgumentException(String.format(
+                    "Identity token prefix is not valid: %s",
+                    prefix));
+        }
+        if (body == null) {
+            return prefix + NULL_BODY;
+        }
+        Validate.isTrue(body.length > 0, "Binary identity token body cannot be empty");
+        return new StringBuilder(
+                    prefix.length() + BINARY_BODY_PREFIX.length() + (body.length * 4 + 2) / 3)
+                .append(prefix)
+                .append(BINARY_BODY_PREFIX)
+                .append(BINARY_ENCODER.encodeToString(body))
+                .toString();
+    }
+
+    /**
+     * Parses the specified identity token formatted with
+     * {@link #formatBinary(String, byte[])} for the specified expected
+     * identity token prefix.
+     * 
+     * @param prefix The expected identity token prefix
+     * @param token The identity token
+     * @return The original binary identity token body
+     * @throws NullPointerException If the prefix or the identity token are
+     * {@code null}
+     * @throws IllegalArgumentException If the prefix is not a valid identity
+     * token prefix
+     * @throws UnrecognizedIdentityTokenException If the identity token is not a
+     * valid binary identity token or it doesn't start with the expected prefix
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static byte[] parseBinary(
+            final @NotNull String prefix,
+            final @NotNull String token)
+    throws UnrecognizedIdentityTokenException {
+        Validate.notNull(prefix, "Identity token prefix is required");
+        if (!VALID_PREFIX_PREDICATE.test(prefix)) {
+            throw new IllegalArgumentException(String.format(
+                    "Identity token prefix is not valid: %s",
+                    prefix));
+        }
+        Validate.notNull(token, "Identity token is required");
+        if (!token.startsWith(prefix)) {
+            throw new UnrecognizedIdentityTokenException(String.format(
+                    "Unrecognized identity token: %s",
+                    token));
+        }
+        if (token.length() == prefix.length() + NULL_BODY.length()
+                && token.startsWith(NULL_BODY, prefix.length())) {
+            return null;
+        }
+        if (!token.startsWith(BINARY_BODY_PREFIX, prefix.length())) {
+            throw new UnrecognizedIdentityTokenException(String.format(
+                    "Unrecognized identity token: %s",
+                    token));
+        }
+        final int start = prefix.length() + BINARY_BODY_PREFIX.length();
+        if (start == token.length()) {
+            throw new UnrecognizedIdentityTokenException(String.format(
+                    "Invalid identity token: %s",
+                    token));
+        }
+        final byte[] encoded = new byte[token.length() - start];
+        for (int i = 0; i < encoded.length; i++) {
+            final char c = token.charAt(start + i);
+            if (!isBase64UrlChar(c)) {
+                throw new UnrecognizedIdentityTokenException(String.format(
+                        "Invalid identity token: %s",
+                        token));
+            }
+            encoded[i] = (byte) c;
+        }
+        try {
+            return DECODER.decode(encoded);
+        } catch (final IllegalArgumentException iae) {
+            throw new UnrecognizedIdentityTokenException(String.format(
+                    "Invalid identity token: %s",
+                    token), iae);
+        }
+    }
+
+    /**
+     * Packs the specified identity token in binary form. As identity tokens
+     * only contain URI friendly Base64 characters, each character is packed
+     * in 6 bits, most significant bit first, after a header byte containing
+     * the number of characters modulo 4.
+     * 
+     * @param token The identity token
+     * @return The packed identity token
+     * @throws NullPointerException If the identity token is {@code null}
+     * @throws IllegalArgumentException If the identity token is not valid
+     * @see #unpackToken(byte[], int, int)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull byte[] packToken(
+            final @NotNull String token) {
+        Validate.notNull(token, "Identity token is required");
+        final int length = token.length();
+        final byte[] result = new byte[1 + (length * DIGIT_BITS + Byte.SIZE - 1) / Byte.SIZE];
+        result[0] = (byte) (length % 4);
+        int position = 1;
+        int bits = 0;
+        int pending = 0;
+        for (int i = 0; i < length; i++) {
+            final int digit = base64UrlDigitValue(token.charAt(i));
+            Validate.isTrue(digit >= 0, "Identity token is not valid: %s", token);
+            pending = (pending << DIGIT_BITS) | digit;
+            bits += DIGIT_BITS;
+            if (bits >= Byte.SIZE) {
+                bits -= Byte.SIZE;
+                result[position++] = (byte) (pending >>> bits);
+            }
+        }
+        if (bits > 0) {
+            result[position] = (byte) (pending << (Byte.SIZE - bits));
+        }
+        return result;
+    }
+
+    /**
+     * Unpacks the identity token packed in the specified range of bytes.
+     * 
+     * @param packed The packed identity token
+     * @param offset The index of the first byte of the packed identity token
+     * @param length The number of bytes of the packed identity token
+     * @return The unpacked identity token
+     * @throws NullPointerException If the packed identity token is
+     * {@code null}
+     * @throws UnrecognizedIdentityTokenException If the bytes are not a
+     * packed identity token
+     * @see #packToken(String)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull String unpackToken(
+            final @NotNull byte[] packed,
+            final int offset,
+            final int length) {
+        Validate.notNull(packed, "Packed identity token is required");
+        Validate.isTrue(offset >= 0 && length >= 0 && offset + length <= packed.length,
+                "Invalid packed identity token range");
+        final int remainder = length == 0 ? -1 : packed[offset];
+        if (remainder < 0 || remainder > 3 || (length - 1 - remainder) % 3 != 0) {
+            throw new UnrecognizedIdentityTokenException(
+                    "Invalid packed identity token");
+        }
+        final int chars = (length - 1 - remainder) / 3 * 4 + remainder;
+        final char[] result = new char[chars];
+        int position = offset + 1;
+        int bits = 0;
+        int pending = 0;
+        for (int i = 0; i < chars; i++) {
+            if (bits < DIGIT_BITS) {
+                pending = (pending << Byte.SIZE) | (packed[position++] & 0xFF);
+                bits += Byte.SIZE;
+            }
+            bits -= DIGIT_BITS;
+            result[i] = DIGITS[(pending >>> bits) & (DIGITS.length - 1)];
+        }
+        if ((pending & ((1 << bits) - 1)) != 0) {
+            throw new UnrecognizedIdentityTokenException(
+                    "Invalid packed identity token");
+        }
+        return new String(result);
+    }
+
+    /**
+     * Returns {@code true} if the specified character is a valid URI
+     * friendly Base64 character.
+     * 
+     * @param c The character
+     * @return If the character is a valid URI friendly Base64 character
+     */
+    private static boolean isBase64UrlChar(
+            final char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_';
+    }
+
+    /**
+     * Returns {@code true} if the specified character is a valid starting
+     * character of unencoded identity token bodies.
+     * 
+     * @param c The character
+     * @return If the character is a valid unencoded body starting character
+     */
+    private static boolean isUnencodedBodyStartChar(
+            final char c) {
+        return c != '_' && isBase64UrlChar(c);
+    }
+
+    /**
+     * Returns {@code true} if the specified text is the canonical decimal
+     * representation of a {@code long} value, as returned by
+     * {@code Long.toString(long)}.
+     * 
+     * @param text The text
+     * @return If the text is a canonical decimal {@code long} value
+     */
+    private static boolean isCanonicalLong(
+            final @NotNull String text) {
+        final int length = text.length();
+        final int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == length || length > 20) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (text.charAt(start) == '0' && (length > 1)) {
+            return false;
+        }
+        try {
+            Long.parseLong(text);
+            return true;
+        } catch (final NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified text is the canonical
+     * representation of a {@code UUID}, as returned by
+     * {@code UUID.toString()}.
+     * 
+     * @param text The text
+     * @return If the text is a canonical {@code UUID}
+     */
+    private static boolean isCanonicalUuid(
+            final @NotNull String text) {
+        if (text.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char c = text.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new builder for a compact body of the specified kind,
+     * containing the compact body header.
+     * 
+     * @param kind The compact body kind
+     * @param digits The number of digits of the compact body
+     * @return The new builder
+     */
+    private static @NotNull StringBuilder compactHeader(
+            final char kind,
+            final int digits) {
+        return new StringBuilder(COMPACT_HEADER_LENGTH + digits)
+                .append(COMPACT_BODY_PREFIX)
+                .append(kind);
+    }
+
+    /**
+     * Appends the specified unsigned value as URI friendly Base64 digits,
+     * most significant digit first.
+     * 
+     * @param target The target builder
+     * @param value The unsigned value
+     * @param digits The number of digits to append
+     */
+    private static void appendDigits(
+            final @NotNull StringBuilder target,
+            final long value,
+            final int digits) {
+        for (int shift = (digits - 1) * DIGIT_BITS; shift >= 0; shift -= DIGIT_BITS) {
+            target.append(DIGITS[(int) (value >>> shift) & (DIGITS.length - 1)]);
+        }
+    }
+
+    /**
+     * Returns the URI friendly Base64 digit of the specified value.
+     * 
+     * @param value The digit value, between 0 and 63
+     * @return The URI friendly Base64 digit
+     * @since 0.7
+     */
+    static char base64UrlDigit(
+            final int value) {
+        return DIGITS[value];
+    }
+
+    /**
+     * Returns the value of the specified URI friendly Base64 digit.
+     * 
+     * @param c The character
+     * @return The value of the digit, or {@code -1} if not a valid digit
+     * @since 0.7
+     */
+    static int base64UrlDigitValue(
+            final char c) {
+        return c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+    }
+
+    /**
+     * Returns the value of the URI friendly Base64 digit at the specified
+     * index.
+     * 
+     * @param text The text
+     * @param index The index of the digit
+     * @return The value of the digit, or {@code -1} if not a valid digit
+     */
+    private static int digitValue(
+            final @NotNull String text,
+            final int index) {
+        return base64UrlDigitValue(text.charAt(index));
+    }
+
+    /**
+     * Reads the URI friendly Base64 digits in the specified range as an
+     * unsigned value, most significant digit first.
+     * 
+     * @param encoded The compact identity token body
+     * @param start The start index of the digits
+     * @param end The end index of the digits, exclusive
+     * @return The read value
+     * @throws UnrecognizedIdentityTokenException If any character is not a
+     * valid digit
+     */
+    private static long readDigits(
+            final @NotNull String encoded,
+            final int start,
+            final int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = digitValue(encoded, i);
+            if (digit < 0) {
+                throw invalidBody(encoded);
+            }
+            result = (result << DIGIT_BITS) | digit;
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the URI friendly Base64 digits from the specified index.
+     * 
+     * @param encoded The compact identity token body
+     * @param start The start index of the digits
+     * @return The decoded bytes
+     * @throws UnrecognizedIdentityTokenException If the digits are not
+     * valid URI friendly Base64
+     */
+    private static @NotNull byte[] decodeDigits(
+            final @NotNull String encoded,
+            final int start) {
+        final byte[] digits = new byte[encoded.length() - start];
+        for (int i = 0; i < digits.length; i++) {
+            final char c = encoded.charAt(start + i);
+            if (!isBase64UrlChar(c)) {
+                throw invalidBody(encoded);
+            }
+            digits[i] = (byte) c;
+        }
+        try {
+            return DECODER.decode(digits);
+        } catch (final IllegalArgumentException iae) {
+            throw new UnrecognizedIdentityTokenException(String.format(
+                    "Invalid identity token body: %s",
+                    encoded), iae);
+        }
+    }
+
+    /**
+     * Decodes the printable ASCII text packed in the specified compact
+     * identity token body.
+     * 
+     * @param encoded The compact identity token body
+     * @param digits The number of digits of the compact identity token body
+     * @return The decoded text
+     * @throws UnrecognizedIdentityTokenException If the digits are not
+     * valid packed printable ASCII text
+     */
+    private static @NotNull String decodeAsciiDigits(
+            final @NotNull String encoded,
+            final int digits) {
+        final int lastChunkDigits = digits % ASCII_CHUNK_DIGITS;
+        if (lastChunkDigits == 1) {
+            throw invalidBody(encoded);
+        }
+        final int length = (digits / ASCII_CHUNK_DIGITS) * ASCII_CHUNK_CHARS
+                + (lastChunkDigits == 0 ? 0 : lastChunkDigits - 1);
+        final char[] result = new char[length];
+        int position = COMPACT_HEADER_LENGTH;
+        for (int start = 0; start < length; start += ASCII_CHUNK_CHARS) {
+            final int chars = Math.min(ASCII_CHUNK_CHARS, length - start);
+            long value = readDigits(encoded, position, position + chars + 1);
+            position += chars + 1;
+            for (int i = start + chars - 1; i >= start; i--) {
+                result[i] = (char) (ASCII_MIN + value % ASCII_RADIX);
+                value /= ASCII_RADIX;
+            }
+            if (value != 0) {
+                throw invalidBody(encoded);
+            }
+        }
+        return new String(result);
+    }
+
+    /**
+     * Creates a new exception for invalid identity token bodies.
+     * 
+     * @param encoded The invalid identity token body
+     * @return The new exception
+     */
+    private static @NotNull UnrecognizedIdentityTokenException invalidBody(
+            final @NotNull String encoded) {
+        return new UnrecognizedIdentityTokenException(String.format(
+                "Invalid identity token body: %s",
+                encoded));
+    }
+
     /**
      * Returns {@code true} if the specified identity token prefix is valid.
      * 
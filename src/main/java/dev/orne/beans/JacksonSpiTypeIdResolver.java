@@ -22,10 +22,12 @@ package dev.orne.beans;
  * #L%
  */
 
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
@@ -45,6 +47,8 @@ import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import dev.orne.beans.metrics.BeansEvents;
+
 /**
  * Implementation of {@code TypeIdResolver} that discovers interface/bean
  * subtypes using SPI configuration files.
@@ -74,9 +78,15 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * a.b.c.DefaultImpl
  * a.b.c.extra.ExtraImpl
  * </pre>
+ * Discovered sub-types are cached by base type and thread context class
+ * loader, used to discover the service providers, and shared between
+ * resolver instances. Class loaders are referenced weakly and discovered
+ * sub-types softly, so the cache does not prevent class loaders from
+ * being garbage collected. Sub-types can be discovered in advance, during
+ * application startup, through {@link #warmUp(Class)}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2023-11
+ * @version 1.1, 2026-10
  * @since 0.6
  * @see TypeIdResolver
  */
@@ -87,6 +97,16 @@ extends TypeIdResolverBase {
     /** The class logger. */
     private static final Logger LOG = LoggerFactory.getLogger(JacksonSpiTypeIdResolver.class);
 
+    /** The shared discovered sub-types, by base type and class loader. */
+    private static final ClassValue<Map<ClassLoader, SoftReference<Map<String, Class<?>>>>> SHARED_SUBTYPES =
+            new ClassValue<Map<ClassLoader, SoftReference<Map<String, Class<?>>>>>() {
+                @Override
+                protected Map<ClassLoader, SoftReference<Map<String, Class<?>>>> computeValue(
+                        final Class<?> type) {
+                    return Collections.synchronizedMap(new WeakHashMap<>());
+                }
+            };
+
     /** The registered types. */
     private final @NotNull Map<String, Class<?>> subtypes = new HashMap<>();
     /** Error message for repeated subtype names. */
@@ -108,22 +128,99 @@ extends TypeIdResolverBase {
         return Collections.unmodifiableMap(this.subtypes);
     }
 
+    /**
+     * Pre-discovers the sub-types of the specified base type for the
+     * current thread context class loader, populating the shared
+     * discovered sub-types cache. Does nothing if the type is
+     * not annotated with {@code JsonTypeIdResolver} referencing this class.
+     * 
+     * @param type The base type
+     * @return If the type is annotated with {@code JsonTypeIdResolver}
+     * referencing this class
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static boolean warmUp(
+            final @NotNull Class<?> type) {
+        Validate.notNull(type);
+        final JsonTypeIdResolver annot = type.getAnnotation(JsonTypeIdResolver.class);
+        if (annot == null || annot.value() != JacksonSpiTypeIdResolver.class) {
+            return false;
+        }
+        getSharedSubTypes(type);
+        return true;
+    }
+
+    /**
+     * Returns the shared discovered sub-types of the specified base type
+     * for the current thread context class loader, discovering them if
+     * not cached.
+     * 
+     * @param type The base type
+     * @return The discovered sub-types
+     */
+    private static @NotNull Map<String, Class<?>> getSharedSubTypes(
+            final @NotNull Class<?> type) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ClassLoader.getSystemClassLoader();
+        }
+        final Map<ClassLoader, SoftReference<Map<String, Class<?>>>> byLoader =
+                SHARED_SUBTYPES.get(type);
+        final SoftReference<Map<String, Class<?>>> cached = byLoader.get(loader);
+        Map<String, Class<?>> result = cached == null ? null : cached.get();
+        if (result == null) {
+            result = Collections.unmodifiableMap(
+                    new JacksonSpiTypeIdResolver().discoverSubTypes(type));
+            byLoader.put(loader, new SoftReference<>(result));
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
+     * <p>
+     * Sub-types discovered by instances of this class are cached by base
+     * type and thread context class loader and shared between instances.
+     * Instances of derived classes discover the sub-types on each
+     * initialization through {@link #discoverSubTypes(Class)}.
      */
     @Override
     public void init(
             final @NotNull JavaType bt) {
         super.init(Validate.notNull(bt));
         final Class<?> bc = bt.getRawClass();
+        if (getClass() == JacksonSpiTypeIdResolver.class) {
+            this.subtypes.putAll(getSharedSubTypes(bc));
+        } else {
+            this.subtypes.putAll(discoverSubTypes(bc));
+        }
+    }
+
+    /**
+     * Discovers the sub-types of the specified base type. If the base type
+     * is annotated with {@code JsonTypeIdResolver} the service providers of
+     * the base type are used. Otherwise the service providers of the
+     * annotated super types assignable to the base type are used.
+     * 
+     * @param bc The base type
+     * @return The map of IDs to subtypes
+     * @since 0.7
+     */
+    protected @NotNull Map<String, Class<?>> discoverSubTypes(
+            final @NotNull Class<?> bc) {
+        final Object event = BeansEvents.SPI_SUBTYPE_DISCOVERY.begin();
+        final Map<String, Class<?>> result;
         if (bc.isAnnotationPresent(JsonTypeIdResolver.class)) {
-            this.subtypes.putAll(getRegisteredSubTypes(bc));
+            result = getRegisteredSubTypes(bc);
         } else {
-            this.subtypes.putAll(findInheritedSubTypes(bc)
+            result = findInheritedSubTypes(bc)
                     .entrySet().stream()
                     .filter(entry -> bc.isAssignableFrom(entry.getValue()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         }
+        BeansEvents.SPI_SUBTYPE_DISCOVERY.commit(event, bc, result.size());
+        return result;
     }
 
     /**
@@ -0,0 +1,251 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Classpath scanner of the classes of a package and its sub-packages.
+ * <p>
+ * Supports classes in file system directories and JAR files. Classes
+ * are loaded without initialization. Anonymous classes, and classes
+ * that cannot be loaded, are ignored.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeansWarmUp
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class PackageScanner {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(PackageScanner.class);
+    /** The class files extension. */
+    private static final String CLASS_EXTENSION = ".class";
+    /** The name of module and package descriptor class files. */
+    private static final String[] DESCRIPTORS = { "module-info", "package-info" };
+    /** The file URLs protocol. */
+    private static final String FILE_PROTOCOL = "file";
+    /** The JAR URLs protocol. */
+    private static final String JAR_PROTOCOL = "jar";
+
+    /** The class loader to scan. */
+    private final @NotNull ClassLoader classLoader;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param classLoader The class loader to scan
+     */
+    PackageScanner(
+            final @NotNull ClassLoader classLoader) {
+        super();
+        this.classLoader = Validate.notNull(classLoader);
+    }
+
+    /**
+     * Returns the classes of the specified package and its sub-packages.
+     * 
+     * @param packageName The package name
+     * @return The found classes
+     * @throws UncheckedIOException If an error occurs reading the
+     * classpath resources
+     */
+    public @NotNull Set<Class<?>> scan(
+            final @NotNull String packageName) {
+        Validate.notNull(packageName);
+        final String path = packageName.replace('.', '/');
+        final Set<String> classNames = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> resources = this.classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                addClassNames(resources.nextElement(), path, classNames);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        for (final String className : classNames) {
+            final Class<?> type = loadClass(className);
+            if (type != null && !type.isAnonymousClass()) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the names of the classes found in the specified package
+     * resource.
+     * 
+     * @param resource The package resource
+     * @param path The package resource path
+     * @param classNames The found class names
+     * @throws IOException If an error occurs reading the resource
+     */
+    void addClassNames(
+            final @NotNull URL resource,
+            final @NotNull String path,
+            final @NotNull Set<String> classNames)
+    throws IOException {
+        if (FILE_PROTOCOL.equals(resource.getProtocol())) {
+            addDirectoryClassNames(toFile(resource), path, classNames);
+        } else if (JAR_PROTOCOL.equals(resource.getProtocol())) {
+            final URLConnection connection = resource.openConnection();
+            if (connection instanceof JarURLConnection) {
+                final JarURLConnection jarConnection = (JarURLConnection) connection;
+                jarConnection.setUseCaches(false);
+                try (final JarFile jar = jarConnection.getJarFile()) {
+                    addJarClassNames(jar, path, classNames);
+                }
+            }
+        } else {
+            LOG.debug("Ignoring unsupported package resource {}", resource);
+        }
+    }
+
+    /**
+     * Adds the names of the classes found in the specified directory
+     * and its sub-directories.
+     * 
+     * @param dir The package directory
+     * @param path The package resource path
+     * @param classNames The found class names
+     */
+    static void addDirectoryClassNames(
+            final @NotNull File dir,
+            final @NotNull String path,
+            final @NotNull Set<String> classNames) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            final String name = file.getName();
+            if (file.isDirectory()) {
+                addDirectoryClassNames(file, path + "/" + name, classNames);
+            } else {
+                addClassName(path + "/" + name, classNames);
+            }
+        }
+    }
+
+    /**
+     * Adds the names of the classes found in the specified JAR file
+     * under the specified package path.
+     * 
+     * @param jar The JAR file
+     * @param path The package resource path
+     * @param classNames The found class names
+     */
+    static void addJarClassNames(
+            final @NotNull JarFile jar,
+            final @NotNull String path,
+            final @NotNull Set<String> classNames) {
+        final String prefix = path + "/";
+        final Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            final JarEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                addClassName(entry.getName(), classNames);
+            }
+        }
+    }
+
+    /**
+     * Adds the class name of the specified resource, if it is a class file.
+     * 
+     * @param resource The resource path
+     * @param classNames The found class names
+     */
+    static void addClassName(
+            final @NotNull String resource,
+            final @NotNull Set<String> classNames) {
+        if (!resource.endsWith(CLASS_EXTENSION)) {
+            return;
+        }
+        final String name = resource.substring(
+                resource.lastIndexOf('/') + 1,
+                resource.length() - CLASS_EXTENSION.length());
+        for (final String descriptor : DESCRIPTORS) {
+            if (descriptor.equals(name)) {
+                return;
+            }
+        }
+        classNames.add(resource.substring(
+                0,
+                resource.length() - CLASS_EXTENSION.length()).replace('/', '.'));
+    }
+
+    /**
+     * Converts the specified file URL to a file.
+     * 
+     * @param resource The file URL
+     * @return The file
+     */
+    static @NotNull File toFile(
+            final @NotNull URL resource) {
+        try {
+            return new File(resource.toURI());
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return new File(resource.getPath());
+        }
+    }
+
+    /**
+     * Loads the specified class without initializing it.
+     * 
+     * @param className The class name
+     * @return The loaded class, or {@code null} if the class cannot
+     * be loaded
+     */
+    Class<?> loadClass(
+            final @NotNull String className) {
+        try {
+            return Class.forName(className, false, this.classLoader);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            LOG.debug("Ignoring class {} that cannot be loaded", className, e);
+            return null;
+        }
+    }
+}
@@ -34,7 +34,7 @@ import dev.orne.test.rnd.GeneratorMethod;
  * of a single inner {@code String} value.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +65,17 @@ extends AbstractSimpleIdentity<String> {
         super(copy);
     }
 
+    /**
+     * Replaces this instance with a compact serialization proxy when
+     * serialized. Subclasses keep the default serialized form.
+     * 
+     * @return The serialization proxy
+     * @since 0.7
+     */
+    private Object writeReplace() {
+        return new IdentitySer(this);
+    }
+
     /**
      * Resolves the specified identity token to a valid {@code StringIdentity}.
      * 
@@ -129,4 +140,34 @@ extends AbstractSimpleIdentity<String> {
         }
         return result;
     }
+
+    /**
+     * JAXB adapter for {@code StringIdentity} that converts instances to and from
+     * {@code String} using the identity token as {@code String}
+     * representation.
+     * 
+     * @since 0.7
+     * @see TypedIdentityXmlAdapter
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static class StringIdentityXmlAdapter
+    extends TypedIdentityXmlAdapter<StringIdentity> {
+
+        /**
+         * Creates a new instance without identity token interning.
+         */
+        public StringIdentityXmlAdapter() {
+            super(StringIdentity.class);
+        }
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param interning If repeated identity tokens must be interned
+         */
+        public StringIdentityXmlAdapter(
+                final boolean interning) {
+            super(StringIdentity.class, interning);
+        }
+    }
 }
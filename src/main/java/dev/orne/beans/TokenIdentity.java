@@ -40,7 +40,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
  * from identity tokens.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -73,6 +73,17 @@ implements Identity {
         return this.identityToken;
     }
 
+    /**
+     * Replaces this instance with a compact serialization proxy when
+     * serialized. Subclasses keep the default serialized form.
+     * 
+     * @return The serialization proxy
+     * @since 0.7
+     */
+    private Object writeReplace() {
+        return new IdentitySer(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -179,7 +190,7 @@ implements Identity {
                 if (StringUtils.isEmpty(token)) {
                     result = null;
                 } else {
-                    result = identity.getIdentityToken();
+                    result = token;
                 }
             }
             return result;
@@ -0,0 +1,172 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * JAXB adapter that converts {@code Identity} instances of a concrete type
+ * to and from {@code String} using the identity token as {@code String}
+ * representation.
+ * <p>
+ * Identity tokens are resolved to the target type through the shared
+ * {@code IdentityTokenDecoder} of the type, that uses the cached identity
+ * token resolvers of {@code IdentityResolver}. Identity tokens are read
+ * once per marshalled identity.
+ * <p>
+ * Optionally, repeated identity tokens can be interned, so each distinct
+ * identity token is resolved once and the same identity instance is
+ * returned for all the occurrences. As JAXB uses an adapter instance per
+ * {@code Unmarshaller}, interning adapters must be registered for each
+ * unmarshalling session through {@code Unmarshaller.setAdapter()}, or
+ * cleared between sessions with {@link #clearInterned()}. Interning
+ * adapters are not thread safe.
+ * <p>
+ * Custom identity types can be bound extending this class with a public
+ * no arguments constructor.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The identity type
+ * @since 0.7
+ * @see IdentityTokenDecoder#forType(Class)
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public class TypedIdentityXmlAdapter<T extends Identity>
+extends XmlAdapter<String, T> {
+
+    /** The maximum number of interned identities. */
+    public static final int MAX_INTERNED = 64 * 1024;
+
+    /** The identity type. */
+    private final @NotNull Class<T> type;
+    /** The identity token decoder. */
+    private final @NotNull IdentityTokenDecoder<T> decoder;
+    /** The interned identities by identity token, if interning. */
+    private final Map<String, T> interned;
+
+    /**
+     * Creates a new instance without identity token interning.
+     * 
+     * @param type The identity type
+     */
+    public TypedIdentityXmlAdapter(
+            final @NotNull Class<T> type) {
+        this(type, false);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param type The identity type
+     * @param interning If repeated identity tokens must be interned
+     */
+    public TypedIdentityXmlAdapter(
+            final @NotNull Class<T> type,
+            final boolean interning) {
+        super();
+        this.type = Validate.notNull(type);
+        this.decoder = IdentityTokenDecoder.forType(type);
+        this.interned = interning ? new HashMap<>() : null;
+    }
+
+    /**
+     * Returns the identity type.
+     * 
+     * @return The identity type
+     */
+    public @NotNull Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns {@code true} if repeated identity tokens are interned.
+     * 
+     * @return If repeated identity tokens are interned
+     */
+    public boolean isInterning() {
+        return this.interned != null;
+    }
+
+    /**
+     * Clears the interned identities.
+     */
+    public void clearInterned() {
+        if (this.interned != null) {
+            this.interned.clear();
+        }
+    }
+
+    /**
+     * Resolves the specified identity token to an identity of the target
+     * type.
+     * 
+     * @param value The identity token. Can be null
+     * @return The resulting identity
+     * @throws UnrecognizedIdentityTokenException If the identity token
+     * cannot be resolved to the target identity type
+     */
+    @Override
+    public T unmarshal(
+            final String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (this.interned == null) {
+            return this.decoder.decode(value);
+        }
+        T result = this.interned.get(value);
+        if (result == null) {
+            result = this.decoder.decode(value);
+            if (result != null && this.interned.size() < MAX_INTERNED) {
+                this.interned.put(value, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Serializes the specified identity as its identity token.
+     * 
+     * @param identity The identity. Can be null
+     * @return The identity token
+     */
+    @Override
+    public String marshal(
+            final T identity) {
+        if (identity == null) {
+            return null;
+        }
+        final String token = identity.getIdentityToken();
+        return token == null || token.isEmpty() ? null : token;
+    }
+}
@@ -0,0 +1,476 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Implementation for {@code Identity} for identities composed
+ * of a single inner {@code UUID} value.
+ * <p>
+ * The {@code UUID} is stored as its most and least significant bits and
+ * the identity token body contains the 128 bits of the {@code UUID} as 22
+ * URI friendly Base64 digits, most significant digit first. As the first
+ * digit contains only the two most significant bits, identity token bodies
+ * always start with a letter between {@code A} and {@code D} and are
+ * valid unencoded identity token bodies.
+ * <p>
+ * Identity tokens are formatted and parsed without intermediate
+ * {@code UUID} nor {@code String} instances. Identity tokens with
+ * canonical {@code UUID} bodies, as formatted by {@code StringIdentity},
+ * are also accepted.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public class UUIDIdentity
+extends AbstractIdentity {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The length of the identity token bodies. */
+    public static final int BODY_LENGTH = 22;
+    /** The bits per identity token body digit. */
+    private static final int DIGIT_BITS = 6;
+    /** The mask of identity token body digit values. */
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+    /** The number of digits of each identity token body half. */
+    private static final int HALF_DIGITS = 11;
+    /** The number of most significant bits in the shared middle digit. */
+    private static final int SHARED_DIGIT_HIGH_BITS = 2;
+    /** The number of least significant bits in the shared middle digit. */
+    private static final int SHARED_DIGIT_LOW_BITS = DIGIT_BITS - SHARED_DIGIT_HIGH_BITS;
+    /** The maximum value of the first identity token body digit. */
+    private static final int MAX_FIRST_DIGIT = 3;
+    /** The length of canonical {@code UUID} representations. */
+    private static final int CANONICAL_LENGTH = 36;
+
+    /** The most significant bits of the {@code UUID}. */
+    private final long mostSignificantBits;
+    /** The least significant bits of the {@code UUID}. */
+    private final long leastSignificantBits;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param value The identity value
+     * @throws NullPointerException If the value is {@code null}
+     */
+    public UUIDIdentity(
+            final @NotNull UUID value) {
+        this(Validate.notNull(value, "Identity value is required").getMostSignificantBits(),
+                value.getLeastSignificantBits());
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param mostSignificantBits The most significant bits of the {@code UUID}
+     * @param leastSignificantBits The least significant bits of the {@code UUID}
+     */
+    public UUIDIdentity(
+            final long mostSignificantBits,
+            final long leastSignificantBits) {
+        super();
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    /**
+     * Copy constructor.
+     * 
+     * @param copy The instance to copy
+     */
+    public UUIDIdentity(
+            final @NotNull UUIDIdentity copy) {
+        super();
+        Validate.notNull(copy, "Template instance is required");
+        this.mostSignificantBits = copy.mostSignificantBits;
+        this.leastSignificantBits = copy.leastSignificantBits;
+    }
+
+    /**
+     * Returns the identity inner value.
+     * 
+     * @return The identity inner value
+     */
+    public @NotNull UUID getValue() {
+        return new UUID(this.mostSignificantBits, this.leastSignificantBits);
+    }
+
+    /**
+     * Returns the most significant bits of the {@code UUID}.
+     * 
+     * @return The most significant bits of the {@code UUID}
+     */
+    public long getMostSignificantBits() {
+        return this.mostSignificantBits;
+    }
+
+    /**
+     * Returns the least significant bits of the {@code UUID}.
+     * 
+     * @return The least significant bits of the {@code UUID}
+     */
+    public long getLeastSignificantBits() {
+        return this.leastSignificantBits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull String getIdentityTokenBody() {
+        return new String(formatBody(
+                new char[BODY_LENGTH],
+                0,
+                this.mostSignificantBits,
+                this.leastSignificantBits));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Identity tokens are formatted directly, as identity token bodies are
+     * always valid unencoded bodies.
+     */
+    @Override
+    protected @NotNull String formatIdentityToken() {
+        final String prefix = getIdentityTokenPrefix();
+        final char[] token = new char[prefix.length() + BODY_LENGTH];
+        prefix.getChars(0, prefix.length(), token, 0);
+        return new String(formatBody(
+                token,
+                prefix.length(),
+                this.mostSignificantBits,
+                this.leastSignificantBits));
+    }
+
+    /**
+     * Writes the identity token body of the specified {@code UUID} bits
+     * in the specified buffer.
+     * 
+     * @param buffer The target buffer
+     * @param offset The index of the buffer to start writing at
+     * @param msb The most significant bits of the {@code UUID}
+     * @param lsb The least significant bits of the {@code UUID}
+     * @return The target buffer
+     */
+    private static @NotNull char[] formatBody(
+            final @NotNull char[] buffer,
+            final int offset,
+            final long msb,
+            final long lsb) {
+        final int shared = offset + HALF_DIGITS;
+        long high = msb >>> SHARED_DIGIT_HIGH_BITS;
+        for (int i = shared - 1; i >= offset; i--) {
+            buffer[i] = IdentityTokenFormatter.base64UrlDigit((int) high & DIGIT_MASK);
+            high >>>= DIGIT_BITS;
+        }
+        buffer[shared] = IdentityTokenFormatter.base64UrlDigit(
+                (int) ((msb & ((1 << SHARED_DIGIT_HIGH_BITS) - 1)) << SHARED_DIGIT_LOW_BITS)
+                | (int) (lsb >>> (Long.SIZE - SHARED_DIGIT_LOW_BITS)));
+        long low = lsb;
+        for (int i = offset + BODY_LENGTH - 1; i > shared; i--) {
+            buffer[i] = IdentityTokenFormatter.base64UrlDigit((int) low & DIGIT_MASK);
+            low >>>= DIGIT_BITS;
+        }
+        return buffer;
+    }
+
+    /**
+     * Resolves the specified identity token to a valid {@code UUIDIdentity}.
+     * 
+     * @param token The identity token
+     * @return The resolved identity token
+     * @throws NullPointerException If the identity token is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token is not
+     * a valid identity token, it doesn't start with the expected prefix or
+     * its body is {@code null}
+     */
+    @IdentityTokenResolver
+    public static @NotNull UUIDIdentity fromIdentityToken(
+            final @NotNull String token)
+    throws UnrecognizedIdentityTokenException {
+        Validate.notNull(token, "Identity token is required");
+        if (isCompactToken(IdentityTokenFormatter.DEFAULT_PREFIX, token)) {
+            return new UUIDIdentity(
+                    parseMostSignificantBits(token, 0),
+                    parseLeastSignificantBits(token, 0));
+        }
+        return new UUIDIdentity(extractRequiredTokenValue(
+                IdentityTokenFormatter.DEFAULT_PREFIX,
+                token));
+    }
+
+    /**
+     * Extracts the {@code UUID} value of a token generated by
+     * {@code UUIDIdentity}.
+     * <p>
+     * Note that the resulting value can be {@code null}. If a non-null
+     * value is expected use{@code extractRequiredTokenValue(String, String)}.
+     * 
+     * @param prefix The expected identity token prefix.
+     * @param token The identity token.
+     * @return The extracted {@code UUID} value.
+     * @throws NullPointerException If the identity token is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token is not
+     * a valid {@code UUIDIdentity} identity token nor an identity token with
+     * a canonical {@code UUID} body, or if it doesn't start with the expected
+     * prefix.
+     * @see #extractRequiredTokenValue(String, String)
+     */
+    public static UUID extractTokenValue(
+            final @NotNull String prefix,
+            final @NotNull String token) {
+        Validate.notNull(prefix, "Identity token prefix is required");
+        Validate.notNull(token, "Identity token is required");
+        if (isCompactToken(prefix, token)
+                && IdentityTokenFormatter.isValidPrefix(prefix)) {
+            return new UUID(
+                    parseMostSignificantBits(token, prefix.length()),
+                    parseLeastSignificantBits(token, prefix.length()));
+        }
+        final String body = IdentityTokenFormatter.parse(prefix, token);
+        if (body == null) {
+            return null;
+        }
+        if (body.length() == CANONICAL_LENGTH) {
+            try {
+                return UUID.fromString(body);
+            } catch (final IllegalArgumentException iae) {
+                throw new UnrecognizedIdentityTokenException(
+                        "Unrecognized identity token: " + token, iae);
+            }
+        }
+        throw new UnrecognizedIdentityTokenException(
+                "Unrecognized identity token: " + token);
+    }
+
+    /**
+     * Extracts the {@code UUID} value of a token generated by
+     * {@code UUIDIdentity}.
+     * <p>
+     * If the resulting value is {@code null} an exception is thrown.
+     * 
+     * @param prefix The expected identity token prefix.
+     * @param token The identity token.
+     * @return The extracted {@code UUID} value.
+     * @throws NullPointerException If the identity token is {@code null}
+     * @throws UnrecognizedIdentityTokenException If the identity token is not
+     * a valid {@code UUIDIdentity} identity token nor an identity token with
+     * a canonical {@code UUID} body, if it doesn't start with the expected
+     * prefix or if the extracted value is null.
+     * @see #extractTokenValue(String, String)
+     */
+    public static @NotNull UUID extractRequiredTokenValue(
+            final @NotNull String prefix,
+            final @NotNull String token) {
+        final UUID result = extractTokenValue(prefix, token);
+        if (result == null) {
+            throw new UnrecognizedIdentityTokenException(
+                    "Unrecognized identity token: " + token);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the specified identity token starts with the
+     * specified prefix followed by a valid {@code UUIDIdentity} identity
+     * token body.
+     * 
+     * @param prefix The expected identity token prefix
+     * @param token The identity token
+     * @return If the identity token has a valid {@code UUIDIdentity} body
+     */
+    private static boolean isCompactToken(
+            final @NotNull String prefix,
+            final @NotNull String token) {
+        return token.length() == prefix.length() + BODY_LENGTH
+                && token.startsWith(prefix)
+                && isCompactBody(token, prefix.length());
+    }
+
+    /**
+     * Returns {@code true} if the specified characters contain a valid
+     * {@code UUIDIdentity} identity token body starting at the specified
+     * index.
+     * 
+     * @param token The identity token characters
+     * @param offset The index of the identity token body
+     * @return If the characters contain a valid {@code UUIDIdentity} body
+     */
+    private static boolean isCompactBody(
+            final @NotNull CharSequence token,
+            final int offset) {
+        final int first = IdentityTokenFormatter.base64UrlDigitValue(token.charAt(offset));
+        if (first < 0 || first > MAX_FIRST_DIGIT) {
+            return false;
+        }
+        for (int i = offset + 1; i < offset + BODY_LENGTH; i++) {
+            if (IdentityTokenFormatter.base64UrlDigitValue(token.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new instance from the specified identity token characters
+     * if they are a valid {@code UUIDIdentity} identity token with the
+     * default prefix, without intermediate {@code String} instances.
+     * 
+     * @param token The identity token characters
+     * @return The new instance, or {@code null} if the characters are not
+     * a {@code UUIDIdentity} identity token
+     * @since 0.7
+     */
+    static UUIDIdentity fromCompactToken(
+            final @NotNull CharSequence token) {
+        if (token.length() != BODY_LENGTH || !isCompactBody(token, 0)) {
+            return null;
+        }
+        return new UUIDIdentity(
+                parseMostSignificantBits(token, 0),
+                parseLeastSignificantBits(token, 0));
+    }
+
+    /**
+     * Parses the most significant bits of the {@code UUID} of the valid
+     * identity token body starting at the specified index.
+     * 
+     * @param token The identity token
+     * @param offset The index of the identity token body
+     * @return The most significant bits of the {@code UUID}
+     */
+    private static long parseMostSignificantBits(
+            final @NotNull CharSequence token,
+            final int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + HALF_DIGITS; i++) {
+            result = (result << DIGIT_BITS)
+                    | IdentityTokenFormatter.base64UrlDigitValue(token.charAt(i));
+        }
+        final int shared = IdentityTokenFormatter.base64UrlDigitValue(
+                token.charAt(offset + HALF_DIGITS));
+        return (result << SHARED_DIGIT_HIGH_BITS)
+                | (shared >>> SHARED_DIGIT_LOW_BITS);
+    }
+
+    /**
+     * Parses the least significant bits of the {@code UUID} of the valid
+     * identity token body starting at the specified index.
+     * 
+     * @param token The identity token
+     * @param offset The index of the identity token body
+     * @return The least significant bits of the {@code UUID}
+     */
+    private static long parseLeastSignificantBits(
+            final @NotNull CharSequence token,
+            final int offset) {
+        long result = IdentityTokenFormatter.base64UrlDigitValue(
+                token.charAt(offset + HALF_DIGITS)) & ((1 << SHARED_DIGIT_LOW_BITS) - 1);
+        for (int i = offset + HALF_DIGITS + 1; i < offset + BODY_LENGTH; i++) {
+            result = (result << DIGIT_BITS)
+                    | IdentityTokenFormatter.base64UrlDigitValue(token.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Replaces this instance with a compact serialization proxy when
+     * serialized. Subclasses keep the default serialized form.
+     * 
+     * @return The serialization proxy
+     * @since 0.7
+     */
+    private Object writeReplace() {
+        return new IdentitySer(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .appendSuper(super.hashCode())
+                .append(this.mostSignificantBits)
+                .append(this.leastSignificantBits)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        final UUIDIdentity other = (UUIDIdentity) obj;
+        return super.equals(obj)
+                && this.mostSignificantBits == other.mostSignificantBits
+                && this.leastSignificantBits == other.leastSignificantBits;
+    }
+
+    /**
+     * JAXB adapter for {@code UUIDIdentity} that converts instances to and from
+     * {@code String} using the identity token as {@code String}
+     * representation.
+     * 
+     * @since 0.7
+     * @see TypedIdentityXmlAdapter
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static class UUIDIdentityXmlAdapter
+    extends TypedIdentityXmlAdapter<UUIDIdentity> {
+
+        /**
+         * Creates a new instance without identity token interning.
+         */
+        public UUIDIdentityXmlAdapter() {
+            super(UUIDIdentity.class);
+        }
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param interning If repeated identity tokens must be interned
+         */
+        public UUIDIdentityXmlAdapter(
+                final boolean interning) {
+            super(UUIDIdentity.class, interning);
+        }
+    }
+}
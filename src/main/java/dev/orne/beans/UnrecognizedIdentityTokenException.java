@@ -25,12 +25,17 @@ package dev.orne.beans;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.beans.metrics.BeansMetrics;
+
 /**
  * Exception for identity tokens that cannot be resolved to expected
  * {@code Identity} type.
+ * <p>
+ * Created instances are counted in the
+ * {@link BeansMetrics#IDENTITY_TOKEN_UNRECOGNIZED} metrics counter.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 2.0, 2021-04
+ * @version 2.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -47,6 +52,7 @@ extends IllegalArgumentException {
      */
     public UnrecognizedIdentityTokenException() {
         super();
+        BeansMetrics.increment(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED);
     }
 
     /**
@@ -60,6 +66,7 @@ extends IllegalArgumentException {
     public UnrecognizedIdentityTokenException(
             final String message) {
         super(message);
+        BeansMetrics.increment(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED);
     }
 
     /**
@@ -78,6 +85,7 @@ extends IllegalArgumentException {
     public UnrecognizedIdentityTokenException(
             final Throwable cause) {
         super(cause);
+        BeansMetrics.increment(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED);
     }
 
     /**
@@ -97,5 +105,6 @@ extends IllegalArgumentException {
             final String message,
             final Throwable cause) {
         super(message, cause);
+        BeansMetrics.increment(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED);
     }
 }
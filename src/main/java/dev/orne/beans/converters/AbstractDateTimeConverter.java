@@ -45,13 +45,16 @@ import org.apiguardian.api.API.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.orne.beans.metrics.BeansEvents;
+import dev.orne.beans.metrics.BeansMetrics;
+
 /**
  * Implementation of {@code Converter} that converts {@code LocalDate} instances
  * to and from {@code String} using ISO-8601 as {@code String}
  * representation by default.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -62,6 +65,8 @@ extends AbstractConverter {
     private final @NotNull DateTimeFormatter formatter;
     /** The temporal value parsers. */
     private final @NotNull Set<DateTimeFormatter> parsers = new LinkedHashSet<>();
+    /** If the temporal value parsers are the default parsers of the converter. */
+    private boolean defaultParsers;
     /** The logger for this instance. */
     private Logger logger;
 
@@ -130,6 +135,7 @@ extends AbstractConverter {
             final @NotNull Collection<DateTimeFormatter> parsers) {
         this.parsers.clear();
         this.parsers.addAll(parsers);
+        this.defaultParsers = false;
     }
 
     /**
@@ -152,6 +158,30 @@ extends AbstractConverter {
         this.parsers.addAll(parsers);
     }
 
+    /**
+     * Returns {@code true} if the temporal value parsers are the default
+     * parsers of the converter, optionally followed by parsers added with
+     * {@link #addParsers(Collection)}. Set to {@code false} when the
+     * parsers are replaced with {@link #setParsers(Collection)}.
+     * 
+     * @return If the default parsers are in effect
+     * @since 0.7
+     */
+    protected boolean isDefaultParsers() {
+        return this.defaultParsers;
+    }
+
+    /**
+     * Marks the current temporal value parsers as the default parsers
+     * of the converter. Called by subclasses after setting their
+     * default parsers.
+     * 
+     * @since 0.7
+     */
+    protected void markDefaultParsers() {
+        this.defaultParsers = true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -211,10 +241,17 @@ extends AbstractConverter {
     protected <T extends TemporalAccessor> T parseString(
             final @NotNull Class<T> type,
             final @NotNull String value) {
+        BeansMetrics.increment(BeansMetrics.DATETIME_PARSE_VALUES);
+        final Object event = BeansEvents.CONVERTER_PARSE_CHAIN.begin();
+        int attempts = 0;
         DateTimeException firstException = null;
         for (final DateTimeFormatter parser : this.parsers) {
+            BeansMetrics.increment(BeansMetrics.DATETIME_PARSE_ATTEMPTS);
+            attempts++;
             try {
-                return type.cast(parse(type, parser, value));
+                final T result = type.cast(parse(type, parser, value));
+                BeansEvents.CONVERTER_PARSE_CHAIN.commit(event, getClass(), type, attempts, true);
+                return result;
             } catch (final DateTimeException dte) {
                 if (firstException == null) {
                     firstException = dte;
@@ -224,6 +261,8 @@ extends AbstractConverter {
                 getLogger().debug("Failed to parse temporal value", dte);
             }
         }
+        BeansMetrics.increment(BeansMetrics.DATETIME_PARSE_FAILURES);
+        BeansEvents.CONVERTER_PARSE_CHAIN.commit(event, getClass(), type, attempts, false);
         if (firstException == null) {
             throw conversionException(type, value);
         } else {
@@ -0,0 +1,177 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Serializable;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable snapshot of the statistics of a converter cache.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class CacheStatistics
+implements Serializable {
+
+    /** The Serial Version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of cache hits. */
+    private final long hits;
+    /** The number of cache misses. */
+    private final long misses;
+    /** The number of cached entries. */
+    private final int size;
+    /** The maximum number of cached entries. */
+    private final int capacity;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param hits The number of cache hits
+     * @param misses The number of cache misses
+     * @param size The number of cached entries
+     * @param capacity The maximum number of cached entries
+     */
+    public CacheStatistics(
+            final long hits,
+            final long misses,
+            final int size,
+            final int capacity) {
+        super();
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of cache hits.
+     * 
+     * @return The number of cache hits
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of cache misses.
+     * 
+     * @return The number of cache misses
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the total number of cache requests.
+     * 
+     * @return The total number of cache requests
+     */
+    public long getRequests() {
+        return this.hits + this.misses;
+    }
+
+    /**
+     * Returns the ratio of cache requests that were hits, or {@code 1.0}
+     * if no request has been made.
+     * 
+     * @return The cache hit rate, between {@code 0.0} and {@code 1.0}
+     */
+    public double getHitRate() {
+        final long requests = getRequests();
+        return requests == 0 ? 1.0 : (double) this.hits / requests;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * 
+     * @return The number of cached entries
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     * 
+     * @return The maximum number of cached entries
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(this.hits)
+                .append(this.misses)
+                .append(this.size)
+                .append(this.capacity)
+                .toHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        final CacheStatistics other = (CacheStatistics) obj;
+        return new EqualsBuilder()
+                .append(this.hits, other.hits)
+                .append(this.misses, other.misses)
+                .append(this.size, other.size)
+                .append(this.capacity, other.capacity)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull String toString() {
+        return new ToStringBuilder(this)
+                .append("hits", this.hits)
+                .append("misses", this.misses)
+                .append("size", this.size)
+                .append("capacity", this.capacity)
+                .toString();
+    }
+}
@@ -0,0 +1,260 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.reflect.ConstructorUtils;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared cache of instance factories based on public no arguments
+ * constructors.
+ * <p>
+ * When possible factories are generated with {@code LambdaMetafactory},
+ * falling back to {@code MethodHandle} invocation when the type is not
+ * visible from this library's class loader and to reflective
+ * invocation through {@code ConstructorUtils} when no public no arguments
+ * constructor can be accessed.
+ * <p>
+ * Errors creating new instances are thrown as
+ * {@code InstantiationFailedException}, with the original
+ * exception as cause.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityBeanConverter
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class ConstructorFactories {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConstructorFactories.class);
+    /** The method handles lookup. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /** The no arguments constructor method type. */
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(void.class);
+    /** The {@code Supplier} factory method type. */
+    private static final MethodType FACTORY_TYPE =
+            MethodType.methodType(Supplier.class);
+    /** The erased {@code Supplier.get()} method type. */
+    private static final MethodType GET_TYPE =
+            MethodType.methodType(Object.class);
+    /** The instance factories by type. */
+    private static final ClassValue<Supplier<?>> FACTORIES =
+            new ClassValue<Supplier<?>>() {
+                @Override
+                protected Supplier<?> computeValue(
+                        final Class<?> type) {
+                    return createFactory(type);
+                }
+            };
+
+    /**
+     * Private constructor.
+     */
+    private ConstructorFactories() {
+        // Utility class
+    }
+
+    /**
+     * Returns the cached instance factory for the specified type.
+     * 
+     * @param <T> The type of instances to create
+     * @param type The type of instances to create
+     * @return The instance factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull Supplier<T> get(
+            final @NotNull Class<T> type) {
+        return (Supplier<T>) FACTORIES.get(type);
+    }
+
+    /**
+     * Creates a new instance factory for the specified type.
+     * 
+     * @param <T> The type of instances to create
+     * @param type The type of instances to create
+     * @return The instance factory
+     */
+    static <T> @NotNull Supplier<T> createFactory(
+            final @NotNull Class<T> type) {
+        if (type.isInterface()
+                || type.isPrimitive()
+                || type.isArray()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return reflectiveFactory(type);
+        }
+        final MethodHandle constructor;
+        try {
+            constructor = LOOKUP.findConstructor(type, CONSTRUCTOR_TYPE);
+        } catch (final ReflectiveOperationException | SecurityException e) {
+            LOG.debug("No accessible no arguments constructor found for {}", type, e);
+            return reflectiveFactory(type);
+        }
+        if (isVisible(type)) {
+            try {
+                return lambdaFactory(type, constructor);
+            } catch (final Throwable e) {
+                LOG.debug("Cannot generate instance factory for {}", type, e);
+            }
+        }
+        return methodHandleFactory(constructor);
+    }
+
+    /**
+     * Returns {@code true} if the specified type is visible from this class'
+     * class loader, so generated lambda classes can link against it.
+     * 
+     * @param type The type to check
+     * @return If the type is visible from this class' class loader
+     */
+    static boolean isVisible(
+            final @NotNull Class<?> type) {
+        try {
+            return Class.forName(
+                    type.getName(),
+                    false,
+                    ConstructorFactories.class.getClassLoader()) == type;
+        } catch (final ClassNotFoundException | LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new instance factory for the specified type generated with
+     * {@code LambdaMetafactory}.
+     * 
+     * @param <T> The type of instances to create
+     * @param type The type of instances to create
+     * @param constructor The no arguments constructor method handle
+     * @return The instance factory
+     * @throws Throwable If an error occurs generating the factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull Supplier<T> lambdaFactory(
+            final @NotNull Class<T> type,
+            final @NotNull MethodHandle constructor)
+    throws Throwable {
+        final CallSite site = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "get",
+                FACTORY_TYPE,
+                GET_TYPE,
+                constructor,
+                MethodType.methodType(type));
+        final Supplier<T> factory = (Supplier<T>) site.getTarget().invoke();
+        return () -> {
+            try {
+                return factory.get();
+            } catch (final RuntimeException e) {
+                throw new InstantiationFailedException(e);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                // Checked exceptions declared by the constructor
+                throw new InstantiationFailedException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a new instance factory that invokes the specified
+     * constructor method handle.
+     * 
+     * @param <T> The type of instances to create
+     * @param constructor The no arguments constructor method handle
+     * @return The instance factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull Supplier<T> methodHandleFactory(
+            final @NotNull MethodHandle constructor) {
+        final MethodHandle generic = constructor.asType(GET_TYPE);
+        return () -> {
+            try {
+                final Object instance = generic.invokeExact();
+                return (T) instance;
+            } catch (final RuntimeException e) {
+                throw new InstantiationFailedException(e);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new InstantiationFailedException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a new instance factory that uses {@code ConstructorUtils}
+     * to create new instances.
+     * 
+     * @param <T> The type of instances to create
+     * @param type The type of instances to create
+     * @return The instance factory
+     */
+    static <T> @NotNull Supplier<T> reflectiveFactory(
+            final @NotNull Class<T> type) {
+        return () -> {
+            try {
+                return ConstructorUtils.invokeConstructor(type);
+            } catch (final ReflectiveOperationException e) {
+                throw new InstantiationFailedException(e);
+            }
+        };
+    }
+
+    /**
+     * Exception thrown by instance factories when new instances
+     * cannot be created.
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    static class InstantiationFailedException
+    extends RuntimeException {
+
+        /** The Serial Version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param cause The cause of the failure
+         */
+        InstantiationFailedException(
+                final Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Bounded thread safe cache of conversion results with hit and miss
+ * counters.
+ * <p>
+ * When the cache reaches its capacity all the cached entries are discarded
+ * before adding the new entry. This keeps the cache cheap for the intended
+ * use case of small sets of values repeated many times, while bounding its
+ * memory usage for unbounded sets of values.
+ * <p>
+ * Values cannot be {@code null}. To cache failed conversions callers must
+ * use a non {@code null} marker value, such as an empty {@code Optional}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <K> The type of the cache keys
+ * @param <V> The type of the cached values
+ * @since 0.7
+ * @see CacheStatistics
+ */
+@API(status=Status.INTERNAL, since="0.7")
+class ConversionCache<K, V> {
+
+    /** The maximum number of cached entries. */
+    private final int capacity;
+    /** The cached entries. */
+    private final ConcurrentMap<K, V> entries;
+    /** The cache hits counter. */
+    private final LongAdder hits = new LongAdder();
+    /** The cache misses counter. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param capacity The maximum number of cached entries
+     */
+    ConversionCache(
+            final int capacity) {
+        super();
+        Validate.isTrue(capacity > 0, "Cache capacity must be positive");
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>(Math.min(capacity, 64));
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     * 
+     * @return The maximum number of cached entries
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the cached value for the specified key, computing it with
+     * the specified function if not cached.
+     * 
+     * @param key The cache key
+     * @param loader The value computation function
+     * @return The cached or computed value
+     */
+    public @NotNull V get(
+            final @NotNull K key,
+            final @NotNull Function<? super K, ? extends V> loader) {
+        final V cached = this.entries.get(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        final V value = loader.apply(key);
+        if (this.entries.size() >= this.capacity) {
+            this.entries.clear();
+        }
+        final V prev = this.entries.putIfAbsent(key, value);
+        return prev == null ? value : prev;
+    }
+
+    /**
+     * Returns the current number of cached entries.
+     * 
+     * @return The current number of cached entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Removes all the cached entries and resets the counters.
+     */
+    public void clear() {
+        this.entries.clear();
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     * 
+     * @return The cache statistics
+     */
+    public @NotNull CacheStatistics getStatistics() {
+        return new CacheStatistics(
+                this.hits.sum(),
+                this.misses.sum(),
+                this.entries.size(),
+                this.capacity);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Thread safe cache of resolved converters by target type. Stores both
+ * found converters and missing converters, so repeated lookups for the
+ * same type resolve the registered converters only once.
+ * <p>
+ * Cached entries must be invalidated with {@link #clear()} each time the
+ * registered converters change. Each invalidation starts a new cache
+ * generation, so lookups started before the invalidation can not publish
+ * stale converters in the current generation.
+ * <p>
+ * Entries are stored in {@code ClassValue} instances, so cached target
+ * types don't prevent the unloading of their class loaders.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see EnumConvertUtilsBean
+ * @see EnumConvertUtilsBean2
+ */
+@API(status=Status.INTERNAL, since="0.7")
+class ConverterLookupCache {
+
+    /** The converter resolution function. */
+    private final @NotNull Function<Class<?>, Converter> resolver;
+    /** The resolved converters by target type of the current generation. */
+    private volatile @NotNull ClassValue<Optional<Converter>> entries;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param resolver The converter resolution function
+     */
+    ConverterLookupCache(
+            final @NotNull Function<Class<?>, Converter> resolver) {
+        super();
+        this.resolver = Validate.notNull(resolver);
+        this.entries = createEntries();
+    }
+
+    /**
+     * Creates a new generation of cached entries.
+     * 
+     * @return The new cached entries
+     */
+    private @NotNull ClassValue<Optional<Converter>> createEntries() {
+        return new ClassValue<Optional<Converter>>() {
+            @Override
+            protected Optional<Converter> computeValue(
+                    final Class<?> type) {
+                return Optional.ofNullable(resolver.apply(type));
+            }
+        };
+    }
+
+    /**
+     * Returns the converter for the specified type, resolving it if not
+     * cached.
+     * 
+     * @param type The target type
+     * @return The resolved converter, or {@code null} if no converter
+     * is available for the type
+     */
+    public Converter get(
+            final @NotNull Class<?> type) {
+        return this.entries.get(type).orElse(null);
+    }
+
+    /**
+     * Removes all the cached entries, starting a new cache generation.
+     */
+    public void clear() {
+        this.entries = createEntries();
+    }
+}
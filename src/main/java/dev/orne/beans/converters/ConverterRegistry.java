@@ -0,0 +1,268 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Immutable snapshot of converters registered by target type.
+ * <p>
+ * Instances are thread safe and can be shared. Lookups are performed against
+ * a pre-sized immutable map without locking nor copy-on-write, so instances
+ * can be used as standalone converter registries through
+ * {@link #lookup(Class)} and {@link #convert(Object, Class)}, or applied
+ * to {@code ConvertUtilsBean} instances in one call through
+ * {@link #applyTo(ConvertUtilsBean)}.
+ * <p>
+ * As in {@link EnumConvertUtilsBean}, the converter registered for
+ * {@code Enum} class is used for enumeration types without specific
+ * converter.
+ * <p>
+ * Registered converters are shared between all the users of the registry,
+ * so they must not be modified after registration.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see OrneBeansConverters#getRegistry(boolean)
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class ConverterRegistry {
+
+    /** The load factor of the converters map. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** Error message for missing converters. */
+    private static final String ERR_NO_CONVERTER =
+            "No converter registered for type %s";
+
+    /** The registered converters by target type. */
+    private final @NotNull Map<Class<?>, Converter> converters;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param converters The registered converters by target type
+     */
+    private ConverterRegistry(
+            final @NotNull Map<Class<?>, Converter> converters) {
+        super();
+        final Map<Class<?>, Converter> copy = new HashMap<>(
+                (int) (converters.size() / LOAD_FACTOR) + 1,
+                LOAD_FACTOR);
+        copy.putAll(converters);
+        this.converters = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Creates a new converter registry builder.
+     * 
+     * @return The new builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new converter registry builder initialized with the
+     * converters of this registry.
+     * 
+     * @return The new builder
+     */
+    public @NotNull Builder toBuilder() {
+        return new Builder().registerAll(this);
+    }
+
+    /**
+     * Returns the number of registered target types.
+     * 
+     * @return The number of registered target types
+     */
+    public int size() {
+        return this.converters.size();
+    }
+
+    /**
+     * Returns the registered target types.
+     * 
+     * @return The registered target types
+     */
+    public @NotNull Set<Class<?>> getTypes() {
+        return this.converters.keySet();
+    }
+
+    /**
+     * Returns the registered converters by target type.
+     * 
+     * @return The registered converters by target type
+     */
+    public @NotNull Map<Class<?>, Converter> getConverters() {
+        return this.converters;
+    }
+
+    /**
+     * Returns the converter for the specified target type. If no converter
+     * is registered for an enumeration type the converter registered for
+     * {@code Enum} class is returned.
+     * 
+     * @param type The target type
+     * @return The converter, or {@code null} if no converter is registered
+     * for the target type
+     */
+    public Converter lookup(
+            final @NotNull Class<?> type) {
+        Converter converter = this.converters.get(type);
+        if (converter == null && type.isEnum()) {
+            converter = this.converters.get(Enum.class);
+        }
+        return converter;
+    }
+
+    /**
+     * Converts the specified value to the specified target type using
+     * the converter registered for the target type.
+     * 
+     * @param <T> The target type
+     * @param value The value to convert
+     * @param type The target type
+     * @return The converted value
+     * @throws ConversionException If no converter is registered for the
+     * target type or the conversion fails
+     */
+    public <T> T convert(
+            final Object value,
+            final @NotNull Class<T> type) {
+        final Converter converter = lookup(type);
+        if (converter == null) {
+            throw new ConversionException(String.format(ERR_NO_CONVERTER, type));
+        }
+        return converter.convert(type, value);
+    }
+
+    /**
+     * Registers all the converters of this registry in the specified
+     * {@code ConvertUtilsBean}.
+     * 
+     * @param target The {@code ConvertUtilsBean} to register the
+     * converters in
+     */
+    public void applyTo(
+            final @NotNull ConvertUtilsBean target) {
+        Validate.notNull(target);
+        for (final Map.Entry<Class<?>, Converter> entry : this.converters.entrySet()) {
+            target.register(entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * Builder of {@code ConverterRegistry} instances.
+     * Not thread safe.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final class Builder {
+
+        /** The registered converters by target type. */
+        private final @NotNull Map<Class<?>, Converter> converters =
+                new LinkedHashMap<>();
+
+        /**
+         * Creates a new instance.
+         */
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Registers the specified converter for the specified target types,
+         * replacing any previously registered converter.
+         * 
+         * @param converter The converter to register
+         * @param types The target types
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder register(
+                final @NotNull Converter converter,
+                final @NotNull Class<?>... types) {
+            Validate.notNull(converter);
+            Validate.noNullElements(types);
+            for (final Class<?> type : types) {
+                this.converters.put(type, converter);
+            }
+            return this;
+        }
+
+        /**
+         * Registers all the converters of the specified registry,
+         * replacing any previously registered converter.
+         * 
+         * @param registry The registry to copy the converters from
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder registerAll(
+                final @NotNull ConverterRegistry registry) {
+            Validate.notNull(registry);
+            this.converters.putAll(registry.converters);
+            return this;
+        }
+
+        /**
+         * Removes the converters registered for the specified target types.
+         * 
+         * @param types The target types
+         * @return This instance, for method chaining
+         */
+        public @NotNull Builder deregister(
+                final @NotNull Class<?>... types) {
+            Validate.noNullElements(types);
+            for (final Class<?> type : types) {
+                this.converters.remove(type);
+            }
+            return this;
+        }
+
+        /**
+         * Creates a new registry with the currently registered converters.
+         * 
+         * @return The new registry
+         */
+        public @NotNull ConverterRegistry build() {
+            return new ConverterRegistry(this.converters);
+        }
+    }
+}
@@ -36,9 +36,13 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code Date} instances
  * to and from {@code String} using delegating in a instance of
  * {@code InstantConverter}.
+ * <p>
+ * Epoch based values are converted directly through
+ * {@link InstantConverter#parseEpochValue(Object)} when the delegated
+ * converter is an {@code InstantConverter}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-08
+ * @version 1.1, 2026-10
  * @since 0.3
  */
 @API(status=Status.STABLE, since="0.3")
@@ -123,7 +127,7 @@ extends AbstractConverter {
             final Object value)
     throws Throwable {
         if (type.isAssignableFrom(Date.class)) {
-            final Instant instant = this.instantConverter.convert(Instant.class, value);
+            final Instant instant = toInstant(value);
             if (instant == null) {
                 return null;
             } else {
@@ -133,6 +137,28 @@ extends AbstractConverter {
         throw conversionException(type, value);
     }
 
+    /**
+     * Converts the specified value to {@code Instant}. If the
+     * {@code Instant} converter is an {@code InstantConverter} epoch based
+     * values are converted directly, without a full conversion.
+     * 
+     * @param value The value to convert
+     * @return The converted {@code Instant}
+     * @see InstantConverter#parseEpochValue(Object)
+     * @since 0.7
+     */
+    protected Instant toInstant(
+            final Object value) {
+        if (this.instantConverter instanceof InstantConverter) {
+            final Instant epoch = ((InstantConverter) this.instantConverter)
+                    .parseEpochValue(value);
+            if (epoch != null) {
+                return epoch;
+            }
+        }
+        return this.instantConverter.convert(Instant.class, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -31,9 +31,11 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -41,9 +43,17 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code DayOfWeek} instances
  * to and from {@code String} constant name as {@code String}
  * representation.
+ * <p>
+ * Textual and numeric representations of the DayOfWeek constants are resolved
+ * through a precompiled case insensitive lookup table before trying the
+ * temporal value parsers.
+ * <p>
+ * Text parsers are bound to the default locale unless a locale is specified
+ * on construction. Localized parsers are shared between all the converters
+ * with the same locale.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -78,6 +88,13 @@ extends AbstractDateTimeConverter {
             new DateTimeFormatterBuilder()
                 .appendText(ChronoField.DAY_OF_WEEK, TextStyle.NARROW_STANDALONE)
                 .toFormatter();
+    /** The default locale of the text parsers. */
+    private static final Locale DEFAULT_TEXT_LOCALE = BY_FULL_TEXT_PARSER.getLocale();
+
+    /** The locale of the text parsers. */
+    private final @NotNull Locale locale;
+    /** The precompiled text lookup table, for the text parsers locale. */
+    private final @NotNull TemporalTextLookup<DayOfWeek> textLookup;
 
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
@@ -85,6 +102,8 @@ extends AbstractDateTimeConverter {
      */
     public DayOfWeekConverter() {
         super(BY_VALUE_PARSER);
+        this.locale = DEFAULT_TEXT_LOCALE;
+        this.textLookup = TemporalTextLookup.daysOfWeek(this.locale);
         setDefaultParsers();
     }
 
@@ -97,6 +116,8 @@ extends AbstractDateTimeConverter {
     public DayOfWeekConverter(
             final DayOfWeek defaultValue) {
         super(BY_VALUE_PARSER, defaultValue);
+        this.locale = DEFAULT_TEXT_LOCALE;
+        this.textLookup = TemporalTextLookup.daysOfWeek(this.locale);
         setDefaultParsers();
     }
 
@@ -109,6 +130,8 @@ extends AbstractDateTimeConverter {
     public DayOfWeekConverter(
             final @NotNull DateTimeFormatter formatter) {
         super(formatter);
+        this.locale = DEFAULT_TEXT_LOCALE;
+        this.textLookup = TemporalTextLookup.daysOfWeek(this.locale);
         setDefaultParsers();
     }
 
@@ -123,18 +146,70 @@ extends AbstractDateTimeConverter {
             final @NotNull DateTimeFormatter formatter,
             final DayOfWeek defaultValue) {
         super(formatter, defaultValue);
+        this.locale = DEFAULT_TEXT_LOCALE;
+        this.textLookup = TemporalTextLookup.daysOfWeek(this.locale);
+        setDefaultParsers();
+    }
+
+    /**
+     * Creates a new instance that throws a {@code ConversionException} if an
+     * error occurs, using text parsers for the specified locale.
+     * 
+     * @param locale The locale of the text parsers
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public DayOfWeekConverter(
+            final @NotNull Locale locale) {
+        super(BY_VALUE_PARSER);
+        Validate.notNull(locale);
+        this.locale = locale;
+        this.textLookup = TemporalTextLookup.daysOfWeek(locale);
+        setDefaultParsers();
+    }
+
+    /**
+     * Creates a new instance that returns a default value if an error occurs,
+     * using text parsers for the specified locale.
+     * 
+     * @param locale The locale of the text parsers
+     * @param defaultValue The default value to be returned if the value to be
+     * converted is missing or an error occurs converting the value
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public DayOfWeekConverter(
+            final @NotNull Locale locale,
+            final DayOfWeek defaultValue) {
+        super(BY_VALUE_PARSER, defaultValue);
+        Validate.notNull(locale);
+        this.locale = locale;
+        this.textLookup = TemporalTextLookup.daysOfWeek(locale);
         setDefaultParsers();
     }
 
     /**
-     * Sets the default parsers for this converter.
+     * Returns the locale of the text parsers.
+     * 
+     * @return The locale of the text parsers
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public @NotNull Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Sets the default parsers for this converter, with the text parsers
+     * localized for the locale of this converter.
      */
     private final void setDefaultParsers() {
+        final LocalizedParsers localized = LocalizedParsers.forLocale(this.locale);
         setParsers(
                 BY_VALUE_PARSER,
-                BY_FULL_TEXT_PARSER,
-                BY_SHORT_TEXT_PARSER,
-                BY_NARROW_TEXT_PARSER,
+                localized.get(BY_FULL_TEXT_PARSER),
+                localized.get(BY_SHORT_TEXT_PARSER),
+                localized.get(BY_NARROW_TEXT_PARSER),
                 DateTimeFormatter.ISO_INSTANT,
                 DateTimeFormatter.ISO_DATE_TIME,
                 DateTimeFormatter.ISO_DATE,
@@ -161,18 +236,17 @@ extends AbstractDateTimeConverter {
             final Object value) {
         if (type.isAssignableFrom(DayOfWeek.class)) {
             if (value instanceof String) {
-                try {
-                    return type.cast(DayOfWeek.valueOf((String) value));
-                } catch (final IllegalArgumentException iae) {
-                    getLogger().debug("Failed to parse value as constant name", iae);
+                final DayOfWeek result = parseText((String) value);
+                if (result == null) {
                     return super.convertToType(type, value);
+                } else {
+                    return type.cast(result);
                 }
             } else if (value instanceof Number) {
-                try {
-                    return type.cast(DayOfWeek.of(
-                            ((Number) value).intValue()));
-                } catch (final DateTimeException dte) {
-                    getLogger().debug("Failed to parse value as constant value", dte);
+                final int number = ((Number) value).intValue();
+                if (number >= 1 && number <= 7) {
+                    return type.cast(DayOfWeek.of(number));
+                } else {
                     return super.convertToType(type, value);
                 }
             } else {
@@ -183,6 +257,25 @@ extends AbstractDateTimeConverter {
         }
     }
 
+    /**
+     * Parses the specified value as a constant name or as one of the
+     * textual or numeric representations of the precompiled text lookup
+     * table, without using the temporal value parsers.
+     * 
+     * @param value The value to parse
+     * @return The parsed day of week, or {@code null} if the value is not
+     * a constant name nor found in the text lookup table
+     * @since 0.7
+     */
+    protected DayOfWeek parseText(
+            final @NotNull String value) {
+        final DayOfWeek result = EnumConstants.byName(DayOfWeek.class, value);
+        if (result == null) {
+            return this.textLookup.lookup(value);
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
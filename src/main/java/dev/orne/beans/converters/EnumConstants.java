@@ -0,0 +1,117 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Shared cache of enumeration constant tables by constant name.
+ * <p>
+ * Resolves enumeration constants by name without the exceptions thrown by
+ * {@code Enum.valueOf()} on unknown names. Tables are created on first use
+ * for each type and are immutable.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see EnumConverter
+ * @see MonthConverter
+ * @see DayOfWeekConverter
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class EnumConstants {
+
+    /** The load factor of the constant tables. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** The constant tables by type. */
+    private static final ClassValue<Map<String, Object>> TABLES =
+            new ClassValue<Map<String, Object>>() {
+                @Override
+                protected Map<String, Object> computeValue(
+                        final Class<?> type) {
+                    return createTable(type);
+                }
+            };
+
+    /**
+     * Private constructor.
+     */
+    private EnumConstants() {
+        // Utility class
+    }
+
+    /**
+     * Returns the constant of the specified enumeration type with the
+     * specified name.
+     * 
+     * @param <T> The enumeration type
+     * @param type The enumeration type
+     * @param name The name of the constant
+     * @return The constant with the specified name, or {@code null} if
+     * the type is not an enumeration or no constant has the specified name
+     */
+    public static <T> T byName(
+            final @NotNull Class<T> type,
+            final @NotNull String name) {
+        return type.cast(TABLES.get(type).get(name));
+    }
+
+    /**
+     * Creates the constants table of the specified type, if not already
+     * cached.
+     * 
+     * @param type The enumeration type
+     */
+    public static void warmUp(
+            final @NotNull Class<?> type) {
+        TABLES.get(type);
+    }
+
+    /**
+     * Creates a new table of the constants of the specified type by name.
+     * 
+     * @param type The enumeration type
+     * @return The constants by name, empty if the type is not an enumeration
+     */
+    static @NotNull Map<String, Object> createTable(
+            final @NotNull Class<?> type) {
+        final Object[] constants = type.getEnumConstants();
+        if (constants == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> table = new HashMap<>(
+                (int) (constants.length / LOAD_FACTOR) + 1,
+                LOAD_FACTOR);
+        for (final Object constant : constants) {
+            table.put(((Enum<?>) constant).name(), constant);
+        }
+        return Collections.unmodifiableMap(table);
+    }
+}
@@ -32,15 +32,23 @@ import org.apiguardian.api.API.Status;
 /**
  * Extension of {@code ConvertUtilsBean} that falls back to converter registered
  * for {@code Enum} class when converting enumeration types.
+ * <p>
+ * Resolved converters, including the fallback to the {@code Enum} converter
+ * and missing converters, are cached by type. The cache is invalidated each
+ * time a converter is registered or deregistered.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-09
+ * @version 1.1, 2026-10
  * @since 0.4
  */
 @API(status=Status.STABLE, since="0.4")
 public class EnumConvertUtilsBean
 extends ConvertUtilsBean {
 
+    /** The resolved converters cache. */
+    private final ConverterLookupCache lookupCache =
+            new ConverterLookupCache(this::resolveConverter);
+
     /**
      * Creates a new instance.
      */
@@ -54,10 +62,68 @@ extends ConvertUtilsBean {
     @Override
     public Converter lookup(
             final @NotNull Class<?> clazz) {
+        if (this.lookupCache == null) {
+            // Called from super constructor
+            return resolveConverter(clazz);
+        }
+        return this.lookupCache.get(clazz);
+    }
+
+    /**
+     * Resolves the converter for the specified type from the registered
+     * converters, falling back to the converter registered for {@code Enum}
+     * class for enumeration types.
+     * 
+     * @param clazz The target type
+     * @return The resolved converter, or {@code null} if no converter is
+     * registered for the type
+     */
+    protected Converter resolveConverter(
+            final @NotNull Class<?> clazz) {
         Converter converter = super.lookup(clazz);
         if (converter == null && clazz.isEnum()) {
             converter = super.lookup(Enum.class);
         }
         return converter;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void register(
+            final Converter converter,
+            final Class<?> clazz) {
+        super.register(converter, clazz);
+        invalidateLookupCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister() {
+        super.deregister();
+        invalidateLookupCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister(
+            final Class<?> clazz) {
+        super.deregister(clazz);
+        invalidateLookupCache();
+    }
+
+    /**
+     * Removes all the cached converter lookup results.
+     */
+    protected void invalidateLookupCache() {
+        if (this.lookupCache != null) {
+            // Null when called from super constructor
+            this.lookupCache.clear();
+        }
+    }
 }
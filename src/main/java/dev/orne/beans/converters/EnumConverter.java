@@ -38,7 +38,7 @@ import org.apiguardian.api.API.Status;
  * representation.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 2.1, 2022-10
+ * @version 2.2, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -119,16 +119,11 @@ extends AbstractConverter {
             final @NotNull String name) {
         Validate.notNull(type);
         Validate.notNull(name);
-        final T[] constants = type.getEnumConstants();
-        if (constants == null) {
+        final T result = EnumConstants.byName(type, name);
+        if (result == null) {
             throw conversionException(type, name);
         }
-        for (final T constant : constants) {
-            if (((Enum<?>) constant).name().equals(name)) {
-                return constant;
-            }
-        }
-        throw conversionException(type, name);
+        return result;
     }
 
     /**
@@ -22,15 +22,21 @@ package dev.orne.beans.converters;
  * #L%
  */
 
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.beanutils.Converter;
 import org.apache.commons.beanutils.converters.AbstractConverter;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -38,15 +44,40 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code Calendar} instances
  * to and from {@code String} using delegating in a instance of
  * {@code InstantConverter}.
+ * <p>
+ * Epoch milliseconds values, {@code Instant}, {@code Date} and
+ * {@code Calendar} instances are converted directly to UTC calendars
+ * when the delegated converter is a {@code ZonedDateTimeConverter},
+ * without intermediate {@code ZonedDateTime} instances.
+ * <p>
+ * Values can be converted into caller supplied calendars through
+ * {@link #convertInto(Object, GregorianCalendar)}, allowing reuse
+ * of calendar instances in bulk conversions.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-08
+ * @version 1.1, 2026-10
  * @since 0.3
  */
 @API(status=Status.STABLE, since="0.3")
 public class GregorianCalendarConverter
 extends AbstractConverter {
 
+    /** The time zone ID of UTC calendars. */
+    private static final String UTC_ZONE_ID = "UTC";
+    /**
+     * The Gregorian change date of ISO calendars, as set by
+     * {@code GregorianCalendar.from(ZonedDateTime)}.
+     */
+    private static final Date ISO_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+    /** The minimal days in the first week of ISO calendars. */
+    private static final int ISO_MINIMAL_DAYS_IN_FIRST_WEEK = 4;
+    /**
+     * The marker value for values without direct epoch milliseconds
+     * conversion. Values actually representing this instant are converted
+     * through the regular conversion path.
+     */
+    static final long NO_EPOCH_MILLIS = Long.MIN_VALUE;
+
     /** The converter to use when converting {@code ZonedDateTime} instances. */
     private final @NotNull Converter zonedDateTimeConverter;
 
@@ -130,7 +161,14 @@ extends AbstractConverter {
             if (type.isInstance(value)) {
                 return type.cast(value);
             }
-            final ZonedDateTime instant = this.zonedDateTimeConverter.convert(ZonedDateTime.class, value);
+            final long millis = toEpochMillis(value);
+            if (millis != NO_EPOCH_MILLIS) {
+                final GregorianCalendar result = createIsoCalendar(
+                        TimeZone.getTimeZone(UTC_ZONE_ID));
+                result.setTimeInMillis(millis);
+                return type.cast(result);
+            }
+            final ZonedDateTime instant = toZonedDateTime(value);
             if (instant == null) {
                 return null;
             } else {
@@ -140,6 +178,126 @@ extends AbstractConverter {
         throw conversionException(type, value);
     }
 
+    /**
+     * Converts the specified value into the specified calendar, setting its
+     * time zone and time. Other calendar settings, as the first day of week
+     * or the Gregorian change date, are not modified.
+     * <p>
+     * Epoch milliseconds values, {@code Instant}, {@code Date} and
+     * {@code Calendar} instances are converted to UTC. If the time zone
+     * of the target calendar is already UTC the conversion does not create
+     * new instances. Other values are converted through
+     * {@link #convert(Class, Object)}, so default values are applied
+     * as in regular conversions.
+     * 
+     * @param value The value to convert
+     * @param target The calendar to convert the value into
+     * @return The target calendar, or {@code null} if the value is
+     * converted to {@code null}
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public GregorianCalendar convertInto(
+            final Object value,
+            final @NotNull GregorianCalendar target) {
+        Validate.notNull(target);
+        final long millis = toEpochMillis(value);
+        if (millis != NO_EPOCH_MILLIS) {
+            if (!UTC_ZONE_ID.equals(target.getTimeZone().getID())) {
+                target.setTimeZone(TimeZone.getTimeZone(UTC_ZONE_ID));
+            }
+            target.setTimeInMillis(millis);
+            return target;
+        }
+        final Calendar converted = convert(GregorianCalendar.class, value);
+        if (converted == null) {
+            return null;
+        }
+        if (converted != target) {
+            target.setTimeZone((TimeZone) converted.getTimeZone().clone());
+            target.setTimeInMillis(converted.getTimeInMillis());
+        }
+        return target;
+    }
+
+    /**
+     * Returns the epoch milliseconds of the specified value if it can be
+     * converted directly to an UTC calendar. Direct conversions are only
+     * supported if the {@code ZonedDateTime} converter is a
+     * {@code ZonedDateTimeConverter}, for epoch milliseconds values,
+     * {@code Instant}, {@code Date} and non Gregorian {@code Calendar}
+     * instances, and for values composed only of digits while the default
+     * parsers of the {@code ZonedDateTimeConverter} are in effect.
+     * 
+     * @param value The value to convert
+     * @return The epoch milliseconds of the value, or
+     * {@link #NO_EPOCH_MILLIS} if not supported
+     * @since 0.7
+     */
+    protected long toEpochMillis(
+            final Object value) {
+        if (!(this.zonedDateTimeConverter instanceof ZonedDateTimeConverter)) {
+            return NO_EPOCH_MILLIS;
+        }
+        final long result;
+        if (value instanceof Long) {
+            result = (Long) value;
+        } else if (value instanceof Instant) {
+            result = ((Instant) value).toEpochMilli();
+        } else if (value instanceof Date) {
+            result = ((Date) value).getTime();
+        } else if (value instanceof Calendar && !(value instanceof GregorianCalendar)) {
+            result = ((Calendar) value).getTimeInMillis();
+        } else if (value instanceof CharSequence
+                && ((ZonedDateTimeConverter) this.zonedDateTimeConverter).isDefaultParsers()) {
+            final long digits = InstantConverter.parseEpochDigits((CharSequence) value);
+            result = digits < 0 ? NO_EPOCH_MILLIS : digits;
+        } else {
+            result = NO_EPOCH_MILLIS;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new calendar with the specified time zone and the ISO
+     * settings used by {@code GregorianCalendar.from(ZonedDateTime)}:
+     * proleptic Gregorian calendar, weeks starting on Monday and
+     * a minimum of four days in the first week.
+     * 
+     * @param zone The time zone of the calendar
+     * @return The new calendar
+     */
+    private static @NotNull GregorianCalendar createIsoCalendar(
+            final @NotNull TimeZone zone) {
+        final GregorianCalendar result = new GregorianCalendar(zone);
+        result.setGregorianChange(ISO_GREGORIAN_CHANGE);
+        result.setFirstDayOfWeek(Calendar.MONDAY);
+        result.setMinimalDaysInFirstWeek(ISO_MINIMAL_DAYS_IN_FIRST_WEEK);
+        return result;
+    }
+
+    /**
+     * Converts the specified value to {@code ZonedDateTime}. If the
+     * {@code ZonedDateTime} converter is a {@code ZonedDateTimeConverter}
+     * with its default parsers epoch milliseconds values are converted
+     * directly to UTC, without a full conversion.
+     * 
+     * @param value The value to convert
+     * @return The converted {@code ZonedDateTime}
+     * @since 0.7
+     */
+    protected ZonedDateTime toZonedDateTime(
+            final Object value) {
+        if (this.zonedDateTimeConverter instanceof ZonedDateTimeConverter
+                && ((ZonedDateTimeConverter) this.zonedDateTimeConverter).isDefaultParsers()) {
+            final Instant epoch = InstantConverter.parseEpoch(value, ChronoUnit.MILLIS);
+            if (epoch != null) {
+                return epoch.atZone(ZoneOffset.UTC);
+            }
+        }
+        return this.zonedDateTimeConverter.convert(ZonedDateTime.class, value);
+    }
+
     /**
      * {@inheritDoc}
      */
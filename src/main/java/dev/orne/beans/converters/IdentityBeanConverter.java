@@ -27,7 +27,6 @@ import javax.validation.constraints.NotNull;
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.Converter;
 import org.apache.commons.beanutils.converters.AbstractConverter;
-import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -242,6 +241,9 @@ extends AbstractConverter {
 
     /**
      * Tries to create a new instance of the target type.
+     * <p>
+     * Uses a shared per type cache of instance factories based on the public
+     * no arguments constructor of the target type.
      * 
      * @param <T> The type of bean to create
      * @param type The type of bean to create
@@ -254,14 +256,14 @@ extends AbstractConverter {
             final @NotNull Class<T> type,
             final Object value) {
         try {
-            return ConstructorUtils.invokeConstructor(type);
-        } catch (final ReflectiveOperationException e) {
+            return ConstructorFactories.get(type).get();
+        } catch (final ConstructorFactories.InstantiationFailedException e) {
             throw new ConversionException(
                     String.format(
                         NEW_INSTANCE_ERROR,
                         value,
                         type),
-                    e);
+                    e.getCause());
         }
     }
 
@@ -29,39 +29,90 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.beans.Identity;
+import dev.orne.beans.IdentityResolver;
 import dev.orne.beans.TokenIdentity;
 
 /**
  * Implementation of {@code Converter} that converts {@code Identity} instances
  * to and from {@code String} using the identity token as {@code String}
- * representation. When converting from {@code String} instances of
- * {@code TokenIdentity} are produced.
+ * representation. When converting from {@code String} to {@code Identity}
+ * instances of {@code TokenIdentity} are produced.
+ * <p>
+ * When converting to concrete {@code Identity} types the identity token is
+ * resolved directly to the target type through the linked resolution
+ * functions provided by {@code IdentityResolver}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
+ * @see IdentityResolver#getLinkedResolver(Class)
  */
 @API(status=Status.STABLE, since="0.1")
 public class IdentityConverter
 extends AbstractConverter {
 
+    /** The identity resolver for concrete identity types. */
+    private final @NotNull IdentityResolver resolver;
+
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
      * error occurs.
      */
     public IdentityConverter() {
         super();
+        this.resolver = IdentityResolver.getInstance();
+    }
+
+    /**
+     * Creates a new instance that returns a default value if an error occurs.
+     * 
+     * @param defaultValue The default value to be returned if the value to be
+     * converted is missing or an error occurs converting the value
+     */
+    public IdentityConverter(
+            final Identity defaultValue) {
+        super(defaultValue);
+        this.resolver = IdentityResolver.getInstance();
+    }
+
+    /**
+     * Creates a new instance that throws a {@code ConversionException} if an
+     * error occurs.
+     * 
+     * @param resolver The identity resolver for concrete identity types
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public IdentityConverter(
+            final @NotNull IdentityResolver resolver) {
+        super();
+        this.resolver = resolver;
     }
 
     /**
      * Creates a new instance that returns a default value if an error occurs.
      * 
+     * @param resolver The identity resolver for concrete identity types
      * @param defaultValue The default value to be returned if the value to be
      * converted is missing or an error occurs converting the value
+     * @since 0.7
      */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
     public IdentityConverter(
+            final @NotNull IdentityResolver resolver,
             final Identity defaultValue) {
         super(defaultValue);
+        this.resolver = resolver;
+    }
+
+    /**
+     * Returns the identity resolver for concrete identity types.
+     * 
+     * @return The identity resolver for concrete identity types
+     * @since 0.7
+     */
+    protected @NotNull IdentityResolver getResolver() {
+        return this.resolver;
     }
 
     /**
@@ -79,17 +130,47 @@ extends AbstractConverter {
     protected <T> T convertToType(
             final @NotNull Class<T> type,
             final Object value) {
-        if (type.isAssignableFrom(TokenIdentity.class)) {
-            if (type.isInstance(value)) {
-                return type.cast(value);
-            } else {
-                return type.cast(TokenIdentity.fromToken(value.toString()));
-            }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        } else if (type.isAssignableFrom(TokenIdentity.class)) {
+            return type.cast(TokenIdentity.fromToken(value.toString()));
+        } else if (Identity.class.isAssignableFrom(type)) {
+            return type.cast(resolveIdentity(
+                    type.asSubclass(Identity.class),
+                    value));
         } else {
             throw conversionException(type, value);
         }
     }
 
+    /**
+     * Resolves the specified value to an identity of the specified
+     * concrete identity type.
+     * 
+     * @param <T> The target identity type
+     * @param type The target identity type
+     * @param value The input value to be converted
+     * @return The resolved identity, or {@code null} for empty identity
+     * tokens
+     * @throws dev.orne.beans.UnrecognizedIdentityTokenException If the
+     * identity token cannot be resolved to the target identity type
+     * @since 0.7
+     */
+    protected <T extends Identity> T resolveIdentity(
+            final @NotNull Class<T> type,
+            final @NotNull Object value) {
+        final String token;
+        if (value instanceof Identity) {
+            token = ((Identity) value).getIdentityToken();
+        } else {
+            token = value.toString();
+        }
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        return this.resolver.getLinkedResolver(type).apply(token);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -30,10 +30,12 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -41,9 +43,15 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code Instant} instances
  * to and from {@code String} using the ISO-8601 as {@code String}
  * representation.
+ * <p>
+ * While the default parsers are in effect, values composed only of at least
+ * four digits are converted directly as epoch based values in the
+ * configured epoch unit (milliseconds by default) without trying the
+ * temporal value parsers. {@code Long} values are always converted as
+ * epoch based values in the configured epoch unit.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -58,6 +66,19 @@ extends AbstractDateTimeConverter {
                 .appendValue(ChronoField.INSTANT_SECONDS, 1, 19, SignStyle.NEVER)
                 .appendValue(ChronoField.MILLI_OF_SECOND, 3)
                 .toFormatter();
+    /**
+     * The minimum number of digits of epoch values parsed directly,
+     * as required by {@link #EPOCH_MILLIS_PARSER}.
+     */
+    private static final int MIN_EPOCH_DIGITS = 4;
+    /** The maximum number of digits of epoch values parsed directly. */
+    private static final int MAX_EPOCH_DIGITS = 18;
+    /** Error message for unsupported epoch units. */
+    private static final String ERR_EPOCH_UNIT =
+            "Epoch unit must be SECONDS, MILLIS or MICROS";
+
+    /** The unit of epoch based values, {@code null} to disable. */
+    private ChronoUnit epochUnit = ChronoUnit.MILLIS;
 
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
@@ -113,6 +134,154 @@ extends AbstractDateTimeConverter {
                 DateTimeFormatter.ISO_INSTANT,
                 DateTimeFormatter.ISO_DATE_TIME,
                 EPOCH_MILLIS_PARSER);
+        markDefaultParsers();
+    }
+
+    /**
+     * Returns the unit of the epoch based values converted directly.
+     * 
+     * @return The unit of the epoch based values, or {@code null} if
+     * epoch based values are not converted directly
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public ChronoUnit getEpochUnit() {
+        return this.epochUnit;
+    }
+
+    /**
+     * Sets the unit of the epoch based values converted directly.
+     * Supported units are {@code SECONDS}, {@code MILLIS} and
+     * {@code MICROS}.
+     * <p>
+     * If {@code null} values composed only of digits are parsed with
+     * the configured temporal value parsers and {@code Long} values
+     * are converted as epoch milliseconds.
+     * 
+     * @param unit The unit of the epoch based values, or {@code null} to
+     * disable direct conversion of epoch based values
+     * @throws IllegalArgumentException If the unit is not supported
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public void setEpochUnit(
+            final ChronoUnit unit) {
+        Validate.isTrue(
+                unit == null || unit == ChronoUnit.SECONDS
+                    || unit == ChronoUnit.MILLIS || unit == ChronoUnit.MICROS,
+                ERR_EPOCH_UNIT);
+        this.epochUnit = unit;
+    }
+
+    /**
+     * Converts the specified value to {@code Instant} if it is an epoch
+     * based value in the configured epoch unit: a {@code Long} or a
+     * {@code CharSequence} composed only of digits. {@code CharSequence}
+     * values are only converted while the default parsers are in effect.
+     * 
+     * @param value The value to convert
+     * @return The converted {@code Instant}, or {@code null} if the
+     * value is not an epoch based value or direct conversion is disabled
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public Instant parseEpochValue(
+            final Object value) {
+        if (this.epochUnit == null
+                || (value instanceof CharSequence && !isDefaultParsers())) {
+            return null;
+        }
+        return parseEpoch(value, this.epochUnit);
+    }
+
+    /**
+     * Converts the specified value to {@code Instant} if it is an epoch
+     * based value in the specified epoch unit: a {@code Long} or a
+     * {@code CharSequence} composed only of digits.
+     * 
+     * @param value The value to convert
+     * @param unit The unit of the epoch based value
+     * @return The converted {@code Instant}, or {@code null} if the
+     * value is not an epoch based value
+     * @since 0.7
+     */
+    static Instant parseEpoch(
+            final Object value,
+            final @NotNull ChronoUnit unit) {
+        if (value instanceof Long) {
+            return ofEpoch((Long) value, unit);
+        } else if (value instanceof CharSequence) {
+            final long result = parseEpochDigits((CharSequence) value);
+            return result < 0 ? null : ofEpoch(result, unit);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the specified epoch based value composed only of digits.
+     * 
+     * @param chars The epoch based value
+     * @return The parsed value, or {@code -1} if the value contains non
+     * digit characters or has less than {@link #MIN_EPOCH_DIGITS} or more
+     * than {@link #MAX_EPOCH_DIGITS} digits
+     * @since 0.7
+     */
+    static long parseEpochDigits(
+            final @NotNull CharSequence chars) {
+        final int length = chars.length();
+        if (length < MIN_EPOCH_DIGITS || length > MAX_EPOCH_DIGITS) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code Instant} for the specified epoch based value.
+     * 
+     * @param value The epoch based value
+     * @param unit The unit of the epoch based value
+     * @return The {@code Instant}
+     * @throws DateTimeException If the value exceeds the supported range
+     */
+    private static @NotNull Instant ofEpoch(
+            final long value,
+            final @NotNull ChronoUnit unit) {
+        switch (unit) {
+            case SECONDS:
+                return Instant.ofEpochSecond(value);
+            case MICROS:
+                return Instant.ofEpochSecond(
+                        Math.floorDiv(value, 1_000_000L),
+                        Math.floorMod(value, 1_000_000L) * 1_000L);
+            case MILLIS:
+            default:
+                return Instant.ofEpochMilli(value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected <T> T convertToType(
+            final @NotNull Class<T> type,
+            final Object value) {
+        if (type.isAssignableFrom(Instant.class)) {
+            final Instant epoch = parseEpochValue(value);
+            if (epoch != null) {
+                return type.cast(epoch);
+            }
+        }
+        return super.convertToType(type, value);
     }
 
     /**
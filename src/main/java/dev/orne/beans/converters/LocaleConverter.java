@@ -23,6 +23,7 @@ package dev.orne.beans.converters;
  */
 
 import java.util.Locale;
+import java.util.Optional;
 
 import javax.validation.constraints.NotNull;
 
@@ -34,15 +35,31 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code Locale} instances
  * to and from {@code String} using the language tag as {@code String}
  * representation.
+ * <p>
+ * Parsed language tags, including invalid ones, and formatted locales are
+ * cached in bounded caches, as usually a small set of locales is converted
+ * many times. Cache statistics are available through
+ * {@link #getParseCacheStatistics()} and
+ * {@link #getFormatCacheStatistics()}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 public class LocaleConverter
 extends AbstractConverter {
 
+    /** The default maximum number of cached entries of each cache. */
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    /** The parsed locales by language tag. Empty for invalid tags. */
+    private final ConversionCache<String, Optional<Locale>> parseCache =
+            new ConversionCache<>(DEFAULT_CACHE_CAPACITY);
+    /** The language tags by locale. */
+    private final ConversionCache<Locale, String> formatCache =
+            new ConversionCache<>(DEFAULT_CACHE_CAPACITY);
+
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
      * error occurs.
@@ -78,17 +95,33 @@ extends AbstractConverter {
             final Object value)
     throws Throwable {
         if (type.isAssignableFrom(Locale.class)) {
-            final Locale result = Locale.forLanguageTag(value.toString());
-            if (result.getLanguage().isEmpty()) {
-                // When parsing fails returns an empty locale (WTF!?)
-                throw conversionException(type, value);
-            } else {
-                return type.cast(result);
+            final Optional<Locale> result = this.parseCache.get(
+                    value.toString(),
+                    LocaleConverter::parseLanguageTag);
+            if (result.isPresent()) {
+                return type.cast(result.get());
             }
         }
         throw conversionException(type, value);
     }
 
+    /**
+     * Parses the specified language tag.
+     * 
+     * @param tag The language tag
+     * @return The parsed locale, or empty if the language tag is not valid
+     */
+    static @NotNull Optional<Locale> parseLanguageTag(
+            final @NotNull String tag) {
+        final Locale result = Locale.forLanguageTag(tag);
+        if (result.getLanguage().isEmpty()) {
+            // When parsing fails returns an empty locale (WTF!?)
+            return Optional.empty();
+        } else {
+            return Optional.of(result);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -97,11 +130,44 @@ extends AbstractConverter {
             final Object value)
     throws Throwable {
         if (value instanceof Locale) {
-            return ((Locale) value).toLanguageTag();
+            return this.formatCache.get((Locale) value, Locale::toLanguageTag);
         } else if (value instanceof String) {
             return value.toString();
         } else {
             throw conversionException(String.class, value);
         }
     }
+
+    /**
+     * Returns the statistics of the language tag parsing cache.
+     * 
+     * @return The parsing cache statistics
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public @NotNull CacheStatistics getParseCacheStatistics() {
+        return this.parseCache.getStatistics();
+    }
+
+    /**
+     * Returns the statistics of the locale formatting cache.
+     * 
+     * @return The formatting cache statistics
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public @NotNull CacheStatistics getFormatCacheStatistics() {
+        return this.formatCache.getStatistics();
+    }
+
+    /**
+     * Removes all the cached entries and resets the cache statistics.
+     * 
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public void clearCaches() {
+        this.parseCache.clear();
+        this.formatCache.clear();
+    }
 }
@@ -0,0 +1,115 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Shared per locale cache of localized text parsers.
+ * <p>
+ * Text parsers, as {@code MonthConverter.BY_FULL_TEXT_PARSER}, are bound
+ * to the default locale when loaded. Instances of this class provide the
+ * equivalent parsers for a given locale, created once and shared between
+ * all the converters configured for the locale.
+ * <p>
+ * Instances are retrieved through {@link #forLocale(Locale)}, backed by a
+ * bounded cache.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see MonthConverter
+ * @see DayOfWeekConverter
+ * @see YearMonthConverter
+ * @see MonthDayConverter
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class LocalizedParsers {
+
+    /** The maximum number of locales with cached parsers. */
+    static final int CACHE_CAPACITY = 64;
+    /** The shared localized parsers by locale. */
+    private static final ConversionCache<Locale, LocalizedParsers> CACHE =
+            new ConversionCache<>(CACHE_CAPACITY);
+
+    /** The locale of the parsers. */
+    private final @NotNull Locale locale;
+    /** The localized parsers by base parser. */
+    private final @NotNull ConcurrentMap<DateTimeFormatter, DateTimeFormatter> parsers =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param locale The locale of the parsers
+     */
+    private LocalizedParsers(
+            final @NotNull Locale locale) {
+        super();
+        this.locale = locale;
+    }
+
+    /**
+     * Returns the shared localized parsers for the specified locale.
+     * 
+     * @param locale The locale
+     * @return The shared localized parsers
+     */
+    public static @NotNull LocalizedParsers forLocale(
+            final @NotNull Locale locale) {
+        return CACHE.get(locale, LocalizedParsers::new);
+    }
+
+    /**
+     * Returns the locale of the parsers.
+     * 
+     * @return The locale of the parsers
+     */
+    public @NotNull Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Returns the equivalent of the specified parser for the locale of
+     * this instance. If the parser is already configured for the locale
+     * it is returned as is.
+     * 
+     * @param parser The base parser
+     * @return The localized parser
+     */
+    public @NotNull DateTimeFormatter get(
+            final @NotNull DateTimeFormatter parser) {
+        if (this.locale.equals(parser.getLocale())) {
+            return parser;
+        }
+        return this.parsers.computeIfAbsent(parser, key -> key.withLocale(this.locale));
+    }
+}
@@ -49,10 +49,17 @@ import javax.validation.constraints.NotNull;
 import org.apache.commons.beanutils.ConvertUtils;
 import org.apache.commons.beanutils.ConvertUtilsBean;
 import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.beans.BigIntegerIdentity;
 import dev.orne.beans.Identity;
+import dev.orne.beans.IdentityBean;
+import dev.orne.beans.LongIdentity;
+import dev.orne.beans.StringIdentity;
+import dev.orne.beans.TokenIdentity;
+import dev.orne.beans.UUIDIdentity;
 
 /**
  * <p>Utility class for registration of default implementations
@@ -64,7 +71,8 @@ import dev.orne.beans.Identity;
  *   <dt>Beans converters</dt>
  *   <dd>
  *      <ul>
- *       <li>{@link IdentityConverter}</li>
+ *       <li>{@link IdentityConverter}, for {@code Identity} and the
+ *       default identity types</li>
  *      </ul>
  *   </dd>
  *   <dt>Net converters</dt>
@@ -103,13 +111,27 @@ import dev.orne.beans.Identity;
  *   </dd>
  * </dl>
  * 
+ * <p>Immutable snapshots of new instances of the converters can be created
+ * with {@link #getRegistry(boolean)} and applied to any number of
+ * {@code ConvertUtilsBean} instances.</p>
+ * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 public final class OrneBeansConverters {
 
+    /** The identity types converted by {@code IdentityConverter}. */
+    private static final Class<?>[] IDENTITY_TYPES = {
+        Identity.class,
+        TokenIdentity.class,
+        StringIdentity.class,
+        LongIdentity.class,
+        BigIntegerIdentity.class,
+        UUIDIdentity.class
+    };
+
     /**
      * Utility class.
      */
@@ -177,6 +199,67 @@ public final class OrneBeansConverters {
         registerTimeConversors(converter, defaultToNull);
     }
 
+    /**
+     * Creates a new immutable registry of all the Orne custom converters.
+     * <p>
+     * Each call creates new converter instances, so configuring the
+     * converters of a registry doesn't affect other registries.
+     * The returned registry can be shared between any number of
+     * {@code ConvertUtilsBean} instances.
+     *
+     * @return The new converters registry
+     * @see ConverterRegistry#applyTo(ConvertUtilsBean)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull ConverterRegistry getRegistry() {
+        return getRegistry(false);
+    }
+
+    /**
+     * Creates a new immutable registry of all the Orne custom converters.
+     * <p>
+     * Each call creates new converter instances, so configuring the
+     * converters of a registry doesn't affect other registries.
+     * The returned registry can be shared between any number of
+     * {@code ConvertUtilsBean} instances.
+     *
+     * @param defaultToNull If {@code null} must be returned on missing
+     * ({@code null}) values and on conversion exceptions
+     * @return The new converters registry
+     * @see ConverterRegistry#applyTo(ConvertUtilsBean)
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static @NotNull ConverterRegistry getRegistry(
+            final boolean defaultToNull) {
+        final ConverterRegistry.Builder builder = ConverterRegistry.builder();
+        registerBeans(builder::register, defaultToNull, true);
+        registerNet(builder::register, defaultToNull);
+        registerUtil(builder::register, defaultToNull);
+        registerTime(builder::register, defaultToNull);
+        return builder.build();
+    }
+
+    /**
+     * Pre-populates the converters caches for the specified type: the
+     * constant tables of enumeration types and the instance factories
+     * of {@code IdentityBean} types.
+     *
+     * @param type The type
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static void warmUp(
+            final @NotNull Class<?> type) {
+        Validate.notNull(type);
+        if (type.isEnum()) {
+            EnumConstants.warmUp(type);
+        } else if (IdentityBean.class.isAssignableFrom(type)) {
+            ConstructorFactories.get(type);
+        }
+    }
+
     /**
      * Registers all the Orne custom converters for {@code dev.orne.beans} in
      * {@code ConvertUtils}.
@@ -197,11 +280,7 @@ public final class OrneBeansConverters {
      */
     public static void registerBeansConversors(
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            ConvertUtils.register(new IdentityConverter((Identity) null), Identity.class);
-        } else {
-            ConvertUtils.register(new IdentityConverter(), Identity.class);
-        }
+        registerBeans(OrneBeansConverters::registerInConvertUtils, defaultToNull, false);
     }
 
     /**
@@ -228,13 +307,8 @@ public final class OrneBeansConverters {
     public static void registerBeansConversors(
             final @NotNull ConvertUtilsBean converter,
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            converter.register(new IdentityConverter((Identity) null), Identity.class);
-            converter.register(EnumConverter.GENERIC_DEFAULT, Enum.class);
-        } else {
-            converter.register(new IdentityConverter(), Identity.class);
-            converter.register(EnumConverter.GENERIC, Enum.class);
-        }
+        Validate.notNull(converter);
+        registerBeans(registrarOf(converter), defaultToNull, true);
     }
 
     /**
@@ -257,11 +331,7 @@ public final class OrneBeansConverters {
      */
     public static void registerNetConversors(
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            ConvertUtils.register(new UriConverter((URI) null), URI.class);
-        } else {
-            ConvertUtils.register(new UriConverter(), URI.class);
-        }
+        registerNet(OrneBeansConverters::registerInConvertUtils, defaultToNull);
     }
 
     /**
@@ -288,11 +358,8 @@ public final class OrneBeansConverters {
     public static void registerNetConversors(
             final @NotNull ConvertUtilsBean converter,
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            converter.register(new UriConverter((URI) null), URI.class);
-        } else {
-            converter.register(new UriConverter(), URI.class);
-        }
+        Validate.notNull(converter);
+        registerNet(registrarOf(converter), defaultToNull);
     }
 
     /**
@@ -315,17 +382,7 @@ public final class OrneBeansConverters {
      */
     public static void registerUtilConversors(
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            ConvertUtils.register(new GregorianCalendarConverter((GregorianCalendar) null), GregorianCalendar.class);
-            ConvertUtils.register(new GregorianCalendarConverter((GregorianCalendar) null), Calendar.class);
-            ConvertUtils.register(new DateConverter((Date) null), Date.class);
-            ConvertUtils.register(new LocaleConverter((Locale) null), Locale.class);
-        } else {
-            ConvertUtils.register(new GregorianCalendarConverter(), GregorianCalendar.class);
-            ConvertUtils.register(new GregorianCalendarConverter(), Calendar.class);
-            ConvertUtils.register(new DateConverter(), Date.class);
-            ConvertUtils.register(new LocaleConverter(), Locale.class);
-        }
+        registerUtil(OrneBeansConverters::registerInConvertUtils, defaultToNull);
     }
 
     /**
@@ -352,17 +409,8 @@ public final class OrneBeansConverters {
     public static void registerUtilConversors(
             final @NotNull ConvertUtilsBean converter,
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            converter.register(new GregorianCalendarConverter((GregorianCalendar) null), GregorianCalendar.class);
-            converter.register(new GregorianCalendarConverter((GregorianCalendar) null), Calendar.class);
-            converter.register(new DateConverter((Date) null), Date.class);
-            converter.register(new LocaleConverter((Locale) null), Locale.class);
-        } else {
-            converter.register(new GregorianCalendarConverter(), GregorianCalendar.class);
-            converter.register(new GregorianCalendarConverter(), Calendar.class);
-            converter.register(new DateConverter(), Date.class);
-            converter.register(new LocaleConverter(), Locale.class);
-        }
+        Validate.notNull(converter);
+        registerUtil(registrarOf(converter), defaultToNull);
     }
 
     /**
@@ -385,41 +433,7 @@ public final class OrneBeansConverters {
      */
     public static void registerTimeConversors(
             final boolean defaultToNull) {
-        if (defaultToNull) {
-            ConvertUtils.register(new InstantConverter((Instant) null), Instant.class);
-            ConvertUtils.register(new YearConverter((Year) null), Year.class);
-            ConvertUtils.register(new YearMonthConverter((YearMonth) null), YearMonth.class);
-            ConvertUtils.register(new MonthConverter((Month) null), Month.class);
-            ConvertUtils.register(new MonthDayConverter((MonthDay) null), MonthDay.class);
-            ConvertUtils.register(new DayOfWeekConverter((DayOfWeek) null), DayOfWeek.class);
-            ConvertUtils.register(new LocalDateConverter((LocalDate) null), LocalDate.class);
-            ConvertUtils.register(new LocalTimeConverter((LocalTime) null), LocalTime.class);
-            ConvertUtils.register(new LocalDateTimeConverter((LocalDateTime) null), LocalDateTime.class);
-            ConvertUtils.register(new OffsetTimeConverter((OffsetTime) null), OffsetTime.class);
-            ConvertUtils.register(new OffsetDateTimeConverter((OffsetDateTime) null), OffsetDateTime.class);
-            ConvertUtils.register(new ZonedDateTimeConverter((ZonedDateTime) null), ZonedDateTime.class);
-            ConvertUtils.register(new ZoneOffsetConverter((ZoneOffset) null), ZoneId.class);
-            ConvertUtils.register(new ZoneOffsetConverter((ZoneOffset) null), ZoneOffset.class);
-            ConvertUtils.register(new DurationConverter((Duration) null), Duration.class);
-            ConvertUtils.register(new PeriodConverter((Period) null), Period.class);
-        } else {
-            ConvertUtils.register(new InstantConverter(), Instant.class);
-            ConvertUtils.register(new YearConverter(), Year.class);
-            ConvertUtils.register(new YearMonthConverter(), YearMonth.class);
-            ConvertUtils.register(new MonthConverter(), Month.class);
-            ConvertUtils.register(new MonthDayConverter(), MonthDay.class);
-            ConvertUtils.register(new DayOfWeekConverter(), DayOfWeek.class);
-            ConvertUtils.register(new LocalDateConverter(), LocalDate.class);
-            ConvertUtils.register(new LocalTimeConverter(), LocalTime.class);
-            ConvertUtils.register(new LocalDateTimeConverter(), LocalDateTime.class);
-            ConvertUtils.register(new OffsetTimeConverter(), OffsetTime.class);
-            ConvertUtils.register(new OffsetDateTimeConverter(), OffsetDateTime.class);
-            ConvertUtils.register(new ZonedDateTimeConverter(), ZonedDateTime.class);
-            ConvertUtils.register(new ZoneOffsetConverter(), ZoneId.class);
-            ConvertUtils.register(new ZoneOffsetConverter(), ZoneOffset.class);
-            ConvertUtils.register(new DurationConverter(), Duration.class);
-            ConvertUtils.register(new PeriodConverter(), Period.class);
-        }
+        registerTime(OrneBeansConverters::registerInConvertUtils, defaultToNull);
     }
 
     /**
@@ -446,40 +460,180 @@ public final class OrneBeansConverters {
     public static void registerTimeConversors(
             final @NotNull ConvertUtilsBean converter,
             final boolean defaultToNull) {
+        Validate.notNull(converter);
+        registerTime(registrarOf(converter), defaultToNull);
+    }
+
+    /**
+     * Registers the specified converter for the specified types in
+     * {@code ConvertUtils}.
+     *
+     * @param converter The converter to register
+     * @param types The target types
+     * @see ConvertUtils#register(Converter, Class)
+     * @since 0.7
+     */
+    private static void registerInConvertUtils(
+            final @NotNull Converter converter,
+            final @NotNull Class<?>... types) {
+        for (final Class<?> type : types) {
+            ConvertUtils.register(converter, type);
+        }
+    }
+
+    /**
+     * Returns a registration target that registers the converters in the
+     * specified {@code ConvertUtilsBean}.
+     *
+     * @param bean The {@code ConvertUtilsBean} to register the converters in
+     * @return The registration target
+     * @see ConvertUtilsBean#register(Converter, Class)
+     * @since 0.7
+     */
+    private static @NotNull Registrar registrarOf(
+            final @NotNull ConvertUtilsBean bean) {
+        return (converter, types) -> {
+            for (final Class<?> type : types) {
+                bean.register(converter, type);
+            }
+        };
+    }
+
+    /**
+     * Registers new instances of the Orne custom converters for
+     * {@code dev.orne.beans} in the specified target.
+     *
+     * @param target The registration target
+     * @param defaultToNull If {@code null} must be returned on missing
+     * ({@code null}) values and on conversion exceptions
+     * @param enums If the generic {@code Enum} converter must be registered.
+     * Not registered in {@code ConvertUtils}, as in previous versions
+     * @since 0.7
+     */
+    private static void registerBeans(
+            final @NotNull Registrar target,
+            final boolean defaultToNull,
+            final boolean enums) {
+        if (defaultToNull) {
+            if (enums) {
+                target.register(EnumConverter.GENERIC_DEFAULT, Enum.class);
+            }
+            target.register(new IdentityConverter((Identity) null), IDENTITY_TYPES);
+        } else {
+            if (enums) {
+                target.register(EnumConverter.GENERIC, Enum.class);
+            }
+            target.register(new IdentityConverter(), IDENTITY_TYPES);
+        }
+    }
+
+    /**
+     * Registers new instances of the Orne custom converters for
+     * {@code java.net} in the specified target.
+     *
+     * @param target The registration target
+     * @param defaultToNull If {@code null} must be returned on missing
+     * ({@code null}) values and on conversion exceptions
+     * @since 0.7
+     */
+    private static void registerNet(
+            final @NotNull Registrar target,
+            final boolean defaultToNull) {
         if (defaultToNull) {
-            converter.register(new InstantConverter((Instant) null), Instant.class);
-            converter.register(new YearConverter((Year) null), Year.class);
-            converter.register(new YearMonthConverter((YearMonth) null), YearMonth.class);
-            converter.register(new MonthConverter((Month) null), Month.class);
-            converter.register(new MonthDayConverter((MonthDay) null), MonthDay.class);
-            converter.register(new DayOfWeekConverter((DayOfWeek) null), DayOfWeek.class);
-            converter.register(new LocalDateConverter((LocalDate) null), LocalDate.class);
-            converter.register(new LocalTimeConverter((LocalTime) null), LocalTime.class);
-            converter.register(new LocalDateTimeConverter((LocalDateTime) null), LocalDateTime.class);
-            converter.register(new OffsetTimeConverter((OffsetTime) null), OffsetTime.class);
-            converter.register(new OffsetDateTimeConverter((OffsetDateTime) null), OffsetDateTime.class);
-            converter.register(new ZonedDateTimeConverter((ZonedDateTime) null), ZonedDateTime.class);
-            converter.register(new ZoneOffsetConverter((ZoneOffset) null), ZoneId.class);
-            converter.register(new ZoneOffsetConverter((ZoneOffset) null), ZoneOffset.class);
-            converter.register(new DurationConverter((Duration) null), Duration.class);
-            converter.register(new PeriodConverter((Period) null), Period.class);
+            target.register(new UriConverter((URI) null), URI.class);
         } else {
-            converter.register(new InstantConverter(), Instant.class);
-            converter.register(new YearConverter(), Year.class);
-            converter.register(new YearMonthConverter(), YearMonth.class);
-            converter.register(new MonthConverter(), Month.class);
-            converter.register(new MonthDayConverter(), MonthDay.class);
-            converter.register(new DayOfWeekConverter(), DayOfWeek.class);
-            converter.register(new LocalDateConverter(), LocalDate.class);
-            converter.register(new LocalTimeConverter(), LocalTime.class);
-            converter.register(new LocalDateTimeConverter(), LocalDateTime.class);
-            converter.register(new OffsetTimeConverter(), OffsetTime.class);
-            converter.register(new OffsetDateTimeConverter(), OffsetDateTime.class);
-            converter.register(new ZonedDateTimeConverter(), ZonedDateTime.class);
-            converter.register(new ZoneOffsetConverter(), ZoneId.class);
-            converter.register(new ZoneOffsetConverter(), ZoneOffset.class);
-            converter.register(new DurationConverter(), Duration.class);
-            converter.register(new PeriodConverter(), Period.class);
+            target.register(new UriConverter(), URI.class);
         }
     }
+
+    /**
+     * Registers new instances of the Orne custom converters for
+     * {@code java.util} in the specified target.
+     *
+     * @param target The registration target
+     * @param defaultToNull If {@code null} must be returned on missing
+     * ({@code null}) values and on conversion exceptions
+     * @since 0.7
+     */
+    private static void registerUtil(
+            final @NotNull Registrar target,
+            final boolean defaultToNull) {
+        if (defaultToNull) {
+            target.register(new GregorianCalendarConverter((GregorianCalendar) null),
+                    GregorianCalendar.class, Calendar.class);
+            target.register(new DateConverter((Date) null), Date.class);
+            target.register(new LocaleConverter((Locale) null), Locale.class);
+        } else {
+            target.register(new GregorianCalendarConverter(),
+                    GregorianCalendar.class, Calendar.class);
+            target.register(new DateConverter(), Date.class);
+            target.register(new LocaleConverter(), Locale.class);
+        }
+    }
+
+    /**
+     * Registers new instances of the Orne custom converters for
+     * {@code java.time} in the specified target.
+     *
+     * @param target The registration target
+     * @param defaultToNull If {@code null} must be returned on missing
+     * ({@code null}) values and on conversion exceptions
+     * @since 0.7
+     */
+    private static void registerTime(
+            final @NotNull Registrar target,
+            final boolean defaultToNull) {
+        if (defaultToNull) {
+            target.register(new InstantConverter((Instant) null), Instant.class);
+            target.register(new YearConverter((Year) null), Year.class);
+            target.register(new YearMonthConverter((YearMonth) null), YearMonth.class);
+            target.register(new MonthConverter((Month) null), Month.class);
+            target.register(new MonthDayConverter((MonthDay) null), MonthDay.class);
+            target.register(new DayOfWeekConverter((DayOfWeek) null), DayOfWeek.class);
+            target.register(new LocalDateConverter((LocalDate) null), LocalDate.class);
+            target.register(new LocalTimeConverter((LocalTime) null), LocalTime.class);
+            target.register(new LocalDateTimeConverter((LocalDateTime) null), LocalDateTime.class);
+            target.register(new OffsetTimeConverter((OffsetTime) null), OffsetTime.class);
+            target.register(new OffsetDateTimeConverter((OffsetDateTime) null), OffsetDateTime.class);
+            target.register(new ZonedDateTimeConverter((ZonedDateTime) null), ZonedDateTime.class);
+            target.register(new ZoneOffsetConverter((ZoneOffset) null), ZoneId.class, ZoneOffset.class);
+            target.register(new DurationConverter((Duration) null), Duration.class);
+            target.register(new PeriodConverter((Period) null), Period.class);
+        } else {
+            target.register(new InstantConverter(), Instant.class);
+            target.register(new YearConverter(), Year.class);
+            target.register(new YearMonthConverter(), YearMonth.class);
+            target.register(new MonthConverter(), Month.class);
+            target.register(new MonthDayConverter(), MonthDay.class);
+            target.register(new DayOfWeekConverter(), DayOfWeek.class);
+            target.register(new LocalDateConverter(), LocalDate.class);
+            target.register(new LocalTimeConverter(), LocalTime.class);
+            target.register(new LocalDateTimeConverter(), LocalDateTime.class);
+            target.register(new OffsetTimeConverter(), OffsetTime.class);
+            target.register(new OffsetDateTimeConverter(), OffsetDateTime.class);
+            target.register(new ZonedDateTimeConverter(), ZonedDateTime.class);
+            target.register(new ZoneOffsetConverter(), ZoneId.class, ZoneOffset.class);
+            target.register(new DurationConverter(), Duration.class);
+            target.register(new PeriodConverter(), Period.class);
+        }
+    }
+
+    /**
+     * Target of converter registrations.
+     *
+     * @since 0.7
+     */
+    @FunctionalInterface
+    private interface Registrar {
+
+        /**
+         * Registers the specified converter for the specified types.
+         *
+         * @param converter The converter to register
+         * @param types The target types
+         */
+        void register(
+                @NotNull Converter converter,
+                @NotNull Class<?>... types);
+    }
 }
@@ -0,0 +1,231 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Precompiled case insensitive lookup table of the textual and numeric
+ * representations of {@code Month} and {@code DayOfWeek} constants
+ * for a locale.
+ * <p>
+ * Tables contain the display names of the constants for the locale
+ * in all the {@code TextStyle}s and the numeric values of the constants,
+ * with and without leading zero. Texts shared by more than one constant,
+ * as the narrow texts of some months, are not included, so callers must
+ * fall back to their regular parsing in those cases.
+ * <p>
+ * Tables are immutable and shared through a bounded cache by locale.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of the constants
+ * @since 0.7
+ * @see MonthConverter
+ * @see DayOfWeekConverter
+ */
+@API(status=Status.INTERNAL, since="0.7")
+final class TemporalTextLookup<T> {
+
+    /** The maximum number of locales with cached tables of each type. */
+    static final int CACHE_CAPACITY = 64;
+    /** The shared {@code Month} tables cache. */
+    private static final ConversionCache<Locale, TemporalTextLookup<Month>> MONTHS =
+            new ConversionCache<>(CACHE_CAPACITY);
+    /** The shared {@code DayOfWeek} tables cache. */
+    private static final ConversionCache<Locale, TemporalTextLookup<DayOfWeek>> DAYS_OF_WEEK =
+            new ConversionCache<>(CACHE_CAPACITY);
+
+    /** The locale of the table. */
+    private final @NotNull Locale locale;
+    /** The constants by lower case text. */
+    private final @NotNull Map<String, T> entries;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param locale The locale of the table
+     * @param entries The constants by lower case text
+     */
+    private TemporalTextLookup(
+            final @NotNull Locale locale,
+            final @NotNull Map<String, T> entries) {
+        super();
+        this.locale = locale;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the shared {@code Month} table for the specified locale.
+     * 
+     * @param locale The locale
+     * @return The shared {@code Month} table
+     */
+    public static @NotNull TemporalTextLookup<Month> months(
+            final @NotNull Locale locale) {
+        return MONTHS.get(locale, key -> create(
+                Month.values(),
+                Month::getValue,
+                Month::getDisplayName,
+                key));
+    }
+
+    /**
+     * Returns the shared {@code DayOfWeek} table for the specified locale.
+     * 
+     * @param locale The locale
+     * @return The shared {@code DayOfWeek} table
+     */
+    public static @NotNull TemporalTextLookup<DayOfWeek> daysOfWeek(
+            final @NotNull Locale locale) {
+        return DAYS_OF_WEEK.get(locale, key -> create(
+                DayOfWeek.values(),
+                DayOfWeek::getValue,
+                DayOfWeek::getDisplayName,
+                key));
+    }
+
+    /**
+     * Creates a new table for the specified constants and locale.
+     * 
+     * @param <T> The type of the constants
+     * @param constants The constants
+     * @param valueFunction The function that returns the numeric value of
+     * the constants
+     * @param textFunction The function that returns the display name of
+     * the constants
+     * @param locale The locale
+     * @return The new table
+     */
+    static <T> @NotNull TemporalTextLookup<T> create(
+            final @NotNull T[] constants,
+            final @NotNull ToIntFunction<T> valueFunction,
+            final @NotNull TextFunction<T> textFunction,
+            final @NotNull Locale locale) {
+        final Map<String, T> entries = new HashMap<>();
+        final Set<String> ambiguous = new HashSet<>();
+        for (final T constant : constants) {
+            final int value = valueFunction.applyAsInt(constant);
+            addEntry(entries, ambiguous, Integer.toString(value), constant);
+            if (value < 10) {
+                addEntry(entries, ambiguous, "0" + value, constant);
+            }
+            for (final TextStyle style : TextStyle.values()) {
+                final String text = textFunction.getText(constant, style, locale);
+                addEntry(entries, ambiguous, text.toLowerCase(Locale.ROOT), constant);
+                addEntry(entries, ambiguous, text.toLowerCase(locale), constant);
+            }
+        }
+        entries.keySet().removeAll(ambiguous);
+        return new TemporalTextLookup<>(locale, entries);
+    }
+
+    /**
+     * Adds the specified entry to the table entries, registering the key
+     * as ambiguous if already mapped to a different constant.
+     * 
+     * @param <T> The type of the constants
+     * @param entries The table entries
+     * @param ambiguous The ambiguous keys
+     * @param key The entry key
+     * @param constant The entry constant
+     */
+    private static <T> void addEntry(
+            final @NotNull Map<String, T> entries,
+            final @NotNull Set<String> ambiguous,
+            final @NotNull String key,
+            final @NotNull T constant) {
+        final T prev = entries.putIfAbsent(key, constant);
+        if (prev != null && prev != constant) {
+            ambiguous.add(key);
+        }
+    }
+
+    /**
+     * Returns the locale of the table.
+     * 
+     * @return The locale of the table
+     */
+    public @NotNull Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Returns the constant represented by the specified text, ignoring case.
+     * 
+     * @param text The text to look up
+     * @return The constant represented by the text, or {@code null} if
+     * not found
+     */
+    public T lookup(
+            final @NotNull String text) {
+        T result = this.entries.get(text);
+        if (result == null) {
+            final String lowerCase = text.toLowerCase(Locale.ROOT);
+            result = this.entries.get(lowerCase);
+            if (result == null) {
+                final String localeLowerCase = text.toLowerCase(this.locale);
+                if (!localeLowerCase.equals(lowerCase)) {
+                    result = this.entries.get(localeLowerCase);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Function that returns the display name of a constant
+     * in a text style and locale.
+     * 
+     * @param <T> The type of the constants
+     */
+    @FunctionalInterface
+    interface TextFunction<T> {
+
+        /**
+         * Returns the display name of the specified constant.
+         * 
+         * @param constant The constant
+         * @param style The text style
+         * @param locale The locale
+         * @return The display name of the constant
+         */
+        @NotNull String getText(
+                @NotNull T constant,
+                @NotNull TextStyle style,
+                @NotNull Locale locale);
+    }
+}
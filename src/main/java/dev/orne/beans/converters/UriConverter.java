@@ -23,10 +23,13 @@ package dev.orne.beans.converters;
  */
 
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Optional;
 
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.beanutils.converters.AbstractConverter;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -34,15 +37,37 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code URI} instances
  * to and from {@code String} using the language tag as {@code String}
  * representation.
+ * <p>
+ * Parsed URIs, including invalid ones, can be cached in an optional bounded
+ * cache enabled through {@link #setCacheCapacity(int)}, as usually the same
+ * base URIs are converted many times. Cached {@code URI} instances are
+ * shared between conversions.
+ * <p>
+ * {@link #tryConvert(Object)} converts values without throwing exceptions,
+ * rejecting most malformed values through a lightweight syntax check
+ * before parsing.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-08
+ * @version 1.1, 2026-10
  * @since 0.3
  */
 @API(status=Status.STABLE, since="0.3")
 public class UriConverter
 extends AbstractConverter {
 
+    /** The default maximum number of cached URIs when caching is enabled. */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+    /** The lowest ASCII code allowed in URIs. */
+    private static final char MIN_ASCII_CHAR = '!';
+    /** The highest ASCII code allowed in URIs. */
+    private static final char MAX_ASCII_CHAR = '~';
+    /** The ASCII characters not allowed in URIs. */
+    private static final String ILLEGAL_ASCII_CHARS = "\"<>\\^`{|}";
+
+    /** The parsed URIs by text. Empty for invalid URIs. */
+    private ConversionCache<String, Optional<URI>> cache;
+
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
      * error occurs.
@@ -69,6 +94,57 @@ extends AbstractConverter {
         return URI.class;
     }
 
+    /**
+     * Returns the maximum number of cached URIs.
+     * 
+     * @return The maximum number of cached URIs, or {@code 0} if caching
+     * is disabled
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public int getCacheCapacity() {
+        return this.cache == null ? 0 : this.cache.getCapacity();
+    }
+
+    /**
+     * Sets the maximum number of cached URIs, discarding any
+     * previously cached URI.
+     * 
+     * @param capacity The maximum number of cached URIs, or {@code 0} to
+     * disable caching
+     * @since 0.7
+     * @see #DEFAULT_CACHE_CAPACITY
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public void setCacheCapacity(
+            final int capacity) {
+        Validate.isTrue(capacity >= 0, "Cache capacity cannot be negative");
+        this.cache = capacity == 0 ? null : new ConversionCache<>(capacity);
+    }
+
+    /**
+     * Returns the statistics of the URI cache.
+     * 
+     * @return The cache statistics, or {@code null} if caching is disabled
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public CacheStatistics getCacheStatistics() {
+        return this.cache == null ? null : this.cache.getStatistics();
+    }
+
+    /**
+     * Removes all the cached URIs and resets the cache statistics.
+     * 
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public void clearCache() {
+        if (this.cache != null) {
+            this.cache.clear();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,12 +154,170 @@ extends AbstractConverter {
             final Object value)
     throws Throwable {
         if (type.isAssignableFrom(URI.class)) {
-            final URI result = URI.create(value.toString());
-            return type.cast(result);
+            final ConversionCache<String, Optional<URI>> uris = this.cache;
+            if (uris == null) {
+                return type.cast(URI.create(value.toString()));
+            }
+            final Optional<URI> result = uris.get(
+                    value.toString(),
+                    UriConverter::parseUri);
+            if (result.isPresent()) {
+                return type.cast(result.get());
+            }
         }
         throw conversionException(type, value);
     }
 
+    /**
+     * Converts the specified value to {@code URI} without throwing
+     * exceptions nor applying the default value. Uses the URI cache
+     * if enabled.
+     * 
+     * @param value The value to convert
+     * @return The converted {@code URI}, or {@code null} if the value
+     * is {@code null} or not a valid URI
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public URI tryConvert(
+            final Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof URI) {
+            return (URI) value;
+        }
+        final ConversionCache<String, Optional<URI>> uris = this.cache;
+        final Optional<URI> result;
+        if (uris == null) {
+            result = parseUri(value.toString());
+        } else {
+            result = uris.get(value.toString(), UriConverter::parseUri);
+        }
+        return result.orElse(null);
+    }
+
+    /**
+     * Parses the specified URI text. Malformed texts detected by
+     * {@link #isWellFormed(CharSequence)} are rejected without parsing.
+     * 
+     * @param text The URI text
+     * @return The parsed URI, or empty if the text is not a valid URI
+     */
+    static @NotNull Optional<URI> parseUri(
+            final @NotNull String text) {
+        if (!isWellFormed(text)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new URI(text));
+        } catch (final URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Performs a lightweight syntax check of the specified URI text,
+     * as defined by RFC 2396 and implemented by {@code URI}. Checks that
+     * all the characters are allowed, that escaped octets are composed of
+     * two hexadecimal digits, that there is at most one fragment separator
+     * and that the scheme, if any, is valid and followed by a
+     * scheme-specific part.
+     * <p>
+     * Texts passing this check can still be invalid URIs, for example
+     * with invalid authority components.
+     * 
+     * @param text The URI text
+     * @return If the text passes the syntax check
+     */
+    static boolean isWellFormed(
+            final @NotNull CharSequence text) {
+        final int length = text.length();
+        boolean schemeAllowed = true;
+        boolean fragment = false;
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length
+                        || Character.digit(text.charAt(i + 1), 16) < 0
+                        || Character.digit(text.charAt(i + 2), 16) < 0) {
+                    return false;
+                }
+                i += 2;
+            } else if (c == ':' && schemeAllowed) {
+                if (!isValidScheme(text, i) || i + 1 == length) {
+                    return false;
+                }
+                schemeAllowed = false;
+            } else if (c == '#') {
+                if (fragment) {
+                    return false;
+                }
+                fragment = true;
+                schemeAllowed = false;
+            } else if (c == '/' || c == '?') {
+                schemeAllowed = false;
+            } else if (!isLegalChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the characters of the specified text before
+     * the specified index are a valid URI scheme.
+     * 
+     * @param text The URI text
+     * @param end The index of the scheme separator
+     * @return If the scheme is valid
+     */
+    private static boolean isValidScheme(
+            final @NotNull CharSequence text,
+            final int end) {
+        if (end == 0 || !isAsciiAlpha(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < end; i++) {
+            final char c = text.charAt(i);
+            if (!isAsciiAlpha(c)
+                    && (c < '0' || c > '9')
+                    && c != '+' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified character is an ASCII letter.
+     * 
+     * @param c The character
+     * @return If the character is an ASCII letter
+     */
+    private static boolean isAsciiAlpha(
+            final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns {@code true} if the specified character is allowed in URIs,
+     * including the non ASCII characters accepted by {@code URI}.
+     * 
+     * @param c The character
+     * @return If the character is allowed
+     */
+    private static boolean isLegalChar(
+            final char c) {
+        if (c < MIN_ASCII_CHAR) {
+            return false;
+        } else if (c <= MAX_ASCII_CHAR) {
+            return ILLEGAL_ASCII_CHARS.indexOf(c) < 0;
+        } else {
+            return !Character.isISOControl(c)
+                    && !Character.isSpaceChar(c);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -34,9 +34,11 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -44,9 +46,13 @@ import org.apiguardian.api.API.Status;
  * Implementation of {@code Converter} that converts {@code YearMonth} instances
  * to and from {@code String} using "YYYY-MM" as {@code String}
  * representation.
+ * <p>
+ * Text parsers are bound to the default locale unless a locale is specified
+ * on construction. Localized parsers are shared between all the converters
+ * with the same locale.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -89,6 +95,11 @@ extends AbstractDateTimeConverter {
                 .appendLiteral('-')
                 .appendText(MONTH_OF_YEAR, TextStyle.NARROW)
                 .toFormatter();
+    /** The default locale of the text parsers. */
+    private static final Locale DEFAULT_TEXT_LOCALE = BY_FULL_TEXT_PARSER.getLocale();
+
+    /** The locale of the text parsers. */
+    private final @NotNull Locale locale;
 
     /**
      * Creates a new instance that throws a {@code ConversionException} if an
@@ -96,6 +107,7 @@ extends AbstractDateTimeConverter {
      */
     public YearMonthConverter() {
         super(ISO_8601_PARSER);
+        this.locale = DEFAULT_TEXT_LOCALE;
         setDefaultParsers();
     }
 
@@ -109,6 +121,7 @@ extends AbstractDateTimeConverter {
     public YearMonthConverter(
             final YearMonth defaultValue) {
         super(ISO_8601_PARSER, defaultValue);
+        this.locale = DEFAULT_TEXT_LOCALE;
         setDefaultParsers();
     }
 
@@ -121,6 +134,7 @@ extends AbstractDateTimeConverter {
     public YearMonthConverter(
             final @NotNull DateTimeFormatter formatter) {
         super(formatter);
+        this.locale = DEFAULT_TEXT_LOCALE;
         setDefaultParsers();
     }
 
@@ -135,18 +149,67 @@ extends AbstractDateTimeConverter {
             final @NotNull DateTimeFormatter formatter,
             final YearMonth defaultValue) {
         super(formatter, defaultValue);
+        this.locale = DEFAULT_TEXT_LOCALE;
+        setDefaultParsers();
+    }
+
+    /**
+     * Creates a new instance that throws a {@code ConversionException} if an
+     * error occurs, using text parsers for the specified locale.
+     * 
+     * @param locale The locale of the text parsers
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public YearMonthConverter(
+            final @NotNull Locale locale) {
+        super(ISO_8601_PARSER);
+        Validate.notNull(locale);
+        this.locale = locale;
         setDefaultParsers();
     }
 
     /**
-     * Sets the default parsers for this converter.
+     * Creates a new instance that returns a default value if an error occurs,
+     * using text parsers for the specified locale.
+     * 
+     * @param locale The locale of the text parsers
+     * @param defaultValue The default value to be returned if the value to be
+     * converted is missing or an error occurs converting the value
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public YearMonthConverter(
+            final @NotNull Locale locale,
+            final YearMonth defaultValue) {
+        super(ISO_8601_PARSER, defaultValue);
+        Validate.notNull(locale);
+        this.locale = locale;
+        setDefaultParsers();
+    }
+
+    /**
+     * Returns the locale of the text parsers.
+     * 
+     * @return The locale of the text parsers
+     * @since 0.7
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.7")
+    public @NotNull Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Sets the default parsers for this converter, with the text parsers
+     * localized for the locale of this converter.
      */
     private final void setDefaultParsers() {
+        final LocalizedParsers localized = LocalizedParsers.forLocale(this.locale);
         setParsers(
                 ISO_8601_PARSER,
-                BY_FULL_TEXT_PARSER,
-                BY_SHORT_TEXT_PARSER,
-                BY_NARROW_TEXT_PARSER,
+                localized.get(BY_FULL_TEXT_PARSER),
+                localized.get(BY_SHORT_TEXT_PARSER),
+                localized.get(BY_NARROW_TEXT_PARSER),
                 DateTimeFormatter.ISO_INSTANT,
                 DateTimeFormatter.ISO_DATE_TIME,
                 DateTimeFormatter.ISO_DATE,
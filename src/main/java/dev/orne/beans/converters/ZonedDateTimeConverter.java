@@ -41,7 +41,7 @@ import org.apiguardian.api.API.Status;
  * representation by default.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2020-05
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -104,6 +104,7 @@ extends AbstractDateTimeConverter {
                 DateTimeFormatter.ISO_DATE_TIME,
                 DateTimeFormatter.ISO_INSTANT,
                 InstantConverter.EPOCH_MILLIS_PARSER);
+        markDefaultParsers();
     }
 
     /**
@@ -0,0 +1,236 @@
+package dev.orne.beans.jackson;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import dev.orne.beans.Identity;
+import dev.orne.beans.IdentityResolver;
+import dev.orne.beans.IdentityTokenFormatter;
+import dev.orne.beans.TokenIdentity;
+import dev.orne.beans.UnrecognizedIdentityTokenException;
+
+/**
+ * Jackson deserializer for {@code Identity} instances. Resolves textual or
+ * packed binary identity tokens directly to the target {@code Identity}
+ * type through the cached identity token resolvers of
+ * {@code IdentityResolver}, without intermediate {@code TokenIdentity}
+ * instances. Tokens for {@code Identity} and {@code TokenIdentity}
+ * targets are converted through {@code TokenIdentity.fromToken(String)}.
+ * <p>
+ * Instances are contextual: when used through
+ * {@code @JsonDeserialize(using=IdentityDeserializer.class)} the instance
+ * for the declared {@code Identity} type is used.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The target identity type
+ * @since 0.7
+ * @see IdentityResolver#getLinkedResolver(Class)
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public class IdentityDeserializer<T extends Identity>
+extends StdScalarDeserializer<T>
+implements ContextualDeserializer {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The shared instances by target identity type. */
+    private static final ClassValue<IdentityDeserializer<?>> INSTANCES =
+            new ClassValue<IdentityDeserializer<?>>() {
+                @Override
+                protected IdentityDeserializer<?> computeValue(
+                        final @NotNull Class<?> type) {
+                    return create(type.asSubclass(Identity.class));
+                }
+            };
+
+    /** The identity token resolver. */
+    private final transient @NotNull Function<String, T> resolver;
+
+    /**
+     * Creates a new instance for {@code Identity} targets.
+     */
+    @SuppressWarnings("unchecked")
+    public IdentityDeserializer() {
+        this((Class<T>) Identity.class, token -> (T) TokenIdentity.fromToken(token));
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param type The target identity type
+     * @param resolver The identity token resolver
+     */
+    protected IdentityDeserializer(
+            final @NotNull Class<T> type,
+            final @NotNull Function<String, T> resolver) {
+        super(type);
+        this.resolver = Validate.notNull(resolver);
+    }
+
+    /**
+     * Returns {@code true} if the specified type is supported: the
+     * {@code Identity} interface and concrete {@code Identity} types.
+     * 
+     * @param type The type
+     * @return If the type is supported
+     */
+    public static boolean isSupported(
+            final @NotNull Class<?> type) {
+        return type == Identity.class
+                || (Identity.class.isAssignableFrom(type)
+                        && !type.isInterface()
+                        && !Modifier.isAbstract(type.getModifiers()));
+    }
+
+    /**
+     * Returns the shared deserializer for the specified identity type.
+     * 
+     * @param <T> The target identity type
+     * @param type The target identity type
+     * @return The shared deserializer for the identity type
+     * @throws IllegalArgumentException If the type is not supported
+     * @see #isSupported(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Identity> @NotNull IdentityDeserializer<T> forType(
+            final @NotNull Class<T> type) {
+        Validate.notNull(type);
+        Validate.isTrue(isSupported(type), "Unsupported identity type: %s", type);
+        return (IdentityDeserializer<T>) INSTANCES.get(type);
+    }
+
+    /**
+     * Creates a new deserializer for the specified identity type.
+     * 
+     * @param <T> The target identity type
+     * @param type The target identity type
+     * @return The new deserializer
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Identity> @NotNull IdentityDeserializer<T> create(
+            final @NotNull Class<T> type) {
+        if (type == Identity.class) {
+            return new IdentityDeserializer<>();
+        } else if (type == TokenIdentity.class) {
+            return new IdentityDeserializer<>(type, token -> (T) TokenIdentity.fromToken(token));
+        } else {
+            return new IdentityDeserializer<>(
+                    type,
+                    IdentityResolver.getInstance().getLinkedResolver(type));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonDeserializer<?> createContextual(
+            final @NotNull DeserializationContext ctxt,
+            final BeanProperty property) {
+        final JavaType contextualType = ctxt.getContextualType();
+        if (contextualType != null
+                && contextualType.getRawClass() != handledType()
+                && isSupported(contextualType.getRawClass())) {
+            return forType(contextualType.getRawClass().asSubclass(Identity.class));
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(
+            final @NotNull JsonParser p,
+            final @NotNull DeserializationContext ctxt)
+    throws IOException {
+        final String token;
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            token = p.getText();
+        } else if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+            final Object embedded = p.getEmbeddedObject();
+            if (embedded instanceof Identity) {
+                return resolve(((Identity) embedded).getIdentityToken(), ctxt);
+            } else if (!(embedded instanceof byte[])) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            final byte[] packed = (byte[]) embedded;
+            try {
+                token = IdentityTokenFormatter.unpackToken(packed, 0, packed.length);
+            } catch (final UnrecognizedIdentityTokenException e) {
+                return (T) ctxt.handleWeirdNativeValue(
+                        ctxt.constructType(handledType()),
+                        embedded,
+                        p);
+            }
+        } else {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        return resolve(token, ctxt);
+    }
+
+    /**
+     * Resolves the specified identity token to the target identity type.
+     * 
+     * @param token The identity token
+     * @param ctxt The deserialization context
+     * @return The resolved identity
+     * @throws IOException If the identity token cannot be resolved
+     */
+    @SuppressWarnings("unchecked")
+    protected T resolve(
+            final @NotNull String token,
+            final @NotNull DeserializationContext ctxt)
+    throws IOException {
+        try {
+            return this.resolver.apply(token);
+        } catch (final UnrecognizedIdentityTokenException e) {
+            return (T) ctxt.handleWeirdStringValue(
+                    handledType(),
+                    token,
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.orne.beans.jackson;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import dev.orne.beans.Identity;
+
+/**
+ * Jackson module for {@code Identity} instances.
+ * <p>
+ * Identities are serialized as their identity tokens through
+ * {@link IdentitySerializer}, without reflective invocation of the
+ * {@code JsonValue} annotated accessor. Identity tokens can be written in
+ * packed binary form, 25% shorter, when the generator supports native
+ * binary data, as Smile or CBOR generators. Packed binary identity tokens
+ * are opt-in, through {@link #IdentityModule(boolean)}, as consumers
+ * without this module cannot read them. Modules created through the
+ * no-arguments constructor, including modules discovered by
+ * {@code ObjectMapper.findAndRegisterModules()}, write textual identity
+ * tokens.
+ * <p>
+ * Identities are deserialized through {@link IdentityDeserializer}
+ * instances that resolve identity tokens directly to the declared
+ * {@code Identity} type through the cached identity token resolvers
+ * of {@code IdentityResolver}. Properties declared as {@code Identity}
+ * are deserialized as {@code TokenIdentity} instances, as without the
+ * module. Both textual and packed binary identity tokens are accepted.
+ * <pre>
+ * ObjectMapper mapper = JsonMapper.builder()
+ *         .addModule(new IdentityModule())
+ *         .build();
+ * ObjectMapper packedMapper = SmileMapper.builder()
+ *         .addModule(new IdentityModule(true))
+ *         .build();
+ * </pre>
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentitySerializer
+ * @see IdentityDeserializer
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public class IdentityModule
+extends SimpleModule {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+    /** The module name. */
+    public static final String NAME = "OrneBeansIdentityModule";
+
+    /** If identity tokens are packed in binary formats. */
+    private final boolean packedBinaryTokens;
+
+    /**
+     * Creates a new instance that writes textual identity tokens in all
+     * formats.
+     */
+    public IdentityModule() {
+        this(false);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param packedBinaryTokens If identity tokens are packed in binary
+     * formats
+     */
+    public IdentityModule(
+            final boolean packedBinaryTokens) {
+        super(NAME, Version.unknownVersion());
+        this.packedBinaryTokens = packedBinaryTokens;
+        setMixInAnnotation(Identity.class, IdentityMixIn.class);
+        addSerializer(Identity.class, packedBinaryTokens
+                ? IdentitySerializer.PACKED_BINARY
+                : IdentitySerializer.TEXT);
+    }
+
+    /**
+     * Returns {@code true} if identity tokens are packed in binary formats.
+     * 
+     * @return If identity tokens are packed in binary formats
+     */
+    public boolean isPackedBinaryTokens() {
+        return this.packedBinaryTokens;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setupModule(
+            final @NotNull SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(new IdentityDeserializers());
+    }
+
+    /**
+     * Mix-in for {@code Identity} that removes the deserialization as
+     * {@code TokenIdentity} declared in the interface, allowing concrete
+     * {@code Identity} types to be deserialized by the module deserializers.
+     */
+    @JsonDeserialize
+    interface IdentityMixIn {
+        // No members
+    }
+
+    /**
+     * Provider of {@code IdentityDeserializer} instances for {@code Identity}
+     * types. Returns deserializers for {@code Identity} and concrete
+     * {@code Identity} types.
+     */
+    static class IdentityDeserializers
+    extends Deserializers.Base {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(
+                final @NotNull JavaType type,
+                final @NotNull DeserializationConfig config,
+                final @NotNull BeanDescription beanDesc) {
+            return IdentityDeserializer.isSupported(type.getRawClass())
+                    ? IdentityDeserializer.forType(type.getRawClass().asSubclass(Identity.class))
+                    : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasDeserializerFor(
+                final @NotNull DeserializationConfig config,
+                final @NotNull Class<?> valueType) {
+            return IdentityDeserializer.isSupported(valueType);
+        }
+    }
+}
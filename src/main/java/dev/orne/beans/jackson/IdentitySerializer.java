@@ -0,0 +1,144 @@
+package dev.orne.beans.jackson;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.IOException;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import dev.orne.beans.Identity;
+import dev.orne.beans.IdentityTokenFormatter;
+
+/**
+ * Jackson serializer for {@code Identity} instances. Writes the identity
+ * token directly to the generator as a string value or, if enabled and
+ * the generator supports native binary data, as a packed binary value.
+ * <p>
+ * Packed binary identity tokens are never written to {@code TokenBuffer}
+ * instances, so {@code ObjectMapper.valueToTree()} and
+ * {@code ObjectMapper.convertValue()} results contain textual identity
+ * tokens.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenFormatter#packToken(String)
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public class IdentitySerializer
+extends StdSerializer<Identity> {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The shared instance that always writes textual identity tokens. */
+    public static final IdentitySerializer TEXT = new IdentitySerializer(false);
+    /** The shared instance that packs identity tokens in binary formats. */
+    public static final IdentitySerializer PACKED_BINARY = new IdentitySerializer(true);
+
+    /** If identity tokens are packed in binary formats. */
+    private final boolean packedBinaryTokens;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param packedBinaryTokens If identity tokens are packed in binary
+     * formats
+     */
+    public IdentitySerializer(
+            final boolean packedBinaryTokens) {
+        super(Identity.class);
+        this.packedBinaryTokens = packedBinaryTokens;
+    }
+
+    /**
+     * Returns {@code true} if identity tokens are packed in binary formats.
+     * 
+     * @return If identity tokens are packed in binary formats
+     */
+    public boolean isPackedBinaryTokens() {
+        return this.packedBinaryTokens;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(
+            final @NotNull Identity value,
+            final @NotNull JsonGenerator gen,
+            final @NotNull SerializerProvider provider)
+    throws IOException {
+        final String token = value.getIdentityToken();
+        if (isPacked(gen)) {
+            final byte[] packed = IdentityTokenFormatter.packToken(token);
+            gen.writeBinary(packed, 0, packed.length);
+        } else {
+            gen.writeString(token);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serializeWithType(
+            final @NotNull Identity value,
+            final @NotNull JsonGenerator gen,
+            final @NotNull SerializerProvider provider,
+            final @NotNull TypeSerializer typeSer)
+    throws IOException {
+        final WritableTypeId typeId = typeSer.writeTypePrefix(gen,
+                typeSer.typeId(value, isPacked(gen)
+                        ? JsonToken.VALUE_EMBEDDED_OBJECT
+                        : JsonToken.VALUE_STRING));
+        serialize(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    /**
+     * Returns {@code true} if identity tokens must be written packed
+     * to the specified generator.
+     * 
+     * @param gen The target generator
+     * @return If identity tokens must be written packed
+     */
+    protected boolean isPacked(
+            final @NotNull JsonGenerator gen) {
+        return this.packedBinaryTokens
+                && gen.canWriteBinaryNatively()
+                && !(gen instanceof TokenBuffer);
+    }
+}
@@ -0,0 +1,125 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * JDK Flight Recorder events emitted by the library.
+ * <p>
+ * Events are registered in the {@code Orne Beans} category when JFR is
+ * available in the running JVM and are recorded only when enabled in
+ * a running recording, for example through a custom JFC configuration
+ * file. Frequent events define a default duration threshold that can be
+ * overridden in the recording configuration.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see JfrEventType
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class BeansEvents {
+
+    /** The default threshold of frequent events. */
+    private static final String FREQUENT_EVENTS_THRESHOLD = "1 ms";
+
+    /**
+     * Identity token resolver lookup, including the wait for the resolvers
+     * cache lock. Fields: {@code identityType}, {@code miss}.
+     */
+    public static final JfrEventType IDENTITY_RESOLVER_LOOKUP = JfrEventType.create(
+            "dev.orne.beans.IdentityResolverLookup",
+            "Identity Resolver Lookup",
+            "Lookup of the identity token resolver of an identity type",
+            FREQUENT_EVENTS_THRESHOLD,
+            JfrEventType.field(Class.class, "identityType", "Identity Type"),
+            JfrEventType.field(boolean.class, "miss", "Cache Miss"));
+    /**
+     * Reflective search of the identity token resolver of an identity type
+     * not found in cache. Fields: {@code identityType}, {@code resolved}.
+     */
+    public static final JfrEventType IDENTITY_RESOLVER_MISS = JfrEventType.create(
+            "dev.orne.beans.IdentityResolverMiss",
+            "Identity Resolver Miss",
+            "Reflective search of the identity token resolver of an identity type",
+            null,
+            JfrEventType.field(Class.class, "identityType", "Identity Type"),
+            JfrEventType.field(boolean.class, "resolved", "Resolved"));
+    /**
+     * Type hierarchy scan for type level annotations.
+     * Fields: {@code beanType}, {@code annotationType}, {@code annotations}.
+     */
+    public static final JfrEventType ANNOTATION_SCAN = JfrEventType.create(
+            "dev.orne.beans.AnnotationScan",
+            "Bean Annotation Scan",
+            "Scan of the type hierarchy of a bean type for type level annotations",
+            null,
+            JfrEventType.field(Class.class, "beanType", "Bean Type"),
+            JfrEventType.field(Class.class, "annotationType", "Annotation Type"),
+            JfrEventType.field(int.class, "annotations", "Found Annotations"));
+    /**
+     * Discovery of polymorphic subtypes registered as service providers.
+     * Fields: {@code baseType}, {@code subtypes}.
+     */
+    public static final JfrEventType SPI_SUBTYPE_DISCOVERY = JfrEventType.create(
+            "dev.orne.beans.SpiSubtypeDiscovery",
+            "SPI Subtype Discovery",
+            "Discovery of the subtypes of a base type registered as service providers",
+            null,
+            JfrEventType.field(Class.class, "baseType", "Base Type"),
+            JfrEventType.field(int.class, "subtypes", "Discovered Subtypes"));
+    /**
+     * Bean validation pass. Fields: {@code beanType}, {@code violations}
+     * ({@code -1} if validation failed).
+     */
+    public static final JfrEventType VALIDATION = JfrEventType.create(
+            "dev.orne.beans.Validation",
+            "Bean Validation",
+            "Validation of a bean",
+            FREQUENT_EVENTS_THRESHOLD,
+            JfrEventType.field(Class.class, "beanType", "Bean Type"),
+            JfrEventType.field(int.class, "violations", "Constraint Violations"));
+    /**
+     * Parsing of a value through a date and time converter parser chain.
+     * Fields: {@code converterType}, {@code targetType}, {@code attempts},
+     * {@code parsed}.
+     */
+    public static final JfrEventType CONVERTER_PARSE_CHAIN = JfrEventType.create(
+            "dev.orne.beans.ConverterParseChain",
+            "Converter Parse Chain",
+            "Parsing of a value through the parser chain of a date and time converter",
+            FREQUENT_EVENTS_THRESHOLD,
+            JfrEventType.field(Class.class, "converterType", "Converter Type"),
+            JfrEventType.field(Class.class, "targetType", "Target Type"),
+            JfrEventType.field(int.class, "attempts", "Tried Parsers"),
+            JfrEventType.field(boolean.class, "parsed", "Parsed"));
+
+    /**
+     * Private constructor.
+     */
+    private BeansEvents() {
+        // Utility class
+    }
+}
@@ -0,0 +1,213 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point of the library metrics.
+ * <p>
+ * The {@code MetricsRecorder} is discovered through {@code ServiceLoader}
+ * on first use. If no implementation is available a no-op recorder is
+ * used and metrics are disabled. As the enabled state is constant,
+ * instrumentation costs a constant check when metrics are disabled.
+ * If more than one implementation is available the first one found
+ * is used.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see MetricsRecorder
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public final class BeansMetrics {
+
+    /** Counter of identity token resolver lookups found in cache. */
+    public static final String IDENTITY_RESOLVER_CACHE_HIT =
+            "orne.beans.identity.resolver.cache.hit";
+    /** Counter of identity token resolver lookups not found in cache. */
+    public static final String IDENTITY_RESOLVER_CACHE_MISS =
+            "orne.beans.identity.resolver.cache.miss";
+    /** Timer of reflective identity token resolver lookups. */
+    public static final String IDENTITY_RESOLVER_LOOKUP =
+            "orne.beans.identity.resolver.lookup";
+    /** Counter of identity token resolutions through reflective invocation. */
+    public static final String IDENTITY_RESOLVER_REFLECTIVE =
+            "orne.beans.identity.resolver.reflective";
+    /** Counter of created {@code UnrecognizedIdentityTokenException}s. */
+    public static final String IDENTITY_TOKEN_UNRECOGNIZED =
+            "orne.beans.identity.token.unrecognized";
+    /** Counter of bean annotation searches found in cache. */
+    public static final String ANNOTATION_FINDER_CACHE_HIT =
+            "orne.beans.annotation.finder.cache.hit";
+    /** Counter of bean annotation searches not found in cache. */
+    public static final String ANNOTATION_FINDER_CACHE_MISS =
+            "orne.beans.annotation.finder.cache.miss";
+    /** Timer of bean type hierarchy annotation scans. */
+    public static final String ANNOTATION_FINDER_SCAN =
+            "orne.beans.annotation.finder.scan";
+    /** Counter of date and time values parsed by converters. */
+    public static final String DATETIME_PARSE_VALUES =
+            "orne.beans.converters.datetime.parse.values";
+    /** Counter of date and time parsers tried by converters. */
+    public static final String DATETIME_PARSE_ATTEMPTS =
+            "orne.beans.converters.datetime.parse.attempts";
+    /** Counter of date and time values no converter parser could parse. */
+    public static final String DATETIME_PARSE_FAILURES =
+            "orne.beans.converters.datetime.parse.failures";
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(BeansMetrics.class);
+    /** The metrics recorder. */
+    private static final MetricsRecorder RECORDER = loadRecorder(
+            ServiceLoader.load(MetricsRecorder.class));
+    /** If metrics are enabled. */
+    private static final boolean ENABLED = RECORDER != NoOpRecorder.INSTANCE;
+
+    /**
+     * Private constructor.
+     */
+    private BeansMetrics() {
+        // Utility class
+    }
+
+    /**
+     * Returns {@code true} if a metrics recorder is available.
+     * 
+     * @return If metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the metrics recorder in use.
+     * 
+     * @return The metrics recorder
+     */
+    public static @NotNull MetricsRecorder getRecorder() {
+        return RECORDER;
+    }
+
+    /**
+     * Increments by one the counter with the specified name.
+     * 
+     * @param name The counter name
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    public static void increment(
+            final @NotNull String name) {
+        if (ENABLED) {
+            RECORDER.increment(name);
+        }
+    }
+
+    /**
+     * Starts a timer measure.
+     * 
+     * @return The start time, in nanoseconds, or {@code 0} if metrics
+     * are disabled
+     * @see #stopTimer(String, long)
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since the specified start time for the
+     * timer with the specified name.
+     * 
+     * @param name The timer name
+     * @param start The start time returned by {@link #startTimer()}
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    public static void stopTimer(
+            final @NotNull String name,
+            final long start) {
+        if (ENABLED) {
+            RECORDER.record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the first metrics recorder provided by the specified
+     * service loader, or a no-op recorder if none is available.
+     * 
+     * @param loader The metrics recorders service loader
+     * @return The metrics recorder
+     */
+    static @NotNull MetricsRecorder loadRecorder(
+            final @NotNull ServiceLoader<MetricsRecorder> loader) {
+        try {
+            final Iterator<MetricsRecorder> it = loader.iterator();
+            if (it.hasNext()) {
+                final MetricsRecorder result = it.next();
+                LOG.debug("Using metrics recorder {}", result);
+                return result;
+            }
+        } catch (final ServiceConfigurationError sce) {
+            LOG.warn("Error loading metrics recorder. Metrics are disabled.", sce);
+        }
+        return NoOpRecorder.INSTANCE;
+    }
+
+    /**
+     * No operation metrics recorder.
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    enum NoOpRecorder
+    implements MetricsRecorder {
+
+        /** The shared instance. */
+        INSTANCE;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void increment(
+                final @NotNull String name) {
+            // No operation
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void record(
+                final @NotNull String name,
+                final long durationNanos) {
+            // No operation
+        }
+    }
+}
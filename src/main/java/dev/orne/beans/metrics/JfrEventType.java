@@ -0,0 +1,610 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JDK Flight Recorder event type defined at runtime.
+ * <p>
+ * Event types are created through {@code jdk.jfr.EventFactory}, accessed
+ * through {@code MethodHandle}s, so this library has no compile time
+ * dependency with JFR. If JFR is not available in the running JVM event
+ * types are created disabled and {@link #begin()} always returns
+ * {@code null}.
+ * <p>
+ * Events are emitted in three steps: {@link #begin()} returns a new event
+ * if the event type is enabled in any running recording, or {@code null}
+ * otherwise. When the measured operation finishes one of the
+ * {@code commit()} methods ends the event and, if it must be committed
+ * (for example, if its duration exceeds the configured threshold), sets its
+ * field values, in field definition order, and commits it. {@code commit()}
+ * methods ignore {@code null} events.
+ * <p>
+ * The JFR methods used to emit events are invoked through
+ * {@code static final} exact {@code MethodHandle}s, so the JIT compiler
+ * can inline them, and typed {@code commit()} overloads are provided for
+ * primitive field values. Field values are boxed only when the event must
+ * be committed.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeansEvents
+ */
+@API(status=Status.INTERNAL, since="0.7")
+public final class JfrEventType {
+
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(JfrEventType.class);
+    /** The JFR access method handles, {@code null} if JFR is not available. */
+    private static final Jfr JFR = Jfr.load();
+    /** The {@code EventType.isEnabled()} method, as {@code (Object)boolean}. */
+    private static final MethodHandle IS_ENABLED = JFR == null ? null : JFR.isEnabled;
+    /** The {@code EventFactory.newEvent()} method, as {@code (Object)Object}. */
+    private static final MethodHandle NEW_EVENT = JFR == null ? null : JFR.newEvent;
+    /** The {@code Event.begin()} method, as {@code (Object)void}. */
+    private static final MethodHandle BEGIN = JFR == null ? null : JFR.begin;
+    /** The {@code Event.end()} method, as {@code (Object)void}. */
+    private static final MethodHandle END = JFR == null ? null : JFR.end;
+    /** The {@code Event.shouldCommit()} method, as {@code (Object)boolean}. */
+    private static final MethodHandle SHOULD_COMMIT = JFR == null ? null : JFR.shouldCommit;
+    /** The {@code Event.set(int, Object)} method, as {@code (Object,int,Object)void}. */
+    private static final MethodHandle SET = JFR == null ? null : JFR.set;
+    /** The {@code Event.commit()} method, as {@code (Object)void}. */
+    private static final MethodHandle COMMIT = JFR == null ? null : JFR.commit;
+
+    /** The event name. */
+    private final @NotNull String name;
+    /** The JFR event factory, {@code null} if not available. */
+    private final Object factory;
+    /** The JFR event type, {@code null} if not available. */
+    private final Object eventType;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param name The event name
+     * @param factory The JFR event factory
+     * @param eventType The JFR event type
+     */
+    private JfrEventType(
+            final @NotNull String name,
+            final Object factory,
+            final Object eventType) {
+        super();
+        this.name = name;
+        this.factory = factory;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Returns {@code true} if JFR is available in the running JVM.
+     * 
+     * @return If JFR is available
+     */
+    public static boolean isJfrAvailable() {
+        return JFR != null;
+    }
+
+    /**
+     * Creates and registers a new event type. If JFR is not available
+     * or the event type cannot be created a disabled event type is
+     * returned.
+     * 
+     * @param name The event name
+     * @param label The event label
+     * @param description The event description
+     * @param threshold The default event duration threshold, as
+     * {@code "10 ms"}, or {@code null} to record all events
+     * @param fields The event fields
+     * @return The event type
+     */
+    public static @NotNull JfrEventType create(
+            final @NotNull String name,
+            final @NotNull String label,
+            final @NotNull String description,
+            final String threshold,
+            final @NotNull Field... fields) {
+        Validate.notNull(name);
+        Validate.notNull(label);
+        Validate.notNull(description);
+        Validate.noNullElements(fields);
+        if (JFR == null) {
+            return new JfrEventType(name, null, null);
+        }
+        try {
+            final Object factory = JFR.createFactory(name, label, description, threshold, fields);
+            final Object eventType = JFR.getEventType.invoke(factory);
+            return new JfrEventType(name, factory, eventType);
+        } catch (final Throwable e) {
+            LOG.warn("Cannot create JFR event type {}", name, e);
+            return new JfrEventType(name, null, null);
+        }
+    }
+
+    /**
+     * Creates a new event field definition.
+     * 
+     * @param type The field type: a primitive type, {@code String},
+     * {@code Class} or {@code Thread}
+     * @param name The field name
+     * @param label The field label
+     * @return The event field definition
+     */
+    public static @NotNull Field field(
+            final @NotNull Class<?> type,
+            final @NotNull String name,
+            final @NotNull String label) {
+        return new Field(type, name, label);
+    }
+
+    /**
+     * Returns the event name.
+     * 
+     * @return The event name
+     */
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns {@code true} if the event type has been registered in JFR.
+     * 
+     * @return If the event type has been registered
+     */
+    public boolean isRegistered() {
+        return this.factory != null;
+    }
+
+    /**
+     * Returns {@code true} if the event type is enabled in any running
+     * recording.
+     * 
+     * @return If the event type is enabled
+     */
+    public boolean isEnabled() {
+        if (this.eventType == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_ENABLED.invokeExact(this.eventType);
+        } catch (final Throwable e) {
+            LOG.debug("Error checking JFR event type state", e);
+            return false;
+        }
+    }
+
+    /**
+     * Begins a new event if the event type is enabled.
+     * 
+     * @return The new event, or {@code null} if the event type is
+     * not enabled
+     */
+    public Object begin() {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            final Object event = (Object) NEW_EVENT.invokeExact(this.factory);
+            BEGIN.invokeExact(event);
+            return event;
+        } catch (final Throwable e) {
+            LOG.debug("Error beginning JFR event", e);
+            return null;
+        }
+    }
+
+    /**
+     * Ends and commits the specified event with the specified field values.
+     * 
+     * @param event The event returned by {@link #begin()}
+     * @param value0 The value of the first field
+     * @param value1 The value of the second field
+     */
+    public void commit(
+            final Object event,
+            final Object value0,
+            final boolean value1) {
+        if (event != null && end(event)) {
+            set(event, 0, value0);
+            set(event, 1, value1);
+            commit(event);
+        }
+    }
+
+    /**
+     * Ends and commits the specified event with the specified field values.
+     * 
+     * @param event The event returned by {@link #begin()}
+     * @param value0 The value of the first field
+     * @param value1 The value of the second field
+     */
+    public void commit(
+            final Object event,
+            final Object value0,
+            final int value1) {
+        if (event != null && end(event)) {
+            set(event, 0, value0);
+            set(event, 1, value1);
+            commit(event);
+        }
+    }
+
+    /**
+     * Ends and commits the specified event with the specified field values.
+     * 
+     * @param event The event returned by {@link #begin()}
+     * @param value0 The value of the first field
+     * @param value1 The value of the second field
+     * @param value2 The value of the third field
+     */
+    public void commit(
+            final Object event,
+            final Object value0,
+            final int value1,
+            final boolean value2) {
+        if (event != null && end(event)) {
+            set(event, 0, value0);
+            set(event, 1, value1);
+            set(event, 2, value2);
+            commit(event);
+        }
+    }
+
+    /**
+     * Ends and commits the specified event with the specified field values.
+     * 
+     * @param event The event returned by {@link #begin()}
+     * @param value0 The value of the first field
+     * @param value1 The value of the second field
+     * @param value2 The value of the third field
+     */
+    public void commit(
+            final Object event,
+            final Object value0,
+            final Object value1,
+            final int value2) {
+        if (event != null && end(event)) {
+            set(event, 0, value0);
+            set(event, 1, value1);
+            set(event, 2, value2);
+            commit(event);
+        }
+    }
+
+    /**
+     * Ends and commits the specified event with the specified field values.
+     * 
+     * @param event The event returned by {@link #begin()}
+     * @param value0 The value of the first field
+     * @param value1 The value of the second field
+     * @param value2 The value of the third field
+     * @param value3 The value of the fourth field
+     */
+    public void commit(
+            final Object event,
+            final Object value0,
+            final Object value1,
+            final int value2,
+            final boolean value3) {
+        if (event != null && end(event)) {
+            set(event, 0, value0);
+            set(event, 1, value1);
+            set(event, 2, value2);
+            set(event, 3, value3);
+            commit(event);
+        }
+    }
+
+    /**
+     * Ends the specified event and returns {@code true} if it must be
+     * committed.
+     * 
+     * @param event The event
+     * @return If the event must be committed
+     */
+    private boolean end(
+            final @NotNull Object event) {
+        try {
+            END.invokeExact(event);
+            return (boolean) SHOULD_COMMIT.invokeExact(event);
+        } catch (final Throwable e) {
+            LOG.debug("Error ending JFR event {}", this.name, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sets the value of the specified field of the specified event.
+     * 
+     * @param event The event
+     * @param index The field index
+     * @param value The field value
+     */
+    private void set(
+            final @NotNull Object event,
+            final int index,
+            final Object value) {
+        try {
+            SET.invokeExact(event, index, value);
+        } catch (final Throwable e) {
+            LOG.debug("Error setting JFR event {} field", this.name, e);
+        }
+    }
+
+    /**
+     * Commits the specified event.
+     * 
+     * @param event The event
+     */
+    private void commit(
+            final @NotNull Object event) {
+        try {
+            COMMIT.invokeExact(event);
+        } catch (final Throwable e) {
+            LOG.debug("Error committing JFR event {}", this.name, e);
+        }
+    }
+
+    /**
+     * Event field definition.
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    public static final class Field {
+
+        /** The field type. */
+        private final @NotNull Class<?> type;
+        /** The field name. */
+        private final @NotNull String name;
+        /** The field label. */
+        private final @NotNull String label;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param type The field type
+         * @param name The field name
+         * @param label The field label
+         */
+        private Field(
+                final @NotNull Class<?> type,
+                final @NotNull String name,
+                final @NotNull String label) {
+            super();
+            this.type = Validate.notNull(type);
+            this.name = Validate.notNull(name);
+            this.label = Validate.notNull(label);
+        }
+
+        /**
+         * Returns the field type.
+         * 
+         * @return The field type
+         */
+        public @NotNull Class<?> getType() {
+            return this.type;
+        }
+
+        /**
+         * Returns the field name.
+         * 
+         * @return The field name
+         */
+        public @NotNull String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the field label.
+         * 
+         * @return The field label
+         */
+        public @NotNull String getLabel() {
+            return this.label;
+        }
+    }
+
+    /**
+     * JFR API access through {@code MethodHandle}s.
+     */
+    @API(status=Status.INTERNAL, since="0.7")
+    static final class Jfr {
+
+        /** The category of the library events. */
+        private static final String[] CATEGORY = { "Orne Beans" };
+
+        /** The {@code jdk.jfr.Name} annotation type. */
+        private final Class<? extends Annotation> nameType;
+        /** The {@code jdk.jfr.Label} annotation type. */
+        private final Class<? extends Annotation> labelType;
+        /** The {@code jdk.jfr.Description} annotation type. */
+        private final Class<? extends Annotation> descriptionType;
+        /** The {@code jdk.jfr.Category} annotation type. */
+        private final Class<? extends Annotation> categoryType;
+        /** The {@code jdk.jfr.Threshold} annotation type. */
+        private final Class<? extends Annotation> thresholdType;
+        /** The {@code AnnotationElement(Class, Object)} constructor. */
+        private final MethodHandle newAnnotation;
+        /** The {@code ValueDescriptor(Class, String, List)} constructor. */
+        private final MethodHandle newValue;
+        /** The {@code EventFactory.create(List, List)} method. */
+        private final MethodHandle createFactory;
+        /** The {@code EventFactory.getEventType()} method. */
+        final MethodHandle getEventType;
+        /** The {@code EventFactory.newEvent()} method, as {@code (Object)Object}. */
+        final MethodHandle newEvent;
+        /** The {@code EventType.isEnabled()} method, as {@code (Object)boolean}. */
+        final MethodHandle isEnabled;
+        /** The {@code Event.begin()} method, as {@code (Object)void}. */
+        final MethodHandle begin;
+        /** The {@code Event.end()} method, as {@code (Object)void}. */
+        final MethodHandle end;
+        /** The {@code Event.shouldCommit()} method, as {@code (Object)boolean}. */
+        final MethodHandle shouldCommit;
+        /** The {@code Event.set(int, Object)} method, as {@code (Object,int,Object)void}. */
+        final MethodHandle set;
+        /** The {@code Event.commit()} method, as {@code (Object)void}. */
+        final MethodHandle commit;
+
+        /**
+         * Creates a new instance, looking up the JFR API.
+         * 
+         * @throws ReflectiveOperationException If the JFR API is not
+         * available
+         */
+        private Jfr()
+        throws ReflectiveOperationException {
+            super();
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> annotationElementType = Class.forName("jdk.jfr.AnnotationElement");
+            final Class<?> valueDescriptorType = Class.forName("jdk.jfr.ValueDescriptor");
+            final Class<?> eventFactoryType = Class.forName("jdk.jfr.EventFactory");
+            final Class<?> eventTypeType = Class.forName("jdk.jfr.EventType");
+            final Class<?> eventType = Class.forName("jdk.jfr.Event");
+            this.nameType = annotationType("jdk.jfr.Name");
+            this.labelType = annotationType("jdk.jfr.Label");
+            this.descriptionType = annotationType("jdk.jfr.Description");
+            this.categoryType = annotationType("jdk.jfr.Category");
+            this.thresholdType = annotationType("jdk.jfr.Threshold");
+            this.newAnnotation = lookup.findConstructor(
+                    annotationElementType,
+                    MethodType.methodType(void.class, Class.class, Object.class));
+            this.newValue = lookup.findConstructor(
+                    valueDescriptorType,
+                    MethodType.methodType(void.class, Class.class, String.class, List.class));
+            this.createFactory = lookup.findStatic(
+                    eventFactoryType,
+                    "create",
+                    MethodType.methodType(eventFactoryType, List.class, List.class));
+            this.getEventType = lookup.findVirtual(
+                    eventFactoryType,
+                    "getEventType",
+                    MethodType.methodType(eventTypeType));
+            this.newEvent = lookup.findVirtual(
+                    eventFactoryType,
+                    "newEvent",
+                    MethodType.methodType(eventType))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            this.isEnabled = lookup.findVirtual(
+                    eventTypeType,
+                    "isEnabled",
+                    MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            this.begin = lookup.findVirtual(eventType, "begin", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            this.end = lookup.findVirtual(eventType, "end", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            this.shouldCommit = lookup.findVirtual(
+                    eventType,
+                    "shouldCommit",
+                    MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            this.set = lookup.findVirtual(
+                    eventType,
+                    "set",
+                    MethodType.methodType(void.class, int.class, Object.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            this.commit = lookup.findVirtual(eventType, "commit", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+        }
+
+        /**
+         * Looks up the JFR API.
+         * 
+         * @return The JFR API access, or {@code null} if JFR is not available
+         */
+        static Jfr load() {
+            try {
+                return new Jfr();
+            } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+                LOG.debug("JFR not available. JFR events are disabled.", e);
+                return null;
+            }
+        }
+
+        /**
+         * Loads the specified annotation type.
+         * 
+         * @param name The annotation type name
+         * @return The annotation type
+         * @throws ClassNotFoundException If the type is not found
+         */
+        private static Class<? extends Annotation> annotationType(
+                final @NotNull String name)
+        throws ClassNotFoundException {
+            return Class.forName(name).asSubclass(Annotation.class);
+        }
+
+        /**
+         * Creates a new JFR event factory.
+         * 
+         * @param name The event name
+         * @param label The event label
+         * @param description The event description
+         * @param threshold The default event duration threshold
+         * @param fields The event fields
+         * @return The event factory
+         * @throws Throwable If an error occurs
+         */
+        Object createFactory(
+                final @NotNull String name,
+                final @NotNull String label,
+                final @NotNull String description,
+                final String threshold,
+                final @NotNull Field... fields)
+        throws Throwable {
+            final List<Object> annotations = new ArrayList<>();
+            annotations.add(this.newAnnotation.invoke(this.nameType, name));
+            annotations.add(this.newAnnotation.invoke(this.labelType, label));
+            annotations.add(this.newAnnotation.invoke(this.descriptionType, description));
+            annotations.add(this.newAnnotation.invoke(this.categoryType, CATEGORY));
+            if (threshold != null) {
+                annotations.add(this.newAnnotation.invoke(this.thresholdType, threshold));
+            }
+            final List<Object> values = new ArrayList<>(fields.length);
+            for (final Field field : fields) {
+                values.add(this.newValue.invoke(
+                        field.getType(),
+                        field.getName(),
+                        Collections.singletonList(
+                                this.newAnnotation.invoke(this.labelType, field.getLabel()))));
+            }
+            return this.createFactory.invoke(annotations, values);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Service provider interface of metrics recorders. Implementations are
+ * discovered through {@code ServiceLoader} and receive the counters and
+ * timers recorded by the library in its hot paths, allowing bridging them
+ * to metrics libraries.
+ * <p>
+ * Implementations must be thread safe, must be fast and must not throw
+ * exceptions, as they are called synchronously from the instrumented
+ * code. The names of the recorded metrics are defined in
+ * {@link BeansMetrics}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeansMetrics
+ */
+@API(status=Status.EXPERIMENTAL, since="0.7")
+public interface MetricsRecorder {
+
+    /**
+     * Increments by one the counter with the specified name.
+     * 
+     * @param name The counter name
+     */
+    void increment(
+            @NotNull String name);
+
+    /**
+     * Records a duration for the timer with the specified name.
+     * 
+     * @param name The timer name
+     * @param durationNanos The recorded duration, in nanoseconds
+     */
+    void record(
+            @NotNull String name,
+            long durationNanos);
+}
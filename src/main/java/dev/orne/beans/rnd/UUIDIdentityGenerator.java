@@ -0,0 +1,70 @@
+package dev.orne.beans.rnd;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.beans.UUIDIdentity;
+import dev.orne.test.rnd.AbstractTypedGenerator;
+
+/**
+ * Generator of {@code UUIDIdentity} values.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ */
+@API(status=Status.INTERNAL, since="0.7")
+public class UUIDIdentityGenerator
+extends AbstractTypedGenerator<UUIDIdentity> {
+
+    /**
+     * Creates a new instance.
+     */
+    public UUIDIdentityGenerator() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an identity with the nil {@code UUID}.
+     */
+    @Override
+    public @NotNull UUIDIdentity defaultValue() {
+        return new UUIDIdentity(0L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull UUIDIdentity randomValue() {
+        return new UUIDIdentity(UUID.randomUUID());
+    }
+}
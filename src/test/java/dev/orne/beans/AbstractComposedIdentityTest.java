@@ -622,6 +622,121 @@ extends AbstractIdentityTest {
                     3));
     }
 
+    /**
+     * Test for {@link AbstractComposedIdentity#getIdentityTokenBody()}
+     * not modifying the identity token body parts.
+     */
+    @Test
+    void testGetIdentityTokenBody_PartsNotModified() {
+        final AbstractComposedIdentity identity = spy(AbstractComposedIdentity.class);
+        final String[] parts = new String[] { "first", null };
+        given(identity.getIdentityTokenBodyParts()).willReturn(parts);
+        assertEquals(
+                "first" + AbstractComposedIdentity.DEFAULT_SEPARATOR
+                + AbstractComposedIdentity.DEFAULT_NULL_PLACEHOLDER,
+                identity.getIdentityTokenBody());
+        assertArrayEquals(new String[] { "first", null }, parts);
+    }
+
+    /**
+     * Test for {@link AbstractComposedIdentity#extractRequiredTokenBodyParts(String, String, String, String, String[])}.
+     */
+    @Test
+    void testExtractRequiredTokenBodyParts_Target() {
+        final String prefix = "PREFIX";
+        final String separator = "<sep>";
+        final String nullPlaceholder = "<null>";
+        final String token = IdentityTokenFormatter.format(prefix,
+                "a" + separator + nullPlaceholder + separator + "c");
+        final String[] target = new String[3];
+        assertSame(target, AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, token, separator, nullPlaceholder, target));
+        assertArrayEquals(new String[] { "a", null, "c" }, target);
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, token, separator, nullPlaceholder, null));
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, token, separator, nullPlaceholder, new String[2]));
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, token, separator, nullPlaceholder, new String[4]));
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, prefix + IdentityTokenFormatter.NULL_BODY, separator, nullPlaceholder, new String[1]));
+        assertArrayEquals(new String[0], AbstractComposedIdentity.extractRequiredTokenBodyParts(
+                prefix, prefix + IdentityTokenFormatter.NULL_BODY, separator, nullPlaceholder, new String[0]));
+    }
+
+    /**
+     * Test for {@link AbstractComposedIdentity#splitTokenBodyParts(CharSequence, String, String)}.
+     */
+    @Test
+    void testSplitTokenBodyParts() {
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.splitTokenBodyParts(
+                null, ",", "\0"));
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.splitTokenBodyParts(
+                "a", null, "\0"));
+        assertThrows(IllegalArgumentException.class, () -> AbstractComposedIdentity.splitTokenBodyParts(
+                "a", "", "\0"));
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.splitTokenBodyParts(
+                "a", ",", null));
+        assertArrayEquals(
+                new String[] { "" },
+                AbstractComposedIdentity.splitTokenBodyParts("", ",", "\0"));
+        assertArrayEquals(
+                new String[] { "a", "b", "c" },
+                AbstractComposedIdentity.splitTokenBodyParts("a,b,c", ",", "\0"));
+        assertArrayEquals(
+                new String[] { "", "a", "", "" },
+                AbstractComposedIdentity.splitTokenBodyParts(",a,,", ",", "\0"));
+        assertArrayEquals(
+                new String[] { null, "a", null },
+                AbstractComposedIdentity.splitTokenBodyParts("\0,a,\0", ",", "\0"));
+        assertArrayEquals(
+                new String[] { "a", "b" },
+                AbstractComposedIdentity.splitTokenBodyParts("a|b", "|", "\0"));
+        assertArrayEquals(
+                new String[] { "a.b", null },
+                AbstractComposedIdentity.splitTokenBodyParts(
+                        new StringBuilder("a.b<sep><null>"), "<sep>", "<null>"));
+    }
+
+    /**
+     * Test for {@link AbstractComposedIdentity#splitTokenBodyParts(CharSequence, String, String, String[])}.
+     */
+    @Test
+    void testSplitTokenBodyParts_Target() {
+        final String[] target = new String[3];
+        assertTrue(AbstractComposedIdentity.splitTokenBodyParts("a,\0,", ",", "\0", target));
+        assertArrayEquals(new String[] { "a", null, "" }, target);
+        assertFalse(AbstractComposedIdentity.splitTokenBodyParts("a,b", ",", "\0", target));
+        assertFalse(AbstractComposedIdentity.splitTokenBodyParts("a,b,c,d", ",", "\0", target));
+        assertFalse(AbstractComposedIdentity.splitTokenBodyParts("", ",", "\0", new String[0]));
+        assertTrue(AbstractComposedIdentity.splitTokenBodyParts(
+                new StringBuilder("a,b,c"), ",", "\0", target));
+        assertArrayEquals(new String[] { "a", "b", "c" }, target);
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.splitTokenBodyParts(
+                "a", ",", "\0", null));
+    }
+
+    /**
+     * Test for {@link AbstractComposedIdentity#joinTokenBodyParts(String[], String, String)}.
+     */
+    @Test
+    void testJoinTokenBodyParts() {
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.joinTokenBodyParts(
+                null, ",", "\0"));
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.joinTokenBodyParts(
+                new String[0], null, "\0"));
+        assertThrows(NullPointerException.class, () -> AbstractComposedIdentity.joinTokenBodyParts(
+                new String[0], ",", null));
+        assertEquals("", AbstractComposedIdentity.joinTokenBodyParts(
+                new String[0], ",", "\0"));
+        assertEquals("a", AbstractComposedIdentity.joinTokenBodyParts(
+                new String[] { "a" }, ",", "\0"));
+        assertEquals("\0", AbstractComposedIdentity.joinTokenBodyParts(
+                new String[] { null }, ",", "\0"));
+        assertEquals("a<sep><null><sep>", AbstractComposedIdentity.joinTokenBodyParts(
+                new String[] { "a", null, "" }, "<sep>", "<null>"));
+    }
+
     /**
      * Mock implementation of {@code AbstractComposedIdentity}
      * for testing.
@@ -171,6 +171,32 @@ class AbstractIdentityTest {
         assertEquals(identity.hashCode(), other.hashCode());
     }
 
+    /**
+     * Test for {@link AbstractIdentity#getIdentityToken()} with compact
+     * identity token bodies.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testGetIdentityTokenCompact()
+    throws Throwable {
+        final String body = "123e4567-e89b-12d3-a456-426614174000";
+        final AbstractIdentity identity = new TestIdentity() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean isCompactIdentityToken() {
+                return true;
+            }
+            @Override
+            protected String getIdentityTokenBody() {
+                return body;
+            }
+        };
+        final String result = identity.getIdentityToken();
+        assertEquals(IdentityTokenFormatter.formatCompact(body), result);
+        assertTrue(result.length() < IdentityTokenFormatter.format(body).length());
+        assertEquals(body, identity.parseIdentityTokenBody(result));
+    }
+
     /**
      * Test for {@link AbstractIdentity#toString()}.
      * @throws Throwable Should not happen
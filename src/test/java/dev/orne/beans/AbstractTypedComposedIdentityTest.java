@@ -0,0 +1,282 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.Generators;
+
+/**
+ * Unit tests for {@code AbstractTypedComposedIdentity}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see AbstractTypedComposedIdentity
+ */
+@Tag("ut")
+class AbstractTypedComposedIdentityTest
+extends AbstractIdentityTest {
+
+    /** The time unit codec. */
+    private static final IdentityPartCodec<TimeUnit> UNIT =
+            IdentityPartCodecs.ofEnum(TimeUnit.class);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull AbstractIdentity createInstance() {
+        return new TestIdentity(
+                Generators.randomValue(Long.class),
+                Generators.randomValue(TimeUnit.class),
+                Generators.randomValue(UUID.class),
+                Generators.nullableRandomValue(String.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull AbstractIdentity createCopy(
+            final @NotNull AbstractIdentity copy) {
+        return new TestIdentity((TestIdentity) copy);
+    }
+
+    /**
+     * Test for {@link AbstractTypedComposedIdentity#getIdentityToken()}
+     * and {@link AbstractTypedComposedIdentity#readTokenBodyParts(String, String)}.
+     */
+    @Test
+    void testTokenRoundTrip() {
+        final TestIdentity identity = new TestIdentity(
+                Long.MIN_VALUE,
+                TimeUnit.DAYS,
+                UUID.randomUUID(),
+                "text \ud83d\ude00");
+        final String token = identity.getIdentityToken();
+        assertTrue(IdentityTokenFormatter.isValidToken(token));
+        assertTrue(token.startsWith(IdentityTokenFormatter.DEFAULT_PREFIX + "_"));
+        final TestIdentity result = TestIdentity.fromIdentityToken(token);
+        assertEquals(identity, result);
+        assertEquals(token, result.getIdentityToken());
+    }
+
+    /**
+     * Test for {@link AbstractTypedComposedIdentity#getIdentityTokenBody()}
+     * and {@link AbstractTypedComposedIdentity#getEncodedIdentityTokenBody()}.
+     */
+    @Test
+    void testGetIdentityTokenBody() {
+        final TestIdentity identity = (TestIdentity) createInstance();
+        final String token = identity.getIdentityToken();
+        assertEquals(token, identity.getIdentityTokenPrefix() + identity.getEncodedIdentityTokenBody());
+        assertEquals(identity.parseIdentityTokenBody(token), identity.getIdentityTokenBody());
+        assertEquals(
+                IdentityTokenFormatter.BINARY_BODY_PREFIX + identity.getIdentityTokenBody(),
+                identity.getEncodedIdentityTokenBody());
+        assertEquals(token, identity.toString());
+        assertSame(token, identity.getIdentityToken());
+    }
+
+    /**
+     * Test for {@link AbstractTypedComposedIdentity#getIdentityTokenBinaryBody()}.
+     */
+    @Test
+    void testGetIdentityTokenBinaryBodyEmpty() {
+        final AbstractTypedComposedIdentity identity = new AbstractTypedComposedIdentity() {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected void writeIdentityTokenBodyParts(
+                    final @NotNull IdentityPartWriter writer) {
+                // No parts
+            }
+        };
+        assertThrows(IllegalStateException.class, identity::getIdentityToken);
+    }
+
+    /**
+     * Test for {@link AbstractTypedComposedIdentity#readTokenBodyParts(String, String)}.
+     */
+    @Test
+    void testReadTokenBodyParts() {
+        final IdentityPartReader reader = AbstractTypedComposedIdentity.readTokenBodyParts(
+                "P",
+                IdentityTokenFormatter.formatBinary("P", new byte[] { 2 }));
+        assertEquals(1, reader.readLong());
+        reader.end();
+        assertThrows(NullPointerException.class,
+                () -> AbstractTypedComposedIdentity.readTokenBodyParts(null, "P_AQ"));
+        assertThrows(NullPointerException.class,
+                () -> AbstractTypedComposedIdentity.readTokenBodyParts("P", null));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> AbstractTypedComposedIdentity.readTokenBodyParts("P", "P_"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> AbstractTypedComposedIdentity.readTokenBodyParts("P", "Pbody"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> AbstractTypedComposedIdentity.readTokenBodyParts("P", "X_AQ"));
+    }
+
+    /**
+     * Test for {@link TestIdentity#fromIdentityToken(String)} with
+     * malformed identity token bodies.
+     */
+    @Test
+    void testResolveMalformed() {
+        final String extra = IdentityTokenFormatter.formatBinary(
+                IdentityTokenFormatter.DEFAULT_PREFIX,
+                new IdentityPartWriter()
+                    .writeLong(1)
+                    .write(UNIT, TimeUnit.DAYS)
+                    .write(IdentityPartCodecs.UUID, UUID.randomUUID())
+                    .write(IdentityPartCodecs.nullable(IdentityPartCodecs.STRING), null)
+                    .writeByte(0)
+                    .toByteArray());
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> TestIdentity.fromIdentityToken(extra));
+        final String truncated = IdentityTokenFormatter.formatBinary(
+                IdentityTokenFormatter.DEFAULT_PREFIX,
+                new IdentityPartWriter()
+                    .writeLong(1)
+                    .write(UNIT, TimeUnit.DAYS)
+                    .toByteArray());
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> TestIdentity.fromIdentityToken(truncated));
+    }
+
+    private static class TestIdentity
+    extends AbstractTypedComposedIdentity {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+        /** The nullable text codec. */
+        private static final IdentityPartCodec<String> TEXT =
+                IdentityPartCodecs.nullable(IdentityPartCodecs.STRING);
+
+        /** The first identity value. */
+        private final long value0;
+        /** The second identity value. */
+        private final TimeUnit value1;
+        /** The third identity value. */
+        private final UUID value2;
+        /** The fourth identity value. */
+        private final String value3;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param value0 The first identity value
+         * @param value1 The second identity value
+         * @param value2 The third identity value
+         * @param value3 The fourth identity value
+         */
+        public TestIdentity(
+                final long value0,
+                final @NotNull TimeUnit value1,
+                final @NotNull UUID value2,
+                final String value3) {
+            super();
+            this.value0 = value0;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        /**
+         * Copy constructor.
+         * 
+         * @param copy The instance to copy
+         */
+        public TestIdentity(
+                final @NotNull TestIdentity copy) {
+            this(copy.value0, copy.value1, copy.value2, copy.value3);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void writeIdentityTokenBodyParts(
+                final @NotNull IdentityPartWriter writer) {
+            writer.writeLong(this.value0)
+                .write(UNIT, this.value1)
+                .write(IdentityPartCodecs.UUID, this.value2)
+                .write(TEXT, this.value3);
+        }
+
+        /**
+         * Resolves the specified identity token to a valid {@code TestIdentity}.
+         * 
+         * @param token The identity token
+         * @return The resolved identity
+         * @throws NullPointerException If the identity token is {@code null}
+         * @throws UnrecognizedIdentityTokenException If the identity token is not
+         * a valid identity token, it doesn't start with the expected prefix or
+         * the identity token body parts are no valid
+         */
+        @IdentityTokenResolver
+        public static @NotNull TestIdentity fromIdentityToken(
+                final @NotNull String token) {
+            final IdentityPartReader reader = readTokenBodyParts(
+                    IdentityTokenFormatter.DEFAULT_PREFIX,
+                    token);
+            final TestIdentity result = new TestIdentity(
+                    reader.readLong(),
+                    reader.read(UNIT),
+                    reader.read(IdentityPartCodecs.UUID),
+                    reader.read(TEXT));
+            reader.end();
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), this.value0, this.value1, this.value2, this.value3);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (!super.equals(obj)) { return false; }
+            final TestIdentity other = (TestIdentity) obj;
+            return this.value0 == other.value0
+                    && this.value1 == other.value1
+                    && Objects.equals(this.value2, other.value2)
+                    && Objects.equals(this.value3, other.value3);
+        }
+    }
+}
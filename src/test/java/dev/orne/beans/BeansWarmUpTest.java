@@ -0,0 +1,211 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.validation.constraints.NotBlank;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.beans.IdentityResolver.UnresolvableIdentityException;
+import dev.orne.beans.converters.OrneBeansConverters;
+
+/**
+ * Unit tests for {@code BeansWarmUp}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeansWarmUp
+ */
+@Tag("ut")
+class BeansWarmUpTest {
+
+    /**
+     * Test for {@link BeansWarmUp#builder()}.
+     */
+    @Test
+    void testBuilder() {
+        final BeansWarmUp result = BeansWarmUp.builder()
+                .types(StringIdentity.class)
+                .types(Arrays.asList(LongIdentity.class))
+                .packages("dev.orne.beans.metrics")
+                .parallel(true)
+                .build();
+        assertEquals(
+                new HashSet<>(Arrays.asList(StringIdentity.class, LongIdentity.class)),
+                result.getTypes());
+        assertEquals(
+                new HashSet<>(Arrays.asList("dev.orne.beans.metrics")),
+                result.getPackages());
+        assertTrue(result.isParallel());
+        assertNotNull(result.getClassLoader());
+        final ClassLoader loader = new ClassLoader() {};
+        assertSame(loader, BeansWarmUp.builder().classLoader(loader).build().getClassLoader());
+        assertFalse(BeansWarmUp.builder().build().isParallel());
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#builder()} with invalid arguments.
+     */
+    @Test
+    void testBuilderInvalid() {
+        final BeansWarmUp.Builder builder = BeansWarmUp.builder();
+        assertThrows(NullPointerException.class,
+                () -> builder.types((Class<?>[]) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.types((Class<?>) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.types(Arrays.asList((Class<?>) null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.packages((String) null));
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#run()} with types.
+     */
+    @Test
+    void testRunTypes() {
+        final BeansWarmUp.Result result = BeansWarmUp.builder()
+                .types(
+                        StringIdentity.class,
+                        Identity.class,
+                        Month.class,
+                        BaseIdentityBean.class,
+                        int.class)
+                .build()
+                .run();
+        assertTrue(result.isSuccessful());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(
+                new HashSet<>(Arrays.asList(
+                        StringIdentity.class,
+                        Identity.class,
+                        Month.class,
+                        BaseIdentityBean.class)),
+                result.getTypes());
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#run()} with misconfigured identity types.
+     */
+    @Test
+    void testRunFailure() {
+        final BeansWarmUp.Result result = BeansWarmUp.builder()
+                .types(StringIdentity.class, TestMisconfiguredIdentity.class)
+                .build()
+                .run();
+        assertFalse(result.isSuccessful());
+        assertEquals(
+                new HashSet<>(Arrays.asList(StringIdentity.class)),
+                result.getTypes());
+        assertEquals(1, result.getFailures().size());
+        assertTrue(result.getFailures().get(TestMisconfiguredIdentity.class)
+                instanceof UnresolvableIdentityException);
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#run()} with packages, in parallel.
+     */
+    @Test
+    void testRunPackagesParallel() {
+        final BeansWarmUp.Result result = BeansWarmUp.builder()
+                .packages("dev.orne.beans.converters")
+                .parallel(true)
+                .build()
+                .run();
+        final Set<Class<?>> types = new HashSet<>(result.getTypes());
+        types.addAll(result.getFailures().keySet());
+        assertTrue(types.contains(OrneBeansConverters.class));
+        assertFalse(types.contains(StringIdentity.class));
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#run()} using the configured class loader
+     * as context class loader, in parallel.
+     */
+    @Test
+    void testRunClassLoaderParallel() {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextLoader = thread.getContextClassLoader();
+        final RecordingClassLoader loader = new RecordingClassLoader(
+                BeansWarmUpTest.class.getClassLoader());
+        final BeansWarmUp.Result result = BeansWarmUp.builder()
+                .types(
+                        JacksonSpiTypeIdResolverTest.AnnotatedType.class,
+                        JacksonSpiTypeIdResolverTest.DerivedType.class)
+                .classLoader(loader)
+                .parallel(true)
+                .build()
+                .run();
+        assertTrue(result.isSuccessful());
+        assertSame(contextLoader, thread.getContextClassLoader());
+        assertTrue(loader.resources.contains("META-INF/services/"
+                + JacksonSpiTypeIdResolverTest.AnnotatedType.class.getName()));
+        assertTrue(loader.resources.contains("META-INF/services/"
+                + JacksonSpiTypeIdResolverTest.DerivedType.class.getName()));
+    }
+
+    /**
+     * Test for {@link BeansWarmUp#isClassAvailable(String)}.
+     */
+    @Test
+    void testIsClassAvailable() {
+        assertTrue(BeansWarmUp.isClassAvailable(BeansWarmUp.class.getName()));
+        assertFalse(BeansWarmUp.isClassAvailable("dev.orne.beans.NoSuchClass"));
+    }
+
+    private static class RecordingClassLoader
+    extends ClassLoader {
+        private final Set<String> resources = ConcurrentHashMap.newKeySet();
+        RecordingClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+        @Override
+        public Enumeration<URL> getResources(final String name)
+        throws IOException {
+            this.resources.add(name);
+            return super.getResources(name);
+        }
+    }
+
+    public static class TestMisconfiguredIdentity
+    implements Identity {
+        private static final long serialVersionUID = 1L;
+        @Override
+        public @NotBlank String getIdentityToken() {
+            return null;
+        }
+    }
+}
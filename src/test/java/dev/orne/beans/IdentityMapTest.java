@@ -0,0 +1,187 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityMap}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityMap
+ */
+@Tag("ut")
+class IdentityMapTest {
+
+    /**
+     * Test for {@link IdentityMap#put(Identity, Object)} and
+     * {@link IdentityMap#get(Object)}.
+     */
+    @Test
+    void testPutGet() {
+        final IdentityMap<String> map = new IdentityMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(new LongIdentity(1L), "long"));
+        assertNull(map.put(new StringIdentity("1"), "string"));
+        assertNull(map.put(new BigIntegerIdentity(BigInteger.ONE), "bigint"));
+        assertNull(map.put(new UUIDIdentity(new UUID(1L, 2L)), "uuid"));
+        assertNull(map.put(new LongIdentity((Long) null), "null long"));
+        assertEquals(5, map.size());
+        assertEquals("long", map.get(new LongIdentity(1L)));
+        assertEquals("long", map.getLongIdentity(1L));
+        assertEquals("string", map.get(new StringIdentity("1")));
+        assertEquals("bigint", map.get(new BigIntegerIdentity(BigInteger.ONE)));
+        assertEquals("uuid", map.get(new UUIDIdentity(new UUID(1L, 2L))));
+        assertEquals("null long", map.get(new LongIdentity((Long) null)));
+        assertNull(map.get(new LongIdentity(2L)));
+        assertNull(map.get(new TokenIdentity("1")));
+        assertNull(map.get("1"));
+        assertNull(map.get(null));
+        assertEquals("long", map.put(new LongIdentity(1L), "long2"));
+        assertEquals("string", map.put(new StringIdentity("1"), "string2"));
+        assertEquals(5, map.size());
+        assertEquals("long2", map.get(new LongIdentity(1L)));
+        assertEquals("string2", map.get(new StringIdentity("1")));
+        assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+    }
+
+    /**
+     * Test for {@link IdentityMap} with {@code null} values.
+     */
+    @Test
+    void testNullValues() {
+        final IdentityMap<String> map = new IdentityMap<>();
+        assertNull(map.put(new LongIdentity(1L), null));
+        assertNull(map.put(new StringIdentity("a"), null));
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(new LongIdentity(1L)));
+        assertTrue(map.containsLongIdentity(1L));
+        assertTrue(map.containsKey(new StringIdentity("a")));
+        assertNull(map.get(new LongIdentity(1L)));
+        assertTrue(map.containsValue(null));
+        assertNull(map.remove(new LongIdentity(1L)));
+        assertFalse(map.containsKey(new LongIdentity(1L)));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Test for {@link IdentityMap#remove(Object)} and removed slots reuse.
+     */
+    @Test
+    void testRemove() {
+        final IdentityMap<Long> map = new IdentityMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.putLongIdentity(i, Long.valueOf(i));
+            map.put(new StringIdentity("s" + i), Long.valueOf(i));
+        }
+        assertEquals(2000, map.size());
+        for (int round = 0; round < 10; round++) {
+            for (long i = 0; i < 1000; i += 2) {
+                assertEquals(Long.valueOf(i), map.remove(new LongIdentity(i)));
+                assertEquals(Long.valueOf(i), map.remove(new StringIdentity("s" + i)));
+                assertNull(map.remove(new LongIdentity(i)));
+            }
+            assertEquals(1000, map.size());
+            for (long i = 0; i < 1000; i += 2) {
+                assertNull(map.put(new LongIdentity(i), Long.valueOf(i)));
+                assertNull(map.put(new StringIdentity("s" + i), Long.valueOf(i)));
+            }
+            assertEquals(2000, map.size());
+        }
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(Long.valueOf(i), map.get(new LongIdentity(i)));
+            assertEquals(Long.valueOf(i), map.get(new StringIdentity("s" + i)));
+        }
+        assertNull(map.removeLongIdentity(5000L));
+        assertNull(map.remove("s1"));
+    }
+
+    /**
+     * Test for {@link IdentityMap} equality with {@code HashMap}.
+     */
+    @Test
+    void testEquals() {
+        final IdentityMap<Integer> map = new IdentityMap<>();
+        final Map<Identity, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            final Identity longKey = new LongIdentity(i * 7919L - 100000L);
+            final Identity stringKey = new StringIdentity("key" + i);
+            map.put(longKey, i);
+            map.put(stringKey, i);
+            expected.put(longKey, i);
+            expected.put(stringKey, i);
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected, new HashMap<>(map));
+        assertEquals(map, new IdentityMap<>(expected));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(new LongIdentity(0L)));
+        map.put(new LongIdentity(0L), 0);
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Test for {@link IdentityMap#entrySet()} iterator.
+     */
+    @Test
+    void testIterator() {
+        final IdentityMap<String> map = new IdentityMap<>();
+        map.put(new LongIdentity(1L), "a");
+        map.put(new LongIdentity(2L), "b");
+        map.put(new StringIdentity("c"), "c");
+        final Iterator<Map.Entry<Identity, String>> it = map.entrySet().iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        int count = 0;
+        while (it.hasNext()) {
+            final Map.Entry<Identity, String> entry = it.next();
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+            if (!"b".equals(entry.getValue())) {
+                it.remove();
+            }
+            count++;
+        }
+        assertEquals(3, count);
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals(1, map.size());
+        assertEquals("b", map.get(new LongIdentity(2L)));
+        final Iterator<Identity> keys = map.keySet().iterator();
+        map.put(new StringIdentity("d"), "d");
+        assertThrows(ConcurrentModificationException.class, keys::next);
+    }
+}
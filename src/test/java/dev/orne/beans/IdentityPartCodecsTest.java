@@ -0,0 +1,152 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityPartCodecs}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartCodecs
+ */
+@Tag("ut")
+class IdentityPartCodecsTest {
+
+    /**
+     * Writes the specified value with the specified codec and reads
+     * it back, verifying that all the written data is read.
+     * 
+     * @param <T> The type of the value
+     * @param codec The codec
+     * @param value The value
+     * @return The read value
+     */
+    private static <T> T roundTrip(
+            final IdentityPartCodec<T> codec,
+            final T value) {
+        final byte[] data = new IdentityPartWriter()
+                .write(codec, value)
+                .toByteArray();
+        final IdentityPartReader reader = new IdentityPartReader(data);
+        final T result = reader.read(codec);
+        reader.end();
+        return result;
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#LONG} and
+     * {@link IdentityPartCodecs#INT}.
+     */
+    @Test
+    void testNumbers() {
+        assertEquals(Long.valueOf(Long.MIN_VALUE), roundTrip(IdentityPartCodecs.LONG, Long.MIN_VALUE));
+        assertEquals(Long.valueOf(0L), roundTrip(IdentityPartCodecs.LONG, 0L));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), roundTrip(IdentityPartCodecs.INT, Integer.MAX_VALUE));
+        assertEquals(Integer.valueOf(-5), roundTrip(IdentityPartCodecs.INT, -5));
+        assertThrows(NullPointerException.class,
+                () -> roundTrip(IdentityPartCodecs.LONG, null));
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#UUID}.
+     */
+    @Test
+    void testUuid() {
+        final UUID value = UUID.randomUUID();
+        assertEquals(value, roundTrip(IdentityPartCodecs.UUID, value));
+        assertEquals(16, new IdentityPartWriter()
+                .write(IdentityPartCodecs.UUID, value)
+                .size());
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#STRING}.
+     */
+    @Test
+    void testString() {
+        assertEquals("", roundTrip(IdentityPartCodecs.STRING, ""));
+        assertEquals("text \u00f1 \ud83d\ude00", roundTrip(IdentityPartCodecs.STRING, "text \u00f1 \ud83d\ude00"));
+        assertThrows(NullPointerException.class,
+                () -> roundTrip(IdentityPartCodecs.STRING, null));
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#ofEnum(Class)}.
+     */
+    @Test
+    void testOfEnum() {
+        final IdentityPartCodec<TimeUnit> codec = IdentityPartCodecs.ofEnum(TimeUnit.class);
+        for (final TimeUnit value : TimeUnit.values()) {
+            assertSame(value, roundTrip(codec, value));
+        }
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(new byte[] { 100 }).read(codec));
+        assertThrows(NullPointerException.class,
+                () -> IdentityPartCodecs.ofEnum(null));
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#IDENTITY} and
+     * {@link IdentityPartCodecs#ofIdentity(Class)}.
+     */
+    @Test
+    void testIdentities() {
+        final LongIdentity value = new LongIdentity(1234L);
+        final Identity result = roundTrip(IdentityPartCodecs.IDENTITY, value);
+        assertTrue(result instanceof TokenIdentity);
+        assertEquals(value.getIdentityToken(), result.getIdentityToken());
+        assertEquals(value, roundTrip(IdentityPartCodecs.ofIdentity(LongIdentity.class), value));
+        assertTrue(roundTrip(IdentityPartCodecs.ofIdentity(Identity.class), value)
+                instanceof TokenIdentity);
+        final byte[] invalid = new IdentityPartWriter()
+                .write(IdentityPartCodecs.IDENTITY, new TokenIdentity("other"))
+                .toByteArray();
+        final IdentityPartReader reader = new IdentityPartReader(invalid);
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> reader.read(IdentityPartCodecs.ofIdentity(LongIdentity.class)));
+    }
+
+    /**
+     * Test for {@link IdentityPartCodecs#nullable(IdentityPartCodec)}.
+     */
+    @Test
+    void testNullable() {
+        final IdentityPartCodec<Long> codec = IdentityPartCodecs.nullable(IdentityPartCodecs.LONG);
+        assertNull(roundTrip(codec, null));
+        assertEquals(Long.valueOf(5L), roundTrip(codec, 5L));
+        assertEquals(1, new IdentityPartWriter().write(codec, null).size());
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(new byte[] { 2 }).read(codec));
+        assertThrows(NullPointerException.class,
+                () -> IdentityPartCodecs.nullable(null));
+    }
+}
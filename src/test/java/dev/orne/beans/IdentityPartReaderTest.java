@@ -0,0 +1,140 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityPartReader}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartReader
+ */
+@Tag("ut")
+class IdentityPartReaderTest {
+
+    /**
+     * Test for {@link IdentityPartReader#IdentityPartReader(byte[], int, int)}.
+     */
+    @Test
+    void testConstructor() {
+        assertThrows(NullPointerException.class,
+                () -> new IdentityPartReader(null));
+        assertThrows(NullPointerException.class,
+                () -> new IdentityPartReader(null, 0, 0));
+        final byte[] data = new byte[] { 1, 2, 3, 4 };
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdentityPartReader(data, -1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdentityPartReader(data, 0, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdentityPartReader(data, 2, 3));
+        final IdentityPartReader reader = new IdentityPartReader(data, 1, 2);
+        assertEquals(2, reader.remaining());
+        assertEquals(2, reader.readByte());
+        assertEquals(3, reader.readByte());
+        assertEquals(0, reader.remaining());
+        assertThrows(UnrecognizedIdentityTokenException.class, reader::readByte);
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#end()}.
+     */
+    @Test
+    void testEnd() {
+        new IdentityPartReader(new byte[0]).end();
+        final IdentityPartReader reader = new IdentityPartReader(new byte[] { 1 });
+        assertThrows(UnrecognizedIdentityTokenException.class, reader::end);
+        reader.readByte();
+        reader.end();
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#readBoolean()} with malformed data.
+     */
+    @Test
+    void testReadBooleanMalformed() {
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(new byte[] { 2 }).readBoolean());
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#readUnsignedVarLong()} with
+     * malformed data.
+     */
+    @Test
+    void testReadVarLongMalformed() {
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(new byte[] { (byte) 0x80 }).readUnsignedVarLong());
+        final byte[] tooLong = new byte[11];
+        Arrays.fill(tooLong, (byte) 0x80);
+        tooLong[10] = 1;
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(tooLong).readUnsignedVarLong());
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#readInt()} with values out of
+     * {@code int} range.
+     */
+    @Test
+    void testReadIntOutOfRange() {
+        final byte[] data = new IdentityPartWriter()
+                .writeLong(Long.MAX_VALUE)
+                .toByteArray();
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(data).readInt());
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#readFixedLong()} with truncated data.
+     */
+    @Test
+    void testReadFixedLongTruncated() {
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(new byte[7]).readFixedLong());
+    }
+
+    /**
+     * Test for {@link IdentityPartReader#readBytes()} and
+     * {@link IdentityPartReader#readString()} with truncated data.
+     */
+    @Test
+    void testReadLengthPrefixedTruncated() {
+        final byte[] data = new byte[] { 3, 'a', 'b' };
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(data).readBytes());
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(data).readString());
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> new IdentityPartReader(data, 0, 2).readString());
+        assertEquals("ab", new IdentityPartReader(new byte[] { 2, 'a', 'b' }).readString());
+    }
+}
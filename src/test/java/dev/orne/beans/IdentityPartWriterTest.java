@@ -0,0 +1,153 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityPartWriter}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityPartWriter
+ */
+@Tag("ut")
+class IdentityPartWriterTest {
+
+    /**
+     * Test for {@link IdentityPartWriter#IdentityPartWriter(int)}.
+     */
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdentityPartWriter(-1));
+        final IdentityPartWriter writer = new IdentityPartWriter(0);
+        assertEquals(0, writer.size());
+        assertArrayEquals(new byte[0], writer.toByteArray());
+        writer.writeFixedLong(1).writeFixedLong(2);
+        assertEquals(16, writer.size());
+    }
+
+    /**
+     * Test for {@link IdentityPartWriter#reset()}.
+     */
+    @Test
+    void testReset() {
+        final IdentityPartWriter writer = new IdentityPartWriter()
+                .writeByte(1)
+                .writeByte(2);
+        assertEquals(2, writer.size());
+        assertSame(writer, writer.reset());
+        assertEquals(0, writer.size());
+        writer.writeByte(3);
+        assertArrayEquals(new byte[] { 3 }, writer.toByteArray());
+    }
+
+    /**
+     * Test for {@link IdentityPartWriter#writeInt(int)} and
+     * {@link IdentityPartWriter#writeLong(long)} zig-zag encoding.
+     */
+    @Test
+    void testWriteVarInts() {
+        assertArrayEquals(new byte[] { 0 }, new IdentityPartWriter().writeInt(0).toByteArray());
+        assertArrayEquals(new byte[] { 1 }, new IdentityPartWriter().writeInt(-1).toByteArray());
+        assertArrayEquals(new byte[] { 2 }, new IdentityPartWriter().writeInt(1).toByteArray());
+        assertArrayEquals(new byte[] { (byte) 0x80, 1 }, new IdentityPartWriter().writeLong(64).toByteArray());
+        assertEquals(5, new IdentityPartWriter().writeInt(Integer.MIN_VALUE).size());
+        assertEquals(10, new IdentityPartWriter().writeLong(Long.MIN_VALUE).size());
+        assertEquals(10, new IdentityPartWriter().writeUnsignedVarLong(-1L).size());
+    }
+
+    /**
+     * Test for {@link IdentityPartWriter#writeFixedLong(long)}.
+     */
+    @Test
+    void testWriteFixedLong() {
+        assertArrayEquals(
+                new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 },
+                new IdentityPartWriter().writeFixedLong(0x0102030405060708L).toByteArray());
+    }
+
+    /**
+     * Test for {@link IdentityPartWriter#writeString(CharSequence)}.
+     */
+    @Test
+    void testWriteString() {
+        final String value = "a\u00f1\u20ac\ud83d\ude00";
+        final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        final byte[] result = new IdentityPartWriter().writeString(value).toByteArray();
+        assertEquals(expected.length, result[0]);
+        assertArrayEquals(expected, Arrays.copyOfRange(result, 1, result.length));
+        final String malformed = "a\ud83d";
+        assertArrayEquals(
+                new byte[] { 2, 'a', '?' },
+                new IdentityPartWriter().writeString(malformed).toByteArray());
+        assertThrows(NullPointerException.class,
+                () -> new IdentityPartWriter().writeString(null));
+    }
+
+    /**
+     * Test for round trips between {@code IdentityPartWriter} and
+     * {@code IdentityPartReader}.
+     */
+    @Test
+    void testRoundTrip() {
+        final byte[] bytes = new byte[] { 0, -1, 127, -128 };
+        final byte[] data = new IdentityPartWriter(1)
+                .writeByte(200)
+                .writeBoolean(true)
+                .writeBoolean(false)
+                .writeInt(Integer.MIN_VALUE)
+                .writeInt(Integer.MAX_VALUE)
+                .writeLong(Long.MIN_VALUE)
+                .writeLong(Long.MAX_VALUE)
+                .writeUnsignedVarLong(-1L)
+                .writeFixedLong(-2L)
+                .writeBytes(bytes)
+                .writeString("")
+                .writeString("text \u00f1")
+                .toByteArray();
+        final IdentityPartReader reader = new IdentityPartReader(data);
+        assertEquals(200, reader.readByte());
+        assertTrue(reader.readBoolean());
+        assertFalse(reader.readBoolean());
+        assertEquals(Integer.MIN_VALUE, reader.readInt());
+        assertEquals(Integer.MAX_VALUE, reader.readInt());
+        assertEquals(Long.MIN_VALUE, reader.readLong());
+        assertEquals(Long.MAX_VALUE, reader.readLong());
+        assertEquals(-1L, reader.readUnsignedVarLong());
+        assertEquals(-2L, reader.readFixedLong());
+        assertArrayEquals(bytes, reader.readBytes());
+        assertEquals("", reader.readString());
+        assertEquals("text \u00f1", reader.readString());
+        assertEquals(0, reader.remaining());
+        reader.end();
+    }
+}
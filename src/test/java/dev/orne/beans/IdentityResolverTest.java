@@ -28,6 +28,7 @@ import static org.mockito.BDDMockito.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -847,6 +848,82 @@ class IdentityResolverTest {
         assertEquals(expectedResult, result);
     }
 
+    /**
+     * Test {@link IdentityResolver#getLinkedResolver(Class)} for identity
+     * types with token resolution method.
+     */
+    @Test
+    void testGetLinkedResolverMethod() {
+        final IdentityResolver instance = createInstance();
+        final String token = "mockToken";
+        final Function<String, TestTokenResolverIdentity> resolver =
+                instance.getLinkedResolver(TestTokenResolverIdentity.class);
+        assertNotNull(resolver);
+        assertSame(resolver, instance.getLinkedResolver(TestTokenResolverIdentity.class));
+        assertNull(resolver.apply(null));
+        final TestTokenResolverIdentity result = resolver.apply(token);
+        assertNotNull(result);
+        assertEquals(token, result.resolverParam);
+    }
+
+    /**
+     * Test {@link IdentityResolver#getLinkedResolver(Class)} for identity
+     * types with token constructor.
+     */
+    @Test
+    void testGetLinkedResolverConstructor() {
+        final IdentityResolver instance = createInstance();
+        final String token = "mockToken";
+        final Function<String, TestTokenConstructorIdentity> resolver =
+                instance.getLinkedResolver(TestTokenConstructorIdentity.class);
+        assertNotNull(resolver);
+        assertNull(resolver.apply(null));
+        final TestTokenConstructorIdentity result = resolver.apply(token);
+        assertNotNull(result);
+        assertEquals(token, result.constructorParam);
+    }
+
+    /**
+     * Test {@link IdentityResolver#getLinkedResolver(Class)} for identity
+     * types which resolution fails.
+     */
+    @Test
+    void testGetLinkedResolverFailures() {
+        final IdentityResolver instance = createInstance();
+        final String token = "mockToken";
+        final UnrecognizedIdentityTokenException result = assertThrows(
+                UnrecognizedIdentityTokenException.class,
+                () -> instance.getLinkedResolver(TestTokenResolverIdentityUnrecognized.class)
+                    .apply(token));
+        assertEquals(token, result.getMessage());
+        final UnrecognizedIdentityTokenException result2 = assertThrows(
+                UnrecognizedIdentityTokenException.class,
+                () -> instance.getLinkedResolver(TestTokenConstructorIdentityIllegal.class)
+                    .apply(token));
+        assertTrue(result2.getCause() instanceof IllegalArgumentException);
+        assertThrows(
+                UnrecognizedIdentityTokenException.class,
+                () -> instance.getLinkedResolver(TestWrongParamsTokenResolverIdentity.class)
+                    .apply(token));
+        assertThrows(
+                UnrecognizedIdentityTokenException.class,
+                () -> instance.getLinkedResolver(TestTokenConstructorIdentityAbstract.class)
+                    .apply(token));
+    }
+
+    /**
+     * Test {@link IdentityResolver#getLinkedResolver(Class)} cache reset
+     * on {@link IdentityResolver#setCache(Cache)}.
+     */
+    @Test
+    void testGetLinkedResolverSetCache() {
+        final IdentityResolver instance = createInstance();
+        final Function<String, TestTokenResolverIdentity> resolver =
+                instance.getLinkedResolver(TestTokenResolverIdentity.class);
+        instance.setCache(new WeakHashMapCache());
+        assertNotSame(resolver, instance.getLinkedResolver(TestTokenResolverIdentity.class));
+    }
+
     /**
      * Tests for {@link IdentityResolver.WeakHashMapCache}.
      */
@@ -0,0 +1,311 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentitySer}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentitySer
+ */
+@Tag("ut")
+class IdentitySerTest {
+
+    /** Default serialized form of {@code LongIdentity(1234567890123L)}, Base64 encoded. */
+    private static final String LEGACY_LONG_IDENTITY =
+            "rO0ABXNyABtkZXYub3JuZS5iZWFucy5Mb25nSWRlbnRpdHlOjU+78qiHDwIAAHhy" +
+            "ACVkZXYub3JuZS5iZWFucy5BYnN0cmFjdFNpbXBsZUlkZW50aXR5vjV9IKX+DwMC" +
+            "AAFMAAV2YWx1ZXQAFkxqYXZhL2lvL1NlcmlhbGl6YWJsZTt4cgAfZGV2Lm9ybmUu" +
+            "YmVhbnMuQWJzdHJhY3RJZGVudGl0eQAAAAAAAAABAgAAeHBzcgAOamF2YS5sYW5n" +
+            "Lkxvbmc7i+SQzI8j3wIAAUoABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUd" +
+            "C5TgiwIAAHhwAAABH3H7BMs=";
+
+    /** Default serialized form of {@code BigIntegerIdentity(123456789012345678901234567890)}, Base64 encoded. */
+    private static final String LEGACY_BIG_INTEGER_IDENTITY =
+            "rO0ABXNyACFkZXYub3JuZS5iZWFucy5CaWdJbnRlZ2VySWRlbnRpdHlOjU+78qiH" +
+            "DwIAAHhyACVkZXYub3JuZS5iZWFucy5BYnN0cmFjdFNpbXBsZUlkZW50aXR5vjV9" +
+            "IKX+DwMCAAFMAAV2YWx1ZXQAFkxqYXZhL2lvL1NlcmlhbGl6YWJsZTt4cgAfZGV2" +
+            "Lm9ybmUuYmVhbnMuQWJzdHJhY3RJZGVudGl0eQAAAAAAAAABAgAAeHBzcgAUamF2" +
+            "YS5tYXRoLkJpZ0ludGVnZXKM/J8fqTv7HQMABkkACGJpdENvdW50SQAJYml0TGVu" +
+            "Z3RoSQATZmlyc3ROb256ZXJvQnl0ZU51bUkADGxvd2VzdFNldEJpdEkABnNpZ251" +
+            "bVsACW1hZ25pdHVkZXQAAltCeHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIA" +
+            "AHhw///////////////+/////gAAAAF1cgACW0Ks8xf4BghU4AIAAHhwAAAADQGO" +
+            "6Q/2w3Pg7k4/CtJ4";
+
+    /** Default serialized form of {@code StringIdentity("Some value")}, Base64 encoded. */
+    private static final String LEGACY_STRING_IDENTITY =
+            "rO0ABXNyAB1kZXYub3JuZS5iZWFucy5TdHJpbmdJZGVudGl0eU6NT7vyqIcPAgAA" +
+            "eHIAJWRldi5vcm5lLmJlYW5zLkFic3RyYWN0U2ltcGxlSWRlbnRpdHm+NX0gpf4P" +
+            "AwIAAUwABXZhbHVldAAWTGphdmEvaW8vU2VyaWFsaXphYmxlO3hyAB9kZXYub3Ju" +
+            "ZS5iZWFucy5BYnN0cmFjdElkZW50aXR5AAAAAAAAAAECAAB4cHQAClNvbWUgdmFs" +
+            "dWU=";
+
+    /** Default serialized form of {@code TokenIdentity("SomeToken")}, Base64 encoded. */
+    private static final String LEGACY_TOKEN_IDENTITY =
+            "rO0ABXNyABxkZXYub3JuZS5iZWFucy5Ub2tlbklkZW50aXR5//////////8CAAFM" +
+            "AA1pZGVudGl0eVRva2VudAASTGphdmEvbGFuZy9TdHJpbmc7eHB0AAlTb21lVG9r" +
+            "ZW4=";
+
+    /** Default serialized form of {@code LongIdentity(null)}, Base64 encoded. */
+    private static final String LEGACY_NULL_LONG_IDENTITY =
+            "rO0ABXNyABtkZXYub3JuZS5iZWFucy5Mb25nSWRlbnRpdHlOjU+78qiHDwIAAHhy" +
+            "ACVkZXYub3JuZS5iZWFucy5BYnN0cmFjdFNpbXBsZUlkZW50aXR5vjV9IKX+DwMC" +
+            "AAFMAAV2YWx1ZXQAFkxqYXZhL2lvL1NlcmlhbGl6YWJsZTt4cgAfZGV2Lm9ybmUu" +
+            "YmVhbnMuQWJzdHJhY3RJZGVudGl0eQAAAAAAAAABAgAAeHBw";
+    /**
+     * Test for serialization round trips of supported identity types.
+     */
+    @Test
+    void testRoundTrip() {
+        assertRoundTrip(new LongIdentity(1234567890123L));
+        assertRoundTrip(new LongIdentity(Long.MIN_VALUE));
+        assertRoundTrip(new LongIdentity(Long.MAX_VALUE));
+        assertRoundTrip(new LongIdentity(-1L));
+        assertRoundTrip(new LongIdentity((Long) null));
+        assertRoundTrip(new BigIntegerIdentity(new BigInteger("-123456789012345678901234567890")));
+        assertRoundTrip(new BigIntegerIdentity(BigInteger.ZERO));
+        assertRoundTrip(new BigIntegerIdentity((BigInteger) null));
+        assertRoundTrip(new StringIdentity("Some value \u00f1"));
+        assertRoundTrip(new StringIdentity(""));
+        assertRoundTrip(new StringIdentity((String) null));
+        assertRoundTrip(new TokenIdentity("SomeToken"));
+        assertRoundTrip(new UUIDIdentity(UUID.randomUUID()));
+    }
+
+    /**
+     * Test for serialization round trips of text identities with values
+     * that are not well-formed UTF-16 text.
+     */
+    @Test
+    void testRoundTripUnpairedSurrogates() {
+        final String[] values = {
+                "\ud83d",
+                "\ude00",
+                "a\ud83db",
+                "a\ude00\ud83d",
+                "\ud83d\ude00\ud83d" };
+        for (final String value : values) {
+            assertFalse(IdentitySer.isWellFormed(value));
+            final StringIdentity string = new StringIdentity(value);
+            assertRoundTrip(string);
+            assertEquals(value, ((StringIdentity) SerializationUtils.roundtrip(string)).getValue());
+            final TokenIdentity token = new TokenIdentity(value);
+            assertRoundTrip(token);
+        }
+        assertTrue(IdentitySer.isWellFormed(""));
+        assertTrue(IdentitySer.isWellFormed("a\ud83d\ude00b"));
+    }
+
+    /**
+     * Test for compact serialized forms, which must be smaller than the
+     * default serialized forms.
+     */
+    @Test
+    void testCompactForm() {
+        assertCompact(LEGACY_LONG_IDENTITY, new LongIdentity(1234567890123L));
+        assertCompact(LEGACY_BIG_INTEGER_IDENTITY,
+                new BigIntegerIdentity(new BigInteger("123456789012345678901234567890")));
+        assertCompact(LEGACY_STRING_IDENTITY, new StringIdentity("Some value"));
+        assertCompact(LEGACY_TOKEN_IDENTITY, new TokenIdentity("SomeToken"));
+        assertCompact(LEGACY_NULL_LONG_IDENTITY, new LongIdentity((Long) null));
+        final byte[] legacy = Base64.getDecoder().decode(LEGACY_LONG_IDENTITY);
+        final byte[] compact = SerializationUtils.serialize(new LongIdentity(1234567890123L));
+        assertTrue(compact.length < legacy.length / 2);
+    }
+
+    /**
+     * Test for deserialization of default serialized forms of previous
+     * versions.
+     */
+    @Test
+    void testLegacyForms() {
+        assertEquals(new LongIdentity(1234567890123L), deserialize(LEGACY_LONG_IDENTITY));
+        assertEquals(new BigIntegerIdentity(new BigInteger("123456789012345678901234567890")),
+                deserialize(LEGACY_BIG_INTEGER_IDENTITY));
+        assertEquals(new StringIdentity("Some value"), deserialize(LEGACY_STRING_IDENTITY));
+        assertEquals(new TokenIdentity("SomeToken"), deserialize(LEGACY_TOKEN_IDENTITY));
+        assertEquals(new LongIdentity((Long) null), deserialize(LEGACY_NULL_LONG_IDENTITY));
+    }
+
+    /**
+     * Test for subclasses of supported identity types, which keep the
+     * default serialized form.
+     */
+    @Test
+    void testSubclass() {
+        final TestLongIdentity identity = new TestLongIdentity(12L);
+        final Serializable result = SerializationUtils.roundtrip(identity);
+        assertEquals(TestLongIdentity.class, result.getClass());
+        assertEquals(identity, result);
+    }
+
+    /**
+     * Test for {@link IdentitySer#writeUnsignedVarLong(long, java.io.DataOutput)}
+     * and {@link IdentitySer#readUnsignedVarLong(java.io.DataInput)}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testUnsignedVarLong()
+    throws IOException {
+        final long[] values = { 0L, 1L, 127L, 128L, 16383L, 16384L, Long.MAX_VALUE, -1L };
+        final int[] sizes = { 1, 1, 1, 2, 2, 3, 9, 10 };
+        for (int i = 0; i < values.length; i++) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            IdentitySer.writeUnsignedVarLong(values[i], new DataOutputStream(bytes));
+            assertEquals(sizes[i], bytes.size());
+            assertEquals(values[i], IdentitySer.readUnsignedVarLong(
+                    new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        }
+        final byte[] invalid = new byte[11];
+        Arrays.fill(invalid, (byte) 0x80);
+        assertThrows(InvalidObjectException.class, () -> IdentitySer.readUnsignedVarLong(
+                new DataInputStream(new ByteArrayInputStream(invalid))));
+    }
+
+    /**
+     * Test for {@link IdentitySer#readIdentity(java.io.DataInput)} with
+     * invalid compact forms.
+     */
+    @Test
+    void testReadIdentityInvalid() {
+        assertInvalid(new byte[] { 0 });
+        assertInvalid(new byte[] { 6 });
+        assertInvalid(new byte[] { IdentitySer.BIG_INTEGER_IDENTITY, 0 });
+        assertInvalid(new byte[] { IdentitySer.TOKEN_IDENTITY, 1, ' ' });
+        assertInvalid(new byte[] { (byte) (IdentitySer.TOKEN_IDENTITY | IdentitySer.NULL_VALUE) });
+        assertInvalid(new byte[] { (byte) (IdentitySer.UUID_IDENTITY | IdentitySer.NULL_VALUE) });
+        assertInvalid(new byte[] { (byte) (IdentitySer.LONG_IDENTITY | IdentitySer.UTF16_VALUE), 0 });
+        assertInvalid(new byte[] { IdentitySer.STRING_IDENTITY, -1, -1, -1, -1, 15 });
+    }
+
+    /**
+     * Test for {@link IdentitySer#readIdentity(java.io.DataInput)} with
+     * length prefixes bigger than the available data.
+     */
+    @Test
+    void testReadIdentityTruncated() {
+        final byte[] bytes = { IdentitySer.STRING_IDENTITY, -1, -1, -1, -1, 3, 'a' };
+        assertThrows(EOFException.class, () -> IdentitySer.readIdentity(
+                new DataInputStream(new ByteArrayInputStream(bytes))));
+        final byte[] chars = {
+                IdentitySer.STRING_IDENTITY | IdentitySer.UTF16_VALUE, -1, -1, -1, -1, 3, 0, 'a' };
+        assertThrows(EOFException.class, () -> IdentitySer.readIdentity(
+                new DataInputStream(new ByteArrayInputStream(chars))));
+    }
+
+    /**
+     * Test for {@link IdentitySer#writeIdentity(Identity, java.io.DataOutput)}
+     * with unsupported identity types.
+     */
+    @Test
+    void testWriteIdentityUnsupported() {
+        assertThrows(InvalidObjectException.class, () -> IdentitySer.writeIdentity(
+                new TestLongIdentity(1L),
+                new DataOutputStream(new ByteArrayOutputStream())));
+    }
+
+    /**
+     * Asserts that the specified identity is serialized in compact form
+     * and deserialized to an equal identity.
+     * 
+     * @param identity The identity
+     */
+    private static void assertRoundTrip(
+            final Identity identity) {
+        final Serializable result = SerializationUtils.roundtrip(identity);
+        assertEquals(identity.getClass(), result.getClass());
+        assertEquals(identity, result);
+        assertEquals(identity.getIdentityToken(), ((Identity) result).getIdentityToken());
+    }
+
+    /**
+     * Asserts that the compact serialized form of the specified identity
+     * is smaller than the specified Base64 encoded default serialized form.
+     * 
+     * @param legacy The Base64 encoded default serialized form
+     * @param identity The identity
+     */
+    private static void assertCompact(
+            final String legacy,
+            final Identity identity) {
+        final byte[] compact = SerializationUtils.serialize(identity);
+        assertTrue(compact.length < Base64.getDecoder().decode(legacy).length);
+    }
+
+    /**
+     * Asserts that the specified compact form is rejected.
+     * 
+     * @param data The compact form
+     */
+    private static void assertInvalid(
+            final byte[] data) {
+        assertThrows(InvalidObjectException.class, () -> IdentitySer.readIdentity(
+                new DataInputStream(new ByteArrayInputStream(data))));
+    }
+
+    /**
+     * Deserializes the specified Base64 encoded serialized form.
+     * 
+     * @param base64 The Base64 encoded serialized form
+     * @return The deserialized object
+     */
+    private static Object deserialize(
+            final String base64) {
+        return SerializationUtils.deserialize(Base64.getDecoder().decode(base64));
+    }
+
+    /**
+     * Subclass of {@code LongIdentity} for serialization tests.
+     */
+    private static class TestLongIdentity
+    extends LongIdentity {
+        private static final long serialVersionUID = 1L;
+        public TestLongIdentity(
+                final Long value) {
+            super(value);
+        }
+    }
+}
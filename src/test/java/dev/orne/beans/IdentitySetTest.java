@@ -0,0 +1,88 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentitySet}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentitySet
+ */
+@Tag("ut")
+class IdentitySetTest {
+
+    /**
+     * Test for {@link IdentitySet#add(Identity)},
+     * {@link IdentitySet#contains(Object)} and
+     * {@link IdentitySet#remove(Object)}.
+     */
+    @Test
+    void testAddContainsRemove() {
+        final IdentitySet set = new IdentitySet();
+        assertTrue(set.add(new LongIdentity(1L)));
+        assertFalse(set.add(new LongIdentity(1L)));
+        assertFalse(set.addLongIdentity(1L));
+        assertTrue(set.addLongIdentity(2L));
+        assertTrue(set.add(new StringIdentity("1")));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(new LongIdentity(2L)));
+        assertTrue(set.containsLongIdentity(1L));
+        assertTrue(set.contains(new StringIdentity("1")));
+        assertFalse(set.contains(new TokenIdentity("1")));
+        assertFalse(set.contains(null));
+        assertTrue(set.remove(new LongIdentity(1L)));
+        assertFalse(set.remove(new LongIdentity(1L)));
+        assertEquals(2, set.size());
+        assertThrows(NullPointerException.class, () -> set.add(null));
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    /**
+     * Test for {@link IdentitySet} equality with {@code HashSet}.
+     */
+    @Test
+    void testEquals() {
+        final Set<Identity> expected = new HashSet<>(Arrays.asList(
+                new LongIdentity(1L),
+                new LongIdentity(-5L),
+                new StringIdentity("a"),
+                new TokenIdentity("b")));
+        final IdentitySet set = new IdentitySet(expected);
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected, new HashSet<>(set));
+    }
+}
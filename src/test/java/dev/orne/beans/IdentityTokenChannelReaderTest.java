@@ -0,0 +1,271 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@code IdentityTokenChannelReader}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenChannelReader
+ */
+@Tag("ut")
+class IdentityTokenChannelReaderTest {
+
+    /**
+     * Test for NDJSON sources.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testNdjson()
+    throws IOException {
+        final String source = " \"abc\" \n\nnull\r\n\"_\"\n\"\"\n\"-12\"";
+        try (final IdentityTokenChannelReader reader = IdentityTokenChannelReader.ndjson(
+                channel(source), 4)) {
+            assertNull(reader.getToken());
+            assertTrue(reader.next());
+            assertEquals(1, reader.getRecordNumber());
+            assertFalse(reader.isNull());
+            assertEquals("abc", reader.getToken().toString());
+            assertTrue(reader.next());
+            assertEquals(2, reader.getRecordNumber());
+            assertTrue(reader.isNull());
+            assertNull(reader.getToken());
+            assertTrue(reader.next());
+            assertEquals("_", reader.getToken().toString());
+            assertTrue(reader.next());
+            assertTrue(reader.isNull());
+            assertTrue(reader.next());
+            assertEquals(new LongIdentity(-12L), reader.decode(
+                    IdentityTokenDecoder.forType(LongIdentity.class)));
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+            assertEquals(5, reader.getRecordNumber());
+        }
+    }
+
+    /**
+     * Test for NDJSON buffer sources.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testNdjsonBuffer()
+    throws IOException {
+        final ByteBuffer source = ByteBuffer.wrap(
+                "\"abc\"\n\"def\"\n".getBytes(StandardCharsets.UTF_8));
+        final IdentityTokenChannelReader reader = IdentityTokenChannelReader.ndjson(source);
+        assertTrue(reader.next());
+        assertEquals("abc", reader.getToken().toString());
+        assertTrue(reader.next());
+        assertEquals("def", reader.getToken().toString());
+        assertFalse(reader.next());
+        assertEquals(0, source.position());
+    }
+
+    /**
+     * Test for CSV sources.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testCsv()
+    throws IOException {
+        final UUIDIdentity identity = new UUIDIdentity(UUID.randomUUID());
+        final String token = identity.getIdentityToken();
+        final String source = "a;\"x;\"\"y\nz\";\"" + token + "\";b\r\n"
+                + "1;2;" + token + "\n"
+                + "1;2;;3\n";
+        final IdentityTokenDecoder<UUIDIdentity> decoder =
+                IdentityTokenDecoder.forType(UUIDIdentity.class);
+        try (final IdentityTokenChannelReader reader = IdentityTokenChannelReader.csv(
+                channel(source), ';', 2, 8)) {
+            assertTrue(reader.next());
+            assertEquals(token, reader.getToken().toString());
+            assertEquals(identity, reader.decode(decoder));
+            assertTrue(reader.next());
+            assertEquals(identity, reader.decode(decoder));
+            assertTrue(reader.next());
+            assertTrue(reader.isNull());
+            assertNull(reader.decode(decoder));
+            assertFalse(reader.next());
+            assertEquals(3, reader.getRecordNumber());
+        }
+    }
+
+    /**
+     * Test for CSV buffer sources.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testCsvBuffer()
+    throws IOException {
+        final ByteBuffer source = ByteBuffer.allocateDirect(16);
+        source.put("a,b\nc,d".getBytes(StandardCharsets.UTF_8));
+        source.flip();
+        final IdentityTokenChannelReader reader = IdentityTokenChannelReader.csv(source, ',', 1);
+        assertTrue(reader.next());
+        assertEquals("b", reader.getToken().toString());
+        assertTrue(reader.next());
+        assertEquals('d', reader.getToken().charAt(0));
+        assertFalse(reader.next());
+    }
+
+    /**
+     * Test for {@link IdentityTokenChannelReader#readBatch(IdentityTokenDecoder, Identity[], int, int)}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testReadBatch()
+    throws IOException {
+        final StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            source.append(i).append('\n');
+        }
+        final IdentityTokenDecoder<LongIdentity> decoder =
+                IdentityTokenDecoder.forType(LongIdentity.class);
+        final LongIdentity[] batch = new LongIdentity[12];
+        try (final IdentityTokenChannelReader reader = IdentityTokenChannelReader.csv(
+                channel(source.toString()), ',', 0, 16)) {
+            assertEquals(10, reader.readBatch(decoder, batch, 2, 10));
+            assertNull(batch[0]);
+            assertEquals(new LongIdentity(0L), batch[2]);
+            assertEquals(new LongIdentity(9L), batch[11]);
+            assertEquals(12, reader.readBatch(decoder, batch, 0, 12));
+            assertEquals(new LongIdentity(21L), batch[11]);
+            assertEquals(3, reader.readBatch(decoder, batch, 0, 12));
+            assertEquals(new LongIdentity(24L), batch[2]);
+            assertEquals(-1, reader.readBatch(decoder, batch, 0, 12));
+        }
+    }
+
+    /**
+     * Test for records longer than the initial read buffer.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testLongRecords()
+    throws IOException {
+        final StringBuilder token = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            token.append((char) ('a' + i % 26));
+        }
+        try (final IdentityTokenChannelReader reader = IdentityTokenChannelReader.ndjson(
+                channel("\"" + token + "\"\n\"b\""), 4)) {
+            assertTrue(reader.next());
+            assertEquals(token.toString(), reader.getToken().toString());
+            assertTrue(reader.next());
+            assertEquals("b", reader.getToken().toString());
+            assertFalse(reader.next());
+        }
+    }
+
+    /**
+     * Test for invalid NDJSON records.
+     * 
+     * @param source The NDJSON source
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "\"a b\"",
+        "abc",
+        "\"\u00f1\"",
+        "nul",
+        "\"abc",
+        "\"a\\\"\"",
+    })
+    void testNdjsonInvalid(
+            final String source) {
+        final IdentityTokenChannelReader reader = IdentityTokenChannelReader.ndjson(
+                channel(source));
+        assertThrows(UnrecognizedIdentityTokenException.class, reader::next);
+    }
+
+    /**
+     * Test for invalid CSV records.
+     * 
+     * @param source The CSV source
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a,b",
+        "\"a,b",
+        "\"a\"x,b,c",
+        "a,b,c d",
+    })
+    void testCsvInvalid(
+            final String source) {
+        final IdentityTokenChannelReader reader = IdentityTokenChannelReader.csv(
+                channel(source), ',', 2);
+        assertThrows(UnrecognizedIdentityTokenException.class, reader::next);
+    }
+
+    /**
+     * Test for invalid CSV separators.
+     */
+    @Test
+    void testCsvInvalidSeparator() {
+        final ReadableByteChannel channel = channel("");
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenChannelReader.csv(channel, 'a', 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenChannelReader.csv(channel, '"', 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenChannelReader.csv(channel, '\n', 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenChannelReader.csv(channel, ',', -1));
+    }
+
+    /**
+     * Creates a channel with the specified UTF-8 encoded source.
+     * 
+     * @param source The source
+     * @return The channel
+     */
+    private static ReadableByteChannel channel(
+            final String source) {
+        return Channels.newChannel(new ByteArrayInputStream(
+                source.getBytes(StandardCharsets.UTF_8)));
+    }
+}
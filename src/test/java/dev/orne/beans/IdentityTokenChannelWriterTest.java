@@ -0,0 +1,143 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityTokenChannelWriter}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenChannelWriter
+ */
+@Tag("ut")
+class IdentityTokenChannelWriterTest {
+
+    /**
+     * Test for NDJSON targets.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testNdjson()
+    throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final IdentityTokenChannelWriter writer = IdentityTokenChannelWriter.ndjson(
+                Channels.newChannel(out), 4)) {
+            writer.write(new LongIdentity(12L));
+            writer.write(null);
+            writer.writeToken("abcdef");
+            writer.writeToken("");
+            writer.writeNull();
+        }
+        assertEquals("\"12\"\nnull\n\"abcdef\"\nnull\nnull\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test for CSV targets.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testCsv()
+    throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final IdentityTokenChannelWriter writer = IdentityTokenChannelWriter.csv(
+                Channels.newChannel(out))) {
+            writer.writeAll(Arrays.asList(new LongIdentity(12L), null, new StringIdentity("a")));
+        }
+        assertEquals("12\n\na\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test for invalid identity tokens.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testInvalidToken()
+    throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final IdentityTokenChannelWriter writer = IdentityTokenChannelWriter.ndjson(
+                Channels.newChannel(out))) {
+            writer.writeToken("a");
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.writeToken("a b"));
+            writer.writeToken("b");
+        }
+        assertEquals("\"a\"\n\"b\"\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test for round trips through {@code IdentityTokenChannelReader}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testRoundTrip()
+    throws IOException {
+        final List<UUIDIdentity> identities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            identities.add(i % 10 == 0 ? null : new UUIDIdentity(UUID.randomUUID()));
+        }
+        for (final boolean json : new boolean[] { true, false }) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (final IdentityTokenChannelWriter writer = json
+                    ? IdentityTokenChannelWriter.ndjson(Channels.newChannel(out), 64)
+                    : IdentityTokenChannelWriter.csv(Channels.newChannel(out), 64)) {
+                writer.writeAll(identities);
+            }
+            final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+            final IdentityTokenDecoder<UUIDIdentity> decoder =
+                    IdentityTokenDecoder.forType(UUIDIdentity.class);
+            final List<UUIDIdentity> result = new ArrayList<>();
+            try (final IdentityTokenChannelReader reader = json
+                    ? IdentityTokenChannelReader.ndjson(Channels.newChannel(in), 64)
+                    : IdentityTokenChannelReader.csv(Channels.newChannel(in), ',', 0, 64)) {
+                while (reader.next()) {
+                    result.add(reader.decode(decoder));
+                }
+            }
+            assertEquals(identities, result);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@code IdentityTokenDecoder} and
+ * {@code IdentityTokenDecoders}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenDecoder
+ */
+@Tag("ut")
+class IdentityTokenDecoderTest {
+
+    /**
+     * Test for {@link IdentityTokenDecoder#forType(Class)}.
+     */
+    @Test
+    void testForType() {
+        assertSame(
+                IdentityTokenDecoder.forType(LongIdentity.class),
+                IdentityTokenDecoder.forType(LongIdentity.class));
+        final Identity identity = IdentityTokenDecoder.forType(Identity.class)
+                .decode(new StringBuilder("abc"));
+        assertTrue(identity instanceof TokenIdentity);
+        assertEquals("abc", identity.getIdentityToken());
+        final StringIdentity stringIdentity = new StringIdentity("a b");
+        assertEquals(stringIdentity, IdentityTokenDecoder.forType(StringIdentity.class)
+                .decode(new StringBuilder(stringIdentity.getIdentityToken())));
+    }
+
+    /**
+     * Test for {@link IdentityTokenDecoders#decodeLongIdentity(CharSequence)}.
+     * 
+     * @param value The identity value
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {
+        0L,
+        1L,
+        -1L,
+        999999999999999999L,
+        -999999999999999999L,
+        Long.MAX_VALUE,
+        Long.MIN_VALUE,
+    })
+    void testDecodeLongIdentity(
+            final long value) {
+        final LongIdentity identity = new LongIdentity(value);
+        assertEquals(identity, IdentityTokenDecoders.decodeLongIdentity(
+                new StringBuilder(identity.getIdentityToken())));
+    }
+
+    /**
+     * Test for {@link IdentityTokenDecoders#decodeLongIdentity(CharSequence)}
+     * with non decimal identity tokens.
+     */
+    @Test
+    void testDecodeLongIdentityFallback() {
+        assertEquals(new LongIdentity((Long) null),
+                IdentityTokenDecoders.decodeLongIdentity(IdentityTokenFormatter.NULL_BODY));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenDecoders.decodeLongIdentity("-"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenDecoders.decodeLongIdentity("12a"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenDecoders.decodeLongIdentity("99999999999999999999"));
+    }
+
+    /**
+     * Test for {@link IdentityTokenDecoders#decodeUUIDIdentity(CharSequence)}.
+     */
+    @Test
+    void testDecodeUUIDIdentity() {
+        final UUID value = UUID.randomUUID();
+        final UUIDIdentity identity = new UUIDIdentity(value);
+        assertEquals(identity, IdentityTokenDecoders.decodeUUIDIdentity(
+                new StringBuilder(identity.getIdentityToken())));
+        assertEquals(identity, IdentityTokenDecoders.decodeUUIDIdentity(
+                new StringIdentity(value.toString()).getIdentityToken()));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenDecoders.decodeUUIDIdentity("abc"));
+    }
+}
@@ -0,0 +1,235 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IdentityTokenDictionary}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityTokenDictionary
+ */
+@Tag("ut")
+class IdentityTokenDictionaryTest {
+
+    /**
+     * Test for {@link IdentityTokenDictionary#add(CharSequence)} and
+     * {@link IdentityTokenDictionary#indexOf(CharSequence)}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testAddIndexOf()
+    throws IOException {
+        try (final IdentityTokenDictionary dictionary = IdentityTokenDictionary.direct()) {
+            assertEquals(0, dictionary.size());
+            assertEquals(-1, dictionary.indexOf("a"));
+            assertEquals(0, dictionary.add("a"));
+            assertEquals(1, dictionary.add(new StringBuilder("b-1_")));
+            assertEquals(0, dictionary.add("a"));
+            assertEquals(2, dictionary.add(new LongIdentity(12L)));
+            assertEquals(3, dictionary.size());
+            assertEquals(1, dictionary.indexOf("b-1_"));
+            assertEquals(1, dictionary.indexOf(new StringBuilder("b-1_")));
+            assertEquals(2, dictionary.indexOf(new TokenIdentity("12")));
+            assertTrue(dictionary.contains("a"));
+            assertFalse(dictionary.contains("c"));
+            assertFalse(dictionary.contains("a b"));
+            assertFalse(dictionary.contains(null));
+            assertEquals(-1, dictionary.indexOf((Identity) null));
+            assertEquals(7L, dictionary.getArenaSize());
+            assertEquals("a", dictionary.getToken(0));
+            assertEquals("b-1_", dictionary.getToken(1));
+            assertEquals("12", dictionary.getToken(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getToken(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getToken(-1));
+        }
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary#add(CharSequence)} with
+     * invalid identity tokens.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testAddInvalid()
+    throws IOException {
+        try (final IdentityTokenDictionary dictionary = IdentityTokenDictionary.direct()) {
+            assertThrows(UnrecognizedIdentityTokenException.class,
+                    () -> dictionary.add(""));
+            assertThrows(UnrecognizedIdentityTokenException.class,
+                    () -> dictionary.add("a b"));
+            assertThrows(UnrecognizedIdentityTokenException.class,
+                    () -> dictionary.add("a\u00f1"));
+            assertThrows(UnrecognizedIdentityTokenException.class,
+                    () -> dictionary.add((CharSequence) null));
+            assertThrows(NullPointerException.class,
+                    () -> dictionary.add((Identity) null));
+            assertEquals(0, dictionary.size());
+        }
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary} with multiple arena chunks,
+     * index pages and hash table growth.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testGrowth()
+    throws IOException {
+        final int count = IdentityTokenDictionary.INDEX_PAGE_ENTRIES * 2 + 10;
+        try (final IdentityTokenDictionary dictionary = new IdentityTokenDictionary(
+                ByteBuffer::allocate, 64, 0, null)) {
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, dictionary.add("token" + i));
+            }
+            final String longToken = "t" + StringUtils.repeat('x', 100);
+            assertEquals(count, dictionary.add(longToken));
+            assertEquals(count + 1, dictionary.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, dictionary.indexOf("token" + i));
+                assertEquals("token" + i, dictionary.getToken(i));
+            }
+            assertEquals(longToken, dictionary.getToken(count));
+            assertEquals(-1, dictionary.indexOf("token" + count));
+        }
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary#tableCapacity(int)} and
+     * {@link IdentityTokenDictionary#grownTableCapacity(int)} at the
+     * maximum hash table capacity.
+     */
+    @Test
+    void testTableCapacityBounds() {
+        final int max = IdentityTokenDictionary.MAX_TABLE_CAPACITY;
+        assertTrue((long) max * IdentityTokenDictionary.SLOT_SIZE <= Integer.MAX_VALUE);
+        assertEquals(IdentityTokenDictionary.MIN_TABLE_CAPACITY,
+                IdentityTokenDictionary.tableCapacity(0));
+        assertEquals(1 << 11, IdentityTokenDictionary.tableCapacity(769));
+        assertEquals(max, IdentityTokenDictionary.tableCapacity(max / 4 * 3));
+        assertEquals(max, IdentityTokenDictionary.tableCapacity(max / 4 * 3 + 1));
+        assertEquals(max, IdentityTokenDictionary.tableCapacity(Integer.MAX_VALUE));
+        assertEquals(max, IdentityTokenDictionary.grownTableCapacity(max / 2));
+        assertThrows(IllegalStateException.class,
+                () -> IdentityTokenDictionary.grownTableCapacity(max));
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary#mapped(Path, int)}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testMapped()
+    throws IOException {
+        final Path file = Files.createTempFile("identity-tokens", ".bin");
+        try {
+            try (final IdentityTokenDictionary dictionary =
+                    IdentityTokenDictionary.mapped(file, 100)) {
+                for (int i = 0; i < 100; i++) {
+                    assertEquals(i, dictionary.add("token" + i));
+                }
+                assertEquals(57, dictionary.indexOf("token57"));
+                assertEquals("token99", dictionary.getToken(99));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary#getIdentity(int)}.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testGetIdentity()
+    throws Exception {
+        try (final IdentityTokenDictionary dictionary = IdentityTokenDictionary.direct();
+                final IdentityTokenDictionary other = IdentityTokenDictionary.direct()) {
+            dictionary.add("a");
+            dictionary.add("b");
+            other.add("b");
+            final IdentityTokenDictionary.View view = dictionary.getIdentity(1);
+            assertSame(dictionary, view.getDictionary());
+            assertEquals(1, view.getId());
+            assertEquals("b", view.getIdentityToken());
+            assertEquals("b", view.toString());
+            assertEquals(new TokenIdentity("b"), view.toTokenIdentity());
+            assertEquals(dictionary.getIdentity(1), view);
+            assertEquals(view.hashCode(), dictionary.getIdentity(1).hashCode());
+            assertNotEquals(dictionary.getIdentity(0), view);
+            assertEquals(other.getIdentity(0), view);
+            assertEquals(other.getIdentity(0).hashCode(), view.hashCode());
+            assertNotEquals(new TokenIdentity("b"), view);
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getIdentity(2));
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(view);
+            }
+            try (final ObjectInputStream in = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertEquals(new TokenIdentity("b"), in.readObject());
+            }
+        }
+    }
+
+    /**
+     * Test for {@link IdentityTokenDictionary#close()}.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testClose()
+    throws IOException {
+        final IdentityTokenDictionary dictionary = IdentityTokenDictionary.direct();
+        dictionary.add("a");
+        final IdentityTokenDictionary.View view = dictionary.getIdentity(0);
+        dictionary.close();
+        dictionary.close();
+        assertThrows(IllegalStateException.class, () -> dictionary.add("b"));
+        assertThrows(IllegalStateException.class, () -> dictionary.indexOf("a"));
+        assertThrows(IllegalStateException.class, () -> dictionary.getToken(0));
+        assertThrows(IllegalStateException.class, view::getIdentityToken);
+        assertThrows(IllegalStateException.class, view::hashCode);
+    }
+}
@@ -24,6 +24,8 @@ package dev.orne.beans;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -347,4 +349,210 @@ class IdentityTokenFormatterTest {
         assertNotNull(result);
         assertEquals(body, result);
     }
+
+    /**
+     * Test {@link IdentityTokenFormatter#formatBinary(String, byte[])}.
+     */
+    @Test
+    void testFormatBinary() {
+        assertThrows(NullPointerException.class,
+                () -> IdentityTokenFormatter.formatBinary(null, new byte[] { 1 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenFormatter.formatBinary("!", new byte[] { 1 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenFormatter.formatBinary("P", new byte[0]));
+        assertEquals("P_", IdentityTokenFormatter.formatBinary("P", null));
+        assertEquals("P__AQ", IdentityTokenFormatter.formatBinary("P", new byte[] { 1 }));
+        assertEquals("P__AQID", IdentityTokenFormatter.formatBinary("P", new byte[] { 1, 2, 3 }));
+        assertEquals("__-_8", IdentityTokenFormatter.formatBinary("", new byte[] { -5, -1 }));
+        final byte[] body = RandomStringUtils.random(100).getBytes(StandardCharsets.UTF_8);
+        final String token = IdentityTokenFormatter.formatBinary("P", body);
+        assertTrue(IdentityTokenFormatter.isValidToken(token));
+        assertArrayEquals(body, IdentityTokenFormatter.parseBinary("P", token));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#parseBinary(String, String)}.
+     */
+    @Test
+    void testParseBinary() {
+        assertThrows(NullPointerException.class,
+                () -> IdentityTokenFormatter.parseBinary(null, "P_AQ"));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenFormatter.parseBinary("!", "P_AQ"));
+        assertThrows(NullPointerException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", null));
+        assertNull(IdentityTokenFormatter.parseBinary("P", "P_"));
+        assertArrayEquals(new byte[] { 1 }, IdentityTokenFormatter.parseBinary("P", "P__AQ"));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, IdentityTokenFormatter.parseBinary("P", "P__AQID"));
+        assertArrayEquals(new byte[] { -5, -1 }, IdentityTokenFormatter.parseBinary("", "__-_8"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "X__AQ"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P_AQ"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P__"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "PAQ"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P__A"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P__A=="));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.parseBinary("P", "P__A+/Q"));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#formatBinary(String, byte[])} and
+     * {@link IdentityTokenFormatter#parse(String, String)} round trip for
+     * binary bodies with leading bytes that encode to
+     * {@link IdentityTokenFormatter#COMPACT_BODY_PREFIX}.
+     */
+    @Test
+    void testBinaryCompactPrefixCollision() {
+        for (int lead = 0xF8; lead <= 0xFB; lead++) {
+            final byte[] body = new byte[] { (byte) lead, 'n', 'A', 'B' };
+            final String token = IdentityTokenFormatter.formatBinary("P", body);
+            assertTrue(IdentityTokenFormatter.isValidToken(token));
+            assertFalse(token.startsWith("P" + IdentityTokenFormatter.COMPACT_BODY_PREFIX));
+            assertArrayEquals(body, IdentityTokenFormatter.parseBinary("P", token));
+            final String parsed = IdentityTokenFormatter.parse("P", token);
+            assertTrue(parsed.startsWith("-"));
+            assertEquals(token, "P" + IdentityTokenFormatter.BINARY_BODY_PREFIX + parsed);
+        }
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#encodeCompactBody(String)}.
+     */
+    @Test
+    void testEncodeCompactBody() {
+        assertEquals(IdentityTokenFormatter.NULL_BODY, IdentityTokenFormatter.encodeCompactBody(null));
+        assertEquals("", IdentityTokenFormatter.encodeCompactBody(""));
+        assertEquals("123", IdentityTokenFormatter.encodeCompactBody("123"));
+        assertEquals("_-nP__________", IdentityTokenFormatter.encodeCompactBody(
+                Long.toString(Long.MIN_VALUE)));
+        assertEquals("_-nP_________-", IdentityTokenFormatter.encodeCompactBody(
+                Long.toString(Long.MAX_VALUE)));
+        assertEquals("9223372036854775808", IdentityTokenFormatter.encodeCompactBody(
+                "9223372036854775808"));
+        assertEquals("_-uAAAAAAAAAAAAAAAAAAAAAA", IdentityTokenFormatter.encodeCompactBody(
+                "00000000-0000-0000-0000-000000000000"));
+        assertEquals("FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF", IdentityTokenFormatter.encodeCompactBody(
+                "FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF"));
+        assertEquals("_-afoLRXVauGUNgZi7gqc", IdentityTokenFormatter.encodeCompactBody(
+                "user@example.com"));
+        assertEquals(IdentityTokenFormatter.encodeBody("a b"),
+                IdentityTokenFormatter.encodeCompactBody("a b"));
+        assertEquals(IdentityTokenFormatter.encodeBody("\u00f1and\u00fa"),
+                IdentityTokenFormatter.encodeCompactBody("\u00f1and\u00fa"));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#decodeBody(String)} with compact
+     * bodies.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "0",
+        "-1",
+        "9223372036854775807",
+        "-9223372036854775808",
+        "123e4567-e89b-12d3-a456-426614174000",
+        "ffffffff-ffff-ffff-ffff-ffffffffffff",
+        "user@example.com",
+        "'some text, with spaces and symbols: !?#%&'",
+        "'~~~~~~~~~~~~~~~~~~'",
+    })
+    void testDecodeCompactBody(
+            final String body) {
+        final String encoded = IdentityTokenFormatter.encodeCompactBody(body);
+        assertTrue(IdentityTokenFormatter.isValidBody(encoded));
+        assertTrue(encoded.length() <= IdentityTokenFormatter.encodeBody(body).length());
+        assertEquals(body, IdentityTokenFormatter.decodeBody(encoded));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#decodeBody(String)} with invalid
+     * compact bodies.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "_-",
+        "_-n",
+        "_-x12",
+        "_-nAB",
+        "_-nQAAAAAAAAAA",
+        "_-aB",
+        "_-a__",
+        "_-uAAA",
+        "_-uAAAAAAAAAAAAAAAAAAAAAB",
+    })
+    void testDecodeCompactBodyInvalid(
+            final String body) {
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> {
+            IdentityTokenFormatter.decodeBody(body);
+        });
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#formatCompact(String, String)}.
+     */
+    @Test
+    void testFormatCompact() {
+        assertThrows(NullPointerException.class,
+                () -> IdentityTokenFormatter.formatCompact(null, "body"));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenFormatter.formatCompact("!", "body"));
+        final String body = "123e4567-e89b-12d3-a456-426614174000";
+        final String token = IdentityTokenFormatter.formatCompact("P", body);
+        assertEquals("P" + IdentityTokenFormatter.encodeCompactBody(body), token);
+        assertTrue(IdentityTokenFormatter.isValidToken(token));
+        assertEquals(body, IdentityTokenFormatter.parse("P", token));
+        assertEquals(
+                IdentityTokenFormatter.formatCompact(IdentityTokenFormatter.DEFAULT_PREFIX, body),
+                IdentityTokenFormatter.formatCompact(body));
+        final String regular = IdentityTokenFormatter.format("P", "\u00f1and\u00fa");
+        assertEquals(regular, IdentityTokenFormatter.formatCompact("P", "\u00f1and\u00fa"));
+        assertEquals("\u00f1and\u00fa", IdentityTokenFormatter.parse("P", regular));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#packToken(String)} and
+     * {@link IdentityTokenFormatter#unpackToken(byte[], int, int)}.
+     */
+    @Test
+    void testPackToken() {
+        final StringBuilder token = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            final byte[] packed = IdentityTokenFormatter.packToken(token.toString());
+            assertEquals(1 + (token.length() * 6 + 7) / 8, packed.length);
+            assertEquals(token.toString(), IdentityTokenFormatter.unpackToken(packed, 0, packed.length));
+            token.append("AZaz09_-".charAt(i % 8));
+        }
+        final byte[] packed = IdentityTokenFormatter.packToken("Prefix_body");
+        final byte[] shifted = new byte[packed.length + 2];
+        System.arraycopy(packed, 0, shifted, 1, packed.length);
+        assertEquals("Prefix_body", IdentityTokenFormatter.unpackToken(shifted, 1, packed.length));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityTokenFormatter.packToken("a b"));
+    }
+
+    /**
+     * Test {@link IdentityTokenFormatter#unpackToken(byte[], int, int)}
+     * with invalid packed tokens.
+     */
+    @Test
+    void testUnpackTokenInvalid() {
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.unpackToken(new byte[0], 0, 0));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.unpackToken(new byte[] { 4 }, 0, 1));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.unpackToken(new byte[] { 0, 1 }, 0, 2));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> IdentityTokenFormatter.unpackToken(new byte[] { 1, 1 }, 0, 2));
+    }
 }
@@ -27,6 +27,9 @@ import static org.mockito.BDDMockito.*;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.Marshaller;
@@ -34,6 +37,7 @@ import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -378,6 +382,58 @@ class IdentityTokenIT {
         assertNull(result.value);
     }
 
+    /**
+     * Test {@link TypedIdentityXmlAdapter} JAXB serialization and
+     * deserialization.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testJaxbTypedIdentityRoundTrip()
+    throws Throwable {
+        final TypedIdentityContainer container = new TypedIdentityContainer();
+        container.setValues(Arrays.asList(
+                new LongIdentity(1L),
+                new LongIdentity(-2L),
+                new LongIdentity(1L)));
+        final String expectedResult =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<container><value>1</value><value>-2</value><value>1</value></container>";
+        final JAXBContext context = JAXBContext.newInstance(TypedIdentityContainer.class);
+        final Marshaller marshaller = context.createMarshaller();
+        final StringWriter writer = new StringWriter();
+        marshaller.marshal(container, writer);
+        assertEquals(expectedResult, writer.toString());
+        final Unmarshaller unmarshaller = context.createUnmarshaller();
+        final TypedIdentityContainer result = (TypedIdentityContainer) unmarshaller.unmarshal(
+                new StringReader(expectedResult));
+        assertEquals(container.getValues(), result.getValues());
+        assertNotSame(result.getValues().get(0), result.getValues().get(2));
+    }
+
+    /**
+     * Test {@link TypedIdentityXmlAdapter} JAXB deserialization with
+     * interning of repeated identity tokens.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testJaxbTypedIdentityInterning()
+    throws Throwable {
+        final String xml =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<container><value>1</value><value>-2</value><value>1</value></container>";
+        final JAXBContext context = JAXBContext.newInstance(TypedIdentityContainer.class);
+        final Unmarshaller unmarshaller = context.createUnmarshaller();
+        unmarshaller.setAdapter(new LongIdentity.LongIdentityXmlAdapter(true));
+        final TypedIdentityContainer result = (TypedIdentityContainer) unmarshaller.unmarshal(
+                new StringReader(xml));
+        assertEquals(Arrays.asList(
+                new LongIdentity(1L),
+                new LongIdentity(-2L),
+                new LongIdentity(1L)),
+                result.getValues());
+        assertSame(result.getValues().get(0), result.getValues().get(2));
+    }
+
     /**
      * Test container.
      */
@@ -407,4 +463,20 @@ class IdentityTokenIT {
             this.value = value;
         }
     }
+
+    /**
+     * Test container.
+     */
+    @XmlRootElement(name = "container")
+    private static class TypedIdentityContainer {
+        private List<LongIdentity> values = new ArrayList<>();
+        @XmlElement(name="value")
+        @XmlJavaTypeAdapter(LongIdentity.LongIdentityXmlAdapter.class)
+        public List<LongIdentity> getValues() {
+            return values;
+        }
+        public void setValues(List<LongIdentity> values) {
+            this.values = values;
+        }
+    }
 }
@@ -142,6 +142,7 @@ class IdentityTokenTest {
         assertNull(adapter.marshal(emptyIdentity));
         assertEquals(identityToken, adapter.marshal(identity));
         assertEquals(identityToken, adapter.marshal(tokenIdentity));
+        then(identity).should().getIdentityToken();
     }
 
     /**
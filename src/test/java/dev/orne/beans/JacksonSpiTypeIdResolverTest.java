@@ -259,6 +259,68 @@ class JacksonSpiTypeIdResolverTest {
         then(context).should().constructType(DerivedTypeImpl.class);
     }
 
+    /**
+     * Test for {@link JacksonSpiTypeIdResolver#init(JavaType)} sharing
+     * discovered sub-types between instances.
+     */
+    @Test
+    void testInit_Shared() {
+        final JavaType type = TypeFactory.defaultInstance().constructType(AnnotatedType.class);
+        final JacksonSpiTypeIdResolver resolver = new JacksonSpiTypeIdResolver();
+        resolver.init(type);
+        final JacksonSpiTypeIdResolver other = new JacksonSpiTypeIdResolver();
+        other.init(type);
+        assertEquals(resolver.getSubtypes(), other.getSubtypes());
+        final JacksonSpiTypeIdResolver derived = new JacksonSpiTypeIdResolver() {};
+        derived.init(type);
+        assertEquals(resolver.getSubtypes(), derived.getSubtypes());
+    }
+
+    /**
+     * Test for {@link JacksonSpiTypeIdResolver#init(JavaType)} sharing
+     * discovered sub-types by thread context class loader.
+     */
+    @Test
+    void testInit_SharedByClassLoader() {
+        final JavaType type = TypeFactory.defaultInstance().constructType(DerivedType.class);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextLoader = thread.getContextClassLoader();
+        final JacksonSpiTypeIdResolver isolated = new JacksonSpiTypeIdResolver();
+        try {
+            thread.setContextClassLoader(new ClassLoader(null) {});
+            isolated.init(type);
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+        assertTrue(isolated.getSubtypes().isEmpty());
+        final JacksonSpiTypeIdResolver resolver = new JacksonSpiTypeIdResolver();
+        resolver.init(type);
+        assertEquals(2, resolver.getSubtypes().size());
+    }
+
+    /**
+     * Test for {@link JacksonSpiTypeIdResolver#discoverSubTypes(Class)}.
+     */
+    @Test
+    void testDiscoverSubTypes() {
+        final JacksonSpiTypeIdResolver resolver = new JacksonSpiTypeIdResolver();
+        assertEquals(2, resolver.discoverSubTypes(AnnotatedType.class).size());
+        assertEquals(2, resolver.discoverSubTypes(DerivedType.class).size());
+        assertTrue(resolver.discoverSubTypes(JacksonSpiTypeIdResolverTest.class).isEmpty());
+    }
+
+    /**
+     * Test for {@link JacksonSpiTypeIdResolver#warmUp(Class)}.
+     */
+    @Test
+    void testWarmUp() {
+        assertThrows(NullPointerException.class, () -> {
+            JacksonSpiTypeIdResolver.warmUp(null);
+        });
+        assertTrue(JacksonSpiTypeIdResolver.warmUp(AnnotatedType.class));
+        assertFalse(JacksonSpiTypeIdResolver.warmUp(JacksonSpiTypeIdResolverTest.class));
+    }
+
     @JsonTypeIdResolver(JacksonSpiTypeIdResolver.class)
     public static interface AnnotatedType {}
     @JsonTypeIdResolver(JacksonSpiTypeIdResolver.class)
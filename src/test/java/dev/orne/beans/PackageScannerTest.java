@@ -0,0 +1,135 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.text.StrBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@code PackageScanner}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see PackageScanner
+ */
+@Tag("ut")
+class PackageScannerTest {
+
+    /**
+     * Test for {@link PackageScanner#scan(String)} with classes in
+     * directories.
+     */
+    @Test
+    void testScanDirectory() {
+        final PackageScanner scanner = new PackageScanner(getClass().getClassLoader());
+        final Set<Class<?>> result = scanner.scan("dev.orne.beans");
+        assertTrue(result.contains(PackageScanner.class));
+        assertTrue(result.contains(PackageScannerTest.class));
+        assertTrue(result.contains(BeansWarmUp.Builder.class));
+        assertTrue(result.contains(dev.orne.beans.converters.OrneBeansConverters.class));
+        assertTrue(result.stream().noneMatch(Class::isAnonymousClass));
+    }
+
+    /**
+     * Test for {@link PackageScanner#scan(String)} with classes in JAR files.
+     */
+    @SuppressWarnings("deprecation")
+    @Test
+    void testScanJar() {
+        final PackageScanner scanner = new PackageScanner(getClass().getClassLoader());
+        final Set<Class<?>> result = scanner.scan("org.apache.commons.lang3");
+        assertTrue(result.contains(StringUtils.class));
+        assertTrue(result.contains(StrBuilder.class));
+    }
+
+    /**
+     * Test for {@link PackageScanner#scan(String)} with missing packages.
+     */
+    @Test
+    void testScanMissing() {
+        final PackageScanner scanner = new PackageScanner(getClass().getClassLoader());
+        assertTrue(scanner.scan("dev.orne.beans.missing").isEmpty());
+        assertThrows(NullPointerException.class, () -> scanner.scan(null));
+    }
+
+    /**
+     * Test for {@link PackageScanner#addDirectoryClassNames(File, String, Set)}.
+     * 
+     * @param dir The temporary directory
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testAddDirectoryClassNames(
+            final @TempDir Path dir)
+    throws IOException {
+        Files.createDirectories(dir.resolve("sub"));
+        Files.createFile(dir.resolve("Type.class"));
+        Files.createFile(dir.resolve("Type$Nested.class"));
+        Files.createFile(dir.resolve("package-info.class"));
+        Files.createFile(dir.resolve("resource.properties"));
+        Files.createFile(dir.resolve("sub/Other.class"));
+        final Set<String> result = new LinkedHashSet<>();
+        PackageScanner.addDirectoryClassNames(dir.toFile(), "a/b", result);
+        assertEquals(3, result.size());
+        assertTrue(result.contains("a.b.Type"));
+        assertTrue(result.contains("a.b.Type$Nested"));
+        assertTrue(result.contains("a.b.sub.Other"));
+    }
+
+    /**
+     * Test for {@link PackageScanner#addClassName(String, Set)}.
+     */
+    @Test
+    void testAddClassName() {
+        final Set<String> result = new LinkedHashSet<>();
+        PackageScanner.addClassName("a/b/Type.class", result);
+        PackageScanner.addClassName("a/b/module-info.class", result);
+        PackageScanner.addClassName("a/b/package-info.class", result);
+        PackageScanner.addClassName("a/b/Type.java", result);
+        assertEquals(1, result.size());
+        assertTrue(result.contains("a.b.Type"));
+    }
+
+    /**
+     * Test for {@link PackageScanner#loadClass(String)}.
+     */
+    @Test
+    void testLoadClass() {
+        final PackageScanner scanner = new PackageScanner(getClass().getClassLoader());
+        assertSame(PackageScanner.class, scanner.loadClass(PackageScanner.class.getName()));
+        assertNull(scanner.loadClass("dev.orne.beans.NoSuchClass"));
+    }
+}
@@ -0,0 +1,141 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code TypedIdentityXmlAdapter}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see TypedIdentityXmlAdapter
+ */
+@Tag("ut")
+class TypedIdentityXmlAdapterTest {
+
+    /**
+     * Test for {@link TypedIdentityXmlAdapter#unmarshal(String)}.
+     */
+    @Test
+    void testUnmarshal() {
+        final LongIdentity.LongIdentityXmlAdapter adapter =
+                new LongIdentity.LongIdentityXmlAdapter();
+        assertEquals(LongIdentity.class, adapter.getType());
+        assertFalse(adapter.isInterning());
+        assertNull(adapter.unmarshal(null));
+        assertNull(adapter.unmarshal(""));
+        final LongIdentity result = adapter.unmarshal("12");
+        assertEquals(new LongIdentity(12L), result);
+        assertNotSame(result, adapter.unmarshal("12"));
+        assertThrows(UnrecognizedIdentityTokenException.class,
+                () -> adapter.unmarshal("a b"));
+    }
+
+    /**
+     * Test for {@link TypedIdentityXmlAdapter#unmarshal(String)} with
+     * identity token interning.
+     */
+    @Test
+    void testUnmarshalInterning() {
+        final LongIdentity.LongIdentityXmlAdapter adapter =
+                new LongIdentity.LongIdentityXmlAdapter(true);
+        assertTrue(adapter.isInterning());
+        final LongIdentity result = adapter.unmarshal("12");
+        assertEquals(new LongIdentity(12L), result);
+        assertSame(result, adapter.unmarshal("12"));
+        assertNotSame(result, adapter.unmarshal("13"));
+        adapter.clearInterned();
+        assertNotSame(result, adapter.unmarshal("12"));
+    }
+
+    /**
+     * Test for {@link TypedIdentityXmlAdapter#marshal(Identity)}.
+     */
+    @Test
+    void testMarshal() {
+        final StringIdentity.StringIdentityXmlAdapter adapter =
+                new StringIdentity.StringIdentityXmlAdapter();
+        final StringIdentity identity = new StringIdentity("a b");
+        assertNull(adapter.marshal(null));
+        assertEquals(identity.getIdentityToken(), adapter.marshal(identity));
+        assertEquals(identity, adapter.unmarshal(adapter.marshal(identity)));
+    }
+
+    /**
+     * Test for the typed adapters of the identity types of the library.
+     */
+    @Test
+    void testTypedAdapters() {
+        final BigIntegerIdentity bigInteger = new BigIntegerIdentity(BigInteger.TEN);
+        final BigIntegerIdentity.BigIntegerIdentityXmlAdapter bigIntegerAdapter =
+                new BigIntegerIdentity.BigIntegerIdentityXmlAdapter(true);
+        assertEquals(bigInteger, bigIntegerAdapter.unmarshal(bigIntegerAdapter.marshal(bigInteger)));
+        final UUIDIdentity uuid = new UUIDIdentity(UUID.randomUUID());
+        final UUIDIdentity.UUIDIdentityXmlAdapter uuidAdapter =
+                new UUIDIdentity.UUIDIdentityXmlAdapter();
+        assertEquals(uuid, uuidAdapter.unmarshal(uuidAdapter.marshal(uuid)));
+    }
+
+    /**
+     * Test for adapters of custom identity types.
+     */
+    @Test
+    void testCustomType() {
+        final TypedIdentityXmlAdapter<TestIdentity> adapter =
+                new TypedIdentityXmlAdapter<>(TestIdentity.class);
+        final TestIdentity identity = new TestIdentity("value");
+        final String token = adapter.marshal(identity);
+        assertEquals(identity.getIdentityToken(), token);
+        assertEquals(identity, adapter.unmarshal(token));
+    }
+
+    /**
+     * Custom identity type.
+     */
+    public static class TestIdentity
+    extends StringIdentity {
+        private static final long serialVersionUID = 1L;
+        public TestIdentity(
+                final String value) {
+            super(value);
+        }
+        @Override
+        protected String getIdentityTokenPrefix() {
+            return "Test";
+        }
+        @IdentityTokenResolver
+        public static TestIdentity fromIdentityToken(
+                final String token) {
+            return new TestIdentity(extractTokenValue("Test", token));
+        }
+    }
+}
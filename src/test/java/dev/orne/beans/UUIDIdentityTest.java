@@ -0,0 +1,274 @@
+package dev.orne.beans;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.orne.test.rnd.Generators;
+
+/**
+ * Unit tests for {@code UUIDIdentity}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see UUIDIdentity
+ */
+@Tag("ut")
+class UUIDIdentityTest
+extends AbstractIdentityTest {
+
+    /** Custom prefix. */
+    private static final String CUSTOM_PREFIX = "CustomPrefix";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull UUIDIdentity createInstance() {
+        return new UUIDIdentity(UUID.randomUUID());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull UUIDIdentity createCopy(
+            final @NotNull AbstractIdentity copy) {
+        return new UUIDIdentity((UUIDIdentity) copy);
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#UUIDIdentity(UUID)}.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testConstructor()
+    throws Throwable {
+        final UUID value = UUID.randomUUID();
+        final UUIDIdentity identity = new UUIDIdentity(value);
+        assertEquals(value, identity.getValue());
+        assertEquals(value.getMostSignificantBits(), identity.getMostSignificantBits());
+        assertEquals(value.getLeastSignificantBits(), identity.getLeastSignificantBits());
+        assertEquals(identity, new UUIDIdentity(
+                value.getMostSignificantBits(),
+                value.getLeastSignificantBits()));
+        assertThrows(NullPointerException.class, () -> {
+            new UUIDIdentity((UUID) null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new UUIDIdentity((UUIDIdentity) null);
+        });
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#getIdentityToken()}.
+     * @throws Throwable Should not happen
+     */
+    @ParameterizedTest
+    @MethodSource("testTokens")
+    void testGetIdentityTokenFormat(
+            final UUID value,
+            final String expected)
+    throws Throwable {
+        final UUIDIdentity identity = new UUIDIdentity(value);
+        final String result = identity.getIdentityToken();
+        assertEquals(expected, result);
+        assertEquals(UUIDIdentity.BODY_LENGTH, result.length());
+        assertEquals(result, identity.getIdentityTokenBody());
+        assertTrue(IdentityTokenFormatter.isValidUncodedBody(result));
+        assertEquals(result, IdentityTokenFormatter.parse(result));
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#fromIdentityToken(String)}.
+     * @throws Throwable Should not happen
+     */
+    @ParameterizedTest
+    @MethodSource("testTokens")
+    void testFromIdentityToken(
+            final UUID value,
+            final String token)
+    throws Throwable {
+        final UUIDIdentity result = UUIDIdentity.fromIdentityToken(token);
+        assertEquals(value, result.getValue());
+        assertEquals(token, result.getIdentityToken());
+    }
+
+    private static Stream<Arguments> testTokens() {
+        return Stream.of(
+                Arguments.of(new UUID(0L, 0L), "AAAAAAAAAAAAAAAAAAAAAA"),
+                Arguments.of(new UUID(-1L, -1L), "D_____________________"),
+                Arguments.of(new UUID(Long.MIN_VALUE, 1L), "CAAAAAAAAAAAAAAAAAAAAB"),
+                Arguments.of(UUID.fromString("b2e91926-c6cf-453a-8444-5a5a1deb571c"),
+                        "Cy6Rkmxs9FOoREWlod61cc")
+        );
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#fromIdentityToken(String)} with
+     * canonical {@code UUID} identity token bodies.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testFromIdentityTokenCanonical()
+    throws Throwable {
+        final UUID value = UUID.randomUUID();
+        final UUIDIdentity expected = new UUIDIdentity(value);
+        assertEquals(expected, UUIDIdentity.fromIdentityToken(value.toString()));
+        assertEquals(expected, UUIDIdentity.fromIdentityToken(
+                IdentityTokenFormatter.formatCompact(value.toString())));
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#fromIdentityToken(String)} with
+     * invalid identity tokens.
+     * @throws Throwable Should not happen
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "_",
+        "",
+        "EAAAAAAAAAAAAAAAAAAAAA",
+        "AAAAAAAAAAAAAAAAAAAAA",
+        "AAAAAAAAAAAAAAAAAAAAAAA",
+        "AAAAAAAAAAAAAAAAAAAAA!",
+        "not-an-uuid-not-an-uuid-not-an-uuid!",
+        "zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz",
+    })
+    void testFromIdentityTokenInvalid(
+            final String token)
+    throws Throwable {
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> {
+            UUIDIdentity.fromIdentityToken(token);
+        });
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#extractTokenValue(String, String)} and
+     * {@link UUIDIdentity#extractRequiredTokenValue(String, String)}.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testExtractTokenValue()
+    throws Throwable {
+        final UUID value = UUID.randomUUID();
+        final String body = new UUIDIdentity(value).getIdentityTokenBody();
+        final String token = CUSTOM_PREFIX + body;
+        assertEquals(value, UUIDIdentity.extractTokenValue(CUSTOM_PREFIX, token));
+        assertEquals(value, UUIDIdentity.extractRequiredTokenValue(CUSTOM_PREFIX, token));
+        final String nullToken = IdentityTokenFormatter.format(CUSTOM_PREFIX, null);
+        assertNull(UUIDIdentity.extractTokenValue(CUSTOM_PREFIX, nullToken));
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> {
+            UUIDIdentity.extractRequiredTokenValue(CUSTOM_PREFIX, nullToken);
+        });
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> {
+            UUIDIdentity.extractTokenValue("Other", token);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            UUIDIdentity.extractTokenValue("!", "!" + body);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            UUIDIdentity.extractTokenValue(null, token);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            UUIDIdentity.extractTokenValue(CUSTOM_PREFIX, null);
+        });
+    }
+
+    /**
+     * Test for {@link UUIDIdentity#resolve()}.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testResolve()
+    throws Throwable {
+        final UUID value = UUID.randomUUID();
+        final UUIDIdentity expected = new UUIDIdentity(value);
+        final String token = expected.getIdentityToken();
+        assertSame(expected, expected.resolve(UUIDIdentity.class));
+        assertEquals(expected, TokenIdentity.fromToken(token).resolve(UUIDIdentity.class));
+        assertEquals(expected, new StringIdentity(value.toString()).resolve(UUIDIdentity.class));
+        assertThrows(UnrecognizedIdentityTokenException.class, () -> {
+            new StringIdentity("NotAnUUID").resolve(UUIDIdentity.class);
+        });
+    }
+
+    /**
+     * Test for default {@link UUIDIdentity} generation.
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testGenerable()
+    throws Throwable {
+        assertTrue(Generators.supports(UUIDIdentity.class));
+        assertNull(Generators.nullableDefaultValue(UUIDIdentity.class));
+        final UUIDIdentity result = Generators.defaultValue(UUIDIdentity.class);
+        assertNotNull(result);
+        assertEquals(new UUID(0L, 0L), result.getValue());
+    }
+
+    /**
+     * Test for random {@link UUIDIdentity} generation.
+     * @throws Throwable Should not happen
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testRandomGeneration(
+            final boolean nullable)
+    throws Throwable {
+        final HashSet<UUIDIdentity> results = new HashSet<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            boolean nullValues = false;
+            while (results.size() < 100 || (nullable && !nullValues)) {
+                final UUIDIdentity result;
+                if (nullable) {
+                    result = Generators.nullableRandomValue(UUIDIdentity.class);
+                } else {
+                    result = Generators.randomValue(UUIDIdentity.class);
+                }
+                if (result == null) {
+                    nullValues = true;
+                } else {
+                    results.add(result);
+                }
+            }
+            assertTrue(!nullable || nullValues);
+        });
+        assertTrue(results.size() >= 100);
+    }
+}
@@ -0,0 +1,193 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.beans.BaseIdentityBean;
+import dev.orne.beans.WritableIdentityBean;
+
+/**
+ * Unit tests for {@code ConstructorFactories}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see ConstructorFactories
+ */
+@Tag("ut")
+class ConstructorFactoriesTest {
+
+    /**
+     * Test for {@link ConstructorFactories#get(Class)}.
+     */
+    @Test
+    void testGet() {
+        final Supplier<TestBean> factory = ConstructorFactories.get(TestBean.class);
+        assertNotNull(factory);
+        assertSame(factory, ConstructorFactories.get(TestBean.class));
+        final TestBean result = factory.get();
+        assertNotNull(result);
+        assertNotSame(result, factory.get());
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#lambdaFactory(Class, MethodHandle)}.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testLambdaFactory()
+    throws Throwable {
+        final MethodHandle constructor = MethodHandles.publicLookup().findConstructor(
+                TestBean.class,
+                MethodType.methodType(void.class));
+        final Supplier<TestBean> factory = ConstructorFactories.lambdaFactory(
+                TestBean.class,
+                constructor);
+        assertNotNull(factory.get());
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#methodHandleFactory(MethodHandle)}.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testMethodHandleFactory()
+    throws Throwable {
+        final MethodHandle constructor = MethodHandles.publicLookup().findConstructor(
+                TestBean.class,
+                MethodType.methodType(void.class));
+        final Supplier<TestBean> factory = ConstructorFactories.methodHandleFactory(
+                constructor);
+        assertNotNull(factory.get());
+        assertTrue(factory.get() instanceof TestBean);
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#reflectiveFactory(Class)}.
+     */
+    @Test
+    void testReflectiveFactory() {
+        final Supplier<TestBean> factory = ConstructorFactories.reflectiveFactory(
+                TestBean.class);
+        assertNotNull(factory.get());
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#get(Class)} with types without
+     * accessible no arguments constructor.
+     */
+    @Test
+    void testGetNoConstructor() {
+        final ConstructorFactories.InstantiationFailedException result = assertThrows(
+                ConstructorFactories.InstantiationFailedException.class,
+                () -> ConstructorFactories.get(TestPrivateConstructorBean.class).get());
+        assertTrue(result.getCause() instanceof ReflectiveOperationException);
+        assertThrows(
+                ConstructorFactories.InstantiationFailedException.class,
+                () -> ConstructorFactories.get(WritableIdentityBean.class).get());
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#get(Class)} with types which
+     * constructor throws an exception.
+     */
+    @Test
+    void testGetConstructorFailure() {
+        final ConstructorFactories.InstantiationFailedException result = assertThrows(
+                ConstructorFactories.InstantiationFailedException.class,
+                () -> ConstructorFactories.get(TestFailingConstructorBean.class).get());
+        assertTrue(result.getCause() instanceof UnsupportedOperationException);
+    }
+
+    /**
+     * Test for {@link ConstructorFactories#get(Class)} and
+     * {@link ConstructorFactories#lambdaFactory(Class, MethodHandle)} with
+     * types which constructor throws a checked exception.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testGetConstructorCheckedFailure()
+    throws Throwable {
+        final ConstructorFactories.InstantiationFailedException result = assertThrows(
+                ConstructorFactories.InstantiationFailedException.class,
+                () -> ConstructorFactories.get(TestCheckedFailingConstructorBean.class).get());
+        assertTrue(result.getCause() instanceof IOException);
+        final Supplier<TestCheckedFailingConstructorBean> factory = ConstructorFactories.lambdaFactory(
+                TestCheckedFailingConstructorBean.class,
+                MethodHandles.publicLookup().findConstructor(
+                        TestCheckedFailingConstructorBean.class,
+                        MethodType.methodType(void.class)));
+        final ConstructorFactories.InstantiationFailedException lambdaResult = assertThrows(
+                ConstructorFactories.InstantiationFailedException.class,
+                factory::get);
+        assertTrue(lambdaResult.getCause() instanceof IOException);
+    }
+
+    public static class TestBean
+    extends BaseIdentityBean {
+        // No extra methods
+    }
+    public static class TestPrivateConstructorBean
+    extends BaseIdentityBean {
+        /**
+         * Private constructor.
+         */
+        private TestPrivateConstructorBean() {
+            super();
+        }
+    }
+    public static class TestFailingConstructorBean
+    extends BaseIdentityBean {
+        /**
+         * Constructor that fails.
+         */
+        public TestFailingConstructorBean() {
+            throw new UnsupportedOperationException("Mock exception");
+        }
+    }
+    public static class TestCheckedFailingConstructorBean
+    extends BaseIdentityBean {
+        /**
+         * Constructor that fails with a checked exception.
+         * 
+         * @throws IOException Always
+         */
+        public TestCheckedFailingConstructorBean()
+        throws IOException {
+            throw new IOException("Mock exception");
+        }
+    }
+}
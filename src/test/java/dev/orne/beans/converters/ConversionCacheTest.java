@@ -0,0 +1,108 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ConversionCache}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see ConversionCache
+ */
+@Tag("ut")
+class ConversionCacheTest {
+
+    /**
+     * Test for {@link ConversionCache#ConversionCache(int)}.
+     */
+    @Test
+    void testConstructor() {
+        final ConversionCache<String, String> cache = new ConversionCache<>(10);
+        assertEquals(10, cache.getCapacity());
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache<>(0));
+    }
+
+    /**
+     * Test for {@link ConversionCache#get(Object, Function)}.
+     */
+    @Test
+    void testGet() {
+        final ConversionCache<String, Integer> cache = new ConversionCache<>(10);
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, Integer> loader = key -> {
+            calls.incrementAndGet();
+            return key.length();
+        };
+        assertEquals(Integer.valueOf(3), cache.get("abc", loader));
+        assertEquals(Integer.valueOf(3), cache.get("abc", loader));
+        assertEquals(1, calls.get());
+        assertEquals(Integer.valueOf(5), cache.get("abcde", loader));
+        assertEquals(2, calls.get());
+        final CacheStatistics stats = cache.getStatistics();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(3, stats.getRequests());
+        assertEquals(1.0 / 3, stats.getHitRate(), 0.0001);
+        assertEquals(2, stats.getSize());
+        assertEquals(10, stats.getCapacity());
+    }
+
+    /**
+     * Test for {@link ConversionCache#get(Object, Function)} when the
+     * cache is full.
+     */
+    @Test
+    void testGetFull() {
+        final ConversionCache<Integer, Integer> cache = new ConversionCache<>(4);
+        for (int i = 0; i < 4; i++) {
+            cache.get(i, Function.identity());
+        }
+        assertEquals(4, cache.size());
+        assertEquals(Integer.valueOf(4), cache.get(4, Function.identity()));
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Test for {@link ConversionCache#clear()}.
+     */
+    @Test
+    void testClear() {
+        final ConversionCache<String, Integer> cache = new ConversionCache<>(10);
+        cache.get("abc", String::length);
+        cache.get("abc", String::length);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(new CacheStatistics(0, 0, 0, 10), cache.getStatistics());
+        assertEquals(1.0, cache.getStatistics().getHitRate());
+    }
+}
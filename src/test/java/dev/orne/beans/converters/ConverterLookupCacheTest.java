@@ -0,0 +1,107 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.beanutils.Converter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ConverterLookupCache}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see ConverterLookupCache
+ */
+@Tag("ut")
+class ConverterLookupCacheTest {
+
+    /**
+     * Test for {@link ConverterLookupCache#get(Class)}.
+     */
+    @Test
+    void testGet() {
+        final Converter converter = new TestConverter();
+        final AtomicInteger calls = new AtomicInteger();
+        final ConverterLookupCache cache = new ConverterLookupCache(type -> {
+            calls.incrementAndGet();
+            return Long.class.equals(type) ? converter : null;
+        });
+        assertSame(converter, cache.get(Long.class));
+        assertSame(converter, cache.get(Long.class));
+        assertNull(cache.get(String.class));
+        assertNull(cache.get(String.class));
+        assertEquals(2, calls.get());
+        cache.clear();
+        assertSame(converter, cache.get(Long.class));
+        assertEquals(3, calls.get());
+    }
+
+    /**
+     * Test for {@link ConverterLookupCache#get(Class)} when the cache is
+     * cleared while a lookup is in progress.
+     */
+    @Test
+    void testGetClearedDuringLookup() {
+        final Converter stale = new TestConverter();
+        final Converter fresh = new TestConverter();
+        final AtomicReference<ConverterLookupCache> cacheRef = new AtomicReference<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final ConverterLookupCache cache = new ConverterLookupCache(type -> {
+            if (calls.incrementAndGet() == 1) {
+                // Registered converters change during first resolution
+                cacheRef.get().clear();
+                return stale;
+            }
+            return fresh;
+        });
+        cacheRef.set(cache);
+        assertSame(stale, cache.get(Long.class));
+        assertSame(fresh, cache.get(Long.class));
+        assertSame(fresh, cache.get(Long.class));
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Converter for {@code ConverterLookupCache} tests.
+     */
+    private static class TestConverter
+    implements Converter {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> T convert(
+                final Class<T> type,
+                final Object value) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.time.Month;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ConverterRegistry}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see ConverterRegistry
+ */
+@Tag("ut")
+class ConverterRegistryTest {
+
+    /**
+     * Test for {@link ConverterRegistry.Builder}.
+     */
+    @Test
+    void testBuilder() {
+        final Converter calendarConverter = new GregorianCalendarConverter();
+        final Converter uriConverter = new UriConverter();
+        final ConverterRegistry registry = ConverterRegistry.builder()
+                .register(calendarConverter, GregorianCalendar.class, Calendar.class)
+                .register(uriConverter, URI.class)
+                .build();
+        assertEquals(3, registry.size());
+        assertSame(calendarConverter, registry.lookup(GregorianCalendar.class));
+        assertSame(calendarConverter, registry.lookup(Calendar.class));
+        assertSame(uriConverter, registry.lookup(URI.class));
+        assertNull(registry.lookup(String.class));
+        assertThrows(UnsupportedOperationException.class,
+                () -> registry.getConverters().remove(URI.class));
+        final ConverterRegistry modified = registry.toBuilder()
+                .deregister(Calendar.class)
+                .build();
+        assertEquals(2, modified.size());
+        assertNull(modified.lookup(Calendar.class));
+        assertSame(calendarConverter, registry.lookup(Calendar.class));
+    }
+
+    /**
+     * Test for {@link ConverterRegistry.Builder} with invalid arguments.
+     */
+    @Test
+    void testBuilderInvalid() {
+        final ConverterRegistry.Builder builder = ConverterRegistry.builder();
+        final Converter converter = new UriConverter();
+        assertThrows(NullPointerException.class,
+                () -> builder.register(null, URI.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.register(converter, URI.class, null));
+        assertThrows(NullPointerException.class,
+                () -> builder.registerAll(null));
+    }
+
+    /**
+     * Test for {@link ConverterRegistry#lookup(Class)} with enumeration
+     * types.
+     */
+    @Test
+    void testLookupEnum() {
+        final ConverterRegistry registry = ConverterRegistry.builder()
+                .register(EnumConverter.GENERIC, Enum.class)
+                .build();
+        assertSame(EnumConverter.GENERIC, registry.lookup(Month.class));
+        assertNull(registry.lookup(String.class));
+    }
+
+    /**
+     * Test for {@link ConverterRegistry#convert(Object, Class)}.
+     */
+    @Test
+    void testConvert() {
+        final ConverterRegistry registry = ConverterRegistry.builder()
+                .register(new UriConverter(), URI.class)
+                .register(EnumConverter.GENERIC, Enum.class)
+                .build();
+        assertEquals(URI.create("http://example.com"),
+                registry.convert("http://example.com", URI.class));
+        assertEquals(Month.MARCH, registry.convert("MARCH", Month.class));
+        assertThrows(ConversionException.class,
+                () -> registry.convert("value", StringBuilder.class));
+    }
+
+    /**
+     * Test for {@link ConverterRegistry#applyTo(ConvertUtilsBean)}.
+     */
+    @Test
+    void testApplyTo() {
+        final Converter uriConverter = new UriConverter();
+        final ConverterRegistry registry = ConverterRegistry.builder()
+                .register(uriConverter, URI.class)
+                .build();
+        final ConvertUtilsBean target = new ConvertUtilsBean();
+        registry.applyTo(target);
+        assertSame(uriConverter, target.lookup(URI.class));
+        final ConvertUtilsBean other = new ConvertUtilsBean();
+        registry.applyTo(other);
+        assertSame(uriConverter, other.lookup(URI.class));
+        assertThrows(NullPointerException.class,
+                () -> registry.applyTo(null));
+    }
+}
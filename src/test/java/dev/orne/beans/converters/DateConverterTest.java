@@ -131,6 +131,22 @@ extends AbstractConverterTest {
         then(instantConverter).should().convert(Instant.class, value);
     }
 
+    /**
+     * Test that {@link DateConverter#convert(Class, Object)} converts
+     * epoch based values directly when nested converter is an
+     * {@code InstantConverter}.
+     */
+    @Test
+    void testEpochConversionsToDate() {
+        final InstantConverter instantConverter = spy(new InstantConverter());
+        final DateConverter converter = new DateConverter(instantConverter);
+        assertEquals(new Date(1700000000123L), converter.convert(Date.class, "1700000000123"));
+        assertEquals(new Date(1700000000123L), converter.convert(Date.class, 1700000000123L));
+        then(instantConverter).should(never()).convert(any(), any());
+        instantConverter.setEpochUnit(ChronoUnit.SECONDS);
+        assertEquals(new Date(1700000000000L), converter.convert(Date.class, "1700000000"));
+    }
+
     /**
      * Test that {@link DateConverter#convert(Class, Object)} delegates
      * in nested converter when converting to {@code String}.
@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.DayOfWeek;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -254,4 +256,68 @@ extends AbstractTimeConverterTest {
         assertSuccess(converter, String.class, STR_NON_DATE, STR_NON_DATE);
         assertSuccess(converter, String.class, DAY_OF_WEEK, DAY_OF_WEEK.name());
     }
+
+    /**
+     * Test {@link DayOfWeekConverter#convert(Class, Object)} when
+     * {@code value} is a textual or numeric representation of the
+     * constant.
+     */
+    @Test
+    void testFromTextConversions() {
+        final Locale locale = DayOfWeekConverter.BY_FULL_TEXT_PARSER.getLocale();
+        final TemporalTextLookup<DayOfWeek> lookup = TemporalTextLookup.daysOfWeek(locale);
+        for (final TextStyle style : TextStyle.values()) {
+            final String text = DAY_OF_WEEK.getDisplayName(style, locale);
+            if (lookup.lookup(text) != null) {
+                assertSuccess(text, DAY_OF_WEEK);
+                assertSuccess(text.toUpperCase(locale), DAY_OF_WEEK);
+                assertSuccess(text.toLowerCase(locale), DAY_OF_WEEK);
+            }
+        }
+        assertSuccess(String.valueOf(DAY_OF_WEEK.getValue()), DAY_OF_WEEK);
+        assertSuccess("0" + DAY_OF_WEEK.getValue(), DAY_OF_WEEK);
+        assertSuccess(DAY_OF_WEEK.name(), DAY_OF_WEEK);
+    }
+
+    /**
+     * Test {@link DayOfWeekConverter#DayOfWeekConverter(Locale)}.
+     */
+    @Test
+    void testConstructorLocale() {
+        final DayOfWeekConverter converter = new DayOfWeekConverter(Locale.GERMAN);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        final LocalizedParsers localized = LocalizedParsers.forLocale(Locale.GERMAN);
+        assertTrue(converter.getParsers().contains(
+                localized.get(DayOfWeekConverter.BY_FULL_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(DayOfWeekConverter.BY_SHORT_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(DayOfWeekConverter.BY_NARROW_TEXT_PARSER)));
+        if (!Locale.GERMAN.equals(DayOfWeekConverter.BY_FULL_TEXT_PARSER.getLocale())) {
+            assertFalse(converter.getParsers().contains(DayOfWeekConverter.BY_FULL_TEXT_PARSER));
+        }
+        assertEquals(new DayOfWeekConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, DayOfWeek.class, "Mittwoch", DayOfWeek.WEDNESDAY);
+        assertThrows(NullPointerException.class, () -> new DayOfWeekConverter((Locale) null));
+    }
+
+    /**
+     * Test {@link DayOfWeekConverter#DayOfWeekConverter(Locale, DayOfWeek)}.
+     */
+    @Test
+    void testConstructorLocaleDefaultValue() {
+        final DayOfWeekConverter converter = new DayOfWeekConverter(Locale.GERMAN, (DayOfWeek) null);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        assertEquals(new DayOfWeekConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, DayOfWeek.class, "Mittwoch", DayOfWeek.WEDNESDAY);
+        assertSuccess(converter, DayOfWeek.class, STR_NON_DATE, null);
+    }
+
+    /**
+     * Test {@link DayOfWeekConverter#getLocale()} for default constructors.
+     */
+    @Test
+    void testDefaultLocale() {
+        assertEquals(DayOfWeekConverter.BY_FULL_TEXT_PARSER.getLocale(), new DayOfWeekConverter().getLocale());
+    }
 }
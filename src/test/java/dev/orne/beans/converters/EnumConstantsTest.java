@@ -0,0 +1,90 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code EnumConstants}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see EnumConstants
+ */
+@Tag("ut")
+class EnumConstantsTest {
+
+    /**
+     * Test for {@link EnumConstants#byName(Class, String)}.
+     */
+    @Test
+    void testByName() {
+        assertSame(Month.MARCH, EnumConstants.byName(Month.class, "MARCH"));
+        assertSame(DayOfWeek.FRIDAY, EnumConstants.byName(DayOfWeek.class, "FRIDAY"));
+        assertSame(TestEnum.VALUE_B, EnumConstants.byName(TestEnum.class, "VALUE_B"));
+        assertNull(EnumConstants.byName(Month.class, "March"));
+        assertNull(EnumConstants.byName(Month.class, "3"));
+        assertNull(EnumConstants.byName(Month.class, ""));
+        assertNull(EnumConstants.byName(TestEnum.class, "VALUE_D"));
+    }
+
+    /**
+     * Test for {@link EnumConstants#byName(Class, String)} with types
+     * that are not enumerations.
+     */
+    @Test
+    void testByNameNonEnum() {
+        assertNull(EnumConstants.byName(String.class, "VALUE_A"));
+        assertNull(EnumConstants.byName(Enum.class, "VALUE_A"));
+    }
+
+    /**
+     * Test for {@link EnumConstants#createTable(Class)}.
+     */
+    @Test
+    void testCreateTable() {
+        final Map<String, Object> result = EnumConstants.createTable(TestEnum.class);
+        assertEquals(3, result.size());
+        assertSame(TestEnum.VALUE_A, result.get("VALUE_A"));
+        assertSame(TestEnum.VALUE_C, result.get("VALUE_C"));
+        assertThrows(UnsupportedOperationException.class, () -> result.remove("VALUE_A"));
+        assertTrue(EnumConstants.createTable(Object.class).isEmpty());
+    }
+
+    /**
+     * Enumeration used in tests.
+     */
+    enum TestEnum {
+        VALUE_A,
+        VALUE_B,
+        VALUE_C,
+    }
+}
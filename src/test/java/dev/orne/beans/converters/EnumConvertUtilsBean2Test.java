@@ -69,6 +69,50 @@ class EnumConvertUtilsBean2Test {
         assertNotNull(bean.lookup(Long.class));
     }
 
+    /**
+     * Test for {@link EnumConvertUtilsBean2#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean2#register(org.apache.commons.beanutils.Converter, Class)}.
+     */
+    @Test
+    void testLookupCacheRegister() {
+        final EnumConvertUtilsBean2 bean = new EnumConvertUtilsBean2();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        final EnumTypedConverter<TestEnum> typedConverter =
+                new EnumTypedConverter<>(TestEnum.class);
+        bean.register(typedConverter, TestEnum.class);
+        assertSame(typedConverter, bean.lookup(TestEnum.class));
+    }
+
+    /**
+     * Test for {@link EnumConvertUtilsBean2#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean2#deregister(Class)}.
+     */
+    @Test
+    void testLookupCacheDeregisterType() {
+        final EnumConvertUtilsBean2 bean = new EnumConvertUtilsBean2();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        bean.deregister(Enum.class);
+        assertNull(bean.lookup(TestEnum.class));
+        assertNull(bean.lookup(TestEnum.class));
+    }
+
+    /**
+     * Test for {@link EnumConvertUtilsBean2#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean2#deregister()}.
+     */
+    @Test
+    void testLookupCacheDeregister() {
+        final EnumConvertUtilsBean2 bean = new EnumConvertUtilsBean2();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        bean.deregister();
+        assertNull(bean.lookup(TestEnum.class));
+        assertNotNull(bean.lookup(Long.class));
+    }
+
     /**
      * Enumeration for {@code EnumConvertUtilsBean2} tests.
      */
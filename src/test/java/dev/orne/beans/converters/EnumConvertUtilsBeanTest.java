@@ -69,6 +69,50 @@ class EnumConvertUtilsBeanTest {
         assertNotNull(bean.lookup(Long.class));
     }
 
+    /**
+     * Test for {@link EnumConvertUtilsBean#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean#register(org.apache.commons.beanutils.Converter, Class)}.
+     */
+    @Test
+    void testLookupCacheRegister() {
+        final EnumConvertUtilsBean bean = new EnumConvertUtilsBean();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        final EnumTypedConverter<TestEnum> typedConverter =
+                new EnumTypedConverter<>(TestEnum.class);
+        bean.register(typedConverter, TestEnum.class);
+        assertSame(typedConverter, bean.lookup(TestEnum.class));
+    }
+
+    /**
+     * Test for {@link EnumConvertUtilsBean#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean#deregister(Class)}.
+     */
+    @Test
+    void testLookupCacheDeregisterType() {
+        final EnumConvertUtilsBean bean = new EnumConvertUtilsBean();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        bean.deregister(Enum.class);
+        assertNull(bean.lookup(TestEnum.class));
+        assertNull(bean.lookup(TestEnum.class));
+    }
+
+    /**
+     * Test for {@link EnumConvertUtilsBean#lookup(Class)} cache invalidation
+     * on {@link EnumConvertUtilsBean#deregister()}.
+     */
+    @Test
+    void testLookupCacheDeregister() {
+        final EnumConvertUtilsBean bean = new EnumConvertUtilsBean();
+        bean.register(EnumConverter.GENERIC, Enum.class);
+        assertSame(EnumConverter.GENERIC, bean.lookup(TestEnum.class));
+        bean.deregister();
+        assertNull(bean.lookup(TestEnum.class));
+        assertNotNull(bean.lookup(Long.class));
+    }
+
     /**
      * Enumeration for {@code EnumConvertUtilsBean} tests.
      */
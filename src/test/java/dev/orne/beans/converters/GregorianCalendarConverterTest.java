@@ -25,12 +25,16 @@ package dev.orne.beans.converters;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
+import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.Converter;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
@@ -155,6 +159,95 @@ extends AbstractConverterTest {
         then(instantConverter).should().convert(ZonedDateTime.class, value);
     }
 
+    /**
+     * Test that {@link GregorianCalendarConverter#convert(Class, Object)}
+     * converts epoch milliseconds directly when nested converter is a
+     * {@code ZonedDateTimeConverter}.
+     */
+    @Test
+    void testEpochConversionsToGregorianCalendar() {
+        final ZonedDateTimeConverter zonedConverter = spy(new ZonedDateTimeConverter());
+        final GregorianCalendarConverter converter = new GregorianCalendarConverter(zonedConverter);
+        final GregorianCalendar expected = GregorianCalendar.from(
+                Instant.ofEpochMilli(1700000000123L).atZone(ZoneOffset.UTC));
+        assertEquals(expected, converter.convert(GregorianCalendar.class, "1700000000123"));
+        assertEquals(expected, converter.convert(GregorianCalendar.class, 1700000000123L));
+        then(zonedConverter).should(never()).convert(any(), any());
+    }
+
+    /**
+     * Test that {@link GregorianCalendarConverter#convert(Class, Object)}
+     * converts {@code Instant}, {@code Date} and {@code Calendar} instances
+     * directly when nested converter is a {@code ZonedDateTimeConverter}.
+     */
+    @Test
+    void testDirectConversionsToGregorianCalendar() {
+        final ZonedDateTimeConverter zonedConverter = spy(new ZonedDateTimeConverter());
+        final GregorianCalendarConverter converter = new GregorianCalendarConverter(zonedConverter);
+        final long millis = 1700000000123L;
+        final GregorianCalendar expected = GregorianCalendar.from(
+                Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+        final Calendar japValue = new Calendar.Builder()
+                .setCalendarType("japanese")
+                .setInstant(millis)
+                .build();
+        assertEquals(expected, converter.convert(GregorianCalendar.class, Instant.ofEpochMilli(millis)));
+        assertEquals(expected, converter.convert(GregorianCalendar.class, new Date(millis)));
+        assertEquals(expected, converter.convert(GregorianCalendar.class, japValue));
+        then(zonedConverter).should(never()).convert(any(), any());
+    }
+
+    /**
+     * Test for {@link GregorianCalendarConverter#toEpochMillis(Object)}.
+     */
+    @Test
+    void testToEpochMillis() {
+        final GregorianCalendarConverter converter = new GregorianCalendarConverter();
+        final long millis = 1700000000123L;
+        assertEquals(millis, converter.toEpochMillis(millis));
+        assertEquals(millis, converter.toEpochMillis("1700000000123"));
+        assertEquals(millis, converter.toEpochMillis(Instant.ofEpochMilli(millis)));
+        assertEquals(millis, converter.toEpochMillis(new Date(millis)));
+        assertEquals(GregorianCalendarConverter.NO_EPOCH_MILLIS, converter.toEpochMillis(null));
+        assertEquals(GregorianCalendarConverter.NO_EPOCH_MILLIS, converter.toEpochMillis("-1"));
+        assertEquals(GregorianCalendarConverter.NO_EPOCH_MILLIS, converter.toEpochMillis(UTC_CALENDAR));
+        assertEquals(GregorianCalendarConverter.NO_EPOCH_MILLIS, converter.toEpochMillis(
+                AbstractTimeConverterTest.STR_ISO_ZONED_DATE_TIME));
+        final GregorianCalendarConverter delegated = new GregorianCalendarConverter(
+                mock(Converter.class));
+        assertEquals(GregorianCalendarConverter.NO_EPOCH_MILLIS, delegated.toEpochMillis(millis));
+    }
+
+    /**
+     * Test for {@link GregorianCalendarConverter#convertInto(Object, GregorianCalendar)}.
+     */
+    @Test
+    void testConvertInto() {
+        final GregorianCalendarConverter converter = new GregorianCalendarConverter();
+        final long millis = 1700000000123L;
+        final GregorianCalendar target = new GregorianCalendar(TimeZone.getTimeZone("Europe/Madrid"));
+        assertSame(target, converter.convertInto(millis, target));
+        assertEquals(millis, target.getTimeInMillis());
+        assertEquals("UTC", target.getTimeZone().getID());
+        final TimeZone zone = target.getTimeZone();
+        assertSame(target, converter.convertInto(Instant.ofEpochMilli(millis + 1), target));
+        assertEquals(millis + 1, target.getTimeInMillis());
+        assertSame(zone, target.getTimeZone());
+        assertSame(target, converter.convertInto(ZONED_CALENDAR, target));
+        assertEquals(ZONED_CALENDAR.getTimeInMillis(), target.getTimeInMillis());
+        assertEquals(ZONED_CALENDAR.getTimeZone(), target.getTimeZone());
+        assertSame(target, converter.convertInto(
+                AbstractTimeConverterTest.STR_ISO_ZONED_DATE_TIME, target));
+        assertEquals(ZONED_CALENDAR.getTimeInMillis(), target.getTimeInMillis());
+        assertEquals(ZONED_CALENDAR.getTimeZone(), target.getTimeZone());
+        assertThrows(ConversionException.class, () -> converter.convertInto(null, target));
+        assertThrows(NullPointerException.class, () -> converter.convertInto(millis, null));
+        final GregorianCalendarConverter nullConverter = new GregorianCalendarConverter(
+                (GregorianCalendar) null);
+        assertNull(nullConverter.convertInto(null, target));
+        assertEquals(ZONED_CALENDAR.getTimeInMillis(), target.getTimeInMillis());
+    }
+
     /**
      * Test that {@link GregorianCalendarConverter#convert(Class, Object)} delegates
      * in nested converter when converting to {@code String}.
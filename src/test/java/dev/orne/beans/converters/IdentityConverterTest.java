@@ -29,6 +29,8 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import dev.orne.beans.Identity;
+import dev.orne.beans.LongIdentity;
+import dev.orne.beans.StringIdentity;
 import dev.orne.beans.TokenIdentity;
 
 /**
@@ -86,6 +88,26 @@ extends AbstractConverterTest {
         assertSuccess(identity, identity);
     }
 
+    /**
+     * Test {@link IdentityConverter#convert(Class, Object)} when
+     * {@code type} is a concrete identity type.
+     */
+    @Test
+    void testFromValueTypedConversions() {
+        final LongIdentity longIdentity = new LongIdentity(123456L);
+        final StringIdentity stringIdentity = new StringIdentity("mock value");
+        assertSuccess(converter, LongIdentity.class, "", null);
+        assertSuccess(converter, LongIdentity.class, 123456, longIdentity);
+        assertSuccess(converter, LongIdentity.class, "123456", longIdentity);
+        assertSuccess(converter, LongIdentity.class, new TokenIdentity("123456"), longIdentity);
+        assertSuccess(converter, LongIdentity.class, longIdentity, longIdentity);
+        assertFail(converter, LongIdentity.class, "invalid");
+        assertFail(converter, LongIdentity.class, "mock identity token");
+        assertSuccess(converter, StringIdentity.class, stringIdentity.getIdentityToken(), stringIdentity);
+        assertSuccess(converter, StringIdentity.class, stringIdentity, stringIdentity);
+        assertSuccess(converter, TokenIdentity.class, "123456", new TokenIdentity("123456"));
+    }
+
     /**
      * Test {@link IdentityConverter#convert(Class, Object)} when
      * {@code type} is {@code String} and {@code value} is invalid.
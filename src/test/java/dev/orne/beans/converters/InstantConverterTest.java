@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 
 import org.junit.jupiter.api.Tag;
@@ -228,4 +231,106 @@ extends AbstractTimeConverterTest {
         assertSuccess(converter, String.class, STR_NON_DATE, STR_NON_DATE);
         assertSuccess(converter, String.class, INSTANT, STR_ISO_INSTANT);
     }
+
+    /**
+     * Test {@link InstantConverter#setEpochUnit(ChronoUnit)}.
+     */
+    @Test
+    void testEpochUnit() {
+        final InstantConverter converter = new InstantConverter();
+        assertEquals(ChronoUnit.MILLIS, converter.getEpochUnit());
+        converter.setEpochUnit(ChronoUnit.SECONDS);
+        assertEquals(ChronoUnit.SECONDS, converter.getEpochUnit());
+        converter.setEpochUnit(ChronoUnit.MICROS);
+        assertEquals(ChronoUnit.MICROS, converter.getEpochUnit());
+        converter.setEpochUnit(null);
+        assertNull(converter.getEpochUnit());
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.setEpochUnit(ChronoUnit.NANOS));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.setEpochUnit(ChronoUnit.DAYS));
+    }
+
+    /**
+     * Test {@link InstantConverter#parseEpochValue(Object)}.
+     */
+    @Test
+    void testParseEpochValue() {
+        final InstantConverter converter = new InstantConverter();
+        assertEquals(Instant.ofEpochMilli(1700000000123L),
+                converter.parseEpochValue("1700000000123"));
+        assertEquals(Instant.ofEpochMilli(1700000000123L),
+                converter.parseEpochValue(1700000000123L));
+        assertEquals(Instant.ofEpochMilli(1000L), converter.parseEpochValue("1000"));
+        assertEquals(Instant.EPOCH, converter.parseEpochValue("0000"));
+        assertNull(converter.parseEpochValue("0"));
+        assertNull(converter.parseEpochValue("123"));
+        assertNull(converter.parseEpochValue(""));
+        assertNull(converter.parseEpochValue("-1700000000123"));
+        assertNull(converter.parseEpochValue("1700000000123Z"));
+        assertNull(converter.parseEpochValue("1234567890123456789"));
+        assertNull(converter.parseEpochValue(STR_ISO_INSTANT));
+        assertNull(converter.parseEpochValue(new Object()));
+        converter.setEpochUnit(ChronoUnit.SECONDS);
+        assertEquals(Instant.ofEpochSecond(1700000000L),
+                converter.parseEpochValue("1700000000"));
+        converter.setEpochUnit(ChronoUnit.MICROS);
+        assertEquals(Instant.ofEpochSecond(1700000000L, 123456000L),
+                converter.parseEpochValue("1700000000123456"));
+        converter.setEpochUnit(null);
+        assertNull(converter.parseEpochValue("1700000000123"));
+    }
+
+    /**
+     * Test {@link InstantConverter#convert(Class, Object)} with epoch
+     * based values in different units.
+     */
+    @Test
+    void testFromEpochConversions() {
+        final InstantConverter converter = new InstantConverter();
+        assertSuccess(converter, Instant.class, "1700000000123", Instant.ofEpochMilli(1700000000123L));
+        converter.setEpochUnit(ChronoUnit.SECONDS);
+        assertSuccess(converter, Instant.class, "1700000000", Instant.ofEpochSecond(1700000000L));
+        assertSuccess(converter, Instant.class, 1700000000L, Instant.ofEpochSecond(1700000000L));
+        converter.setEpochUnit(ChronoUnit.MICROS);
+        assertSuccess(converter, Instant.class, "1700000000123456",
+                Instant.ofEpochSecond(1700000000L, 123456000L));
+        converter.setEpochUnit(null);
+        assertSuccess(converter, Instant.class, "1700000000123", Instant.ofEpochMilli(1700000000123L));
+        assertFail(converter, Instant.class, "123");
+    }
+
+    /**
+     * Test {@link InstantConverter#convert(Class, Object)} with epoch
+     * based values shorter than the minimum length.
+     */
+    @Test
+    void testFromShortEpochValues() {
+        final InstantConverter converter = new InstantConverter();
+        assertFail(converter, Instant.class, "1");
+        assertFail(converter, Instant.class, "123");
+        assertSuccess(converter, Instant.class, "1234", Instant.ofEpochMilli(1234L));
+        assertSuccess(converter, Instant.class, 123L, Instant.ofEpochMilli(123L));
+    }
+
+    /**
+     * Test {@link InstantConverter#convert(Class, Object)} with epoch
+     * based values when the parsers have been replaced.
+     */
+    @Test
+    void testFromEpochCustomParsers() {
+        final InstantConverter converter = new InstantConverter();
+        converter.setParsers(new DateTimeFormatterBuilder()
+                .appendValue(ChronoField.INSTANT_SECONDS, 1, 19, SignStyle.NEVER)
+                .toFormatter());
+        assertNull(converter.parseEpochValue("1700000000"));
+        assertSuccess(converter, Instant.class, "1700000000", Instant.ofEpochSecond(1700000000L));
+        assertSuccess(converter, Instant.class, 1700000000123L, Instant.ofEpochMilli(1700000000123L));
+        converter.setParsers(DateTimeFormatter.ISO_INSTANT);
+        assertFail(converter, Instant.class, "1700000000123");
+        final InstantConverter extended = new InstantConverter();
+        extended.addParsers(DateTimeFormatter.ISO_LOCAL_DATE);
+        assertEquals(Instant.ofEpochMilli(1700000000123L),
+                extended.parseEpochValue("1700000000123"));
+    }
 }
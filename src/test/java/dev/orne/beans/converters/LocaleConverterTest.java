@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Locale;
 
+import org.apache.commons.beanutils.ConversionException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -122,4 +123,41 @@ extends AbstractConverterTest {
         assertSuccess(converter, String.class, Locale.UK, Locale.UK.toLanguageTag());
         assertSuccess(converter, String.class, CUSTOM_LOCALE, CUSTOM_LOCALE.toLanguageTag());
     }
+
+    /**
+     * Test {@link LocaleConverter#convert(Class, Object)} parsing cache.
+     */
+    @Test
+    void testParseCache() {
+        final LocaleConverter converter = new LocaleConverter();
+        assertEquals(Locale.US, converter.convert(Locale.class, "en-US"));
+        assertEquals(Locale.US, converter.convert(Locale.class, "en-US"));
+        assertThrows(ConversionException.class, () -> converter.convert(Locale.class, "%%"));
+        assertThrows(ConversionException.class, () -> converter.convert(Locale.class, "%%"));
+        final CacheStatistics stats = converter.getParseCacheStatistics();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getSize());
+        assertEquals(LocaleConverter.DEFAULT_CACHE_CAPACITY, stats.getCapacity());
+        converter.clearCaches();
+        assertEquals(0, converter.getParseCacheStatistics().getRequests());
+        assertEquals(0, converter.getParseCacheStatistics().getSize());
+    }
+
+    /**
+     * Test {@link LocaleConverter#convert(Class, Object)} formatting cache.
+     */
+    @Test
+    void testFormatCache() {
+        final LocaleConverter converter = new LocaleConverter();
+        assertEquals("en-US", converter.convert(String.class, Locale.US));
+        assertEquals("en-US", converter.convert(String.class, Locale.US));
+        assertEquals("fr", converter.convert(String.class, Locale.FRENCH));
+        final CacheStatistics stats = converter.getFormatCacheStatistics();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getSize());
+        converter.clearCaches();
+        assertEquals(0, converter.getFormatCacheStatistics().getRequests());
+    }
 }
@@ -0,0 +1,71 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code LocalizedParsers}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see LocalizedParsers
+ */
+@Tag("ut")
+class LocalizedParsersTest {
+
+    /**
+     * Test for {@link LocalizedParsers#forLocale(Locale)}.
+     */
+    @Test
+    void testForLocale() {
+        final LocalizedParsers parsers = LocalizedParsers.forLocale(Locale.GERMAN);
+        assertNotNull(parsers);
+        assertEquals(Locale.GERMAN, parsers.getLocale());
+        assertSame(parsers, LocalizedParsers.forLocale(Locale.GERMAN));
+        assertNotSame(parsers, LocalizedParsers.forLocale(Locale.FRENCH));
+    }
+
+    /**
+     * Test for {@link LocalizedParsers#get(DateTimeFormatter)}.
+     */
+    @Test
+    void testGet() {
+        final LocalizedParsers parsers = LocalizedParsers.forLocale(Locale.GERMAN);
+        final DateTimeFormatter base = MonthConverter.BY_FULL_TEXT_PARSER.withLocale(Locale.FRENCH);
+        final DateTimeFormatter result = parsers.get(base);
+        assertNotNull(result);
+        assertEquals(Locale.GERMAN, result.getLocale());
+        assertSame(result, parsers.get(base));
+        assertEquals(base.toString(), result.toString());
+        final DateTimeFormatter german = base.withLocale(Locale.GERMAN);
+        assertSame(german, parsers.get(german));
+    }
+}
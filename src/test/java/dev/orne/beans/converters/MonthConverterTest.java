@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -282,4 +284,68 @@ extends AbstractTimeConverterTest {
         assertSuccess(converter, String.class, STR_NON_DATE, STR_NON_DATE);
         assertSuccess(converter, String.class, MONTH, MONTH.name());
     }
+
+    /**
+     * Test {@link MonthConverter#convert(Class, Object)} when
+     * {@code value} is a textual or numeric representation of the
+     * constant.
+     */
+    @Test
+    void testFromTextConversions() {
+        final Locale locale = MonthConverter.BY_FULL_TEXT_PARSER.getLocale();
+        final TemporalTextLookup<Month> lookup = TemporalTextLookup.months(locale);
+        for (final TextStyle style : TextStyle.values()) {
+            final String text = MONTH.getDisplayName(style, locale);
+            if (lookup.lookup(text) != null) {
+                assertSuccess(text, MONTH);
+                assertSuccess(text.toUpperCase(locale), MONTH);
+                assertSuccess(text.toLowerCase(locale), MONTH);
+            }
+        }
+        assertSuccess(String.valueOf(MONTH.getValue()), MONTH);
+        assertSuccess("0" + MONTH.getValue(), MONTH);
+        assertSuccess(MONTH.name(), MONTH);
+    }
+
+    /**
+     * Test {@link MonthConverter#MonthConverter(Locale)}.
+     */
+    @Test
+    void testConstructorLocale() {
+        final MonthConverter converter = new MonthConverter(Locale.GERMAN);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        final LocalizedParsers localized = LocalizedParsers.forLocale(Locale.GERMAN);
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthConverter.BY_FULL_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthConverter.BY_SHORT_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthConverter.BY_NARROW_TEXT_PARSER)));
+        if (!Locale.GERMAN.equals(MonthConverter.BY_FULL_TEXT_PARSER.getLocale())) {
+            assertFalse(converter.getParsers().contains(MonthConverter.BY_FULL_TEXT_PARSER));
+        }
+        assertEquals(new MonthConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, Month.class, "M\u00e4rz", Month.MARCH);
+        assertThrows(NullPointerException.class, () -> new MonthConverter((Locale) null));
+    }
+
+    /**
+     * Test {@link MonthConverter#MonthConverter(Locale, Month)}.
+     */
+    @Test
+    void testConstructorLocaleDefaultValue() {
+        final MonthConverter converter = new MonthConverter(Locale.GERMAN, (Month) null);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        assertEquals(new MonthConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, Month.class, "M\u00e4rz", Month.MARCH);
+        assertSuccess(converter, Month.class, STR_NON_DATE, null);
+    }
+
+    /**
+     * Test {@link MonthConverter#getLocale()} for default constructors.
+     */
+    @Test
+    void testDefaultLocale() {
+        assertEquals(MonthConverter.BY_FULL_TEXT_PARSER.getLocale(), new MonthConverter().getLocale());
+    }
 }
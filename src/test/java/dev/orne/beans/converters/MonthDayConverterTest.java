@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -251,4 +252,46 @@ extends AbstractTimeConverterTest {
         assertSuccess(converter, String.class, STR_NON_DATE, STR_NON_DATE);
         assertSuccess(converter, String.class, MONTH_DAY, STR_ISO_MONTH_DAY);
     }
+
+    /**
+     * Test {@link MonthDayConverter#MonthDayConverter(Locale)}.
+     */
+    @Test
+    void testConstructorLocale() {
+        final MonthDayConverter converter = new MonthDayConverter(Locale.GERMAN);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        final LocalizedParsers localized = LocalizedParsers.forLocale(Locale.GERMAN);
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthDayConverter.BY_FULL_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthDayConverter.BY_SHORT_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(MonthDayConverter.BY_NARROW_TEXT_PARSER)));
+        if (!Locale.GERMAN.equals(MonthDayConverter.BY_FULL_TEXT_PARSER.getLocale())) {
+            assertFalse(converter.getParsers().contains(MonthDayConverter.BY_FULL_TEXT_PARSER));
+        }
+        assertEquals(new MonthDayConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, MonthDay.class, "--M\u00e4rz-15", MonthDay.of(3, 15));
+        assertThrows(NullPointerException.class, () -> new MonthDayConverter((Locale) null));
+    }
+
+    /**
+     * Test {@link MonthDayConverter#MonthDayConverter(Locale, MonthDay)}.
+     */
+    @Test
+    void testConstructorLocaleDefaultValue() {
+        final MonthDayConverter converter = new MonthDayConverter(Locale.GERMAN, (MonthDay) null);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        assertEquals(new MonthDayConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, MonthDay.class, "--M\u00e4rz-15", MonthDay.of(3, 15));
+        assertSuccess(converter, MonthDay.class, STR_NON_DATE, null);
+    }
+
+    /**
+     * Test {@link MonthDayConverter#getLocale()} for default constructors.
+     */
+    @Test
+    void testDefaultLocale() {
+        assertEquals(MonthDayConverter.BY_FULL_TEXT_PARSER.getLocale(), new MonthDayConverter().getLocale());
+    }
 }
@@ -42,9 +42,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.GregorianCalendar;
 import java.util.Date;
 import java.util.Locale;
 
+import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.beanutils.ConvertUtils;
 import org.apache.commons.beanutils.ConvertUtilsBean;
 import org.junit.jupiter.api.AfterEach;
@@ -79,6 +81,7 @@ class OrneBeansConvertersTest {
     void testRegister() {
         OrneBeansConverters.register();
         assertNotNull(ConvertUtils.lookup(Identity.class));
+        assertFalse(ConvertUtils.lookup(Enum.class) instanceof EnumConverter);
         assertNotNull(ConvertUtils.lookup(Calendar.class));
         assertNotNull(ConvertUtils.lookup(Date.class));
         assertNotNull(ConvertUtils.lookup(Locale.class));
@@ -107,6 +110,7 @@ class OrneBeansConvertersTest {
     void testRegisterNulls() {
         OrneBeansConverters.register(true);
         assertNotNull(ConvertUtils.lookup(Identity.class));
+        assertFalse(ConvertUtils.lookup(Enum.class) instanceof EnumConverter);
         assertNotNull(ConvertUtils.lookup(Calendar.class));
         assertNotNull(ConvertUtils.lookup(Date.class));
         assertNotNull(ConvertUtils.lookup(Locale.class));
@@ -128,6 +132,75 @@ class OrneBeansConvertersTest {
         assertNotNull(ConvertUtils.lookup(Period.class));
     }
 
+    /**
+     * Test for {@code OrneBeansConverters#getRegistry()}.
+     */
+    @Test
+    void testGetRegistry() {
+        final ConverterRegistry registry = OrneBeansConverters.getRegistry();
+        assertNotNull(registry);
+        assertNotSame(registry, OrneBeansConverters.getRegistry());
+        assertNotSame(registry, OrneBeansConverters.getRegistry(false));
+        assertNotSame(registry, OrneBeansConverters.getRegistry(true));
+        assertEquals(OrneBeansConverters.getRegistry().getTypes(), registry.getTypes());
+        assertSame(EnumConverter.GENERIC, registry.lookup(Enum.class));
+        assertNotNull(registry.lookup(Identity.class));
+        assertNotNull(registry.lookup(URI.class));
+        assertNotNull(registry.lookup(Calendar.class));
+        assertNotNull(registry.lookup(Locale.class));
+        assertNotNull(registry.lookup(ZoneId.class));
+        assertNotNull(registry.lookup(Period.class));
+        assertThrows(ConversionException.class,
+                () -> registry.convert("invalid", Instant.class));
+    }
+
+    /**
+     * Test for {@code OrneBeansConverters#getRegistry(boolean)}.
+     */
+    @Test
+    void testGetRegistryNulls() {
+        final ConverterRegistry registry = OrneBeansConverters.getRegistry(true);
+        assertNotNull(registry);
+        assertNotSame(registry, OrneBeansConverters.getRegistry(true));
+        assertSame(EnumConverter.GENERIC_DEFAULT, registry.lookup(Enum.class));
+        assertEquals(OrneBeansConverters.getRegistry().getTypes(), registry.getTypes());
+        assertNull(registry.convert("invalid", Instant.class));
+    }
+
+    /**
+     * Test for {@code OrneBeansConverters#getRegistry()} converter
+     * instances isolation between registries.
+     */
+    @Test
+    void testGetRegistryIsolation() {
+        final ConverterRegistry registry = OrneBeansConverters.getRegistry();
+        final ConverterRegistry other = OrneBeansConverters.getRegistry();
+        for (final Class<?> type : registry.getTypes()) {
+            if (!Enum.class.equals(type)) {
+                assertNotSame(registry.lookup(type), other.lookup(type));
+            }
+        }
+        assertSame(registry.lookup(Calendar.class), registry.lookup(GregorianCalendar.class));
+        assertSame(registry.lookup(ZoneId.class), registry.lookup(ZoneOffset.class));
+    }
+
+    /**
+     * Test for {@code OrneBeansConverters#getRegistry()} applied to
+     * {@code ConvertUtilsBean}.
+     */
+    @Test
+    void testGetRegistryApply() {
+        final ConverterRegistry registry = OrneBeansConverters.getRegistry();
+        final ConvertUtilsBean converter = new ConvertUtilsBean();
+        final ConvertUtilsBean other = new ConvertUtilsBean();
+        registry.applyTo(converter);
+        registry.applyTo(other);
+        for (final Class<?> type : registry.getTypes()) {
+            assertSame(registry.lookup(type), converter.lookup(type));
+            assertSame(registry.lookup(type), other.lookup(type));
+        }
+    }
+
     /**
      * Test for {@code OrneBeansConverters#registerBeansConversors()}.
      */
@@ -0,0 +1,100 @@
+package dev.orne.beans.converters;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code TemporalTextLookup}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see TemporalTextLookup
+ */
+@Tag("ut")
+class TemporalTextLookupTest {
+
+    /**
+     * Test for {@link TemporalTextLookup#months(Locale)}.
+     */
+    @Test
+    void testMonths() {
+        final TemporalTextLookup<Month> lookup = TemporalTextLookup.months(Locale.ENGLISH);
+        assertSame(lookup, TemporalTextLookup.months(Locale.ENGLISH));
+        assertEquals(Locale.ENGLISH, lookup.getLocale());
+        assertEquals(Month.SEPTEMBER, lookup.lookup("September"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("SEPTEMBER"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("sep"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("Sep"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("9"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("09"));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("S"));
+        assertEquals(Month.DECEMBER, lookup.lookup("12"));
+        assertNull(lookup.lookup("J"));
+        assertNull(lookup.lookup("M"));
+        assertNull(lookup.lookup("13"));
+        assertNull(lookup.lookup("0"));
+        assertNull(lookup.lookup(""));
+        assertNull(lookup.lookup("not month"));
+    }
+
+    /**
+     * Test for {@link TemporalTextLookup#months(Locale)} with other locale.
+     */
+    @Test
+    void testMonthsLocale() {
+        final Locale locale = new Locale("es");
+        final TemporalTextLookup<Month> lookup = TemporalTextLookup.months(locale);
+        assertNotSame(lookup, TemporalTextLookup.months(Locale.ENGLISH));
+        assertEquals(Month.SEPTEMBER, lookup.lookup(
+                Month.SEPTEMBER.getDisplayName(java.time.format.TextStyle.FULL, locale)));
+        assertEquals(Month.SEPTEMBER, lookup.lookup("9"));
+    }
+
+    /**
+     * Test for {@link TemporalTextLookup#daysOfWeek(Locale)}.
+     */
+    @Test
+    void testDaysOfWeek() {
+        final TemporalTextLookup<DayOfWeek> lookup = TemporalTextLookup.daysOfWeek(Locale.ENGLISH);
+        assertSame(lookup, TemporalTextLookup.daysOfWeek(Locale.ENGLISH));
+        assertEquals(DayOfWeek.WEDNESDAY, lookup.lookup("Wednesday"));
+        assertEquals(DayOfWeek.WEDNESDAY, lookup.lookup("wednesday"));
+        assertEquals(DayOfWeek.WEDNESDAY, lookup.lookup("WED"));
+        assertEquals(DayOfWeek.WEDNESDAY, lookup.lookup("3"));
+        assertEquals(DayOfWeek.WEDNESDAY, lookup.lookup("03"));
+        assertEquals(DayOfWeek.MONDAY, lookup.lookup("M"));
+        assertNull(lookup.lookup("T"));
+        assertNull(lookup.lookup("S"));
+        assertNull(lookup.lookup("8"));
+        assertNull(lookup.lookup("not day"));
+    }
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.net.URI;
 
+import org.apache.commons.beanutils.ConversionException;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -131,4 +132,87 @@ extends AbstractConverterTest {
         assertSuccess(converter, String.class, ABSOLUTE_PATH_URI, ABSOLUTE_PATH_URI.toString());
         assertSuccess(converter, String.class, RELATIVE_PATH_URI, RELATIVE_PATH_URI.toString());
     }
+
+    /**
+     * Test for {@link UriConverter#setCacheCapacity(int)}.
+     */
+    @Test
+    void testCacheCapacity() {
+        final UriConverter converter = new UriConverter();
+        assertEquals(0, converter.getCacheCapacity());
+        assertNull(converter.getCacheStatistics());
+        converter.setCacheCapacity(UriConverter.DEFAULT_CACHE_CAPACITY);
+        assertEquals(UriConverter.DEFAULT_CACHE_CAPACITY, converter.getCacheCapacity());
+        assertNotNull(converter.getCacheStatistics());
+        converter.setCacheCapacity(0);
+        assertEquals(0, converter.getCacheCapacity());
+        assertNull(converter.getCacheStatistics());
+        assertThrows(IllegalArgumentException.class, () -> converter.setCacheCapacity(-1));
+    }
+
+    /**
+     * Test {@link UriConverter#convert(Class, Object)} with caching enabled.
+     */
+    @Test
+    void testCache() {
+        final UriConverter converter = new UriConverter();
+        converter.setCacheCapacity(UriConverter.DEFAULT_CACHE_CAPACITY);
+        final URI result = converter.convert(URI.class, FULL_URI.toString());
+        assertEquals(FULL_URI, result);
+        assertSame(result, converter.convert(URI.class, FULL_URI.toString()));
+        assertThrows(ConversionException.class, () -> converter.convert(URI.class, ":invalid:uri"));
+        assertThrows(ConversionException.class, () -> converter.convert(URI.class, ":invalid:uri"));
+        final CacheStatistics stats = converter.getCacheStatistics();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getSize());
+        converter.clearCache();
+        assertEquals(0, converter.getCacheStatistics().getRequests());
+        assertEquals(0, converter.getCacheStatistics().getSize());
+    }
+
+    /**
+     * Test for {@link UriConverter#tryConvert(Object)}.
+     */
+    @Test
+    void testTryConvert() {
+        final UriConverter converter = new UriConverter();
+        assertNull(converter.tryConvert(null));
+        assertSame(FULL_URI, converter.tryConvert(FULL_URI));
+        assertEquals(EMPTY_URI, converter.tryConvert(""));
+        assertEquals(NUMBER_URI, converter.tryConvert(123456L));
+        assertEquals(SERVER_URI, converter.tryConvert(SERVER_URI.toString()));
+        assertEquals(RELATIVE_PATH_URI, converter.tryConvert(RELATIVE_PATH_URI.toString()));
+        assertNull(converter.tryConvert(":invalid:uri"));
+        assertNull(converter.tryConvert("http://example.org/a b"));
+        assertNull(converter.tryConvert("http://example.org/["));
+        converter.setCacheCapacity(UriConverter.DEFAULT_CACHE_CAPACITY);
+        assertEquals(FULL_URI, converter.tryConvert(FULL_URI.toString()));
+        assertNull(converter.tryConvert(":invalid:uri"));
+        assertEquals(2, converter.getCacheStatistics().getSize());
+    }
+
+    /**
+     * Test for {@link UriConverter#isWellFormed(CharSequence)}.
+     */
+    @Test
+    void testIsWellFormed() {
+        assertTrue(UriConverter.isWellFormed(""));
+        assertTrue(UriConverter.isWellFormed(FULL_URI.toString()));
+        assertTrue(UriConverter.isWellFormed("urn:isbn:0451450523"));
+        assertTrue(UriConverter.isWellFormed("a/b:c"));
+        assertTrue(UriConverter.isWellFormed("?a:b"));
+        assertTrue(UriConverter.isWellFormed("http://example.org/%2F#frag?x/y"));
+        assertTrue(UriConverter.isWellFormed("http://[::1]:80/"));
+        assertTrue(UriConverter.isWellFormed("http://example.org/\u00e9"));
+        assertFalse(UriConverter.isWellFormed(":invalid:uri"));
+        assertFalse(UriConverter.isWellFormed("1a:b"));
+        assertFalse(UriConverter.isWellFormed("scheme:"));
+        assertFalse(UriConverter.isWellFormed("a b"));
+        assertFalse(UriConverter.isWellFormed("http://example.org/a|b"));
+        assertFalse(UriConverter.isWellFormed("http://example.org/%zz"));
+        assertFalse(UriConverter.isWellFormed("http://example.org/%4"));
+        assertFalse(UriConverter.isWellFormed("http://example.org/a#b#c"));
+        assertFalse(UriConverter.isWellFormed("http://example.org/\u00a0"));
+    }
 }
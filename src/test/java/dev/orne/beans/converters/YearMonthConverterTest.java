@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -251,4 +252,46 @@ extends AbstractTimeConverterTest {
         assertSuccess(converter, String.class, STR_NON_DATE, STR_NON_DATE);
         assertSuccess(converter, String.class, YEAR_MONTH, STR_ISO_YEAR_MONTH);
     }
+
+    /**
+     * Test {@link YearMonthConverter#YearMonthConverter(Locale)}.
+     */
+    @Test
+    void testConstructorLocale() {
+        final YearMonthConverter converter = new YearMonthConverter(Locale.GERMAN);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        final LocalizedParsers localized = LocalizedParsers.forLocale(Locale.GERMAN);
+        assertTrue(converter.getParsers().contains(
+                localized.get(YearMonthConverter.BY_FULL_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(YearMonthConverter.BY_SHORT_TEXT_PARSER)));
+        assertTrue(converter.getParsers().contains(
+                localized.get(YearMonthConverter.BY_NARROW_TEXT_PARSER)));
+        if (!Locale.GERMAN.equals(YearMonthConverter.BY_FULL_TEXT_PARSER.getLocale())) {
+            assertFalse(converter.getParsers().contains(YearMonthConverter.BY_FULL_TEXT_PARSER));
+        }
+        assertEquals(new YearMonthConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, YearMonth.class, "2020-M\u00e4rz", YearMonth.of(2020, 3));
+        assertThrows(NullPointerException.class, () -> new YearMonthConverter((Locale) null));
+    }
+
+    /**
+     * Test {@link YearMonthConverter#YearMonthConverter(Locale, YearMonth)}.
+     */
+    @Test
+    void testConstructorLocaleDefaultValue() {
+        final YearMonthConverter converter = new YearMonthConverter(Locale.GERMAN, (YearMonth) null);
+        assertEquals(Locale.GERMAN, converter.getLocale());
+        assertEquals(new YearMonthConverter(Locale.GERMAN).getParsers(), converter.getParsers());
+        assertSuccess(converter, YearMonth.class, "2020-M\u00e4rz", YearMonth.of(2020, 3));
+        assertSuccess(converter, YearMonth.class, STR_NON_DATE, null);
+    }
+
+    /**
+     * Test {@link YearMonthConverter#getLocale()} for default constructors.
+     */
+    @Test
+    void testDefaultLocale() {
+        assertEquals(YearMonthConverter.BY_FULL_TEXT_PARSER.getLocale(), new YearMonthConverter().getLocale());
+    }
 }
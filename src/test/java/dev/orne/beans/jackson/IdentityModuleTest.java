@@ -0,0 +1,177 @@
+package dev.orne.beans.jackson;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import dev.orne.beans.AbstractIdentity;
+import dev.orne.beans.Identity;
+import dev.orne.beans.IdentityTokenFormatter;
+import dev.orne.beans.LongIdentity;
+import dev.orne.beans.StringIdentity;
+import dev.orne.beans.TokenIdentity;
+import dev.orne.beans.UUIDIdentity;
+
+/**
+ * Unit tests for {@code IdentityModule}, {@code IdentitySerializer}
+ * and {@code IdentityDeserializer}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see IdentityModule
+ */
+@Tag("ut")
+class IdentityModuleTest {
+
+    /**
+     * Test for {@link IdentityModule#isPackedBinaryTokens()}.
+     */
+    @Test
+    void testPackedBinaryTokens() {
+        assertFalse(new IdentityModule().isPackedBinaryTokens());
+        assertFalse(new IdentityModule(false).isPackedBinaryTokens());
+        assertTrue(new IdentityModule(true).isPackedBinaryTokens());
+    }
+
+    /**
+     * Test for textual round trip of beans with identity properties.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testTextRoundTrip()
+    throws Exception {
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new IdentityModule());
+        final TestBean bean = new TestBean();
+        bean.longIdentity = new LongIdentity(42L);
+        bean.uuidIdentity = new UUIDIdentity(UUID.randomUUID());
+        bean.stringIdentity = new StringIdentity("abc");
+        bean.identity = new StringIdentity("a b");
+        final JsonNode tree = mapper.valueToTree(bean);
+        assertEquals(bean.longIdentity.getIdentityToken(), tree.get("longIdentity").asText());
+        assertEquals(bean.uuidIdentity.getIdentityToken(), tree.get("uuidIdentity").asText());
+        assertEquals(bean.identity.getIdentityToken(), tree.get("identity").asText());
+        assertTrue(tree.get("nullIdentity").isNull());
+        final TestBean result = mapper.readValue(mapper.writeValueAsString(bean), TestBean.class);
+        assertEquals(bean.longIdentity, result.longIdentity);
+        assertEquals(bean.uuidIdentity, result.uuidIdentity);
+        assertEquals(bean.stringIdentity, result.stringIdentity);
+        assertTrue(result.identity instanceof TokenIdentity);
+        assertEquals(bean.identity.getIdentityToken(), result.identity.getIdentityToken());
+        assertNull(result.nullIdentity);
+    }
+
+    /**
+     * Test for deserialization of invalid identity tokens.
+     */
+    @Test
+    void testDeserializeInvalid() {
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new IdentityModule());
+        assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue("\"??\"", LongIdentity.class));
+        assertThrows(Exception.class,
+                () -> mapper.readValue("12", LongIdentity.class));
+    }
+
+    /**
+     * Test for deserialization of packed binary identity tokens.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testDeserializePacked()
+    throws Exception {
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new IdentityModule());
+        final UUIDIdentity identity = new UUIDIdentity(UUID.randomUUID());
+        try (final TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+            buffer.writeBinary(IdentityTokenFormatter.packToken(identity.getIdentityToken()));
+            assertEquals(identity, mapper.readValue(buffer.asParser(), UUIDIdentity.class));
+        }
+    }
+
+    /**
+     * Test for serialization to generators with native binary support.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testSerializePacked()
+    throws Exception {
+        final LongIdentity identity = new LongIdentity(123456789L);
+        final byte[] packed = IdentityTokenFormatter.packToken(identity.getIdentityToken());
+        final JsonGenerator generator = mock(JsonGenerator.class);
+        given(generator.canWriteBinaryNatively()).willReturn(true);
+        IdentitySerializer.PACKED_BINARY.serialize(identity, generator, null);
+        then(generator).should().writeBinary(packed, 0, packed.length);
+        then(generator).should(never()).writeString(anyString());
+        final JsonGenerator textGenerator = mock(JsonGenerator.class);
+        IdentitySerializer.PACKED_BINARY.serialize(identity, textGenerator, null);
+        then(textGenerator).should().writeString(identity.getIdentityToken());
+        final JsonGenerator binaryGenerator = mock(JsonGenerator.class);
+        given(binaryGenerator.canWriteBinaryNatively()).willReturn(true);
+        IdentitySerializer.TEXT.serialize(identity, binaryGenerator, null);
+        then(binaryGenerator).should().writeString(identity.getIdentityToken());
+    }
+
+    /**
+     * Test for {@link IdentityDeserializer#isSupported(Class)}.
+     */
+    @Test
+    void testIsSupported() {
+        assertTrue(IdentityDeserializer.isSupported(Identity.class));
+        assertTrue(IdentityDeserializer.isSupported(LongIdentity.class));
+        assertTrue(IdentityDeserializer.isSupported(TokenIdentity.class));
+        assertFalse(IdentityDeserializer.isSupported(String.class));
+        assertFalse(IdentityDeserializer.isSupported(AbstractIdentity.class));
+        assertSame(
+                IdentityDeserializer.forType(LongIdentity.class),
+                IdentityDeserializer.forType(LongIdentity.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> IdentityDeserializer.forType(AbstractIdentity.class));
+    }
+
+    /**
+     * Bean with identity properties.
+     */
+    public static class TestBean {
+        public LongIdentity longIdentity;
+        public UUIDIdentity uuidIdentity;
+        public StringIdentity stringIdentity;
+        public Identity identity;
+        public LongIdentity nullIdentity;
+    }
+}
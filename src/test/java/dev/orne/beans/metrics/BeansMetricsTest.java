@@ -0,0 +1,412 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.beans.BeanAnnotationFinder;
+import dev.orne.beans.BeanReference;
+import dev.orne.beans.IdentityResolver;
+import dev.orne.beans.StringIdentity;
+import dev.orne.beans.UnrecognizedIdentityTokenException;
+import dev.orne.beans.converters.InstantConverter;
+
+/**
+ * Unit tests for {@code BeansMetrics}.
+ * <p>
+ * No {@code MetricsRecorder} service provider is registered for the test
+ * suite, so metrics are disabled by default. Tests with metrics enabled
+ * run in an isolated class loader that registers {@code TestRecorder}
+ * as {@code MetricsRecorder} service provider.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see BeansMetrics
+ */
+@Tag("ut")
+class BeansMetricsTest {
+
+    /** The {@code MetricsRecorder} service providers resource. */
+    private static final String SERVICES_RESOURCE =
+            "META-INF/services/" + MetricsRecorder.class.getName();
+    /** The test {@code MetricsRecorder} service providers resource. */
+    private static final String TEST_SERVICES_RESOURCE =
+            "test-metrics-recorder.services";
+
+    /**
+     * Test for {@link BeansMetrics#getRecorder()} without service
+     * providers.
+     */
+    @Test
+    void testNoOpRecorder() {
+        assertFalse(BeansMetrics.isEnabled());
+        assertSame(BeansMetrics.NoOpRecorder.INSTANCE, BeansMetrics.getRecorder());
+        assertEquals(0L, BeansMetrics.startTimer());
+        assertDoesNotThrow(() -> {
+            BeansMetrics.increment("test.counter");
+            BeansMetrics.stopTimer("test.timer", 0L);
+            new UnrecognizedIdentityTokenException("Test");
+        });
+    }
+
+    /**
+     * Test for {@link BeansMetrics#loadRecorder(ServiceLoader)} with no
+     * service providers.
+     */
+    @Test
+    void testLoadRecorderNone() {
+        final ServiceLoader<MetricsRecorder> loader = ServiceLoader.load(
+                MetricsRecorder.class,
+                new ClassLoader(null) {});
+        assertSame(BeansMetrics.NoOpRecorder.INSTANCE, BeansMetrics.loadRecorder(loader));
+    }
+
+    /**
+     * Test for {@link BeansMetrics#getRecorder()} with a service provider.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testGetRecorder()
+    throws Throwable {
+        runWithRecorder("getRecorder");
+    }
+
+    /**
+     * Test for {@link BeansMetrics#increment(String)}.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testIncrement()
+    throws Throwable {
+        runWithRecorder("increment");
+    }
+
+    /**
+     * Test for {@link BeansMetrics#startTimer()} and
+     * {@link BeansMetrics#stopTimer(String, long)}.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testTimer()
+    throws Throwable {
+        runWithRecorder("timer");
+    }
+
+    /**
+     * Test for identity resolution metrics.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testIdentityResolverMetrics()
+    throws Throwable {
+        runWithRecorder("identityResolverMetrics");
+    }
+
+    /**
+     * Test for {@code UnrecognizedIdentityTokenException} metrics.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testUnrecognizedIdentityTokenMetrics()
+    throws Throwable {
+        runWithRecorder("unrecognizedIdentityTokenMetrics");
+    }
+
+    /**
+     * Test for bean annotation finder metrics.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testAnnotationFinderMetrics()
+    throws Throwable {
+        runWithRecorder("annotationFinderMetrics");
+    }
+
+    /**
+     * Test for date and time converters metrics.
+     * 
+     * @throws Throwable Should not happen
+     */
+    @Test
+    void testDateTimeParseMetrics()
+    throws Throwable {
+        runWithRecorder("dateTimeParseMetrics");
+    }
+
+    /**
+     * Runs the specified scenario of {@code RecorderScenarios} in a new
+     * isolated class loader with {@code TestRecorder} registered as
+     * {@code MetricsRecorder} service provider, set as context class
+     * loader while the scenario runs.
+     * 
+     * @param scenario The scenario method name
+     * @throws Throwable If the scenario fails
+     */
+    private static void runWithRecorder(
+            final @NotNull String scenario)
+    throws Throwable {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextLoader = thread.getContextClassLoader();
+        try (final RecorderClassLoader loader = new RecorderClassLoader()) {
+            thread.setContextClassLoader(loader);
+            final Class<?> scenarios = Class.forName(
+                    RecorderScenarios.class.getName(),
+                    true,
+                    loader);
+            assertNotSame(RecorderScenarios.class, scenarios);
+            scenarios.getDeclaredMethod(scenario).invoke(null);
+        } catch (final InvocationTargetException ite) {
+            throw ite.getCause();
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
+    /**
+     * Metrics scenarios run with {@code TestRecorder} registered as
+     * {@code MetricsRecorder} service provider.
+     */
+    public static final class RecorderScenarios {
+
+        /**
+         * Private constructor.
+         */
+        private RecorderScenarios() {
+            // Utility class
+        }
+
+        /**
+         * Scenario for {@link BeansMetrics#getRecorder()}.
+         */
+        public static void getRecorder() {
+            assertTrue(BeansMetrics.isEnabled());
+            assertTrue(BeansMetrics.getRecorder() instanceof TestRecorder);
+        }
+
+        /**
+         * Scenario for {@link BeansMetrics#increment(String)}.
+         */
+        public static void increment() {
+            final String name = "test.counter";
+            final long prev = TestRecorder.getCount(name);
+            BeansMetrics.increment(name);
+            BeansMetrics.increment(name);
+            assertEquals(prev + 2, TestRecorder.getCount(name));
+        }
+
+        /**
+         * Scenario for {@link BeansMetrics#startTimer()} and
+         * {@link BeansMetrics#stopTimer(String, long)}.
+         */
+        public static void timer() {
+            final String name = "test.timer";
+            final long prev = TestRecorder.getCount(name);
+            final long start = BeansMetrics.startTimer();
+            assertNotEquals(0L, start);
+            BeansMetrics.stopTimer(name, start);
+            assertEquals(prev + 1, TestRecorder.getCount(name));
+        }
+
+        /**
+         * Scenario for identity resolution metrics.
+         */
+        public static void identityResolverMetrics() {
+            final long prevReflective = TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_REFLECTIVE);
+            final long prevLookups = TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_CACHE_HIT)
+                    + TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_CACHE_MISS);
+            final String token = new StringIdentity("test").getIdentityToken();
+            IdentityResolver.getInstance().resolve(token, StringIdentity.class);
+            assertEquals(prevReflective + 1, TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_REFLECTIVE));
+            assertEquals(prevLookups + 1, TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_CACHE_HIT)
+                    + TestRecorder.getCount(BeansMetrics.IDENTITY_RESOLVER_CACHE_MISS));
+        }
+
+        /**
+         * Scenario for {@code UnrecognizedIdentityTokenException} metrics.
+         */
+        public static void unrecognizedIdentityTokenMetrics() {
+            final long prev = TestRecorder.getCount(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED);
+            new UnrecognizedIdentityTokenException("Test");
+            assertEquals(prev + 1, TestRecorder.getCount(BeansMetrics.IDENTITY_TOKEN_UNRECOGNIZED));
+        }
+
+        /**
+         * Scenario for bean annotation finder metrics.
+         */
+        public static void annotationFinderMetrics() {
+            final BeanAnnotationFinder<BeanReference, BeanReference.List> finder =
+                    new BeanAnnotationFinder<>(
+                            BeanReference.class,
+                            BeanReference.List.class,
+                            BeanReference.List::value);
+            // Super class annotations are cached during the first scan
+            finder.find(Object.class);
+            final long prevHits = TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_CACHE_HIT);
+            final long prevMisses = TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_CACHE_MISS);
+            final long prevScans = TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_SCAN);
+            finder.find(TestBean.class);
+            finder.find(TestBean.class);
+            assertEquals(prevMisses + 1, TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_CACHE_MISS));
+            assertEquals(prevHits + 2, TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_CACHE_HIT));
+            assertEquals(prevScans + 1, TestRecorder.getCount(BeansMetrics.ANNOTATION_FINDER_SCAN));
+        }
+
+        /**
+         * Scenario for date and time converters metrics.
+         */
+        public static void dateTimeParseMetrics() {
+            final InstantConverter converter = new InstantConverter((Instant) null);
+            final long prevValues = TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_VALUES);
+            final long prevAttempts = TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_ATTEMPTS);
+            final long prevFailures = TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_FAILURES);
+            assertNotNull(converter.convert(Instant.class, "2020-01-01T00:00:00Z"));
+            assertNull(converter.convert(Instant.class, "not a date"));
+            assertEquals(prevValues + 2, TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_VALUES));
+            assertTrue(TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_ATTEMPTS) >= prevAttempts + 2);
+            assertEquals(prevFailures + 1, TestRecorder.getCount(BeansMetrics.DATETIME_PARSE_FAILURES));
+        }
+    }
+
+    /**
+     * Isolated class loader of the test class path that registers
+     * {@code TestRecorder} as {@code MetricsRecorder} service provider.
+     */
+    private static final class RecorderClassLoader
+    extends URLClassLoader {
+
+        /**
+         * Creates a new instance.
+         */
+        RecorderClassLoader() {
+            super(classPathUrls(), null);
+        }
+
+        /**
+         * Returns the URLs of the test class path.
+         * 
+         * @return The URLs of the test class path
+         */
+        private static URL[] classPathUrls() {
+            final String[] entries = System.getProperty("java.class.path")
+                    .split(File.pathSeparator);
+            final URL[] result = new URL[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                try {
+                    result[i] = new File(entries[i]).toURI().toURL();
+                } catch (final MalformedURLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Enumeration<URL> getResources(
+                final String name)
+        throws IOException {
+            if (SERVICES_RESOURCE.equals(name)) {
+                return Collections.enumeration(Collections.singletonList(
+                        BeansMetricsTest.class.getResource(TEST_SERVICES_RESOURCE)));
+            }
+            return super.getResources(name);
+        }
+    }
+
+    /**
+     * Bean type used in tests.
+     */
+    @BeanReference({ String.class })
+    public static class TestBean {
+        // No extra methods
+    }
+
+    /**
+     * Metrics recorder used in tests. Counts the calls by metric name.
+     */
+    public static class TestRecorder
+    implements MetricsRecorder {
+
+        /** The calls by metric name. */
+        private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the number of calls for the specified metric name.
+         * 
+         * @param name The metric name
+         * @return The number of calls
+         */
+        public static long getCount(
+                final @NotNull String name) {
+            final LongAdder count = COUNTS.get(name);
+            return count == null ? 0 : count.sum();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void increment(
+                final @NotNull String name) {
+            COUNTS.computeIfAbsent(name, key -> new LongAdder()).increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void record(
+                final @NotNull String name,
+                final long durationNanos) {
+            COUNTS.computeIfAbsent(name, key -> new LongAdder()).increment();
+        }
+    }
+}
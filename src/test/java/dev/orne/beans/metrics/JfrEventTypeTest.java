@@ -0,0 +1,180 @@
+package dev.orne.beans.metrics;
+
+/*-
+ * #%L
+ * Orne Beans
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code JfrEventType}.
+ * <p>
+ * JFR recordings are managed through reflection, as tests are compiled
+ * for Java 8.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.7
+ * @see JfrEventType
+ */
+@Tag("ut")
+class JfrEventTypeTest {
+
+    /** The name of the JFR recording class. */
+    private static final String RECORDING_CLASS = "jdk.jfr.Recording";
+
+    /**
+     * Creates a new test event type.
+     * 
+     * @param name The event name
+     * @return The event type
+     */
+    private static JfrEventType createTestType(
+            final String name) {
+        return JfrEventType.create(
+                name,
+                "Test event",
+                "Event used in unit tests",
+                null,
+                JfrEventType.field(Class.class, "type", "Type"),
+                JfrEventType.field(int.class, "count", "Count"),
+                JfrEventType.field(boolean.class, "flag", "Flag"));
+    }
+
+    /**
+     * Test for {@link JfrEventType#create(String, String, String, String, JfrEventType.Field...)}.
+     */
+    @Test
+    void testCreate() {
+        final JfrEventType result = createTestType("dev.orne.beans.test.Create");
+        assertEquals("dev.orne.beans.test.Create", result.getName());
+        assertEquals(JfrEventType.isJfrAvailable(), result.isRegistered());
+    }
+
+    /**
+     * Test for {@link JfrEventType#create(String, String, String, String, JfrEventType.Field...)}
+     * with invalid arguments.
+     */
+    @Test
+    void testCreateInvalid() {
+        assertThrows(NullPointerException.class, () -> JfrEventType.create(
+                null, "Label", "Description", null));
+        assertThrows(NullPointerException.class, () -> JfrEventType.create(
+                "name", null, "Description", null));
+        assertThrows(NullPointerException.class, () -> JfrEventType.create(
+                "name", "Label", null, null));
+        assertThrows(IllegalArgumentException.class, () -> JfrEventType.create(
+                "name", "Label", "Description", null, (JfrEventType.Field) null));
+    }
+
+    /**
+     * Test for {@link JfrEventType#field(Class, String, String)}.
+     */
+    @Test
+    void testField() {
+        final JfrEventType.Field result = JfrEventType.field(int.class, "count", "Count");
+        assertEquals(int.class, result.getType());
+        assertEquals("count", result.getName());
+        assertEquals("Count", result.getLabel());
+    }
+
+    /**
+     * Test for {@link JfrEventType#begin()} without running recordings.
+     */
+    @Test
+    void testBeginNotEnabled() {
+        final JfrEventType type = createTestType("dev.orne.beans.test.NotEnabled");
+        assertFalse(type.isEnabled());
+        assertNull(type.begin());
+        assertDoesNotThrow(() -> type.commit(null, JfrEventTypeTest.class, 1, true));
+    }
+
+    /**
+     * Test for {@code JfrEventType.commit()} methods with {@code null}
+     * events.
+     */
+    @Test
+    void testCommitNullEvent() {
+        final JfrEventType type = createTestType("dev.orne.beans.test.NullEvent");
+        assertDoesNotThrow(() -> {
+            type.commit(null, JfrEventTypeTest.class, true);
+            type.commit(null, JfrEventTypeTest.class, 1);
+            type.commit(null, JfrEventTypeTest.class, 1, true);
+            type.commit(null, JfrEventTypeTest.class, Object.class, 1);
+            type.commit(null, JfrEventTypeTest.class, Object.class, 1, true);
+        });
+    }
+
+    /**
+     * Test for {@link JfrEventType#begin()} and
+     * {@link JfrEventType#commit(Object, Object, int, boolean)}
+     * with a running recording.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testBeginCommitEnabled()
+    throws Exception {
+        assumeTrue(JfrEventType.isJfrAvailable());
+        final JfrEventType type = createTestType("dev.orne.beans.test.Enabled");
+        assertTrue(type.isRegistered());
+        final Class<?> recordingClass = Class.forName(RECORDING_CLASS);
+        final Object recording = recordingClass.getConstructor().newInstance();
+        try {
+            recordingClass.getMethod("enable", String.class).invoke(recording, type.getName());
+            recordingClass.getMethod("start").invoke(recording);
+            assertTrue(type.isEnabled());
+            final Object event = type.begin();
+            assertNotNull(event);
+            assertDoesNotThrow(() -> type.commit(event, JfrEventTypeTest.class, 1, true));
+            recordingClass.getMethod("stop").invoke(recording);
+            assertFalse(type.isEnabled());
+        } finally {
+            final Method close = recordingClass.getMethod("close");
+            close.invoke(recording);
+        }
+    }
+
+    /**
+     * Test for {@link BeansEvents} event types registration.
+     */
+    @Test
+    void testBeansEvents() {
+        final JfrEventType[] types = {
+                BeansEvents.IDENTITY_RESOLVER_LOOKUP,
+                BeansEvents.IDENTITY_RESOLVER_MISS,
+                BeansEvents.ANNOTATION_SCAN,
+                BeansEvents.SPI_SUBTYPE_DISCOVERY,
+                BeansEvents.VALIDATION,
+                BeansEvents.CONVERTER_PARSE_CHAIN
+        };
+        for (final JfrEventType type : types) {
+            assertTrue(type.getName().startsWith("dev.orne.beans."));
+            assertEquals(JfrEventType.isJfrAvailable(), type.isRegistered());
+        }
+    }
+}